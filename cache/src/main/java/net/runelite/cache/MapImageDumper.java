@@ -1827,7 +1827,7 @@ public class MapImageDumper
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 		Archive a = index.findArchiveByName("mapscene");
-		byte[] contents = a.decompress(storage.loadArchive(a));
+		byte[] contents = storage.loadDecompressedArchive(a, null);
 
 		SpriteLoader loader = new SpriteLoader();
 		mapDecorations = loader.load(a.getArchiveId(), contents);
@@ -61,7 +61,7 @@ public class SpriteManager implements SpriteProvider
 
 		for (Archive a : index.getArchives())
 		{
-			byte[] contents = a.decompress(storage.loadArchive(a));
+			byte[] contents = storage.loadDecompressedArchive(a, null);
 
 			SpriteLoader loader = new SpriteLoader();
 			SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
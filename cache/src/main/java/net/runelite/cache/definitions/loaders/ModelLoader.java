@@ -281,37 +281,44 @@ public class ModelLoader
 		var7.setOffset(var36);
 		var8.setOffset(var37);
 
-		for (var51 = 0; var51 < var10; ++var51)
+		var2.readShorts(def.faceColors, 0, var10);
+		if (var12 == 1)
 		{
-			def.faceColors[var51] = (short) var2.readUnsignedShort();
-			if (var12 == 1)
-			{
-				def.faceRenderTypes[var51] = var3.readByte();
-			}
+			var3.readBytes(def.faceRenderTypes, 0, var10);
+		}
 
-			if (var13 == 255)
-			{
-				def.faceRenderPriorities[var51] = var4.readByte();
-			}
+		if (var13 == 255)
+		{
+			var4.readBytes(def.faceRenderPriorities, 0, var10);
+		}
 
-			if (var14 == 1)
-			{
-				def.faceTransparencies[var51] = var5.readByte();
-			}
+		if (var14 == 1)
+		{
+			var5.readBytes(def.faceTransparencies, 0, var10);
+		}
 
-			if (var15 == 1)
-			{
-				def.packedTransparencyVertexGroups[var51] = var6.readUnsignedByte();
-			}
+		if (var15 == 1)
+		{
+			var6.readUnsignedBytes(def.packedTransparencyVertexGroups, 0, var10);
+		}
 
-			if (var16 == 1)
+		if (var16 == 1)
+		{
+			var7.readShorts(def.faceTextures, 0, var10);
+			for (var51 = 0; var51 < var10; ++var51)
 			{
-				def.faceTextures[var51] = (short) (var7.readUnsignedShort() - 1);
+				--def.faceTextures[var51];
 			}
 
-			if (def.textureCoords != null && def.faceTextures[var51] != -1)
+			if (def.textureCoords != null)
 			{
-				def.textureCoords[var51] = (byte) (var8.readUnsignedByte() - 1);
+				for (var51 = 0; var51 < var10; ++var51)
+				{
+					if (def.faceTextures[var51] != -1)
+					{
+						def.textureCoords[var51] = (byte) (var8.readUnsignedByte() - 1);
+					}
+				}
 			}
 		}
 
@@ -589,10 +596,10 @@ public class ModelLoader
 		var7.setOffset(var30);
 		var8.setOffset(var27);
 
-		for (var40 = 0; var40 < var10; ++var40)
+		var4.readShorts(def.faceColors, 0, var10);
+		if (var12 == 1)
 		{
-			def.faceColors[var40] = (short) var4.readUnsignedShort();
-			if (var12 == 1)
+			for (var40 = 0; var40 < var10; ++var40)
 			{
 				var41 = var5.readUnsignedByte();
 				if ((var41 & 1) == 1)
@@ -621,21 +628,21 @@ public class ModelLoader
 					def.faceTextures[var40] = -1;
 				}
 			}
+		}
 
-			if (var13 == 255)
-			{
-				def.faceRenderPriorities[var40] = var6.readByte();
-			}
+		if (var13 == 255)
+		{
+			var6.readBytes(def.faceRenderPriorities, 0, var10);
+		}
 
-			if (var14 == 1)
-			{
-				def.faceTransparencies[var40] = var7.readByte();
-			}
+		if (var14 == 1)
+		{
+			var7.readBytes(def.faceTransparencies, 0, var10);
+		}
 
-			if (var15 == 1)
-			{
-				def.packedTransparencyVertexGroups[var40] = var8.readUnsignedByte();
-			}
+		if (var15 == 1)
+		{
+			var8.readUnsignedBytes(def.packedTransparencyVertexGroups, 0, var10);
 		}
 
 		var4.setOffset(var31);
@@ -969,37 +976,44 @@ public class ModelLoader
 		var7.setOffset(var34);
 		var8.setOffset(var35);
 
-		for (var49 = 0; var49 < var10; ++var49)
+		var2.readShorts(def.faceColors, 0, var10);
+		if (var12 == 1)
 		{
-			def.faceColors[var49] = (short) var2.readUnsignedShort();
-			if (var12 == 1)
-			{
-				def.faceRenderTypes[var49] = var3.readByte();
-			}
+			var3.readBytes(def.faceRenderTypes, 0, var10);
+		}
 
-			if (var13 == 255)
-			{
-				def.faceRenderPriorities[var49] = var4.readByte();
-			}
+		if (var13 == 255)
+		{
+			var4.readBytes(def.faceRenderPriorities, 0, var10);
+		}
 
-			if (var14 == 1)
-			{
-				def.faceTransparencies[var49] = var5.readByte();
-			}
+		if (var14 == 1)
+		{
+			var5.readBytes(def.faceTransparencies, 0, var10);
+		}
 
-			if (var15 == 1)
-			{
-				def.packedTransparencyVertexGroups[var49] = var6.readUnsignedByte();
-			}
+		if (var15 == 1)
+		{
+			var6.readUnsignedBytes(def.packedTransparencyVertexGroups, 0, var10);
+		}
 
-			if (var16 == 1)
+		if (var16 == 1)
+		{
+			var7.readShorts(def.faceTextures, 0, var10);
+			for (var49 = 0; var49 < var10; ++var49)
 			{
-				def.faceTextures[var49] = (short) (var7.readUnsignedShort() - 1);
+				--def.faceTextures[var49];
 			}
 
-			if (def.textureCoords != null && def.faceTextures[var49] != -1)
+			if (def.textureCoords != null)
 			{
-				def.textureCoords[var49] = (byte) (var8.readUnsignedByte() - 1);
+				for (var49 = 0; var49 < var10; ++var49)
+				{
+					if (def.faceTextures[var49] != -1)
+					{
+						def.textureCoords[var49] = (byte) (var8.readUnsignedByte() - 1);
+					}
+				}
 			}
 		}
 
@@ -1252,10 +1266,10 @@ public class ModelLoader
 		stream4.setOffset(offsetOfFaceTransparencies);
 		stream5.setOffset(offsetOfPackedTransparencyVertexGroups);
 
-		for (int i = 0; i < faceCount; ++i)
+		stream1.readShorts(def.faceColors, 0, faceCount);
+		if (isTextured == 1)
 		{
-			def.faceColors[i] = (short) stream1.readUnsignedShort();
-			if (isTextured == 1)
+			for (int i = 0; i < faceCount; ++i)
 			{
 				int faceTextureFlags = stream2.readUnsignedByte();
 				if ((faceTextureFlags & 1) == 1)
@@ -1284,21 +1298,21 @@ public class ModelLoader
 					def.faceTextures[i] = -1;
 				}
 			}
+		}
 
-			if (faceRenderPriority == 255)
-			{
-				def.faceRenderPriorities[i] = stream3.readByte();
-			}
+		if (faceRenderPriority == 255)
+		{
+			stream3.readBytes(def.faceRenderPriorities, 0, faceCount);
+		}
 
-			if (hasFaceTransparencies == 1)
-			{
-				def.faceTransparencies[i] = stream4.readByte();
-			}
+		if (hasFaceTransparencies == 1)
+		{
+			stream4.readBytes(def.faceTransparencies, 0, faceCount);
+		}
 
-			if (hasPackedTransparencyVertexGroups == 1)
-			{
-				def.packedTransparencyVertexGroups[i] = stream5.readUnsignedByte();
-			}
+		if (hasPackedTransparencyVertexGroups == 1)
+		{
+			stream5.readUnsignedBytes(def.packedTransparencyVertexGroups, 0, faceCount);
 		}
 
 		stream1.setOffset(offsetOfFaceIndexData);
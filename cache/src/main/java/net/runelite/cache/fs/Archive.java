@@ -169,6 +169,7 @@ public class Archive
 	public void setNameHash(int nameHash)
 	{
 		this.nameHash = nameHash;
+		index.clearNameTable();
 	}
 
 	public int getCrc()
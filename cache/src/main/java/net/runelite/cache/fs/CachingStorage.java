@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Storage which wraps another storage and caches decompressed (and decrypted)
+ * archive data. Entries are held in a size bounded in-memory LRU, and optionally
+ * written to a spill directory so they can be reused by later processes.
+ * <p>
+ * Entries are keyed by index and archive id, and are only used if the crc and
+ * revision of the archive still match, so changed archives are decompressed again
+ * and their stale entries replaced. Entries of encrypted archives are also only
+ * used with the same keys, and are never written to the spill directory.
+ */
+public class CachingStorage implements Storage
+{
+	private static final Logger logger = LoggerFactory.getLogger(CachingStorage.class);
+
+	private static final int SPILL_MAGIC = 0x44434132; // DCA2
+	private static final String SPILL_EXTENSION = ".dat";
+
+	private final Storage storage;
+	private final long maxMemorySize;
+	private final File spillDirectory;
+
+	private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+	private long memorySize;
+
+	private long hits;
+	private long diskHits;
+	private long misses;
+	private long evictions;
+
+	private static class Entry
+	{
+		private int crc;
+		private int revision; // revision of the archive when it was decompressed
+		private int containerRevision; // revision after decompression
+		private int compression;
+		private int[] keys; // keys the archive was decrypted with, or null
+		private byte[] data;
+
+		private boolean matches(Archive archive, int[] keys)
+		{
+			return crc == archive.getCrc()
+				&& (revision == archive.getRevision() || containerRevision == archive.getRevision())
+				&& Arrays.equals(this.keys, keys);
+		}
+	}
+
+	/**
+	 * @param storage        the storage to load archives from
+	 * @param maxMemorySize  maximum number of decompressed bytes held in memory
+	 * @param spillDirectory directory to persist decompressed archives to, or null
+	 */
+	public CachingStorage(Storage storage, long maxMemorySize, File spillDirectory)
+	{
+		this.storage = storage;
+		this.maxMemorySize = maxMemorySize;
+		this.spillDirectory = spillDirectory;
+	}
+
+	public Storage getStorage()
+	{
+		return storage;
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		storage.init(store);
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		storage.close();
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		storage.load(store);
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		storage.save(store);
+	}
+
+	@Override
+	public byte[] load(int index, int archive) throws IOException
+	{
+		return storage.load(index, archive);
+	}
+
+	@Override
+	public void store(int index, int archive, byte[] data) throws IOException
+	{
+		invalidate(index, archive);
+		storage.store(index, archive, data);
+	}
+
+	@Override
+	public byte[] loadDecompressedArchive(Archive archive, int[] keys) throws IOException
+	{
+		int indexId = archive.getIndex().getId();
+		int archiveId = archive.getArchiveId();
+		long key = key(indexId, archiveId);
+
+		Entry entry;
+		synchronized (this)
+		{
+			entry = entries.get(key);
+			if (entry != null && !entry.matches(archive, keys))
+			{
+				removeEntry(key);
+				entry = null;
+			}
+
+			if (entry != null)
+			{
+				++hits;
+			}
+		}
+
+		if (entry == null && keys == null)
+		{
+			entry = readSpill(indexId, archiveId, archive);
+			if (entry != null)
+			{
+				synchronized (this)
+				{
+					++diskHits;
+					putEntry(key, entry);
+				}
+			}
+		}
+
+		if (entry != null)
+		{
+			archive.setCompression(entry.compression);
+			archive.setRevision(entry.containerRevision);
+			return entry.data.clone();
+		}
+
+		int revision = archive.getRevision();
+		byte[] data = archive.decompress(storage.loadArchive(archive), keys);
+		if (data == null)
+		{
+			return null;
+		}
+
+		entry = new Entry();
+		entry.crc = archive.getCrc();
+		entry.revision = revision;
+		entry.containerRevision = archive.getRevision();
+		entry.compression = archive.getCompression();
+		entry.keys = keys == null ? null : keys.clone();
+		entry.data = data.clone();
+
+		synchronized (this)
+		{
+			++misses;
+			putEntry(key, entry);
+		}
+
+		if (keys == null)
+		{
+			// decrypted archives stay in memory
+			writeSpill(indexId, archiveId, entry);
+		}
+		return data;
+	}
+
+	/**
+	 * Remove any cached data for the given archive
+	 */
+	public void invalidate(int index, int archive)
+	{
+		synchronized (this)
+		{
+			removeEntry(key(index, archive));
+		}
+
+		if (spillDirectory != null)
+		{
+			File file = spillFile(index, archive);
+			if (file.exists() && !file.delete())
+			{
+				logger.warn("unable to delete {}", file);
+			}
+		}
+	}
+
+	public synchronized long getHits()
+	{
+		return hits;
+	}
+
+	public synchronized long getDiskHits()
+	{
+		return diskHits;
+	}
+
+	public synchronized long getMisses()
+	{
+		return misses;
+	}
+
+	public synchronized long getEvictions()
+	{
+		return evictions;
+	}
+
+	public synchronized long getMemorySize()
+	{
+		return memorySize;
+	}
+
+	/**
+	 * Fraction of lookups served from memory or the spill directory
+	 */
+	public synchronized double getHitRate()
+	{
+		long total = hits + diskHits + misses;
+		return total == 0 ? 0d : (double) (hits + diskHits) / total;
+	}
+
+	private void putEntry(long key, Entry entry)
+	{
+		removeEntry(key);
+
+		if (entry.data.length > maxMemorySize)
+		{
+			return;
+		}
+
+		entries.put(key, entry);
+		memorySize += entry.data.length;
+
+		for (Iterator<Entry> it = entries.values().iterator(); memorySize > maxMemorySize && it.hasNext(); )
+		{
+			Entry eldest = it.next();
+			it.remove();
+			memorySize -= eldest.data.length;
+			++evictions;
+		}
+	}
+
+	private void removeEntry(long key)
+	{
+		Entry entry = entries.remove(key);
+		if (entry != null)
+		{
+			memorySize -= entry.data.length;
+		}
+	}
+
+	private Entry readSpill(int index, int archiveId, Archive archive)
+	{
+		if (spillDirectory == null)
+		{
+			return null;
+		}
+
+		File file = spillFile(index, archiveId);
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() != SPILL_MAGIC)
+			{
+				logger.debug("ignoring invalid spill file {}", file);
+				return null;
+			}
+
+			Entry entry = new Entry();
+			entry.crc = in.readInt();
+			entry.revision = in.readInt();
+			entry.containerRevision = in.readInt();
+			entry.compression = in.readUnsignedByte();
+			if (!entry.matches(archive, null))
+			{
+				return null;
+			}
+
+			entry.data = new byte[in.readInt()];
+			in.readFully(entry.data);
+			return entry;
+		}
+		catch (IOException ex)
+		{
+			logger.debug("unable to read spill file {}", file, ex);
+			return null;
+		}
+	}
+
+	private void writeSpill(int index, int archiveId, Entry entry)
+	{
+		if (spillDirectory == null)
+		{
+			return;
+		}
+
+		File file = spillFile(index, archiveId);
+		File dir = file.getParentFile();
+		if (!dir.exists() && !dir.mkdirs())
+		{
+			logger.warn("unable to create spill directory {}", dir);
+			return;
+		}
+
+		File tmp = null;
+		try
+		{
+			tmp = File.createTempFile("archive" + archiveId + "-", ".tmp", dir);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+			{
+				out.writeInt(SPILL_MAGIC);
+				out.writeInt(entry.crc);
+				out.writeInt(entry.revision);
+				out.writeInt(entry.containerRevision);
+				out.writeByte(entry.compression);
+				out.writeInt(entry.data.length);
+				out.write(entry.data);
+			}
+
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex)
+		{
+			logger.warn("unable to write spill file {}", file, ex);
+			if (tmp != null)
+			{
+				tmp.delete();
+			}
+		}
+	}
+
+	private File spillFile(int index, int archive)
+	{
+		return new File(new File(spillDirectory, Integer.toString(index)), archive + SPILL_EXTENSION);
+	}
+
+	private static long key(int index, int archive)
+	{
+		return (long) index << 32 | (archive & 0xFFFFFFFFL);
+	}
+}
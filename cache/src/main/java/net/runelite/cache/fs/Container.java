@@ -184,6 +184,27 @@ public class Container
 		return container;
 	}
 
+	/**
+	 * Compute the crc of container data, as checked by {@link #decompress(byte[], int[])},
+	 * without decrypting or decompressing it.
+	 */
+	public static int crc(byte[] b)
+	{
+		int compression = b[0] & 0xFF;
+		int compressedLength = Ints.fromBytes(b[1], b[2], b[3], b[4]);
+		if (compressedLength < 0 || compressedLength > 1000000)
+		{
+			throw new RuntimeException("Invalid data");
+		}
+
+		// compression + length + data, and the decompressed length if compressed
+		int length = 5 + compressedLength + (compression == CompressionType.NONE ? 0 : 4);
+
+		Crc32 crc32 = new Crc32();
+		crc32.update(b, 0, length);
+		return crc32.getHash();
+	}
+
 	private static byte[] decrypt(byte[] data, int length, int[] keys)
 	{
 		if (keys == null)
@@ -191,8 +212,9 @@ public class Container
 			return data;
 		}
 
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+		// data is always a copy of the container payload, so it is decrypted in place
+		Xtea.decrypt(data, 0, length, keys);
+		return data;
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
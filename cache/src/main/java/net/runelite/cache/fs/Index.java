@@ -25,6 +25,7 @@
 package net.runelite.cache.fs;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import net.runelite.cache.index.ArchiveData;
@@ -48,6 +49,11 @@ public class Index
 
 	private final List<Archive> archives = new ArrayList<>();
 
+	// name hashes of the archives, sorted, and the first archive with each; built on the first lookup
+	// by name and dropped when an archive is added, removed or renamed
+	private int[] nameHashes;
+	private Archive[] archivesByName;
+
 	public Index(int id)
 	{
 		this.id = id;
@@ -154,6 +160,7 @@ public class Index
 	{
 		Archive archive = new Archive(this, id);
 		this.archives.add(archive);
+		clearNameTable();
 		return archive;
 	}
 
@@ -171,20 +178,58 @@ public class Index
 
 	public boolean removeArchive(Archive archive)
 	{
+		clearNameTable();
 		return archives.remove(archive);
 	}
 
 	public Archive findArchiveByName(String name)
 	{
-		int hash = Djb2.hash(name);
-		for (Archive a : archives)
+		if (nameHashes == null)
 		{
-			if (a.getNameHash() == hash)
+			buildNameTable();
+		}
+
+		int i = Arrays.binarySearch(nameHashes, Djb2.hash(name));
+		return i >= 0 ? archivesByName[i] : null;
+	}
+
+	/**
+	 * Set the name lookup of this index, eg. from a table stored along with it, instead
+	 * of building it on the first lookup.
+	 *
+	 * @param nameHashes the distinct name hashes of the archives, in ascending order
+	 * @param archives   the first archive of {@link #getArchives()} with each hash
+	 */
+	public void setNameTable(int[] nameHashes, Archive[] archives)
+	{
+		assert nameHashes.length == archives.length;
+		this.nameHashes = nameHashes;
+		this.archivesByName = archives;
+	}
+
+	void clearNameTable()
+	{
+		nameHashes = null;
+		archivesByName = null;
+	}
+
+	private void buildNameTable()
+	{
+		Archive[] sorted = archives.toArray(new Archive[0]);
+		// stable, so the first archive with a hash comes first
+		Arrays.sort(sorted, (a, b) -> Integer.compare(a.getNameHash(), b.getNameHash()));
+
+		int[] hashes = new int[sorted.length];
+		int count = 0;
+		for (Archive archive : sorted)
+		{
+			if (count == 0 || hashes[count - 1] != archive.getNameHash())
 			{
-				return a;
+				hashes[count] = archive.getNameHash();
+				sorted[count++] = archive;
 			}
 		}
-		return null;
+		setNameTable(Arrays.copyOf(hashes, count), Arrays.copyOf(sorted, count));
 	}
 
 	public IndexData toIndexData()
@@ -46,6 +46,16 @@ public interface Storage extends AutoCloseable
 		return load(archive.getIndex().getId(), archive.getArchiveId());
 	}
 
+	/**
+	 * Loads and decompresses an archive. This is equivalent to
+	 * {@code archive.decompress(loadArchive(archive), keys)}, but allows
+	 * storages to reuse previously decompressed data.
+	 */
+	default byte[] loadDecompressedArchive(Archive archive, int[] keys) throws IOException
+	{
+		return archive.decompress(loadArchive(archive), keys);
+	}
+
 	default void saveArchive(Archive archive, byte[] data) throws IOException
 	{
 		store(archive.getIndex().getId(), archive.getArchiveId(), data);
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Checks the stored data of every archive in a store against the crc recorded
+ * in its index. Only the container crc is computed, the archives are not
+ * decompressed.
+ */
+public class StoreVerifier
+{
+	private static final Logger logger = LoggerFactory.getLogger(StoreVerifier.class);
+
+	/**
+	 * Verify all archives of a store, using up to {@code threads} threads.
+	 *
+	 * @return the archives which are missing or do not match their crc
+	 */
+	public static List<Archive> verify(Store store, int threads) throws IOException, InterruptedException
+	{
+		List<Archive> archives = new ArrayList<>();
+		for (Index index : store.getIndexes())
+		{
+			archives.addAll(index.getArchives());
+		}
+
+		Storage storage = store.getStorage();
+		List<Archive> failed = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger next = new AtomicInteger();
+
+		int workers = Math.max(1, Math.min(threads, archives.size()));
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		try
+		{
+			List<Future<?>> futures = new ArrayList<>(workers);
+			for (int i = 0; i < workers; ++i)
+			{
+				futures.add(executor.submit(() ->
+				{
+					int idx;
+					while ((idx = next.getAndIncrement()) < archives.size())
+					{
+						Archive archive = archives.get(idx);
+						if (!verify(storage.loadArchive(archive), archive))
+						{
+							failed.add(archive);
+						}
+					}
+					return null;
+				}));
+			}
+
+			for (Future<?> future : futures)
+			{
+				try
+				{
+					future.get();
+				}
+				catch (ExecutionException ex)
+				{
+					if (ex.getCause() instanceof IOException)
+					{
+						throw (IOException) ex.getCause();
+					}
+					throw new RuntimeException(ex.getCause());
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		return failed;
+	}
+
+	private static boolean verify(byte[] data, Archive archive)
+	{
+		if (data == null)
+		{
+			logger.debug("archive {}/{} is missing", archive.getIndex().getId(), archive.getArchiveId());
+			return false;
+		}
+
+		try
+		{
+			int crc = Container.crc(data);
+			if (crc != archive.getCrc())
+			{
+				logger.debug("crc mismatch for archive {}/{}, expected {} was {}",
+					archive.getIndex().getId(), archive.getArchiveId(), archive.getCrc(), crc);
+				return false;
+			}
+			return true;
+		}
+		catch (RuntimeException ex)
+		{
+			logger.debug("invalid container for archive {}/{}", archive.getIndex().getId(), archive.getArchiveId(), ex);
+			return false;
+		}
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.index.FileData;
+
+/**
+ * Binary companion to the text flatcache format. The file is memory mapped and
+ * read without any parsing:
+ * <pre>
+ * header:  magic, version, text crc, protocol, revision, compression, crc,
+ *          named (byte), archive count, file count, name count
+ * archive: id, name hash, revision, crc, compression, first file, file count,
+ *          contents offset (long), contents length (-1 if absent)
+ * file:    id, name hash
+ * name:    name hash, archive, in ascending order of name hash
+ * contents
+ * </pre>
+ * The names are the lookup table of {@link Index#findArchiveByName(String)}, one
+ * for each distinct name hash, with the first archive which has it.
+ * <p>
+ * The crc of the text file it was written from is recorded, and the binary file
+ * is ignored if the text file has since changed.
+ */
+class FlatIndexBinary
+{
+	static final String EXTENSION = ".flatbin";
+
+	private static final int MAGIC = 0x46434231; // FCB1
+	private static final int VERSION = 2;
+	private static final int HEADER_SIZE = 4 + 4 + 4 + 4 * 4 + 1 + 4 + 4 + 4;
+	private static final int ARCHIVE_SIZE = 4 * 7 + 8 + 4;
+	private static final int FILE_SIZE = 4 + 4;
+	private static final int NAME_SIZE = 4 + 4;
+
+	/**
+	 * @return the crc of a text file, to tell whether a binary file is up to date with it
+	 */
+	static int crc(InputStream in) throws IOException
+	{
+		try (InputStream is = in)
+		{
+			CRC32 crc = new CRC32();
+			byte[] buf = new byte[8192];
+			for (int n = is.read(buf); n != -1; n = is.read(buf))
+			{
+				crc.update(buf, 0, n);
+			}
+			return (int) crc.getValue();
+		}
+	}
+
+	/**
+	 * Load an index from its binary file, if it exists and is up to date with the text file.
+	 *
+	 * @param textCrc  the {@link #crc(InputStream)} of the text file
+	 * @param contents map to populate with slices of the mapped archive contents
+	 * @return true if the index was loaded
+	 */
+	static boolean load(Index idx, int textCrc, File binary, Map<Long, ByteBuffer> contents) throws IOException
+	{
+		if (!binary.exists())
+		{
+			return false;
+		}
+
+		MappedByteBuffer buf;
+		try (FileChannel channel = FileChannel.open(binary.toPath(), StandardOpenOption.READ))
+		{
+			// check the header before mapping, so a stale file isn't left mapped while it is replaced
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			while (header.hasRemaining())
+			{
+				if (channel.read(header) == -1)
+				{
+					return false;
+				}
+			}
+
+			if (header.getInt(0) != MAGIC
+				|| header.getInt(4) != VERSION
+				|| header.getInt(8) != textCrc)
+			{
+				return false;
+			}
+
+			buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		int pos = 12;
+		idx.setProtocol(buf.getInt(pos));
+		idx.setRevision(buf.getInt(pos + 4));
+		idx.setCompression(buf.getInt(pos + 8));
+		idx.setCrc(buf.getInt(pos + 12));
+		idx.setNamed(buf.get(pos + 16) != 0);
+		int archiveCount = buf.getInt(pos + 17);
+		int fileCount = buf.getInt(pos + 21);
+		int nameCount = buf.getInt(pos + 25);
+
+		int archivePos = HEADER_SIZE;
+		int filesPos = archivePos + archiveCount * ARCHIVE_SIZE;
+		int namesPos = filesPos + fileCount * FILE_SIZE;
+		if (buf.limit() < namesPos + nameCount * NAME_SIZE)
+		{
+			throw new IOException("truncated flatcache index " + binary);
+		}
+
+		Archive[] archives = new Archive[archiveCount];
+		for (int i = 0; i < archiveCount; ++i, archivePos += ARCHIVE_SIZE)
+		{
+			Archive archive = archives[i] = idx.addArchive(buf.getInt(archivePos));
+			archive.setNameHash(buf.getInt(archivePos + 4));
+			archive.setRevision(buf.getInt(archivePos + 8));
+			archive.setCrc(buf.getInt(archivePos + 12));
+			archive.setCompression(buf.getInt(archivePos + 16));
+
+			int firstFile = buf.getInt(archivePos + 20);
+			int numFiles = buf.getInt(archivePos + 24);
+			FileData[] fileData = new FileData[numFiles];
+			for (int j = 0; j < numFiles; ++j)
+			{
+				int filePos = filesPos + (firstFile + j) * FILE_SIZE;
+				FileData fd = fileData[j] = new FileData();
+				fd.setId(buf.getInt(filePos));
+				fd.setNameHash(buf.getInt(filePos + 4));
+			}
+			archive.setFileData(fileData);
+
+			long contentsOffset = buf.getLong(archivePos + 28);
+			int contentsLength = buf.getInt(archivePos + 36);
+			if (contentsLength != -1)
+			{
+				ByteBuffer slice = buf.duplicate();
+				slice.position((int) contentsOffset);
+				slice.limit((int) contentsOffset + contentsLength);
+				contents.put((long) idx.getId() << 32 | archive.getArchiveId(), slice.slice());
+			}
+		}
+
+		int[] nameHashes = new int[nameCount];
+		Archive[] archivesByName = new Archive[nameCount];
+		for (int i = 0; i < nameCount; ++i, namesPos += NAME_SIZE)
+		{
+			nameHashes[i] = buf.getInt(namesPos);
+			archivesByName[i] = archives[buf.getInt(namesPos + 4)];
+		}
+		idx.setNameTable(nameHashes, archivesByName);
+
+		return true;
+	}
+
+	/**
+	 * Write the binary file for an index, after its text file has been written.
+	 *
+	 * @param contents the contents of each archive in {@code idx.getArchives()}, null if it has none
+	 * @param textCrc  the {@link #crc(InputStream)} of the text file
+	 */
+	static void save(Index idx, List<byte[]> contents, int textCrc, File binary) throws IOException
+	{
+		List<Archive> archives = idx.getArchives();
+		int fileCount = 0;
+		for (Archive archive : archives)
+		{
+			fileCount += archive.getFileData().length;
+		}
+
+		// name hash in the high bits and position in the low bits, so sorting keeps the first archive of each hash first
+		long[] names = new long[archives.size()];
+		for (int i = 0; i < names.length; ++i)
+		{
+			names[i] = (long) archives.get(i).getNameHash() << 32 | i;
+		}
+		Arrays.sort(names);
+		int nameCount = 0;
+		for (long name : names)
+		{
+			if (nameCount == 0 || (int) (names[nameCount - 1] >> 32) != (int) (name >> 32))
+			{
+				names[nameCount++] = name;
+			}
+		}
+
+		long contentsOffset = HEADER_SIZE + (long) archives.size() * ARCHIVE_SIZE + (long) fileCount * FILE_SIZE
+			+ (long) nameCount * NAME_SIZE;
+
+		// write next to the old file and move it over, as the old file may still be mapped and must not be truncated
+		File tempFile = File.createTempFile(binary.getName(), null, binary.getAbsoluteFile().getParentFile());
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile))))
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(textCrc);
+			out.writeInt(idx.getProtocol());
+			out.writeInt(idx.getRevision());
+			out.writeInt(idx.getCompression());
+			out.writeInt(idx.getCrc());
+			out.writeByte(idx.isNamed() ? 1 : 0);
+			out.writeInt(archives.size());
+			out.writeInt(fileCount);
+			out.writeInt(nameCount);
+
+			int firstFile = 0;
+			for (int i = 0; i < archives.size(); ++i)
+			{
+				Archive archive = archives.get(i);
+				byte[] data = contents.get(i);
+
+				out.writeInt(archive.getArchiveId());
+				out.writeInt(archive.getNameHash());
+				out.writeInt(archive.getRevision());
+				out.writeInt(archive.getCrc());
+				out.writeInt(archive.getCompression());
+				out.writeInt(firstFile);
+				out.writeInt(archive.getFileData().length);
+				out.writeLong(data != null ? contentsOffset : 0L);
+				out.writeInt(data != null ? data.length : -1);
+
+				firstFile += archive.getFileData().length;
+				if (data != null)
+				{
+					contentsOffset += data.length;
+				}
+			}
+
+			for (Archive archive : archives)
+			{
+				for (FileData fd : archive.getFileData())
+				{
+					out.writeInt(fd.getId());
+					out.writeInt(fd.getNameHash());
+				}
+			}
+
+			for (int i = 0; i < nameCount; ++i)
+			{
+				out.writeInt((int) (names[i] >> 32));
+				out.writeInt((int) names[i]);
+			}
+
+			for (byte[] data : contents)
+			{
+				if (data != null)
+				{
+					out.write(data);
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			tempFile.delete();
+			throw ex;
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), binary.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			Files.move(tempFile.toPath(), binary.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
@@ -33,11 +33,13 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import net.runelite.cache.fs.Archive;
@@ -45,26 +47,54 @@ import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.index.FileData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A Storage that stores the cache as a series of flat files, designed
  * to be git revisioned.
+ * <p>
+ * Optionally a binary copy of each index is kept in a separate directory, outside
+ * of the revisioned files. It is written on save and whenever a text file had to be
+ * parsed, and memory mapped on load instead of parsing the text file, as long as
+ * the text file hasn't changed since.
  */
 public class FlatStorage implements Storage
 {
+	private static final Logger logger = LoggerFactory.getLogger(FlatStorage.class);
+
 	protected static final String EXTENSION = ".flatcache";
 
 	private final File directory;
+	private final File binaryDirectory;
 	private final Map<Long, byte[]> data = new HashMap<>();
+	private final Map<Long, ByteBuffer> mappedData = new HashMap<>();
 
 	public FlatStorage(File directory) throws IOException
+	{
+		this(directory, null);
+	}
+
+	/**
+	 * @param binaryDirectory where to keep the binary indexes, eg. a cache directory. Binary
+	 *                        indexes which do not match the text files are rewritten, so it
+	 *                        can be shared, although caches sharing it would replace each
+	 *                        other's indexes. Null for none.
+	 */
+	public FlatStorage(File directory, File binaryDirectory) throws IOException
 	{
 		this.directory = directory;
+		this.binaryDirectory = binaryDirectory;
+		if (binaryDirectory != null && !binaryDirectory.isDirectory() && !binaryDirectory.mkdirs())
+		{
+			throw new IOException("unable to create " + binaryDirectory);
+		}
 	}
 
 	protected FlatStorage()
 	{
 		this.directory = null;
+		this.binaryDirectory = null;
 	}
 
 	protected InputStream openReader(String filename) throws IOException
@@ -104,6 +134,18 @@ public class FlatStorage implements Storage
 		for (Index idx : store.getIndexes())
 		{
 			String file = idx.getId() + EXTENSION;
+			File binary = null;
+			int textCrc = 0;
+			if (binaryDirectory != null)
+			{
+				binary = new File(binaryDirectory, idx.getId() + FlatIndexBinary.EXTENSION);
+				textCrc = FlatIndexBinary.crc(openReader(file));
+				if (FlatIndexBinary.load(idx, textCrc, binary, mappedData))
+				{
+					continue;
+				}
+			}
+
 			try (BufferedReader br = new BufferedReader(new InputStreamReader(openReader(file), StandardCharsets.UTF_8)))
 			{
 				int lineNo = 0;
@@ -201,6 +243,24 @@ public class FlatStorage implements Storage
 					fileData = null;
 				}
 			}
+
+			if (binary != null)
+			{
+				List<byte[]> archiveContents = new ArrayList<>(idx.getArchives().size());
+				for (Archive archive : idx.getArchives())
+				{
+					archiveContents.add(data.get((long) idx.getId() << 32 | archive.getArchiveId()));
+				}
+				try
+				{
+					FlatIndexBinary.save(idx, archiveContents, textCrc, binary);
+				}
+				catch (IOException ex)
+				{
+					// the text index has been loaded, so only the next load is slower
+					logger.warn("unable to write binary flatcache index {}", binary, ex);
+				}
+			}
 		}
 	}
 
@@ -211,6 +271,8 @@ public class FlatStorage implements Storage
 		for (Index idx : store.getIndexes())
 		{
 			String file = idx.getId() + EXTENSION;
+			unmap(idx.getId());
+			List<byte[]> archiveContents = new ArrayList<>(idx.getArchives().size());
 			try (PrintStream br = new PrintStream(openWriter(file), false, StandardCharsets.UTF_8.name()))
 			{
 				br.printf("protocol=%d\n", idx.getProtocol());
@@ -234,6 +296,7 @@ public class FlatStorage implements Storage
 						br.write(Base64.getEncoder().encode(contents));
 						br.append("\n");
 					}
+					archiveContents.add(contents);
 
 					br.printf("compression=%d\n", archive.getCompression());
 					for (FileData fd : archive.getFileData())
@@ -242,18 +305,57 @@ public class FlatStorage implements Storage
 					}
 				}
 			}
+
+			if (binaryDirectory != null)
+			{
+				// keep the binary index in sync with the text index just written
+				FlatIndexBinary.save(idx, archiveContents, FlatIndexBinary.crc(openReader(file)),
+					new File(binaryDirectory, idx.getId() + FlatIndexBinary.EXTENSION));
+			}
+		}
+	}
+
+	/**
+	 * Copy the mapped contents of an index to the heap, before its binary file is replaced.
+	 */
+	private void unmap(int index)
+	{
+		for (Iterator<Map.Entry<Long, ByteBuffer>> it = mappedData.entrySet().iterator(); it.hasNext(); )
+		{
+			Map.Entry<Long, ByteBuffer> entry = it.next();
+			if ((int) (entry.getKey() >>> 32) == index)
+			{
+				ByteBuffer mapped = entry.getValue();
+				byte[] contents = new byte[mapped.remaining()];
+				mapped.duplicate().get(contents);
+				data.put(entry.getKey(), contents);
+				it.remove();
+			}
 		}
 	}
 
 	@Override
 	public byte[] load(int index, int archive)
 	{
-		return data.get((long) index << 32 | archive);
+		long key = (long) index << 32 | archive;
+		byte[] contents = data.get(key);
+		if (contents == null)
+		{
+			ByteBuffer mapped = mappedData.get(key);
+			if (mapped != null)
+			{
+				contents = new byte[mapped.remaining()];
+				mapped.duplicate().get(contents);
+			}
+		}
+		return contents;
 	}
 
 	@Override
 	public void store(int index, int archive, byte[] bytes)
 	{
-		data.put((long) index << 32 | archive, bytes);
+		long key = (long) index << 32 | archive;
+		mappedData.remove(key);
+		data.put(key, bytes);
 	}
 }
@@ -25,6 +25,7 @@
 package net.runelite.cache.io;
 
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 
 public class InputStream extends java.io.InputStream
@@ -40,18 +41,50 @@ public class InputStream extends java.io.InputStream
 		};
 
 	private final ByteBuffer buffer;
+	private char[] stringBuffer;
 
 	public InputStream(byte[] buffer)
 	{
 		this.buffer = ByteBuffer.wrap(buffer);
 	}
 
+	/**
+	 * Create a stream reading the remaining bytes of a buffer, which may be a direct
+	 * or memory mapped buffer. The buffer contents are shared, not copied.
+	 */
+	public InputStream(ByteBuffer buffer)
+	{
+		this.buffer = buffer.slice();
+	}
+
 	public byte[] getArray()
 	{
-		assert buffer.hasArray();
+		assert buffer.hasArray() && buffer.arrayOffset() == 0;
 		return buffer.array();
 	}
 
+	/**
+	 * Create a stream over {@code length} bytes of this stream starting at {@code offset},
+	 * sharing the underlying data.
+	 */
+	public InputStream slice(int offset, int length)
+	{
+		ByteBuffer b = buffer.duplicate();
+		b.limit(offset + length);
+		b.position(offset);
+		return new InputStream(b);
+	}
+
+	/**
+	 * Create a stream over the same data as this stream, with its own offset
+	 */
+	public InputStream duplicate()
+	{
+		InputStream is = new InputStream(buffer.duplicate().clear());
+		is.setOffset(getOffset());
+		return is;
+	}
+
 	@Override
 	public String toString()
 	{
@@ -105,6 +138,34 @@ public class InputStream extends java.io.InputStream
 		this.buffer.get(buffer);
 	}
 
+	/**
+	 * Read {@code len} big endian shorts
+	 */
+	public void readShorts(short[] dst, int off, int len)
+	{
+		int pos = buffer.position();
+		buffer.asShortBuffer().get(dst, off, len);
+		buffer.position(pos + len * 2);
+	}
+
+	/**
+	 * Read {@code len} unsigned bytes
+	 */
+	public void readUnsignedBytes(int[] dst, int off, int len)
+	{
+		int pos = buffer.position();
+		if (len > buffer.remaining())
+		{
+			throw new BufferUnderflowException();
+		}
+
+		for (int i = 0; i < len; ++i)
+		{
+			dst[off + i] = buffer.get(pos + i) & 0xFF;
+		}
+		buffer.position(pos + len);
+	}
+
 	public int readUnsignedByte()
 	{
 		return this.readByte() & 0xFF;
@@ -184,16 +245,29 @@ public class InputStream extends java.io.InputStream
 
 	public String readString()
 	{
-		StringBuilder sb = new StringBuilder();
+		int start = buffer.position();
+		int limit = buffer.limit();
+		int end = start;
+		while (end < limit && buffer.get(end) != 0)
+		{
+			++end;
+		}
 
-		for (; ; )
+		if (end == limit)
 		{
-			int ch = this.readUnsignedByte();
+			throw new BufferUnderflowException();
+		}
 
-			if (ch == 0)
-			{
-				break;
-			}
+		int length = end - start;
+		char[] chars = stringBuffer;
+		if (chars == null || chars.length < length)
+		{
+			chars = stringBuffer = new char[Math.max(length, 64)];
+		}
+
+		for (int i = 0; i < length; ++i)
+		{
+			int ch = buffer.get(start + i) & 0xFF;
 
 			if (ch >= 128 && ch < 160)
 			{
@@ -206,9 +280,11 @@ public class InputStream extends java.io.InputStream
 				ch = var7;
 			}
 
-			sb.append((char) ch);
+			chars[i] = (char) ch;
 		}
-		return sb.toString();
+
+		buffer.position(end + 1);
+		return new String(chars, 0, length);
 	}
 
 	public String readString2()
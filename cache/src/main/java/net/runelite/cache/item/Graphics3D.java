@@ -60,6 +60,23 @@ class Graphics3D extends Rasterizer2D
 	int[] rasterClipY = new int[1024];
 	public int[] colorPalette;
 
+	// Model projection and depth sorting buffers. These are shared by every model drawn
+	// with this rasterizer, so a single Graphics3D must not be used from multiple threads.
+	final boolean[] faceClipped = new boolean[6500];
+	final int[] modelViewportYs = new int[6500];
+	final int[] modelViewportXs = new int[6500];
+	final int[] modelViewportZs = new int[6500];
+	final int[] modelLocalX = new int[6500];
+	final int[] modelLocalY = new int[6500];
+	final int[] modelLocalZ = new int[6500];
+	final int[] distanceFaceCount = new int[6000];
+	final int[][] facesByDistance = new int[6000][512];
+	final int[] numOfPriority = new int[12];
+	final int[][] orderedFaces = new int[12][2000];
+	final int[] eq10 = new int[2000];
+	final int[] eq11 = new int[2000];
+	final int[] lt10 = new int[12];
+
 	public Graphics3D(RSTextureProvider textureProvider)
 	{
 		this.textureProvider = textureProvider;
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.models.JagexColor;
+
+/**
+ * Rendering state used by {@link ItemSpriteFactory}: the rasterizer, its model
+ * projection and depth buffers, the texture provider and the item raster buffers.
+ * <p>
+ * A context is not thread safe. Create one per rendering thread and reuse it for
+ * every sprite rendered by that thread.
+ */
+public class ItemSpriteContext
+{
+	static final int SPRITE_WIDTH = 36;
+	static final int SPRITE_HEIGHT = 32;
+
+	final Graphics3D graphics;
+
+	// raster buffers, indexed by the depth of the noted/bought/placeholder recursion
+	private final List<SpritePixels> sprites = new ArrayList<>();
+	final int[] scratch = new int[SPRITE_WIDTH * SPRITE_HEIGHT];
+
+	public ItemSpriteContext(TextureProvider textureProvider, SpriteProvider spriteProvider)
+	{
+		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
+
+		graphics = new Graphics3D(rsTextureProvider);
+		graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
+	}
+
+	SpritePixels getSprite(int depth)
+	{
+		while (sprites.size() <= depth)
+		{
+			sprites.add(new SpritePixels(SPRITE_WIDTH, SPRITE_HEIGHT));
+		}
+		return sprites.get(depth);
+	}
+}
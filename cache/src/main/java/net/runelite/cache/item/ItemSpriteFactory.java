@@ -26,6 +26,14 @@ package net.runelite.cache.item;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.providers.ItemProvider;
@@ -33,9 +41,9 @@ import net.runelite.cache.definitions.providers.ModelProvider;
 import net.runelite.cache.definitions.providers.SpriteProvider;
 import net.runelite.cache.definitions.providers.TextureProvider;
 import net.runelite.cache.models.FaceNormal;
-import net.runelite.cache.models.JagexColor;
 import net.runelite.cache.models.VertexNormal;
 
+@Slf4j
 public class ItemSpriteFactory
 {
 	public static BufferedImage createSprite(ItemProvider itemProvider, ModelProvider modelProvider,
@@ -43,13 +51,97 @@ public class ItemSpriteFactory
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
-		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+		ItemSpriteContext context = new ItemSpriteContext(textureProvider, spriteProvider);
+		return createSprite(context, itemProvider, modelProvider, itemId, quantity, border, shadowColor, noted);
+	}
+
+	/**
+	 * Renders an item sprite using the given context. The context's raster buffers are
+	 * reused between calls, so only the returned image is allocated per sprite.
+	 */
+	public static BufferedImage createSprite(ItemSpriteContext context, ItemProvider itemProvider, ModelProvider modelProvider,
+		int itemId, int quantity, int border, int shadowColor,
+		boolean noted) throws IOException
+	{
+		SpritePixels spritePixels = createSpritePixels(context, 0, itemProvider, modelProvider,
 			itemId, quantity, border, shadowColor, noted);
-		return spritePixels == null ? null : spritePixels.toBufferedImage();
+		return spritePixels == null ? null : spritePixels.toBufferedImage(context.scratch);
 	}
 
-	private static SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
+	/**
+	 * Renders sprites for many items in parallel. Each worker thread owns an
+	 * {@link ItemSpriteContext}, so the providers must be safe for concurrent use,
+	 * and the model provider must return a new {@link ModelDefinition} on each call as
+	 * it is resized and recolored in place. Items which fail to render are logged and
+	 * skipped.
+	 *
+	 * @param threads  maximum number of rendering threads
+	 * @param consumer called from the rendering threads with each rendered sprite
+	 * @return the number of sprites rendered
+	 */
+	public static int createSprites(ItemProvider itemProvider, ModelProvider modelProvider,
 		SpriteProvider spriteProvider, TextureProvider textureProvider,
+		int[] itemIds, int quantity, int border, int shadowColor, boolean noted,
+		int threads, ItemSpriteConsumer consumer) throws InterruptedException
+	{
+		int workers = Math.max(1, Math.min(threads, itemIds.length));
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger count = new AtomicInteger();
+
+		try
+		{
+			List<Future<?>> futures = new ArrayList<>(workers);
+			for (int i = 0; i < workers; ++i)
+			{
+				futures.add(executor.submit(() ->
+				{
+					ItemSpriteContext context = new ItemSpriteContext(textureProvider, spriteProvider);
+
+					int idx;
+					while ((idx = next.getAndIncrement()) < itemIds.length)
+					{
+						int itemId = itemIds[idx];
+						try
+						{
+							BufferedImage sprite = createSprite(context, itemProvider, modelProvider,
+								itemId, quantity, border, shadowColor, noted);
+							if (sprite != null)
+							{
+								consumer.accept(itemId, sprite);
+								count.incrementAndGet();
+							}
+						}
+						catch (Exception ex)
+						{
+							log.warn("error rendering item {}", itemId, ex);
+						}
+					}
+				}));
+			}
+
+			for (Future<?> future : futures)
+			{
+				try
+				{
+					future.get();
+				}
+				catch (ExecutionException ex)
+				{
+					throw new RuntimeException(ex.getCause());
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		return count.get();
+	}
+
+	private static SpritePixels createSpritePixels(ItemSpriteContext context, int depth,
+		ItemProvider itemProvider, ModelProvider modelProvider,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
@@ -82,7 +174,7 @@ public class ItemSpriteFactory
 		SpritePixels auxSpritePixels = null;
 		if (item.notedTemplate != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(context, depth + 1, itemProvider, modelProvider,
 				item.notedID, 10, 1, 0, true);
 			if (auxSpritePixels == null)
 			{
@@ -91,7 +183,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.boughtTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(context, depth + 1, itemProvider, modelProvider,
 				item.boughtId, quantity, border, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -100,7 +192,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.placeholderTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(context, depth + 1, itemProvider, modelProvider,
 				item.placeholderId, quantity, 0, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -108,13 +200,9 @@ public class ItemSpriteFactory
 			}
 		}
 
-		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
-		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
-
-		SpritePixels spritePixels = new SpritePixels(36, 32);
-		Graphics3D graphics = new Graphics3D(rsTextureProvider);
-		graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
-		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
+		SpritePixels spritePixels = context.getSprite(depth);
+		Graphics3D graphics = context.graphics;
+		graphics.setRasterBuffer(spritePixels.pixels, spritePixels.width, spritePixels.height);
 		graphics.reset();
 		graphics.setRasterClipping();
 		graphics.setOffset(16, 16);
@@ -152,12 +240,12 @@ public class ItemSpriteFactory
 
 		if (border >= 1)
 		{
-			spritePixels.drawBorder(1);
+			spritePixels.drawBorder(1, context.scratch);
 		}
 
 		if (border >= 2)
 		{
-			spritePixels.drawBorder(0xffffff);
+			spritePixels.drawBorder(0xffffff, context.scratch);
 		}
 
 		if (shadowColor != 0)
@@ -165,16 +253,12 @@ public class ItemSpriteFactory
 			spritePixels.drawShadow(shadowColor);
 		}
 
-		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
+		graphics.setRasterBuffer(spritePixels.pixels, spritePixels.width, spritePixels.height);
 		if (item.notedTemplate != -1)
 		{
 			auxSpritePixels.drawAtOn(graphics, 0, 0);
 		}
 
-		graphics.setRasterBuffer(graphics.graphicsPixels,
-			graphics.graphicsPixelsWidth,
-			graphics.graphicsPixelsHeight);
-
 		graphics.setRasterClipping();
 		graphics.rasterGouraudLowRes = true;
 		return spritePixels;
@@ -50,43 +50,50 @@ class SpritePixels
 
 	public void drawBorder(int color)
 	{
-		int[] newPixels = new int[this.width * this.height];
+		drawBorder(color, new int[this.width * this.height]);
+	}
+
+	/**
+	 * Draws a border around the sprite, using {@code scratch} to hold a copy of the
+	 * source pixels. The pixel array of this sprite is updated in place.
+	 */
+	public void drawBorder(int color, int[] scratch)
+	{
+		System.arraycopy(this.pixels, 0, scratch, 0, this.width * this.height);
 		int pixelIndex = 0;
 
 		for (int y = 0; y < this.height; ++y)
 		{
 			for (int x = 0; x < this.width; ++x)
 			{
-				int pixel = this.pixels[pixelIndex];
+				int pixel = scratch[pixelIndex];
 				if (pixel == 0)
 				{
 					// W
-					if (x > 0 && this.pixels[pixelIndex - 1] != 0)
+					if (x > 0 && scratch[pixelIndex - 1] != 0)
 					{
 						pixel = color;
 					}
 					// N
-					else if (y > 0 && this.pixels[pixelIndex - this.width] != 0)
+					else if (y > 0 && scratch[pixelIndex - this.width] != 0)
 					{
 						pixel = color;
 					}
 					// E
-					else if (x < this.width - 1 && this.pixels[pixelIndex + 1] != 0)
+					else if (x < this.width - 1 && scratch[pixelIndex + 1] != 0)
 					{
 						pixel = color;
 					}
 					// S
-					else if (y < this.height - 1 && this.pixels[pixelIndex + this.width] != 0)
+					else if (y < this.height - 1 && scratch[pixelIndex + this.width] != 0)
 					{
 						pixel = color;
 					}
 				}
 
-				newPixels[pixelIndex++] = pixel;
+				this.pixels[pixelIndex++] = pixel;
 			}
 		}
-
-		this.pixels = newPixels;
 	}
 
 
@@ -198,15 +205,23 @@ class SpritePixels
 
 	public BufferedImage toBufferedImage()
 	{
-		int[] transPixels = new int[pixels.length];
+		return toBufferedImage(new int[pixels.length]);
+	}
+
+	public BufferedImage toBufferedImage(int[] transPixels)
+	{
 		BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
 
-		for (int i = 0; i < pixels.length; i++)
+		for (int i = 0; i < width * height; i++)
 		{
 			if (pixels[i] != 0)
 			{
 				transPixels[i] = pixels[i] | 0xff000000;
 			}
+			else
+			{
+				transPixels[i] = 0;
+			}
 		}
 
 		img.setRGB(0, 0, width, height, transPixels, 0, width);
@@ -25,9 +25,12 @@
 package net.runelite.cache.region;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.LocationsDefinition;
@@ -38,6 +41,7 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.Djb2;
 import net.runelite.cache.util.KeyProvider;
 
 @Slf4j
@@ -67,15 +71,52 @@ public class RegionLoader
 			return;
 		}
 
+		Map<Integer, Archive> archivesByName = new HashMap<>();
+		for (Archive archive : index.getArchives())
+		{
+			archivesByName.putIfAbsent(archive.getNameHash(), archive);
+		}
+
+		List<Integer> ids = new ArrayList<>();
 		for (int i = 0; i < MAX_REGION; ++i)
 		{
-			try
+			int x = i >> 8;
+			int y = i & 0xFF;
+
+			if (archivesByName.containsKey(Djb2.hash("m" + x + "_" + y))
+				&& archivesByName.containsKey(Djb2.hash("l" + x + "_" + y)))
 			{
-				this.loadRegionFromArchive(i);
+				ids.add(i);
 			}
-			catch (IOException ex)
+		}
+
+		// the map and land archives are read, decrypted and decoded in parallel,
+		// and the regions added in order afterwards
+		List<Region> loaded = ids.parallelStream()
+			.map(i ->
 			{
-				log.debug("Can't decrypt region " + i, ex);
+				int x = i >> 8;
+				int y = i & 0xFF;
+
+				try
+				{
+					return readRegion(i,
+						archivesByName.get(Djb2.hash("m" + x + "_" + y)),
+						archivesByName.get(Djb2.hash("l" + x + "_" + y)));
+				}
+				catch (IOException ex)
+				{
+					log.debug("Can't decrypt region " + i, ex);
+					return null;
+				}
+			})
+			.collect(Collectors.toList());
+
+		for (Region region : loaded)
+		{
+			if (region != null)
+			{
+				regions.put(region.getRegionID(), region);
 			}
 		}
 	}
@@ -85,7 +126,6 @@ public class RegionLoader
 		int x = i >> 8;
 		int y = i & 0xFF;
 
-		Storage storage = store.getStorage();
 		Archive map = index.findArchiveByName("m" + x + "_" + y);
 		Archive land = index.findArchiveByName("l" + x + "_" + y);
 
@@ -96,7 +136,19 @@ public class RegionLoader
 			return null;
 		}
 
-		byte[] data = map.decompress(storage.loadArchive(map));
+		Region region = readRegion(i, map, land);
+		regions.put(i, region);
+
+		return region;
+	}
+
+	private Region readRegion(int i, Archive map, Archive land) throws IOException
+	{
+		int x = i >> 8;
+		int y = i & 0xFF;
+
+		Storage storage = store.getStorage();
+		byte[] data = storage.loadDecompressedArchive(map, null);
 
 		MapDefinition mapDef = new MapLoader().load(x, y, data);
 
@@ -106,13 +158,11 @@ public class RegionLoader
 		int[] keys = keyProvider.getKey(i);
 		if (keys != null)
 		{
-			data = land.decompress(storage.loadArchive(land), keys);
+			data = storage.loadDecompressedArchive(land, keys);
 			LocationsDefinition locDef = new LocationsLoader().load(x, y, data);
 			region.loadLocations(locDef);
 		}
 
-		regions.put(i, region);
-
 		return region;
 	}
 
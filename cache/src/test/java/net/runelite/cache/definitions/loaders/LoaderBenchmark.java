@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.loaders;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Decoding benchmarks over the test cache. The archives are decompressed up front
+ * so only the loaders are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LoaderBenchmark
+{
+	private final List<byte[]> models = new ArrayList<>();
+	private final List<byte[]> objects = new ArrayList<>();
+	private int objectRevision;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+			Storage storage = store.getStorage();
+
+			Index modelIndex = store.getIndex(IndexType.MODELS);
+			for (Archive archive : modelIndex.getArchives())
+			{
+				byte[] data = storage.loadDecompressedArchive(archive, null);
+				if (data != null)
+				{
+					models.add(data);
+				}
+			}
+
+			Archive objectArchive = store.getIndex(IndexType.CONFIGS).getArchive(ConfigType.OBJECT.getId());
+			objectRevision = objectArchive.getRevision();
+			ArchiveFiles files = objectArchive.getFiles(storage.loadArchive(objectArchive));
+			for (FSFile file : files.getFiles())
+			{
+				objects.add(file.getContents());
+			}
+		}
+	}
+
+	@Benchmark
+	public void loadModels(Blackhole blackhole)
+	{
+		ModelLoader loader = new ModelLoader();
+		for (int i = 0; i < models.size(); ++i)
+		{
+			blackhole.consume(loader.load(i, models.get(i)));
+		}
+	}
+
+	@Benchmark
+	public void loadObjects(Blackhole blackhole)
+	{
+		ObjectLoader loader = new ObjectLoader();
+		loader.configureForRevision(objectRevision);
+		for (int i = 0; i < objects.size(); ++i)
+		{
+			blackhole.consume(loader.load(i, objects.get(i)));
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(LoaderBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
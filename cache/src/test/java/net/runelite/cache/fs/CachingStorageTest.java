@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CachingStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testCache() throws Exception
+	{
+		File spill = folder.newFolder();
+		FlatStorage flatStorage = new FlatStorage(folder.newFolder());
+		CachingStorage storage = new CachingStorage(flatStorage, 1024, spill);
+
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0);
+			archive.setFileData(new FileData[]{new FileData()});
+			save(storage, archive, "test");
+
+			assertArrayEquals("test".getBytes(), storage.loadDecompressedArchive(archive, null));
+			assertArrayEquals("test".getBytes(), storage.loadDecompressedArchive(archive, null));
+			assertEquals(1, storage.getMisses());
+			assertEquals(1, storage.getHits());
+
+			// changing the archive invalidates the cached data
+			save(storage, archive, "test2");
+			assertArrayEquals("test2".getBytes(), storage.loadDecompressedArchive(archive, null));
+			assertEquals(2, storage.getMisses());
+
+			// a new cache over the same spill directory reads from disk
+			CachingStorage storage2 = new CachingStorage(flatStorage, 1024, spill);
+			assertArrayEquals("test2".getBytes(), storage2.loadDecompressedArchive(archive, null));
+			assertEquals(1, storage2.getDiskHits());
+			assertEquals(0, storage2.getMisses());
+		}
+	}
+
+	@Test
+	public void testCrcChange() throws Exception
+	{
+		CachingStorage storage = new CachingStorage(new FlatStorage(folder.newFolder()), 1024, folder.newFolder());
+
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0);
+			archive.setFileData(new FileData[]{new FileData()});
+			save(storage, archive, "test");
+			assertArrayEquals("test".getBytes(), storage.loadDecompressedArchive(archive, null));
+
+			// update the underlying storage directly, bypassing the cache
+			Container container = new Container(archive.getCompression(), -1);
+			container.compress("test2".getBytes(), null);
+			storage.getStorage().saveArchive(archive, container.data);
+			archive.setCrc(container.crc);
+
+			assertArrayEquals("test2".getBytes(), storage.loadDecompressedArchive(archive, null));
+			assertEquals(2, storage.getMisses());
+			assertEquals(0, storage.getHits());
+		}
+	}
+
+	@Test
+	public void testEviction() throws Exception
+	{
+		CachingStorage storage = new CachingStorage(new FlatStorage(folder.newFolder()), 8, null);
+
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0);
+			archive.setFileData(new FileData[]{new FileData()});
+			save(storage, archive, "test");
+			Archive archive2 = index.addArchive(1);
+			archive2.setFileData(new FileData[]{new FileData()});
+			save(storage, archive2, "test2");
+
+			storage.loadDecompressedArchive(archive, null);
+			storage.loadDecompressedArchive(archive2, null);
+			assertEquals(1, storage.getEvictions());
+			assertEquals(5, storage.getMemorySize());
+
+			storage.loadDecompressedArchive(archive, null);
+			assertEquals(3, storage.getMisses());
+		}
+	}
+
+	@Test
+	public void testEncrypted() throws Exception
+	{
+		File spill = folder.newFolder();
+		CachingStorage storage = new CachingStorage(new FlatStorage(folder.newFolder()), 1024, spill);
+		int[] keys = {1, 2, 3, 4};
+
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(5);
+			Archive archive = index.addArchive(0);
+			archive.setFileData(new FileData[]{new FileData()});
+			save(storage, archive, "encrypted contents", keys);
+
+			assertArrayEquals("encrypted contents".getBytes(), storage.loadDecompressedArchive(archive, keys));
+			assertArrayEquals("encrypted contents".getBytes(), storage.loadDecompressedArchive(archive, keys.clone()));
+			assertEquals(1, storage.getMisses());
+			assertEquals(1, storage.getHits());
+
+			// the decrypted data is only returned for the same keys, other keys decrypt the archive again
+			assertFalse(Arrays.equals("encrypted contents".getBytes(), storage.loadDecompressedArchive(archive, new int[]{4, 3, 2, 1})));
+			assertEquals(2, storage.getMisses());
+			assertEquals(1, storage.getHits());
+
+			// and is not written to disk
+			assertFalse(new File(spill, "5").exists());
+		}
+	}
+
+	private static void save(Storage storage, Archive archive, String contents) throws IOException
+	{
+		save(storage, archive, contents, null);
+	}
+
+	private static void save(Storage storage, Archive archive, String contents, int[] keys) throws IOException
+	{
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(contents.getBytes(), keys);
+		archive.setCrc(container.crc);
+		storage.saveArchive(archive, container.data);
+	}
+}
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.util.Random;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class ContainerTest
@@ -52,4 +53,19 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testCrc() throws IOException
+	{
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		Container container = new Container(GZ, 7);
+		container.compress(data, null);
+		byte[] compressedData = container.data;
+
+		container = Container.decompress(compressedData, null);
+		assertEquals(container.crc, Container.crc(compressedData));
+	}
+
 }
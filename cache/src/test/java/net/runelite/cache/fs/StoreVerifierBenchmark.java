@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.util.Xtea;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Xtea throughput over synthetic data, and crc verification of the test cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StoreVerifierBenchmark
+{
+	private static final int[] KEY = {4, 8, 15, 16};
+
+	@Param({"1", "4"})
+	private int threads;
+
+	private final byte[] data = new byte[1 << 20];
+	private Store store;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		new Random(42L).nextBytes(data);
+
+		store = new Store(StoreLocation.LOCATION);
+		store.load();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		store.close();
+	}
+
+	@Benchmark
+	public void xteaCopy(Blackhole blackhole)
+	{
+		blackhole.consume(new Xtea(KEY).decrypt(data, data.length));
+	}
+
+	@Benchmark
+	public void xteaInPlace()
+	{
+		Xtea.decrypt(data, 0, data.length, KEY);
+	}
+
+	@Benchmark
+	public void verify(Blackhole blackhole) throws IOException, InterruptedException
+	{
+		blackhole.consume(StoreVerifier.verify(store, threads));
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(StoreVerifierBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StoreVerifierTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testVerify() throws Exception
+	{
+		FlatStorage storage = new FlatStorage(folder.newFolder());
+
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 16; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[]{new FileData()});
+				save(storage, archive, "archive" + i);
+			}
+
+			assertEquals(Collections.emptyList(), StoreVerifier.verify(store, 4));
+
+			Archive archive = index.getArchive(3);
+			archive.setCrc(archive.getCrc() + 1);
+			Archive missing = index.addArchive(16);
+
+			List<Archive> failed = StoreVerifier.verify(store, 4);
+			assertEquals(2, failed.size());
+			assertTrue(failed.contains(archive));
+			assertTrue(failed.contains(missing));
+		}
+	}
+
+	private static void save(Storage storage, Archive archive, String data) throws IOException
+	{
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(data.getBytes(), null);
+		storage.saveArchive(archive, container.data);
+		archive.setCrc(container.crc);
+	}
+}
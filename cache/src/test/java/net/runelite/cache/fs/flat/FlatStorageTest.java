@@ -25,12 +25,14 @@
 package net.runelite.cache.fs.flat;
 
 import java.io.File;
+import java.nio.file.Files;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.index.FileData;
+import net.runelite.cache.util.Djb2;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import org.junit.Rule;
@@ -100,4 +102,172 @@ public class FlatStorageTest
 			assertEquals(archive2.getRevision(), archive2_2.getRevision());
 		}
 	}
+
+	@Test
+	public void testBinaryIndex() throws Exception
+	{
+		File file = folder.newFolder();
+		File binaries = folder.newFolder();
+		try (Store store = new Store(new FlatStorage(file, binaries)))
+		{
+			Index index = store.addIndex(0);
+			index.setRevision(7);
+			for (int i = 0; i < 3; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setNameHash(Djb2.hash("archive" + i));
+
+				FileData[] fileData = new FileData[i + 1];
+				for (int j = 0; j <= i; ++j)
+				{
+					fileData[j] = new FileData();
+					fileData[j].setId(j);
+					fileData[j].setNameHash(j * 17);
+				}
+				archive.setFileData(fileData);
+
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(("test" + i).getBytes(), null);
+				archive.setCrc(container.crc);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			store.save();
+		}
+
+		assertTrue(new File(binaries, "0" + FlatIndexBinary.EXTENSION).exists());
+		assertArrayEquals(new String[]{"0" + FlatStorage.EXTENSION}, file.list());
+
+		Store textStore;
+		Store binaryStore;
+
+		FlatStorage storage = new FlatStorage(file, binaries);
+		binaryStore = new Store(storage);
+		binaryStore.load();
+
+		textStore = new Store(new FlatStorage(file));
+		textStore.load();
+
+		assertEquals(textStore, binaryStore);
+
+		Index index = binaryStore.findIndex(0);
+		assertEquals(7, index.getRevision());
+		Archive archive = index.getArchive(2);
+		assertEquals(Djb2.hash("archive2"), archive.getNameHash());
+		assertEquals(3, archive.getFileData().length);
+		assertEquals(34, archive.getFileData()[2].getNameHash());
+		assertArrayEquals("test2".getBytes(), archive.decompress(storage.loadArchive(archive)));
+
+		assertSame(archive, index.findArchiveByName("archive2"));
+		assertSame(index.getArchive(0), index.findArchiveByName("archive0"));
+		assertNull(index.findArchiveByName("archive3"));
+
+		archive.setNameHash(Djb2.hash("renamed"));
+		assertSame(archive, index.findArchiveByName("renamed"));
+		assertNull(index.findArchiveByName("archive2"));
+	}
+
+	@Test
+	public void testBinaryIndexWrittenOnLoad() throws Exception
+	{
+		File file = folder.newFolder();
+		try (Store store = new Store(new FlatStorage(file)))
+		{
+			Index index = store.addIndex(0);
+			index.addArchive(0).setFileData(new FileData[]{new FileData()});
+			store.save();
+		}
+
+		// without a binary directory only the text index is written
+		assertArrayEquals(new String[]{"0" + FlatStorage.EXTENSION}, file.list());
+
+		File binaries = folder.newFolder();
+		try (Store store = new Store(new FlatStorage(file, binaries)))
+		{
+			store.load();
+		}
+
+		assertTrue(new File(binaries, "0" + FlatIndexBinary.EXTENSION).exists());
+	}
+
+	@Test
+	public void testSaveMappedIndex() throws Exception
+	{
+		File file = folder.newFolder();
+		File binaries = folder.newFolder();
+		try (Store store = new Store(new FlatStorage(file, binaries)))
+		{
+			for (int i = 0; i < 2; ++i)
+			{
+				Index index = store.addIndex(i);
+				Archive archive = index.addArchive(0);
+				archive.setFileData(new FileData[]{new FileData()});
+
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(("test" + i).getBytes(), null);
+				archive.setCrc(container.crc);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			store.save();
+		}
+
+		FlatStorage storage = new FlatStorage(file, binaries);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+
+			// modify one index, and save the store over the binary indexes it was loaded from
+			Index index = store.findIndex(1);
+			Archive archive = index.addArchive(1);
+			archive.setFileData(new FileData[]{new FileData()});
+
+			Container container = new Container(archive.getCompression(), -1);
+			container.compress("test2".getBytes(), null);
+			archive.setCrc(container.crc);
+			storage.saveArchive(archive, container.data);
+
+			store.save();
+
+			Archive unmodified = store.findIndex(0).getArchive(0);
+			assertArrayEquals("test0".getBytes(), unmodified.decompress(storage.loadArchive(unmodified)));
+			Archive modified = index.getArchive(0);
+			assertArrayEquals("test1".getBytes(), modified.decompress(storage.loadArchive(modified)));
+		}
+
+		try (Store store = new Store(new FlatStorage(file, binaries)))
+		{
+			store.load();
+			assertEquals(2, store.findIndex(1).getArchives().size());
+			Archive archive = store.findIndex(0).getArchive(0);
+			assertArrayEquals("test0".getBytes(), archive.decompress(store.getStorage().loadArchive(archive)));
+		}
+	}
+
+	@Test
+	public void testStaleBinaryIndex() throws Exception
+	{
+		File file = folder.newFolder();
+		File binaries = folder.newFolder();
+		try (Store store = new Store(new FlatStorage(file, binaries)))
+		{
+			Index index = store.addIndex(0);
+			index.setRevision(10);
+			store.save();
+		}
+
+		// rewrite the text index without updating the binary index, keeping its length and modification time
+		File text = new File(file, "0" + FlatStorage.EXTENSION);
+		long lastModified = text.lastModified();
+		long length = text.length();
+		Files.write(text.toPath(), "protocol=6\nrevision=20\ncompression=0\ncrc=0\nnamed=true\n".getBytes());
+		assertTrue(text.setLastModified(lastModified));
+		assertEquals(length, text.length());
+
+		try (Store store = new Store(new FlatStorage(file, binaries)))
+		{
+			store.load();
+			assertEquals(20, store.findIndex(0).getRevision());
+		}
+	}
 }
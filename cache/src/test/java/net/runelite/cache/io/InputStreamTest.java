@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.io;
+
+import java.nio.ByteBuffer;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class InputStreamTest
+{
+	@Test
+	public void testDirectBuffer()
+	{
+		OutputStream os = new OutputStream();
+		os.writeInt(0xdeadbeef);
+		os.writeString("hello");
+		// cp1252 euro sign
+		os.writeBytes("world".getBytes());
+		os.writeByte(0x80);
+		os.writeByte(0);
+		byte[] data = os.flip();
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(data.length + 2);
+		direct.put((byte) 1).put((byte) 2).put(data).flip();
+		direct.position(2);
+
+		InputStream is = new InputStream(direct);
+		assertEquals(data.length, is.getLength());
+		assertEquals(0xdeadbeef, is.readInt());
+		assertEquals("hello", is.readString());
+		assertEquals("world\u20ac", is.readString());
+		assertEquals(0, is.remaining());
+	}
+
+	@Test
+	public void testSlice()
+	{
+		OutputStream os = new OutputStream();
+		os.writeShort(1);
+		os.writeShort(2);
+		os.writeShort(3);
+		os.writeShort(-1);
+		os.writeByte(200);
+		os.writeByte(7);
+		InputStream is = new InputStream(os.flip());
+
+		InputStream slice = is.slice(2, 6);
+		assertEquals(6, slice.getLength());
+		short[] shorts = new short[3];
+		slice.readShorts(shorts, 0, 3);
+		assertArrayEquals(new short[]{2, 3, -1}, shorts);
+		assertEquals(0, slice.remaining());
+
+		InputStream bytes = is.duplicate();
+		bytes.setOffset(8);
+		int[] ints = new int[2];
+		bytes.readUnsignedBytes(ints, 0, 2);
+		assertArrayEquals(new int[]{200, 7}, ints);
+
+		// the original stream is unaffected
+		assertEquals(0, is.getOffset());
+		assertEquals(1, is.readUnsignedShort());
+	}
+}
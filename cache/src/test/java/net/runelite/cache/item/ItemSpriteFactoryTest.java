@@ -116,4 +116,48 @@ public class ItemSpriteFactoryTest
 
 		log.info("Dumped {} item images to {}", count, outDir);
 	}
+
+	@Test
+	@Ignore
+	public void testParallel() throws Exception
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			ItemManager itemManager = new ItemManager(store);
+			itemManager.load();
+			itemManager.link();
+
+			ModelProvider modelProvider = modelId ->
+			{
+				Index models = store.getIndex(IndexType.MODELS);
+				Archive archive = models.getArchive(modelId);
+
+				byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+				return new ModelLoader().load(modelId, data);
+			};
+
+			SpriteManager spriteManager = new SpriteManager(store);
+			spriteManager.load();
+
+			TextureManager textureManager = new TextureManager(store);
+			textureManager.load();
+
+			int[] itemIds = itemManager.getItems().stream()
+				.filter(itemDef -> itemDef.name != null && !itemDef.name.equalsIgnoreCase("null"))
+				.mapToInt(itemDef -> itemDef.id)
+				.toArray();
+
+			long start = System.nanoTime();
+			int count = ItemSpriteFactory.createSprites(itemManager, modelProvider, spriteManager, textureManager,
+				itemIds, 1, 1, 3153952, false, Runtime.getRuntime().availableProcessors(),
+				(itemId, sprite) -> ImageIO.write(sprite, "PNG", new File(outDir, itemId + ".png")));
+
+			log.info("Dumped {} item images to {} in {}ms", count, outDir, (System.nanoTime() - start) / 1_000_000L);
+		}
+	}
 }
\ No newline at end of file
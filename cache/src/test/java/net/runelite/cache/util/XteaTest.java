@@ -25,6 +25,7 @@
 package net.runelite.cache.util;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import static org.junit.Assert.assertArrayEquals;
 import org.junit.Test;
 
@@ -53,4 +54,45 @@ public class XteaTest
 
 		assertArrayEquals(data, decData);
 	}
+
+	@Test
+	public void testInPlace()
+	{
+		byte[] data = "encrypt in place ok".getBytes(StandardCharsets.UTF_8);
+		byte[] buf = new byte[data.length + 3];
+		System.arraycopy(data, 0, buf, 3, data.length);
+
+		int[] key = new int[]
+		{
+			4, 8, 15, 16
+		};
+		byte[] encrypted = new byte[]
+		{
+			-28, -22, 56, -30, -100, -79, -58, -36, 19, 51, 83, 83, -118, -47, 17, -62, 32, 111, 107
+		};
+
+		Xtea.encrypt(buf, 3, data.length, key);
+		assertArrayEquals(encrypted, Arrays.copyOfRange(buf, 3, buf.length));
+
+		Xtea.decrypt(buf, 3, data.length, key);
+		assertArrayEquals(data, Arrays.copyOfRange(buf, 3, buf.length));
+	}
+
+	@Test
+	public void testBytesAfterLength()
+	{
+		byte[] data = "testtesttest1".getBytes(StandardCharsets.UTF_8);
+
+		int[] key = new int[]
+		{
+			4, 8, 15, 16
+		};
+
+		// only the first block is processed, and the rest is returned as it is
+		byte[] encData = new Xtea(key).encrypt(data, 8);
+		assertArrayEquals(new byte[]{121, -18, 48, 64, 120, -42, -113, 77}, Arrays.copyOf(encData, 8));
+		assertArrayEquals(Arrays.copyOfRange(data, 8, data.length), Arrays.copyOfRange(encData, 8, encData.length));
+
+		assertArrayEquals(data, new Xtea(key).decrypt(encData, 8));
+	}
 }
@@ -31,6 +31,7 @@ import java.awt.Shape;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -74,6 +75,8 @@ public class Perspective
 
 	private static final int ESCENE_OFFSET = (Constants.EXTENDED_SCENE_SIZE - Constants.SCENE_SIZE) / 2;
 
+	private static final ThreadLocal<ClickboxScratch> CLICKBOX_SCRATCH = ThreadLocal.withInitial(ClickboxScratch::new);
+
 	static
 	{
 		for (int i = 0; i < 2048; ++i)
@@ -828,21 +831,21 @@ public class Perspective
 		y1 -= ey;
 		z1 -= ez;
 
-		float[] xa = new float[]{
-			x1, x2, x1, x2,
-			x1, x2, x1, x2
-		};
-		float[] ya = new float[]{
-			y1, y1, y2, y2,
-			y1, y1, y2, y2
-		};
-		float[] za = new float[]{
-			z1, z1, z1, z1,
-			z2, z2, z2, z2
-		};
-
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
+		ClickboxScratch scratch = CLICKBOX_SCRATCH.get();
+		float[] xa = scratch.xa;
+		float[] ya = scratch.ya;
+		float[] za = scratch.za;
+		for (int i = 0; i < 8; i++)
+		{
+			// the corners of the box: x alternates every point, y every two and z every four
+			xa[i] = (i & 1) == 0 ? x1 : x2;
+			ya[i] = (i & 2) == 0 ? y1 : y2;
+			za[i] = (i & 4) == 0 ? z1 : z2;
+		}
+
+		// the hull only keeps a copy of the points
+		int[] x2d = scratch.aabbX;
+		int[] y2d = scratch.aabbY;
 
 		modelToCanvasCpu(client, 8, x, y, z, 0, xa, ya, za, x2d, y2d);
 
@@ -851,8 +854,10 @@ public class Perspective
 
 	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z)
 	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
+		ClickboxScratch scratch = CLICKBOX_SCRATCH.get();
+		scratch.ensureVertices(m.getVerticesCount());
+		int[] x2d = scratch.x2d;
+		int[] y2d = scratch.y2d;
 		final int[] faceColors3 = m.getFaceColors3();
 
 		Perspective.modelToCanvasCpu(client,
@@ -864,18 +869,18 @@ public class Perspective
 
 		final int radius = 5;
 
-		int[][] tris = new int[][]{
-			m.getFaceIndices1(),
-			m.getFaceIndices2(),
-			m.getFaceIndices3()
-		};
+		final int[][] tris = scratch.tris;
+		tris[0] = m.getFaceIndices1();
+		tris[1] = m.getFaceIndices2();
+		tris[2] = m.getFaceIndices3();
 
 		int vpX1 = client.getViewportXOffset();
 		int vpY1 = client.getViewportXOffset();
 		int vpX2 = vpX1 + client.getViewportWidth();
 		int vpY2 = vpY1 + client.getViewportHeight();
 
-		List<RectangleUnion.Rectangle> rects = new ArrayList<>(m.getFaceCount());
+		List<RectangleUnion.Rectangle> rects = scratch.rects;
+		rects.clear();
 
 		nextTri:
 		for (int tri = 0; tri < m.getFaceCount(); tri++)
@@ -935,7 +940,43 @@ public class Perspective
 			rects.add(r);
 		}
 
-		return RectangleUnion.union(rects);
+		try
+		{
+			return RectangleUnion.union(rects);
+		}
+		finally
+		{
+			// do not keep the model alive through the buffers
+			rects.clear();
+			Arrays.fill(tris, null);
+		}
+	}
+
+	/**
+	 * Buffers reused by the clickbox calculations of a thread, so that only the resulting shape is
+	 * allocated, rather than projection arrays sized to the vertices of every model.
+	 */
+	private static final class ClickboxScratch
+	{
+		private final float[] xa = new float[8];
+		private final float[] ya = new float[8];
+		private final float[] za = new float[8];
+		// exactly 8 long, the convex hull uses the length of the arrays as the number of points
+		private final int[] aabbX = new int[8];
+		private final int[] aabbY = new int[8];
+		private int[] x2d = new int[0];
+		private int[] y2d = new int[0];
+		private final int[][] tris = new int[3][];
+		private final List<RectangleUnion.Rectangle> rects = new ArrayList<>();
+
+		private void ensureVertices(int count)
+		{
+			if (x2d.length < count)
+			{
+				x2d = new int[count];
+				y2d = new int[count];
+			}
+		}
 	}
 
 	/**
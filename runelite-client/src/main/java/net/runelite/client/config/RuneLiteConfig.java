@@ -424,6 +424,23 @@ public interface RuneLiteConfig extends Config
 		return ComponentConstants.STANDARD_BACKGROUND_COLOR;
 	}
 
+	@ConfigItem(
+		keyName = "overlayFrameBudget",
+		name = "Overlay frame budget",
+		description = "Overlays which take longer than this to render are rendered only every few frames,<br>"
+			+ "and drawn from their last render in between. 0 renders every overlay every frame.<br>"
+			+ "Overlays which add tooltips are always rendered every frame, but hover effects of throttled overlays<br>"
+			+ "only update when they are rendered",
+		position = 47,
+		section = overlaySettings
+	)
+	@Units(Units.MILLISECONDS)
+	@Range(max = 50)
+	default int overlayFrameBudget()
+	{
+		return 0;
+	}
+
 	@ConfigItem(
 		keyName = "sidebarToggleKey",
 		name = "Sidebar Toggle Key",
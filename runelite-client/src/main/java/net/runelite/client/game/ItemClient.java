@@ -33,6 +33,7 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import lombok.extern.slf4j.Slf4j;
@@ -65,16 +66,8 @@ public class ItemClient
 
 	public ItemPrice[] getPrices() throws IOException
 	{
-		HttpUrl.Builder urlBuilder = apiBase.newBuilder()
-			.addPathSegment("item")
-			.addPathSegment("prices.js");
-
-		HttpUrl url = urlBuilder.build();
-
-		log.debug("Built URI: {}", url);
-
 		Request request = new Request.Builder()
-			.url(url)
+			.url(pricesUrl())
 			.build();
 
 		try (Response response = client.newCall(request).execute())
@@ -85,6 +78,68 @@ public class ItemClient
 				return null;
 			}
 
+			return readPrices(response);
+		}
+	}
+
+	/**
+	 * Fetch the prices, asking the server to not send them again if they have not changed since
+	 * the cached snapshot was fetched.
+	 *
+	 * @param cached the prices fetched before, if any
+	 * @param now    the time to record as the fetch time
+	 * @return the new prices, the cached prices refetched now if they have not changed, or null if the
+	 * lookup failed
+	 */
+	@Nullable
+	PriceSnapshot getPrices(@Nullable PriceSnapshot cached, long now) throws IOException
+	{
+		Request.Builder builder = new Request.Builder()
+			.url(pricesUrl());
+		if (cached != null && cached.getEtag() != null)
+		{
+			builder.header("If-None-Match", cached.getEtag());
+		}
+		if (cached != null && cached.getLastModified() != null)
+		{
+			builder.header("If-Modified-Since", cached.getLastModified());
+		}
+
+		try (Response response = client.newCall(builder.build()).execute())
+		{
+			if (response.code() == 304 && cached != null)
+			{
+				log.debug("Prices not modified since {}", cached.getFetchedAt());
+				return cached.refetched(now);
+			}
+
+			if (!response.isSuccessful())
+			{
+				log.warn("Error looking up prices: {}", response);
+				return null;
+			}
+
+			ItemPrice[] prices = readPrices(response);
+			return prices == null ? null : PriceSnapshot.of(prices, now, response.header("ETag"), response.header("Last-Modified"));
+		}
+	}
+
+	private HttpUrl pricesUrl()
+	{
+		HttpUrl.Builder urlBuilder = apiBase.newBuilder()
+			.addPathSegment("item")
+			.addPathSegment("prices.js");
+
+		HttpUrl url = urlBuilder.build();
+
+		log.debug("Built URI: {}", url);
+		return url;
+	}
+
+	private ItemPrice[] readPrices(Response response) throws IOException
+	{
+		try
+		{
 			InputStream in = response.body().byteStream();
 			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ItemPrice[].class);
 		}
@@ -32,7 +32,6 @@ import com.google.inject.Inject;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -84,6 +83,7 @@ public class ItemManager
 	private final ClientThread clientThread;
 	private final ItemClient itemClient;
 	private final RuneLiteConfig runeLiteConfig;
+	private final ItemPriceCache itemPriceCache;
 
 	@Inject(optional = true)
 	@Named("activePriceThreshold")
@@ -96,6 +96,7 @@ public class ItemManager
 	private int lowPriceThreshold = 1000;
 
 	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	private ItemNameIndex itemNameIndex = ItemNameIndex.EMPTY;
 	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
@@ -183,12 +184,13 @@ public class ItemManager
 
 	@Inject
 	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
-		ItemClient itemClient, RuneLiteConfig runeLiteConfig)
+		ItemClient itemClient, RuneLiteConfig runeLiteConfig, ItemPriceCache itemPriceCache)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
+		this.itemPriceCache = itemPriceCache;
 
 		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
 		scheduledExecutorService.submit(this::loadStats);
@@ -222,17 +224,14 @@ public class ItemManager
 	{
 		try
 		{
-			ItemPrice[] prices = itemClient.getPrices();
-			if (prices != null)
+			if (itemPrices.isEmpty())
 			{
-				ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
-				for (ItemPrice price : prices)
-				{
-					map.put(price.getId(), price);
-				}
-				itemPrices = map.build();
+				// use the prices of the last session right away, even if they are out of date
+				setPrices(itemPriceCache.load());
 			}
 
+			setPrices(itemPriceCache.refresh());
+
 			log.debug("Loaded {} prices", itemPrices.size());
 		}
 		catch (IOException e)
@@ -241,6 +240,22 @@ public class ItemManager
 		}
 	}
 
+	private void setPrices(@Nullable ItemPrice[] prices)
+	{
+		if (prices == null)
+		{
+			return;
+		}
+
+		ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
+		for (ItemPrice price : prices)
+		{
+			map.put(price.getId(), price);
+		}
+		itemPrices = map.build();
+		itemNameIndex = new ItemNameIndex(itemPrices.values());
+	}
+
 	private void loadStats()
 	{
 		try
@@ -365,18 +380,16 @@ public class ItemManager
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
+		return itemNameIndex.search(itemName);
+	}
 
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
-		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
-			{
-				result.add(itemPrice);
-			}
-		}
-		return result;
+	/**
+	 * Get the name index of the tradeable items, for exact, prefix and fuzzy searches.
+	 * The index is replaced whenever the prices are reloaded.
+	 */
+	public ItemNameIndex getItemNameIndex()
+	{
+		return itemNameIndex;
 	}
 
 	/**
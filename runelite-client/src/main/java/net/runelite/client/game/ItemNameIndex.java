@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * An immutable index over the names of the tradeable items, built when the prices are loaded.
+ * <p>
+ * Names are lower-cased once. Substring queries only check the names in the postings of the
+ * rarest trigram of the query, and return nothing without checking any name if one of its
+ * trigrams is in no name. Fuzzy queries rank names by the trigrams they share with the query.
+ * Results are in the order of the prices they were built from, unless they are ranked.
+ */
+public final class ItemNameIndex
+{
+	static final ItemNameIndex EMPTY = new ItemNameIndex(Collections.emptyList());
+
+	private static final int[] NO_POSTINGS = new int[0];
+
+	private final ItemPrice[] items;
+	private final String[] names;
+	// positions sorted by name, for prefix queries
+	private final Integer[] sorted;
+	private final Map<String, int[]> byName;
+	private final Map<Long, int[]> trigrams;
+	private final int[] trigramCounts;
+
+	ItemNameIndex(Collection<ItemPrice> prices)
+	{
+		items = prices.toArray(new ItemPrice[0]);
+		names = new String[items.length];
+		trigramCounts = new int[items.length];
+
+		Map<String, List<Integer>> byName = new HashMap<>(items.length * 2);
+		Map<Long, List<Integer>> trigrams = new HashMap<>();
+		for (int i = 0; i < items.length; i++)
+		{
+			final String name = items[i].getName() == null ? "" : items[i].getName().toLowerCase();
+			names[i] = name;
+			byName.computeIfAbsent(name, k -> new ArrayList<>(1)).add(i);
+
+			for (int c = 0; c + 3 <= name.length(); c++)
+			{
+				List<Integer> postings = trigrams.computeIfAbsent(trigram(name, c), k -> new ArrayList<>());
+				// a trigram is only listed once per name
+				if (postings.isEmpty() || postings.get(postings.size() - 1) != i)
+				{
+					postings.add(i);
+					trigramCounts[i]++;
+				}
+			}
+		}
+
+		this.byName = new HashMap<>(byName.size() * 2);
+		byName.forEach((name, positions) -> this.byName.put(name, toArray(positions)));
+		this.trigrams = new HashMap<>(trigrams.size() * 2);
+		trigrams.forEach((trigram, positions) -> this.trigrams.put(trigram, toArray(positions)));
+
+		sorted = new Integer[items.length];
+		for (int i = 0; i < sorted.length; i++)
+		{
+			sorted[i] = i;
+		}
+		Arrays.sort(sorted, Comparator.comparing((Integer i) -> names[i]));
+	}
+
+	public int size()
+	{
+		return items.length;
+	}
+
+	public boolean isEmpty()
+	{
+		return items.length == 0;
+	}
+
+	/**
+	 * @return every indexed item, in the order of the prices
+	 */
+	public List<ItemPrice> getItems()
+	{
+		return Collections.unmodifiableList(Arrays.asList(items));
+	}
+
+	/**
+	 * @return the first item with the name, ignoring case, or null if there is none
+	 */
+	@Nullable
+	public ItemPrice get(String name)
+	{
+		final int[] positions = byName.get(name.toLowerCase());
+		return positions == null ? null : items[positions[0]];
+	}
+
+	/**
+	 * @return the items with the name, ignoring case
+	 */
+	public List<ItemPrice> exact(String name)
+	{
+		return collect(byName.getOrDefault(name.toLowerCase(), NO_POSTINGS));
+	}
+
+	/**
+	 * @return the items whose name starts with the prefix, ignoring case, in the order of the names
+	 */
+	public List<ItemPrice> prefix(String prefix)
+	{
+		final String query = prefix.toLowerCase();
+		int low = 0;
+		int high = sorted.length;
+		while (low < high)
+		{
+			final int mid = (low + high) >>> 1;
+			if (names[sorted[mid]].compareTo(query) < 0)
+			{
+				low = mid + 1;
+			}
+			else
+			{
+				high = mid;
+			}
+		}
+
+		final List<ItemPrice> result = new ArrayList<>();
+		for (int i = low; i < sorted.length && names[sorted[i]].startsWith(query); i++)
+		{
+			result.add(items[sorted[i]]);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the items whose name contains the query, ignoring case
+	 */
+	public List<ItemPrice> search(String substring)
+	{
+		final String query = substring.toLowerCase();
+		final List<ItemPrice> result = new ArrayList<>();
+		if (query.length() < 3)
+		{
+			// too short for a trigram, but the names are already lower-cased
+			for (int i = 0; i < names.length; i++)
+			{
+				if (names[i].contains(query))
+				{
+					result.add(items[i]);
+				}
+			}
+			return result;
+		}
+
+		// start with the rarest trigram, every name containing the query is in all of its postings
+		int[] candidates = null;
+		for (int c = 0; c + 3 <= query.length(); c++)
+		{
+			final int[] postings = trigrams.get(trigram(query, c));
+			if (postings == null)
+			{
+				return result;
+			}
+			if (candidates == null || postings.length < candidates.length)
+			{
+				candidates = postings;
+			}
+		}
+
+		for (int i : candidates)
+		{
+			if (names[i].contains(query))
+			{
+				result.add(items[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Rank the items by the share of trigrams their name has in common with the query, so names
+	 * with a typo or with the words in another order are still found.
+	 *
+	 * @param limit the maximum number of items to return
+	 * @return the items sharing at least one trigram with the query, best first. Queries shorter than
+	 * a trigram are matched as a prefix.
+	 */
+	public List<ItemPrice> fuzzy(String query, int limit)
+	{
+		final String lower = query.toLowerCase();
+		if (lower.length() < 3)
+		{
+			final List<ItemPrice> result = prefix(lower);
+			return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+		}
+
+		final Set<Long> seen = new HashSet<>();
+		final int[] shared = new int[items.length];
+		final List<Integer> matched = new ArrayList<>();
+		for (int c = 0; c + 3 <= lower.length(); c++)
+		{
+			final long trigram = trigram(lower, c);
+			if (!seen.add(trigram))
+			{
+				continue;
+			}
+			for (int i : trigrams.getOrDefault(trigram, NO_POSTINGS))
+			{
+				if (shared[i]++ == 0)
+				{
+					matched.add(i);
+				}
+			}
+		}
+
+		// dice coefficient of the two sets of trigrams
+		final int queryTrigrams = seen.size();
+		final double[] scores = new double[items.length];
+		for (int i : matched)
+		{
+			scores[i] = 2.0 * shared[i] / (queryTrigrams + trigramCounts[i]);
+		}
+		matched.sort(Comparator.comparingDouble((Integer i) -> -scores[i]).thenComparing(i -> names[i]));
+
+		final List<ItemPrice> result = new ArrayList<>(Math.min(limit, matched.size()));
+		for (int i = 0; i < matched.size() && i < limit; i++)
+		{
+			result.add(items[matched.get(i)]);
+		}
+		return result;
+	}
+
+	private List<ItemPrice> collect(int[] positions)
+	{
+		final List<ItemPrice> result = new ArrayList<>(positions.length);
+		for (int i : positions)
+		{
+			result.add(items[i]);
+		}
+		return result;
+	}
+
+	private static long trigram(String s, int start)
+	{
+		return ((long) s.charAt(start) << 32) | ((long) s.charAt(start + 1) << 16) | s.charAt(start + 2);
+	}
+
+	private static int[] toArray(List<Integer> positions)
+	{
+		final int[] array = new int[positions.size()];
+		for (int i = 0; i < array.length; i++)
+		{
+			array[i] = positions.get(i);
+		}
+		return array;
+	}
+}
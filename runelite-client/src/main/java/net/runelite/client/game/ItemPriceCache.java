@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * Keeps the item prices in a snapshot on disk, so they are usable as soon as the client starts and
+ * are only downloaded again when they are out of date.
+ * <p>
+ * The snapshot is shared by every client on the host. A refresh holds a lock on the snapshot while
+ * it checks and updates it, so when several clients start together one of them fetches the prices
+ * and the others read what it wrote. An out of date snapshot is refetched with a conditional
+ * request, which costs no download if the prices have not changed.
+ */
+@Slf4j
+@Singleton
+class ItemPriceCache
+{
+	static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+	private final File snapshotFile;
+	private final File lockFile;
+	private final ItemClient itemClient;
+	private final Clock clock;
+
+	// the checksum of the prices last handed out, to tell whether a refresh changed anything
+	private long lastChecksum = -1;
+
+	@Inject
+	private ItemPriceCache(ItemClient itemClient)
+	{
+		this(RuneLite.CACHE_DIR, itemClient, Clock.systemUTC());
+	}
+
+	ItemPriceCache(File directory, ItemClient itemClient, Clock clock)
+	{
+		this.snapshotFile = new File(directory, "prices.dat");
+		this.lockFile = new File(directory, "prices.lock");
+		this.itemClient = itemClient;
+		this.clock = clock;
+	}
+
+	/**
+	 * Read the prices on disk, however old they are.
+	 *
+	 * @return the prices, or null if there are none
+	 */
+	@Nullable
+	synchronized ItemPrice[] load()
+	{
+		final PriceSnapshot snapshot = PriceSnapshot.read(snapshotFile);
+		if (snapshot == null)
+		{
+			return null;
+		}
+
+		log.debug("Loaded {} prices fetched at {} from disk", snapshot.size(), snapshot.getFetchedAt());
+		lastChecksum = snapshot.getChecksum();
+		return snapshot.toItemPrices();
+	}
+
+	/**
+	 * Bring the prices on disk up to date, fetching them if no client has done so recently.
+	 *
+	 * @return the prices, or null if they are the same as those last returned by {@link #load()} or
+	 * this method
+	 */
+	@Nullable
+	synchronized ItemPrice[] refresh() throws IOException
+	{
+		final PriceSnapshot snapshot;
+		snapshotFile.getParentFile().mkdirs();
+		try (FileChannel channel = FileChannel.open(lockFile.toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			@SuppressWarnings("PMD.UnusedLocalVariable") FileLock lock = channel.lock())
+		{
+			snapshot = refreshLocked();
+		}
+
+		if (snapshot == null || snapshot.getChecksum() == lastChecksum)
+		{
+			return null;
+		}
+
+		lastChecksum = snapshot.getChecksum();
+		return snapshot.toItemPrices();
+	}
+
+	@Nullable
+	private PriceSnapshot refreshLocked() throws IOException
+	{
+		final long now = clock.millis();
+		final PriceSnapshot cached = PriceSnapshot.read(snapshotFile);
+		if (cached != null && now - cached.getFetchedAt() < MAX_AGE_MILLIS)
+		{
+			// up to date, possibly fetched by another client
+			return cached;
+		}
+
+		final PriceSnapshot fetched = itemClient.getPrices(cached, now);
+		if (fetched == null)
+		{
+			// keep using the old prices until the lookup works again
+			return cached;
+		}
+
+		fetched.write(snapshotFile);
+		return fetched;
+	}
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.zip.CRC32;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * The item prices at the time they were fetched, stored as arrays sorted by item id, together with
+ * the validators of the response they came from so they can be refetched conditionally.
+ */
+@Slf4j
+final class PriceSnapshot
+{
+	private static final int MAGIC = 0x52_4C_50_53; // RLPS
+	private static final int VERSION = 1;
+
+	@Getter
+	private final long fetchedAt;
+	@Getter
+	@Nullable
+	private final String etag;
+	@Getter
+	@Nullable
+	private final String lastModified;
+	// crc of the prices, to tell whether two snapshots hold the same prices
+	@Getter
+	private final long checksum;
+	private final int[] ids;
+	private final int[] prices;
+	private final int[] wikiPrices;
+	private final String[] names;
+
+	private PriceSnapshot(long fetchedAt, @Nullable String etag, @Nullable String lastModified, long checksum,
+		int[] ids, int[] prices, int[] wikiPrices, String[] names)
+	{
+		this.fetchedAt = fetchedAt;
+		this.etag = etag;
+		this.lastModified = lastModified;
+		this.checksum = checksum;
+		this.ids = ids;
+		this.prices = prices;
+		this.wikiPrices = wikiPrices;
+		this.names = names;
+	}
+
+	static PriceSnapshot of(ItemPrice[] itemPrices, long fetchedAt, @Nullable String etag, @Nullable String lastModified)
+	{
+		final ItemPrice[] sorted = itemPrices.clone();
+		Arrays.sort(sorted, Comparator.comparingInt(ItemPrice::getId));
+
+		final int[] ids = new int[sorted.length];
+		final int[] prices = new int[sorted.length];
+		final int[] wikiPrices = new int[sorted.length];
+		final String[] names = new String[sorted.length];
+		for (int i = 0; i < sorted.length; i++)
+		{
+			ids[i] = sorted[i].getId();
+			prices[i] = sorted[i].getPrice();
+			wikiPrices[i] = sorted[i].getWikiPrice();
+			names[i] = sorted[i].getName() == null ? "" : sorted[i].getName();
+		}
+		return new PriceSnapshot(fetchedAt, etag, lastModified, checksum(ids, prices, wikiPrices, names),
+			ids, prices, wikiPrices, names);
+	}
+
+	/**
+	 * @return the same prices, fetched again at the given time
+	 */
+	PriceSnapshot refetched(long fetchedAt)
+	{
+		return new PriceSnapshot(fetchedAt, etag, lastModified, checksum, ids, prices, wikiPrices, names);
+	}
+
+	int size()
+	{
+		return ids.length;
+	}
+
+	ItemPrice[] toItemPrices()
+	{
+		final ItemPrice[] itemPrices = new ItemPrice[ids.length];
+		for (int i = 0; i < ids.length; i++)
+		{
+			final ItemPrice itemPrice = new ItemPrice();
+			itemPrice.setId(ids[i]);
+			itemPrice.setName(names[i]);
+			itemPrice.setPrice(prices[i]);
+			itemPrice.setWikiPrice(wikiPrices[i]);
+			itemPrices[i] = itemPrice;
+		}
+		return itemPrices;
+	}
+
+	/**
+	 * @return the snapshot in the file, or null if there is none or it can not be read
+	 */
+	@Nullable
+	static PriceSnapshot read(File file)
+	{
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+			{
+				log.debug("ignoring price snapshot {} of an unknown format", file);
+				return null;
+			}
+
+			final long fetchedAt = in.readLong();
+			final String etag = emptyToNull(in.readUTF());
+			final String lastModified = emptyToNull(in.readUTF());
+			final long checksum = in.readLong();
+			final int size = in.readInt();
+			final int[] ids = readInts(in, size);
+			final int[] prices = readInts(in, size);
+			final int[] wikiPrices = readInts(in, size);
+			final String[] names = new String[size];
+			for (int i = 0; i < size; i++)
+			{
+				names[i] = in.readUTF();
+			}
+
+			if (checksum != checksum(ids, prices, wikiPrices, names))
+			{
+				log.debug("ignoring corrupt price snapshot {}", file);
+				return null;
+			}
+			return new PriceSnapshot(fetchedAt, etag, lastModified, checksum, ids, prices, wikiPrices, names);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.debug("unable to read price snapshot {}", file, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Write the snapshot to a temporary file and move it over the file, so readers never see half of it.
+	 */
+	void write(File file) throws IOException
+	{
+		final File tempFile = File.createTempFile("prices", null, file.getParentFile());
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile))))
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(fetchedAt);
+			out.writeUTF(etag == null ? "" : etag);
+			out.writeUTF(lastModified == null ? "" : lastModified);
+			out.writeLong(checksum);
+			out.writeInt(ids.length);
+			writeInts(out, ids);
+			writeInts(out, prices);
+			writeInts(out, wikiPrices);
+			for (String name : names)
+			{
+				out.writeUTF(name);
+			}
+		}
+		catch (IOException ex)
+		{
+			tempFile.delete();
+			throw ex;
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static long checksum(int[] ids, int[] prices, int[] wikiPrices, String[] names)
+	{
+		final CRC32 crc = new CRC32();
+		for (int i = 0; i < ids.length; i++)
+		{
+			update(crc, ids[i]);
+			update(crc, prices[i]);
+			update(crc, wikiPrices[i]);
+			crc.update(names[i].getBytes(StandardCharsets.UTF_8));
+		}
+		return crc.getValue();
+	}
+
+	private static void update(CRC32 crc, int value)
+	{
+		crc.update(value >>> 24);
+		crc.update(value >>> 16);
+		crc.update(value >>> 8);
+		crc.update(value);
+	}
+
+	private static int[] readInts(DataInputStream in, int size) throws IOException
+	{
+		final int[] values = new int[size];
+		for (int i = 0; i < size; i++)
+		{
+			values[i] = in.readInt();
+		}
+		return values;
+	}
+
+	private static void writeInts(DataOutputStream out, int[] values) throws IOException
+	{
+		for (int value : values)
+		{
+			out.writeInt(value);
+		}
+	}
+
+	@Nullable
+	private static String emptyToNull(String value)
+	{
+		return value.isEmpty() ? null : value;
+	}
+}
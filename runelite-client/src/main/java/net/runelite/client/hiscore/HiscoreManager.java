@@ -24,17 +24,41 @@
  */
 package net.runelite.client.hiscore;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
 
+/**
+ * Caches hiscore lookups, on disk so they survive restarts. Concurrent lookups of the same player share a
+ * single request, and at most {@link #MAX_CONCURRENT_LOOKUPS} requests are made at once, so a burst of
+ * lookups such as when entering a crowded world does not flood the hiscores. The others wait; those a
+ * caller is blocked on go first, in order, then the asynchronous ones, latest first.
+ */
+@Slf4j
 @Singleton
 public class HiscoreManager
 {
@@ -46,20 +70,81 @@ public class HiscoreManager
 		HiscoreEndpoint type;
 	}
 
-	static final HiscoreResult EMPTY = new HiscoreResult(null, ImmutableMap.of());
+	@Value
+	private static class CacheEntry
+	{
+		HiscoreResult result;
+		long expiresAt;
+		/**
+		 * Failed lookups are only remembered by this client, to not retry them every frame
+		 */
+		boolean persistent;
+		/**
+		 * Why the lookup failed, if the result is {@link #FAILED}
+		 */
+		Throwable failure;
+	}
+
+	/**
+	 * The player is not on the hiscores
+	 */
 	static final HiscoreResult NONE = new HiscoreResult(null, ImmutableMap.of());
+	/**
+	 * The lookup failed, eg. the hiscores are down, and is not retried until the entry expires
+	 */
+	static final HiscoreResult FAILED = new HiscoreResult(null, ImmutableMap.of());
+
+	static final long RESULT_TTL = TimeUnit.HOURS.toMillis(1);
+	static final long NOT_FOUND_TTL = TimeUnit.MINUTES.toMillis(15);
+	static final long FAILURE_TTL = TimeUnit.MINUTES.toMillis(2);
+	static final int MAX_CONCURRENT_LOOKUPS = 3;
+	static final long LOOKUP_TIMEOUT_SECONDS = 30;
+	static final int MAX_ENTRIES = 512;
+	private static final long SAVE_DELAY_SECONDS = 30;
 
-	private final LoadingCache<HiscoreKey, HiscoreResult> hiscoreCache;
+	private final ScheduledExecutorService executor;
 	private final HiscoreClient hiscoreClient;
+	private final HiscoreStore store;
+	private final Clock clock;
+
+	// access ordered, so the least recently used entry is evicted first
+	private final Map<HiscoreKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<HiscoreKey, CacheEntry> eldest)
+		{
+			return size() > MAX_ENTRIES;
+		}
+	};
+	private final Map<HiscoreKey, CompletableFuture<HiscoreResult>> pending = new HashMap<>();
+	// lookups a caller is blocked on, oldest first
+	private final Deque<HiscoreKey> queuedBlocking = new ArrayDeque<>();
+	// asynchronous lookups, latest first
+	private final Deque<HiscoreKey> queued = new ArrayDeque<>();
+	private int running;
+	private boolean saveScheduled;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder totalLatencyMillis = new LongAdder();
+	private final AtomicLong maxLatencyMillis = new AtomicLong();
 
 	@Inject
-	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient)
+	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient, Gson gson)
+	{
+		this(executor, hiscoreClient, new HiscoreStore(new File(RuneLite.CACHE_DIR, "hiscores.json"), gson, MAX_ENTRIES), Clock.systemUTC());
+		executor.execute(this::load);
+	}
+
+	HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient, HiscoreStore store, Clock clock)
 	{
+		this.executor = executor;
 		this.hiscoreClient = hiscoreClient;
-		hiscoreCache = CacheBuilder.newBuilder()
-			.maximumSize(128L)
-			.expireAfterWrite(1, TimeUnit.HOURS)
-			.build(new HiscoreLoader(executor, hiscoreClient));
+		this.store = store;
+		this.clock = clock;
 	}
 
 	/**
@@ -68,26 +153,43 @@ public class HiscoreManager
 	 * @param username Players username
 	 * @param endpoint Hiscore endpoint
 	 * @return HiscoreResult or null
-	 * @throws IOException Upon error in fetching hiscore
+	 * @throws IOException Upon error in fetching hiscore, also while a recent failure is cached
 	 */
 	public HiscoreResult lookup(String username, HiscoreEndpoint endpoint) throws IOException
 	{
 		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
-		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		CacheEntry entry = getCached(hiscoreKey);
+		if (entry != null)
 		{
+			HiscoreResult hiscoreResult = entry.getResult();
+			if (hiscoreResult == FAILED)
+			{
+				throw new IOException("Error looking up hiscore, not retried yet", entry.getFailure());
+			}
 			return hiscoreResult == NONE ? null : hiscoreResult;
 		}
 
-		hiscoreResult = hiscoreClient.lookup(username, endpoint);
-		if (hiscoreResult == null)
+		try
 		{
-			hiscoreCache.put(hiscoreKey, NONE);
-			return null;
+			return fetch(hiscoreKey, true).get(LOOKUP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted looking up hiscore");
+		}
+		catch (TimeoutException ex)
+		{
+			throw new IOException("timed out looking up hiscore", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException("Error looking up hiscore", ex.getCause());
 		}
-
-		hiscoreCache.put(hiscoreKey, hiscoreResult);
-		return hiscoreResult;
 	}
 
 	/**
@@ -100,13 +202,183 @@ public class HiscoreManager
 	public HiscoreResult lookupAsync(String username, HiscoreEndpoint endpoint)
 	{
 		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
-		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		CacheEntry entry = getCached(hiscoreKey);
+		if (entry != null)
 		{
-			return hiscoreResult == NONE ? null : hiscoreResult;
+			HiscoreResult hiscoreResult = entry.getResult();
+			return hiscoreResult == NONE || hiscoreResult == FAILED ? null : hiscoreResult;
 		}
 
-		hiscoreCache.refresh(hiscoreKey);
+		fetch(hiscoreKey, false);
 		return null;
 	}
+
+	public synchronized HiscoreStats getStats()
+	{
+		return new HiscoreStats(hits.sum(), misses.sum(), coalesced.sum(), requests.sum(), failures.sum(),
+			totalLatencyMillis.sum(), maxLatencyMillis.get(), running, queuedBlocking.size() + queued.size(), entries.size());
+	}
+
+	private synchronized CacheEntry getCached(HiscoreKey hiscoreKey)
+	{
+		CacheEntry entry = entries.get(hiscoreKey);
+		if (entry == null)
+		{
+			return null;
+		}
+
+		if (entry.getExpiresAt() <= clock.millis())
+		{
+			entries.remove(hiscoreKey);
+			return null;
+		}
+
+		hits.increment();
+		return entry;
+	}
+
+	/**
+	 * @param blocking whether the caller waits for the result, which puts it ahead of the lookups nobody waits for
+	 */
+	private synchronized CompletableFuture<HiscoreResult> fetch(HiscoreKey hiscoreKey, boolean blocking)
+	{
+		CompletableFuture<HiscoreResult> future = pending.get(hiscoreKey);
+		if (future != null)
+		{
+			coalesced.increment();
+			if (blocking && queued.remove(hiscoreKey))
+			{
+				queuedBlocking.addLast(hiscoreKey);
+			}
+			return future;
+		}
+
+		misses.increment();
+		future = new CompletableFuture<>();
+		pending.put(hiscoreKey, future);
+		if (blocking)
+		{
+			queuedBlocking.addLast(hiscoreKey);
+		}
+		else
+		{
+			// the latest lookup is usually the player being looked at now
+			queued.addFirst(hiscoreKey);
+		}
+		startQueued();
+		return future;
+	}
+
+	private synchronized void startQueued()
+	{
+		while (running < MAX_CONCURRENT_LOOKUPS && (!queuedBlocking.isEmpty() || !queued.isEmpty()))
+		{
+			HiscoreKey hiscoreKey = !queuedBlocking.isEmpty() ? queuedBlocking.pollFirst() : queued.pollFirst();
+			++running;
+
+			log.debug("Submitting hiscore lookup for {} type {}", hiscoreKey.getUsername(), hiscoreKey.getType());
+
+			long start = System.nanoTime();
+			CompletableFuture<HiscoreResult> request;
+			try
+			{
+				request = hiscoreClient.lookupAsync(hiscoreKey.getUsername(), hiscoreKey.getType());
+			}
+			catch (RuntimeException ex)
+			{
+				request = new CompletableFuture<>();
+				request.completeExceptionally(ex);
+			}
+			request.whenComplete((result, ex) -> complete(hiscoreKey, start, result, ex));
+		}
+	}
+
+	private void complete(HiscoreKey hiscoreKey, long start, HiscoreResult result, Throwable ex)
+	{
+		long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		requests.increment();
+		totalLatencyMillis.add(latency);
+		maxLatencyMillis.accumulateAndGet(latency, Math::max);
+
+		CacheEntry entry;
+		long now = clock.millis();
+		if (ex != null)
+		{
+			log.warn("Unable to look up hiscore!", ex);
+			failures.increment();
+			entry = new CacheEntry(FAILED, now + FAILURE_TTL, false, ex);
+		}
+		else if (result == null)
+		{
+			entry = new CacheEntry(NONE, now + NOT_FOUND_TTL, true, null);
+		}
+		else
+		{
+			entry = new CacheEntry(result, now + RESULT_TTL, true, null);
+		}
+
+		CompletableFuture<HiscoreResult> future;
+		synchronized (this)
+		{
+			entries.put(hiscoreKey, entry);
+			future = pending.remove(hiscoreKey);
+			--running;
+			startQueued();
+
+			if (entry.isPersistent() && !saveScheduled)
+			{
+				saveScheduled = true;
+				executor.schedule(this::save, SAVE_DELAY_SECONDS, TimeUnit.SECONDS);
+			}
+		}
+
+		if (ex != null)
+		{
+			future.completeExceptionally(ex);
+		}
+		else
+		{
+			future.complete(result);
+		}
+	}
+
+	void load()
+	{
+		List<HiscoreStore.Entry> stored = store.read(clock.millis());
+		synchronized (this)
+		{
+			for (HiscoreStore.Entry entry : stored)
+			{
+				HiscoreResult result = entry.getSkills() == null ? NONE
+					: new HiscoreResult(entry.getUsername(), ImmutableMap.copyOf(entry.getSkills()));
+				// anything looked up since starting is more recent
+				entries.putIfAbsent(new HiscoreKey(entry.getUsername(), entry.getType()),
+					new CacheEntry(result, entry.getExpiresAt(), true, null));
+			}
+		}
+		log.debug("Loaded {} hiscores", stored.size());
+	}
+
+	void save()
+	{
+		List<HiscoreStore.Entry> snapshot = new ArrayList<>();
+		long now = clock.millis();
+		synchronized (this)
+		{
+			saveScheduled = false;
+			for (Map.Entry<HiscoreKey, CacheEntry> e : entries.entrySet())
+			{
+				CacheEntry entry = e.getValue();
+				if (entry.isPersistent() && entry.getExpiresAt() > now)
+				{
+					HiscoreKey hiscoreKey = e.getKey();
+					Map<HiscoreSkill, Skill> skills = entry.getResult() == NONE ? null : entry.getResult().getSkills();
+					snapshot.add(new HiscoreStore.Entry(hiscoreKey.getUsername(), hiscoreKey.getType(), skills, entry.getExpiresAt()));
+				}
+			}
+		}
+
+		store.write(snapshot, now);
+		log.debug("Saved {} hiscores, {}", snapshot.size(), getStats());
+	}
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.hiscore;
+
+import lombok.Value;
+
+/**
+ * A snapshot of the counters of the {@link HiscoreManager}
+ */
+@Value
+public class HiscoreStats
+{
+	/**
+	 * Lookups answered from the cache
+	 */
+	long hits;
+	/**
+	 * Lookups which had to go to the hiscores
+	 */
+	long misses;
+	/**
+	 * Lookups which joined a request already in flight for the same player
+	 */
+	long coalesced;
+	/**
+	 * Requests made to the hiscores, and how many of them failed
+	 */
+	long requests;
+	long failures;
+	long totalLatencyMillis;
+	long maxLatencyMillis;
+	/**
+	 * Requests in flight, and waiting for one to finish
+	 */
+	int running;
+	int queued;
+	int entries;
+
+	public double getHitRate()
+	{
+		long lookups = hits + misses + coalesced;
+		return lookups == 0 ? 0 : (double) hits / lookups;
+	}
+
+	public long getAverageLatencyMillis()
+	{
+		return requests == 0 ? 0 : totalLatencyMillis / requests;
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.hiscore;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The hiscore lookups of the clients, kept on disk so they survive restarts. The file is shared by all
+ * clients; saving merges the entries of this client into the ones already written by the others.
+ * <p>
+ * Saves hold a lock on a separate lock file while they merge, and replace the file with a new one rather
+ * than writing it in place, so a reader or a crash never sees a partly written file.
+ */
+@Slf4j
+class HiscoreStore
+{
+	private static final Type ENTRIES = new TypeToken<List<Entry>>()
+	{
+	}.getType();
+
+	@AllArgsConstructor
+	@Data
+	static class Entry
+	{
+		String username;
+		HiscoreEndpoint type;
+		/**
+		 * The skills of the player, or null if the player is not on the hiscores
+		 */
+		Map<HiscoreSkill, Skill> skills;
+		long expiresAt;
+	}
+
+	private final File file;
+	private final File lockFile;
+	private final Gson gson;
+	private final int maxEntries;
+
+	HiscoreStore(File file, Gson gson, int maxEntries)
+	{
+		this.file = file;
+		this.lockFile = new File(file.getParentFile(), file.getName() + ".lock");
+		this.gson = gson;
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * @return the entries which have not expired yet
+	 */
+	List<Entry> read(long now)
+	{
+		try (InputStreamReader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))
+		{
+			return live(gson.fromJson(reader, ENTRIES), now);
+		}
+		catch (FileNotFoundException ex)
+		{
+			return Collections.emptyList();
+		}
+		catch (IOException | JsonParseException ex)
+		{
+			log.debug("error loading hiscores", ex);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Add the entries to the file, replacing the ones of the same players which expire sooner
+	 */
+	void write(Collection<Entry> entries, long now)
+	{
+		try (FileChannel channel = FileChannel.open(lockFile.toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			@SuppressWarnings("PMD.UnusedLocalVariable") FileLock lock = channel.lock())
+		{
+			List<Entry> stored;
+			try
+			{
+				stored = live(gson.fromJson(readFully(), ENTRIES), now);
+			}
+			catch (JsonParseException ex)
+			{
+				log.debug("discarding corrupt hiscores", ex);
+				stored = Collections.emptyList();
+			}
+
+			Map<String, Entry> merged = new HashMap<>();
+			for (Entry entry : stored)
+			{
+				merge(merged, entry);
+			}
+			for (Entry entry : live(entries, now))
+			{
+				merge(merged, entry);
+			}
+
+			List<Entry> result = new ArrayList<>(merged.values());
+			if (result.size() > maxEntries)
+			{
+				// keep the most recent lookups
+				result.sort(Comparator.comparingLong(Entry::getExpiresAt).reversed());
+				result = result.subList(0, maxEntries);
+			}
+
+			replace(gson.toJson(result, ENTRIES).getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IOException ex)
+		{
+			log.debug("error saving hiscores", ex);
+		}
+	}
+
+	private void replace(byte[] json) throws IOException
+	{
+		final File tempFile = File.createTempFile("hiscores", null, file.getParentFile());
+		try
+		{
+			Files.write(tempFile.toPath(), json);
+		}
+		catch (IOException ex)
+		{
+			tempFile.delete();
+			throw ex;
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void merge(Map<String, Entry> merged, Entry entry)
+	{
+		String key = entry.getType() + ":" + entry.getUsername();
+		Entry other = merged.get(key);
+		if (other == null || other.getExpiresAt() < entry.getExpiresAt())
+		{
+			merged.put(key, entry);
+		}
+	}
+
+	private static List<Entry> live(Collection<Entry> entries, long now)
+	{
+		if (entries == null)
+		{
+			return Collections.emptyList();
+		}
+
+		List<Entry> live = new ArrayList<>(entries.size());
+		for (Entry entry : entries)
+		{
+			if (entry != null && entry.getUsername() != null && entry.getType() != null && entry.getExpiresAt() > now)
+			{
+				live.add(entry);
+			}
+		}
+		return live;
+	}
+
+	private String readFully() throws IOException
+	{
+		try
+		{
+			return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+		}
+		catch (NoSuchFileException ex)
+		{
+			return "";
+		}
+	}
+}
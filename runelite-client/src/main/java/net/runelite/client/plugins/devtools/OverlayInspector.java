@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.ui.overlay.OverlayRenderer;
+import net.runelite.client.ui.overlay.OverlayStats;
+
+/**
+ * Lists the overlays by the time their recent renders took, slowest first, along with how often the ones
+ * going over the frame budget are rendered.
+ * <p>
+ * The frames in between are drawn from the image of the last render, which is what "Image ms" measures.
+ * For a throttled dynamic overlay the image covers the whole clip, so it is cleared on every render and
+ * blitted with alpha on every frame; when that is close to its render time, throttling it does not help.
+ */
+@Singleton
+class OverlayInspector extends DevToolsFrame
+{
+	private static final int REFRESH_MILLIS = 1000;
+	private static final String[] COLUMNS = {
+		"Overlay", "Plugin", "Recent ms", "Recent max ms", "Avg ms", "Max ms", "Image ms", "Every", "Frames", "Renders", "Cached"
+	};
+
+	private final OverlayRenderer overlayRenderer;
+	private final StatsTableModel model = new StatsTableModel();
+	private final Timer timer = new Timer(REFRESH_MILLIS, e -> refresh());
+
+	@Inject
+	OverlayInspector(OverlayRenderer overlayRenderer)
+	{
+		this.overlayRenderer = overlayRenderer;
+
+		setLayout(new BorderLayout());
+		setTitle("RuneLite Overlay Inspector");
+
+		final JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		table.getColumnModel().getColumn(0).setPreferredWidth(200);
+		table.getColumnModel().getColumn(1).setPreferredWidth(120);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(920, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		refresh();
+		timer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		timer.stop();
+		super.close();
+	}
+
+	private void refresh()
+	{
+		final List<OverlayStats> stats = new ArrayList<>(overlayRenderer.getStats());
+		stats.sort(Comparator.comparingLong(OverlayStats::getRecentNanos).reversed());
+		model.setStats(stats);
+	}
+
+	private static class StatsTableModel extends AbstractTableModel
+	{
+		private List<OverlayStats> stats = new ArrayList<>();
+
+		void setStats(List<OverlayStats> stats)
+		{
+			this.stats = stats;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			switch (col)
+			{
+				case 0:
+				case 1:
+					return String.class;
+				case 2:
+				case 3:
+				case 4:
+				case 5:
+				case 6:
+					return Double.class;
+				case 7:
+					return Integer.class;
+				case 10:
+					return Boolean.class;
+				default:
+					return Long.class;
+			}
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return stats.size();
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			final OverlayStats s = stats.get(row);
+			switch (col)
+			{
+				case 0:
+					return s.getName();
+				case 1:
+					return s.getPlugin();
+				case 2:
+					return round(s.getRecentMillis());
+				case 3:
+					return round(s.getRecentMaxMillis());
+				case 4:
+					return round(s.getAverageMillis());
+				case 5:
+					return round(s.getMaxMillis());
+				case 6:
+					return round(s.getImageMillis());
+				case 7:
+					return s.getInterval();
+				case 8:
+					return s.getFrames();
+				case 9:
+					return s.getRenders();
+				case 10:
+					return s.isCached();
+				default:
+					return null;
+			}
+		}
+
+		private static double round(double millis)
+		{
+			return Math.round(millis * 100) / 100.0;
+		}
+	}
+}
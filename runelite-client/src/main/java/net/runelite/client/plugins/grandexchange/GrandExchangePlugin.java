@@ -93,6 +93,7 @@ import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.events.SessionClose;
 import net.runelite.client.events.SessionOpen;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.ItemNameIndex;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseManager;
 import net.runelite.client.plugins.Plugin;
@@ -106,6 +107,7 @@ import net.runelite.client.util.OSType;
 import net.runelite.client.util.QuantityFormatter;
 import net.runelite.client.util.Text;
 import net.runelite.http.api.ge.GrandExchangeTrade;
+import net.runelite.http.api.item.ItemPrice;
 import net.runelite.http.api.item.ItemStats;
 import net.runelite.http.api.worlds.WorldType;
 import org.apache.commons.lang3.time.DurationFormatUtils;
@@ -703,14 +705,7 @@ public class GrandExchangePlugin extends Plugin
 		int resultCount = 0;
 		if (searchMode == GrandExchangeSearchMode.FUZZY_FALLBACK)
 		{
-			List<Integer> ids = IntStream.range(0, client.getItemCount())
-					.mapToObj(itemManager::getItemComposition)
-					.filter(item -> item.isTradeable() && item.getNote() == -1
-						&& item.getName().toLowerCase().contains(input))
-					.limit(MAX_RESULT_COUNT + 1)
-					.sorted(Comparator.comparing(ItemComposition::getName))
-					.map(ItemComposition::getId)
-					.collect(Collectors.toList());
+			List<Integer> ids = searchTradeables(input);
 			if (ids.size() > MAX_RESULT_COUNT)
 			{
 				client.setGeSearchResultCount(-1);
@@ -726,16 +721,7 @@ public class GrandExchangePlugin extends Plugin
 
 		if (resultCount == 0)
 		{
-			ToDoubleFunction<ItemComposition> comparator = fuzzySearchScorer.comparator(input);
-			List<Integer> ids = IntStream.range(0, client.getItemCount())
-					.mapToObj(itemManager::getItemComposition)
-					.filter(item -> item.isTradeable() && item.getNote() == -1)
-					.filter(item -> comparator.applyAsDouble(item) > 0)
-					.sorted(Comparator.comparingDouble(comparator).reversed()
-						.thenComparing(ItemComposition::getName))
-					.limit(MAX_RESULT_COUNT)
-					.map(ItemComposition::getId)
-					.collect(Collectors.toList());
+			List<Integer> ids = fuzzySearchTradeables(input);
 
 			client.setGeSearchResultCount(ids.size());
 			client.setGeSearchResultIds(Shorts.toArray(ids));
@@ -744,6 +730,57 @@ public class GrandExchangePlugin extends Plugin
 		}
 	}
 
+	private List<Integer> searchTradeables(String input)
+	{
+		final ItemNameIndex index = itemManager.getItemNameIndex();
+		if (index.isEmpty())
+		{
+			// prices have not loaded yet, so check every item
+			return IntStream.range(0, client.getItemCount())
+				.mapToObj(itemManager::getItemComposition)
+				.filter(item -> item.isTradeable() && item.getNote() == -1
+					&& item.getName().toLowerCase().contains(input))
+				.limit(MAX_RESULT_COUNT + 1)
+				.sorted(Comparator.comparing(ItemComposition::getName))
+				.map(ItemComposition::getId)
+				.collect(Collectors.toList());
+		}
+
+		return index.search(input).stream()
+			.limit(MAX_RESULT_COUNT + 1)
+			.sorted(Comparator.comparing(ItemPrice::getName))
+			.map(ItemPrice::getId)
+			.collect(Collectors.toList());
+	}
+
+	private List<Integer> fuzzySearchTradeables(String input)
+	{
+		final ItemNameIndex index = itemManager.getItemNameIndex();
+		if (index.isEmpty())
+		{
+			ToDoubleFunction<ItemComposition> comparator = fuzzySearchScorer.comparator(input);
+			return IntStream.range(0, client.getItemCount())
+				.mapToObj(itemManager::getItemComposition)
+				.filter(item -> item.isTradeable() && item.getNote() == -1)
+				.filter(item -> comparator.applyAsDouble(item) > 0)
+				.sorted(Comparator.comparingDouble(comparator).reversed()
+					.thenComparing(ItemComposition::getName))
+				.limit(MAX_RESULT_COUNT)
+				.map(ItemComposition::getId)
+				.collect(Collectors.toList());
+		}
+
+		// the indexed items are the tradeable, unnoted ones, so no compositions are needed
+		ToDoubleFunction<ItemPrice> comparator = item -> fuzzySearchScorer.score(input, item.getName());
+		return index.getItems().stream()
+			.filter(item -> comparator.applyAsDouble(item) > 0)
+			.sorted(Comparator.comparingDouble(comparator).reversed()
+				.thenComparing(ItemPrice::getName))
+			.limit(MAX_RESULT_COUNT)
+			.map(ItemPrice::getId)
+			.collect(Collectors.toList());
+	}
+
 	@Subscribe
 	public void onScriptCallbackEvent(ScriptCallbackEvent event)
 	{
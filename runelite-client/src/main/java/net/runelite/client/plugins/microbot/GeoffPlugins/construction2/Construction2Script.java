@@ -244,7 +244,7 @@ public class Construction2Script extends Script {
     private void butler(Construction2Config config, int actionDelay) {
         NPC butler = getButler();
         if (butler == null) return;
-        boolean butlerIsTooFar = Microbot.getClientThread().runOnClientThread(() ->
+        boolean butlerIsTooFar = Microbot.runOnClientThread(() ->
                 butler.getWorldLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation()) > 3
         );
         if (butlerIsTooFar) {
@@ -21,11 +21,13 @@ import net.runelite.client.plugins.microbot.configs.SpecialAttackConfigs;
 import net.runelite.client.plugins.microbot.dashboard.PluginRequestModel;
 import net.runelite.client.plugins.microbot.qualityoflife.scripts.pouch.PouchScript;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Item;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemCache;
 import net.runelite.client.plugins.microbot.util.math.Random;
 import net.runelite.client.plugins.microbot.util.menu.NewMenuEntry;
 import net.runelite.client.plugins.microbot.util.misc.Rs2UiHelper;
 import net.runelite.client.plugins.microbot.util.mouse.Mouse;
 import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.NaturalMouse;
+import net.runelite.client.plugins.microbot.util.profiler.Rs2Profiler;
 import net.runelite.client.plugins.timersandbuffs.GameTimer;
 import net.runelite.client.plugins.timersandbuffs.TimersAndBuffsPlugin;
 import net.runelite.client.ui.overlay.infobox.InfoBox;
@@ -44,6 +46,7 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -127,35 +130,47 @@ public class Microbot {
 
     @Deprecated(since = "Use isMoving", forRemoval = true)
     public static boolean isWalking() {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getLocalPlayer().getPoseAnimation()
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getLocalPlayer().getPoseAnimation()
                 != Microbot.getClient().getLocalPlayer().getIdlePoseAnimation());
     }
 
     @Deprecated(since = "1.2.4 - use Rs2Player variant", forRemoval = true)
     public static boolean isMoving() {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getLocalPlayer().getPoseAnimation()
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getLocalPlayer().getPoseAnimation()
                 != Microbot.getClient().getLocalPlayer().getIdlePoseAnimation());
     }
 
     @Deprecated(since = "1.2.4 - use Rs2Player variant", forRemoval = true)
     public static boolean isAnimating() {
-        return Microbot.getClientThread().runOnClientThread(() -> getClient().getLocalPlayer().getAnimation() != -1);
+        return Microbot.runOnClientThread(() -> getClient().getLocalPlayer().getAnimation() != -1);
+    }
+
+    /**
+     * Run the method on the client thread and wait for its result. The round trip is timed in the profiler.
+     */
+    public static <T> T runOnClientThread(Callable<T> method) {
+        long start = Rs2Profiler.start();
+        try {
+            return clientThread.runOnClientThread(method);
+        } finally {
+            Rs2Profiler.stop("clientThread.roundTrip", start);
+        }
     }
 
     public static int getVarbitValue(int varbit) {
-        return getClientThread().runOnClientThread(() -> getClient().getVarbitValue(varbit));
+        return runOnClientThread(() -> getClient().getVarbitValue(varbit));
     }
 
     public static int getVarbitPlayerValue(int varbit) {
-        return getClientThread().runOnClientThread(() -> getClient().getVarpValue(varbit));
+        return runOnClientThread(() -> getClient().getVarpValue(varbit));
     }
 
     public static EnumComposition getEnum(int id) {
-        return getClientThread().runOnClientThread(() -> getClient().getEnum(id));
+        return runOnClientThread(() -> getClient().getEnum(id));
     }
 
     public static StructComposition getStructComposition(int structId) {
-        return getClientThread().runOnClientThread(() -> getClient().getStructComposition(structId));
+        return runOnClientThread(() -> getClient().getStructComposition(structId));
     }
 
     public static void setIsGainingExp(boolean value) {
@@ -183,7 +198,7 @@ public class Microbot {
     }
 
     public static boolean hopToWorld(int worldNumber) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             if (Microbot.getClient().getLocalPlayer() != null && Microbot.getClient().getLocalPlayer().isInteracting())
                 return false;
             if (quickHopTargetWorld != null || Microbot.getClient().getGameState() != GameState.LOGGED_IN) return false;
@@ -228,19 +243,20 @@ public class Microbot {
 
     public static List<Rs2Item> updateItemContainer(int id, ItemContainerChanged e) {
         if (e.getContainerId() == id) {
-            List<Rs2Item> list = new ArrayList<>();
+            Item[] items = e.getItemContainer().getItems();
+            Rs2ItemCache.load(items);
+            List<Rs2Item> list = new ArrayList<>(items.length);
             int i = -1;
-            for (Item item : e.getItemContainer().getItems()) {
+            for (Item item : items) {
                 if (item == null) {
                     i++;
                     continue;
                 }
                 i++; //increment before checking if it is a placeholder. This way the index will match the slots in the bank
-                ItemComposition composition = Microbot.getItemManager().getItemComposition(item.getId());
-                boolean isPlaceholder = composition.getPlaceholderTemplateId() > 0;
-                if (isPlaceholder) continue;
+                Rs2ItemCache.ItemInfo info = Rs2ItemCache.get(item.getId());
+                if (info == null || info.isPlaceholder()) continue;
 
-                list.add(new Rs2Item(item, composition, i));
+                list.add(new Rs2Item(item, info, i));
             }
             return list;
         }
@@ -264,7 +280,7 @@ public class Microbot {
     }
 
     public static void doInvoke(NewMenuEntry entry, Rectangle rectangle) {
-
+        long start = Rs2Profiler.start();
         try {
             if (Rs2UiHelper.isRectangleWithinViewport(rectangle)) {
                 click(rectangle, entry);
@@ -274,6 +290,8 @@ public class Microbot {
         } catch (ArrayIndexOutOfBoundsException e) {
             e.printStackTrace();
             // Handle the error as needed
+        } finally {
+            Rs2Profiler.stop("menu.invoke", start);
         }
     }
 
@@ -349,7 +367,7 @@ public class Microbot {
         LocalTime currentTime = LocalTime.now();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss");
         String formattedTime = currentTime.format(formatter);
-        Microbot.getClientThread().runOnClientThread(() ->
+        Microbot.runOnClientThread(() ->
                 Microbot.getClient().addChatMessage(ChatMessageType.ENGINE, "", "[" + formattedTime + "]: " + message, "", false)
         );
     }
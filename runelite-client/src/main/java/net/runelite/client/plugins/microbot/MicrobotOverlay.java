@@ -6,17 +6,24 @@ import net.runelite.api.Point;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.plugins.microbot.util.profiler.Histogram;
+import net.runelite.client.plugins.microbot.util.profiler.Rs2Profiler;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayUtil;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import java.awt.*;
+import java.util.List;
 
 public class MicrobotOverlay extends OverlayPanel {
+    private static final int MAX_PROFILER_LINES = 12;
+
     MicrobotPlugin plugin;
 
     @Inject
@@ -33,9 +40,28 @@ public class MicrobotOverlay extends OverlayPanel {
         for (Pair<WorldPoint, Integer> dangerousTile : Rs2Tile.getDangerousGraphicsObjectTiles()) {
             drawTile(graphics, dangerousTile.getKey(), Color.RED, dangerousTile.getValue().toString());
         }
+
+        if (Rs2Profiler.isEnabled()) {
+            renderProfiler();
+        }
         return super.render(graphics);
     }
 
+    private void renderProfiler() {
+        panelComponent.getChildren().add(TitleComponent.builder()
+                .text("Profiler (p50/p99 ms)")
+                .build());
+
+        List<Histogram> timers = Rs2Profiler.getTimers();
+        for (int i = 0; i < Math.min(MAX_PROFILER_LINES, timers.size()); i++) {
+            Histogram timer = timers.get(i);
+            panelComponent.getChildren().add(LineComponent.builder()
+                    .left(timer.getName())
+                    .right(String.format("%.1f/%.1f x%d", timer.getPercentileMillis(50), timer.getPercentileMillis(99), timer.getCount()))
+                    .build());
+        }
+    }
+
     private void drawTile(Graphics2D graphics, WorldPoint point, Color color, @Nullable String label) {
         WorldPoint playerLocation = Rs2Player.getWorldLocation();
 
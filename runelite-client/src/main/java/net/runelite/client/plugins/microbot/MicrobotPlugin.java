@@ -21,14 +21,20 @@ import net.runelite.client.plugins.PluginInstantiationException;
 import net.runelite.client.plugins.PluginManager;
 import net.runelite.client.plugins.microbot.qualityoflife.scripts.pouch.PouchScript;
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
+import net.runelite.client.plugins.microbot.util.container.Rs2ContainerTracker;
 import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemCache;
+import net.runelite.client.plugins.microbot.util.menu.Rs2ActionIndex;
 import net.runelite.client.plugins.microbot.util.mouse.VirtualMouse;
 import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.NaturalMouse;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.plugins.microbot.util.profiler.Rs2Profiler;
 import net.runelite.client.plugins.microbot.util.reflection.Rs2Reflection;
 import net.runelite.client.plugins.microbot.util.shop.Rs2Shop;
+import net.runelite.client.plugins.microbot.util.tick.TickClock;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
+import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
@@ -38,6 +44,7 @@ import net.runelite.client.ui.overlay.worldmap.WorldMapPointManager;
 import javax.inject.Inject;
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 
 @PluginDescriptor(
@@ -145,6 +152,11 @@ public class MicrobotPlugin extends Plugin {
         if (gameStateChanged.getGameState() == GameState.HOPPING || gameStateChanged.getGameState() == GameState.LOGIN_SCREEN || gameStateChanged.getGameState() == GameState.CONNECTION_LOST) {
             if (Rs2Bank.bankItems != null)
                 Rs2Bank.bankItems.clear();
+            Rs2ContainerTracker.resetAll();
+            // compositions can change when the game cache is updated on login
+            Rs2ActionIndex.invalidate();
+            Rs2ItemCache.invalidate();
+            Rs2Walker.invalidate();
         }
     }
 
@@ -152,6 +164,12 @@ public class MicrobotPlugin extends Plugin {
     public void onMenuOpened(MenuOpened event) {
     }
 
+    // before other plugins, so actions they plan for this tick are timed from its start
+    @Subscribe(priority = 999)
+    public void onGameTick(GameTick event) {
+        TickClock.onGameTick(client.getTickCount());
+    }
+
     @Subscribe
     public void onVarbitChanged(VarbitChanged event) {
         Rs2Player.handlePotionTimers(event);
@@ -227,6 +245,41 @@ public class MicrobotPlugin extends Plugin {
         }
     }
 
+    @Subscribe
+    public void onCommandExecuted(CommandExecuted event) {
+        if (!event.getCommand().equalsIgnoreCase("mbprofile")) {
+            return;
+        }
+
+        String argument = event.getArguments().length > 0 ? event.getArguments()[0].toLowerCase() : "";
+        String message;
+        switch (argument) {
+            case "on":
+                Rs2Profiler.setEnabled(true);
+                message = "Profiler enabled";
+                break;
+            case "off":
+                Rs2Profiler.setEnabled(false);
+                message = "Profiler disabled";
+                break;
+            case "reset":
+                Rs2Profiler.reset();
+                message = "Profiler reset";
+                break;
+            case "dump":
+                try {
+                    message = "Profile written to " + Rs2Profiler.dump();
+                } catch (IOException e) {
+                    log.warn("Unable to write profile", e);
+                    message = "Unable to write profile: " + e.getMessage();
+                }
+                break;
+            default:
+                message = "Usage: ::mbprofile on|off|reset|dump";
+        }
+        client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", message, null);
+    }
+
     @Subscribe
     public void onConfigChanged(ConfigChanged ev) {
         if (ev.getKey().equals("displayPouchCounter")) {
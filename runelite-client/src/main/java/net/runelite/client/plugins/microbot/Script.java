@@ -8,6 +8,9 @@ import net.runelite.api.widgets.InterfaceID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.plugins.microbot.globval.enums.InterfaceTab;
 import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
+import net.runelite.client.plugins.microbot.util.executor.ScriptExecutor;
+import net.runelite.client.plugins.microbot.util.executor.ScriptMetrics;
+import net.runelite.client.plugins.microbot.util.executor.ScriptRuntime;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.keyboard.Rs2Keyboard;
 import net.runelite.client.plugins.microbot.util.math.Random;
@@ -16,7 +19,6 @@ import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 
 import java.awt.event.KeyEvent;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -25,7 +27,7 @@ import java.util.function.BooleanSupplier;
 
 public abstract class Script implements IScript {
 
-    protected ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(10);
+    protected ScheduledExecutorService scheduledExecutorService = ScriptRuntime.newExecutor(getScriptName());
     protected ScheduledFuture<?> scheduledFuture;
     public ScheduledFuture<?> mainScheduledFuture;
     public static boolean hasLeveledUp = false;
@@ -38,12 +40,25 @@ public abstract class Script implements IScript {
     @Getter
     protected static WorldPoint initialPlayerLocation;
 
+    private String getScriptName() {
+        String name = getClass().getSimpleName();
+        return name.isEmpty() ? getClass().getName() : name;
+    }
+
+    /**
+     * @return loop timings of this script, or null if it does not run on the shared script runtime
+     */
+    public ScriptMetrics getMetrics() {
+        return scheduledExecutorService instanceof ScriptExecutor ? ((ScriptExecutor) scheduledExecutorService).getMetrics() : null;
+    }
+
     public void sleep(int time) {
         try {
             Microbot.log("Sleeping for " + time);
             Thread.sleep(time);
         } catch (InterruptedException e) {
             System.out.println(e.getMessage());
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -53,6 +68,7 @@ public abstract class Script implements IScript {
             Thread.sleep(randTime);
         } catch (InterruptedException e) {
             System.out.println(e.getMessage());
+            Thread.currentThread().interrupt();
         }
     }
     public boolean sleepUntil(BooleanSupplier awaitedCondition) {
@@ -64,14 +80,14 @@ public abstract class Script implements IScript {
         long startTime = System.currentTimeMillis();
         do {
             done = awaitedCondition.getAsBoolean();
-        } while (!done && System.currentTimeMillis() - startTime < time);
+        } while (!done && System.currentTimeMillis() - startTime < time && !Thread.currentThread().isInterrupted());
         return done;
     }
 
 
     public boolean sleepUntil(BooleanSupplier awaitedCondition, BooleanSupplier resetCondition, int timeout) {
         final Stopwatch watch = Stopwatch.createStarted();
-        while (!awaitedCondition.getAsBoolean() && watch.elapsed(TimeUnit.MILLISECONDS) < timeout) {
+        while (!awaitedCondition.getAsBoolean() && watch.elapsed(TimeUnit.MILLISECONDS) < timeout && !Thread.currentThread().isInterrupted()) {
             sleep(100);
             if (resetCondition.getAsBoolean() && Microbot.isLoggedIn()) {
                 watch.reset();
@@ -90,8 +106,8 @@ public abstract class Script implements IScript {
         long startTime = System.currentTimeMillis();
         do {
             Microbot.status = "[ConditionalSleep] for " + time / 1000 + " seconds";
-            done = Microbot.getClientThread().runOnClientThread(() -> awaitedCondition.getAsBoolean() || hasLeveledUp);
-        } while (!done && System.currentTimeMillis() - startTime < time);
+            done = Microbot.runOnClientThread(() -> awaitedCondition.getAsBoolean() || hasLeveledUp);
+        } while (!done && System.currentTimeMillis() - startTime < time && !Thread.currentThread().isInterrupted());
     }
 
 
@@ -105,6 +121,11 @@ public abstract class Script implements IScript {
             Microbot.pauseAllScripts = false;
             Microbot.getSpecialAttackConfigs().reset();
         }
+        // also stop anything else the script scheduled, eg. delayed interactions. Running tasks are
+        // interrupted, and the sleep helpers keep the interrupt so the loop winds down on its own
+        if (scheduledExecutorService instanceof ScriptExecutor) {
+            ((ScriptExecutor) scheduledExecutorService).cancelAll();
+        }
     }
 
     public boolean run() {
@@ -122,7 +143,7 @@ public abstract class Script implements IScript {
                 Rs2Keyboard.keyPress(KeyEvent.VK_SPACE);
             }
             Widget clickHereToPlayButton = Rs2Widget.getWidget(24772680); //on login screen
-            if (clickHereToPlayButton != null && !Microbot.getClientThread().runOnClientThread(clickHereToPlayButton::isHidden)) {
+            if (clickHereToPlayButton != null && !Microbot.runOnClientThread(clickHereToPlayButton::isHidden)) {
                 Rs2Widget.clickWidget(clickHereToPlayButton.getId());
             }
 
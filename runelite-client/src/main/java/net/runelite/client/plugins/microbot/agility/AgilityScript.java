@@ -160,7 +160,7 @@ public class AgilityScript extends Script {
                 if (config.agilityCourse() == PRIFDDINAS_AGILITY_COURSE) {
                     TileObject portal = Rs2GameObject.findObject(PORTAL_OBSTACLE_IDS.stream().collect(Collectors.toList()));
 
-                    if (portal != null && Microbot.getClientThread().runOnClientThread(() -> portal.getClickbox()) != null) {
+                    if (portal != null && Microbot.runOnClientThread(() -> portal.getClickbox()) != null) {
                         if (Rs2GameObject.interact(portal, "travel")) {
                             sleep(2000, 3000);
                             return;
@@ -348,7 +348,7 @@ public class BlackJackScript extends Script {
                                 }
                                 npcIsTrapped=false;
                                 state = TRAP_NPC;
-                                npc = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getNpcs().stream()
+                                npc = Microbot.runOnClientThread(() -> Microbot.getClient().getNpcs().stream()
                                         .filter(x -> x != null && x.getName() != null && !x.isDead()
                                         && Objects.requireNonNull(x.getName()).contains(config.THUGS().displayName)
                                         && x.getCombatLevel()==config.THUGS().thugLevel)
@@ -125,7 +125,7 @@ public class ConstructionScript extends Script {
         NPC butler = getButler();
         boolean butlerIsToFar;
         if (butler == null) return;
-        butlerIsToFar = Microbot.getClientThread().runOnClientThread(() -> {
+        butlerIsToFar = Microbot.runOnClientThread(() -> {
             int distance = butler.getWorldLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation());
             return distance > 3;
         });
@@ -2,6 +2,7 @@ package net.runelite.client.plugins.microbot.jad;
 
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
+import net.runelite.client.plugins.microbot.util.menu.Rs2MenuQueue;
 import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
 import net.runelite.client.plugins.microbot.util.prayer.Rs2Prayer;
 import net.runelite.client.plugins.microbot.util.prayer.Rs2PrayerEnum;
@@ -15,6 +16,7 @@ import java.util.stream.Collectors;
 public class JadScript extends Script {
     public static final String VERSION = "1.0.3";
     public static final Map<Integer, Long> npcAttackCooldowns = new HashMap<>();
+    private final Rs2MenuQueue menuQueue = new Rs2MenuQueue();
 
     public boolean run(JadConfig config) {
         Microbot.enableAutoRunOn = false;
@@ -67,9 +69,13 @@ public class JadScript extends Script {
             Rs2Prayer.toggle(prayer, true);
         } else {
             if (Microbot.getClient().getLocalPlayer().getInteracting() == null || Microbot.getClient().getLocalPlayer().getInteracting() != null && Microbot.getClient().getLocalPlayer().getInteracting().getName().contains(healerName)) {
-                Rs2Npc.interact(Rs2Npc.getNpc("Jad", false), "attack");
+                var jad = Rs2Npc.getNpc("Jad", false);
+                if (jad != null) {
+                    menuQueue.npc(jad, "attack");
+                }
             }
-            Rs2Prayer.toggle(prayer, true);
+            // the attack and the prayer are resolved in one client thread round trip
+            menuQueue.prayer(prayer, true).invoke();
         }
 
     }
@@ -203,7 +203,7 @@ public class MageTrainingArenaScript extends Script {
                 gain = Rs2Inventory.get("Coins").quantity / 100;
 
             var widget = Rs2Widget.getWidget(points.getKey().getWidgetId(), points.getKey().getChildId());
-            if (widget != null && !Microbot.getClientThread().runOnClientThread(widget::isHidden))
+            if (widget != null && !Microbot.runOnClientThread(widget::isHidden))
                 currentPoints.put(points.getKey(), Integer.parseInt(widget.getText().replace(",", "")));
             else {
                 var roomWidget = Rs2Widget.getWidget(points.getKey().getRoomWidgetId(), points.getKey().getRoomChildId());
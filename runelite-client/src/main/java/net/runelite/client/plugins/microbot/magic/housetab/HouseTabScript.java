@@ -16,8 +16,6 @@ import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 
 import java.util.Arrays;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
@@ -36,8 +34,6 @@ public class HouseTabScript extends Script {
     private final HOUSETABS_CONFIG houseTabConfig;
     private final String[] playerHouses;
 
-    private final ScheduledExecutorService scheduledExecutorService;
-
 
     private boolean hasSoftClay() {
         return Rs2Inventory.hasItem(1761);
@@ -54,7 +50,6 @@ public class HouseTabScript extends Script {
     public HouseTabScript(HOUSETABS_CONFIG houseTabConfig, String[] playerHouses) {
         this.houseTabConfig = houseTabConfig;
         this.playerHouses = playerHouses;
-        scheduledExecutorService = Executors.newScheduledThreadPool(1);
     }
 
     private void lookForHouseAdvertisementObject() {
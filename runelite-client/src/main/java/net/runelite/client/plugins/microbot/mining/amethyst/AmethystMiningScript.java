@@ -46,7 +46,7 @@ public class AmethystMiningScript extends Script {
 
     private boolean isClickHereToPlayButtonVisible() {
         Widget clickHereToPlayButton = Rs2Widget.getWidget(24772680);
-        return (clickHereToPlayButton != null && !Microbot.getClientThread().runOnClientThread(clickHereToPlayButton::isHidden));
+        return (clickHereToPlayButton != null && !Microbot.runOnClientThread(clickHereToPlayButton::isHidden));
     }
 
     private void executeTask() {
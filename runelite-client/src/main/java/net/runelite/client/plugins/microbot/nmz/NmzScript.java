@@ -228,11 +228,11 @@ public class NmzScript extends Script {
 
     public void consumeEmptyVial() {
         final int EMPTY_VIAL = 26291;
-        if (Microbot.getClientThread().runOnClientThread(() -> Rs2Widget.getWidget(129, 6) == null || Rs2Widget.getWidget(129, 6).isHidden())) {
+        if (Microbot.runOnClientThread(() -> Rs2Widget.getWidget(129, 6) == null || Rs2Widget.getWidget(129, 6).isHidden())) {
             Rs2GameObject.interact(EMPTY_VIAL, "drink");
         }
         Widget widget = Rs2Widget.getWidget(129, 6);
-        if (!Microbot.getClientThread().runOnClientThread(widget::isHidden)) {
+        if (!Microbot.runOnClientThread(widget::isHidden)) {
             Rs2Widget.clickWidget(widget.getId());
             sleep(300);
             Rs2Widget.clickWidget(widget.getId());
@@ -216,7 +216,7 @@ public class PestControlScript extends Script {
     private static boolean attackPortal() {
         if (!Microbot.getClient().getLocalPlayer().isInteracting()) {
             net.runelite.api.NPC npcPortal = Rs2Npc.getNpc("portal");
-            NPCComposition npc = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getNpcDefinition(npcPortal.getId()));
+            NPCComposition npc = Microbot.runOnClientThread(() -> Microbot.getClient().getNpcDefinition(npcPortal.getId()));
             if (Arrays.stream(npc.getActions()).anyMatch(x -> x != null && x.equalsIgnoreCase("attack"))) {
                 return Rs2Npc.attack("portal");
             } else {
@@ -2,6 +2,7 @@ package net.runelite.client.plugins.microbot.playerassist;
 
 
 import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.ui.overlay.ContentVersion;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.components.LineComponent;
@@ -11,16 +12,25 @@ import javax.inject.Inject;
 import java.awt.*;
 
 public class PlayerAssistInfoOverlay extends OverlayPanel {
+    private final PlayerAssistPlugin plugin;
     private final PlayerAssistConfig config;
+    private final ContentVersion contentVersion = new ContentVersion();
 
     @Inject
     PlayerAssistInfoOverlay(PlayerAssistPlugin plugin, PlayerAssistConfig config) {
         super(plugin);
+        this.plugin = plugin;
         this.config = config;
         setPosition(OverlayPosition.TOP_LEFT);
         setNaughty();
     }
 
+    @Override
+    public long getContentVersion() {
+        // everything the panel shows, so it is only laid out again when one of them changes
+        return contentVersion.of(config.playStyle(), PlayerAssistPlugin.getCooldown(), plugin.getLootedItems(), Microbot.status);
+    }
+
     @Override
     public Dimension render(Graphics2D graphics) {
         try {
@@ -35,6 +45,9 @@ public class PlayerAssistInfoOverlay extends OverlayPanel {
                     .left("Play Style: " + config.playStyle() + "(" + config.playStyle().getPrimaryTickInterval() + "," + config.playStyle().getSecondaryTickInterval() + ")")
                     .right("Attack cooldown: " + PlayerAssistPlugin.getCooldown())
                     .build());
+            panelComponent.getChildren().add(LineComponent.builder()
+                    .left("Looted items: " + plugin.getLootedItems())
+                    .build());
             panelComponent.getChildren().add(LineComponent.builder().build());
             panelComponent.getChildren().add(LineComponent.builder()
                     .left(Microbot.status)
@@ -121,6 +121,10 @@ public class PlayerAssistPlugin extends Plugin {
                 .setSpecialAttack(true);
     }
 
+    public int getLootedItems() {
+        return lootScript.getLootedItems();
+    }
+
     protected void shutDown() {
         lootScript.shutdown();
         cannonScript.shutdown();
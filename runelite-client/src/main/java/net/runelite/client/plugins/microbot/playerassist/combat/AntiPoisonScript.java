@@ -19,7 +19,7 @@ public class AntiPoisonScript extends Script {
                 if (!super.run()) return;
                 if (!config.useAntiPoison()) return;
                 if (Rs2Player.hasAntiPoisonActive()) {
-                    List<Rs2Item> potions = Microbot.getClientThread().runOnClientThread(Rs2Inventory::getPotions);
+                    List<Rs2Item> potions = Microbot.runOnClientThread(Rs2Inventory::getPotions);
                     if (potions == null || potions.isEmpty()) {
                         return;
                     }
@@ -14,6 +14,7 @@ import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
 import net.runelite.client.plugins.microbot.util.npc.Rs2NpcManager;
 import net.runelite.client.plugins.microbot.util.prayer.Rs2Prayer;
 import net.runelite.client.plugins.microbot.util.prayer.Rs2PrayerEnum;
+import net.runelite.client.plugins.microbot.util.tick.TickScheduler;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,7 +28,12 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class FlickerScript extends Script {
     public static List<Monster> currentMonstersAttackingUs = new ArrayList<>();
-    AttackStyle prayFlickAttackStyle = null;
+    // how long after the start of the tick before the attack lands to switch prayers
+    private static final long FLICK_OFFSET_MILLIS = 50;
+
+    // created when the script starts, as a scheduler can't be used once it has been shut down
+    private volatile TickScheduler tickScheduler;
+    volatile AttackStyle prayFlickAttackStyle = null;
     boolean lazyFlick = false;
     boolean usePrayer = false;
     boolean flickQuickPrayer = false;
@@ -49,6 +55,10 @@ public class FlickerScript extends Script {
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        if (tickScheduler != null) {
+            tickScheduler.shutdown();
+        }
+        tickScheduler = new TickScheduler("FlickerScript");
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             try {
                 if (!Microbot.isLoggedIn() || !config.togglePrayer()) return;
@@ -72,9 +82,6 @@ public class FlickerScript extends Script {
                 });
 
                 currentMonstersAttackingUs.removeIf(monster -> monster.delete);
-                if (prayFlickAttackStyle != null) {
-                    handlePrayerFlick();
-                }
                 // if currentMonstersAttackingUs is empty, disable all prayers
                 if (currentMonstersAttackingUs.isEmpty()) {
                     Rs2Prayer.disableAllPrayers();
@@ -93,6 +100,7 @@ public class FlickerScript extends Script {
      * It toggles the prayer based on the attack style.
      */
     private void handlePrayerFlick() {
+        if (prayFlickAttackStyle == null) return;
         lastPrayerTick = currentTick;
         log.info("Ficked on tick: " + Microbot.getClient().getTickCount());
         Rs2PrayerEnum prayerToToggle;
@@ -122,6 +130,10 @@ public class FlickerScript extends Script {
      */
     public void shutdown() {
         super.shutdown();
+        if (tickScheduler != null) {
+            tickScheduler.shutdown();
+            tickScheduler = null;
+        }
     }
 
     /**
@@ -146,6 +158,11 @@ public class FlickerScript extends Script {
                     else
                         prayFlickAttackStyle = currentMonster.attackStyle;
 
+                    // flick at a fixed point of this tick rather than on the next pass of the script loop
+                    TickScheduler scheduler = tickScheduler;
+                    if (scheduler != null) {
+                        scheduler.schedule(0, FLICK_OFFSET_MILLIS, this::handlePrayerFlick);
+                    }
 
                 }
                 resetLastAttack();
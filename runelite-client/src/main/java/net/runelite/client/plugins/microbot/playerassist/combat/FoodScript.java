@@ -45,7 +45,7 @@ public class FoodScript extends Script {
                     if (treshHold > 51) //return as long as we have more than 51% health and not guthan equipped
                         return;
                 }
-                List<Rs2Item> foods = Microbot.getClientThread().runOnClientThread(Rs2Inventory::getInventoryFood);
+                List<Rs2Item> foods = Microbot.runOnClientThread(Rs2Inventory::getInventoryFood);
                 if (foods == null || foods.isEmpty()) {
                     if (!equipFullGuthans()) {
                         Microbot.showMessage("No more food left & no guthans available. Please teleport");
@@ -88,28 +88,28 @@ public class FoodScript extends Script {
             shieldName = shield.name;
 
         if (!Rs2Equipment.hasGuthanWeaponEquiped()) {
-            Rs2Item spearWidget = Microbot.getClientThread().runOnClientThread(() -> Rs2Inventory.get("guthan's warspear"));
+            Rs2Item spearWidget = Microbot.runOnClientThread(() -> Rs2Inventory.get("guthan's warspear"));
             if (spearWidget == null) return false;
             Rs2Item weapon = Rs2Equipment.get(EquipmentInventorySlot.WEAPON);
             weaponname = weapon != null ? weapon.name : "";
             Rs2Inventory.equip(spearWidget.name);
         }
         if (!Rs2Equipment.hasGuthanBodyEquiped()) {
-            Rs2Item bodyWidget = Microbot.getClientThread().runOnClientThread(() -> Rs2Inventory.get("guthan's platebody"));
+            Rs2Item bodyWidget = Microbot.runOnClientThread(() -> Rs2Inventory.get("guthan's platebody"));
             if (bodyWidget == null) return false;
             Rs2Item body = Rs2Equipment.get(EquipmentInventorySlot.BODY);
             bodyName = body != null ? body.name : "";
             Rs2Inventory.equip(bodyWidget.name);
         }
         if (!Rs2Equipment.hasGuthanLegsEquiped()) {
-            Rs2Item legsWidget = Microbot.getClientThread().runOnClientThread(() -> Rs2Inventory.get("guthan's chainskirt"));
+            Rs2Item legsWidget = Microbot.runOnClientThread(() -> Rs2Inventory.get("guthan's chainskirt"));
             if (legsWidget == null) return false;
             Rs2Item legs = Rs2Equipment.get(EquipmentInventorySlot.LEGS);
             legsName = legs != null ? legs.name : "";
             Rs2Inventory.equip(legsWidget.name);
         }
         if (!Rs2Equipment.hasGuthanHelmEquiped()) {
-            Rs2Item helmWidget = Microbot.getClientThread().runOnClientThread(() -> Rs2Inventory.get("guthan's helm"));
+            Rs2Item helmWidget = Microbot.runOnClientThread(() -> Rs2Inventory.get("guthan's helm"));
             if (helmWidget == null) return false;
             Rs2Item helm = Rs2Equipment.get(EquipmentInventorySlot.HEAD);
             helmName = helm != null ? helm.name : "";
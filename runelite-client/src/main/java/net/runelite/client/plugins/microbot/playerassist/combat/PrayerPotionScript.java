@@ -20,7 +20,7 @@ public class PrayerPotionScript extends Script {
                 if (!super.run()) return;
                 if (!config.togglePrayerPotions()) return;
                 if ((Microbot.getClient().getBoostedSkillLevel(Skill.PRAYER) * 100) /  Microbot.getClient().getRealSkillLevel(Skill.PRAYER) > Random.random(25, 30)) return;
-                List<Rs2Item> potions = Microbot.getClientThread().runOnClientThread(Rs2Inventory::getPotions);
+                List<Rs2Item> potions = Microbot.runOnClientThread(Rs2Inventory::getPotions);
                 if (potions == null || potions.isEmpty()) {
                     return;
                 }
@@ -45,7 +45,7 @@ public class PrayerPotionScript extends Script {
                 if (!super.run()) return;
                 if (!config.togglePrayerPotions()) return;
                 if ((Microbot.getClient().getBoostedSkillLevel(Skill.PRAYER) * 100) /  Microbot.getClient().getRealSkillLevel(Skill.PRAYER) > Random.random(25, 30)) return;
-                List<Rs2Item> potions = Microbot.getClientThread().runOnClientThread(Rs2Inventory::getPotions);
+                List<Rs2Item> potions = Microbot.runOnClientThread(Rs2Inventory::getPotions);
                 if (potions == null || potions.isEmpty()) {
                     return;
                 }
@@ -18,7 +18,7 @@ public class UseSpecialAttackScript extends Script {
                 if (!super.run()) return;
                 if (!config.useSpecialAttack()) return;
                 Widget specialAttackOrb = Rs2Widget.getWidget(160, 35);
-                if (specialAttackOrb == null || Microbot.getClientThread().runOnClientThread(specialAttackOrb::isHidden)) return;
+                if (specialAttackOrb == null || Microbot.runOnClientThread(specialAttackOrb::isHidden)) return;
                 if (Microbot.getClient().getLocalPlayer().isInteracting()) {
                     Rs2Combat.setSpecState(true, 1000);
                 }
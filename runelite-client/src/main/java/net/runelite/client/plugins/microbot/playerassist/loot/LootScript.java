@@ -1,19 +1,32 @@
 package net.runelite.client.plugins.microbot.playerassist.loot;
 
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.InventoryID;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
 import net.runelite.client.plugins.microbot.playerassist.PlayerAssistConfig;
 import net.runelite.client.plugins.microbot.util.combat.Rs2Combat;
+import net.runelite.client.plugins.microbot.util.container.ContainerDiff;
+import net.runelite.client.plugins.microbot.util.container.Rs2ContainerTracker;
 import net.runelite.client.plugins.microbot.util.grounditem.LootingParameters;
 import net.runelite.client.plugins.microbot.util.grounditem.Rs2GroundItem;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 public class LootScript extends Script {
+    private static final int INVENTORY = InventoryID.INVENTORY.getId();
 
+    // items which came into the inventory while a loot pass was running
+    @Getter
+    private volatile int lootedItems;
+    // the inventory versions the last loot pass started and ended at, the end is open while it runs
+    private volatile long passStart = Long.MAX_VALUE;
+    private volatile long passEnd = Long.MAX_VALUE;
+    private final Consumer<ContainerDiff> inventoryListener = this::onInventoryChanged;
 
     public LootScript() {
 
@@ -21,27 +34,45 @@ public class LootScript extends Script {
 
 
     public boolean run(PlayerAssistConfig config) {
+        lootedItems = 0;
+        Rs2ContainerTracker.addListener(INVENTORY, inventoryListener);
         mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
             if (!super.run()) return;
             if (!Microbot.isLoggedIn()) return;
             if (Rs2Inventory.isFull() || Rs2Inventory.getEmptySlots() <= config.minFreeSlots() || Rs2Combat.inCombat())
                 return;
 
-            lootArrows(config);
-
-            if (!config.toggleLootItems()) return;
-
-            lootBones(config);
-            lootAshes(config);
-            lootRunes(config);
-            lootCoins(config);
-            lootUntradeableItems(config);
-            lootItemsByValue(config);
+            // the start is moved first, so a change in between is never counted for the previous pass
+            passStart = Rs2ContainerTracker.getVersion(INVENTORY);
+            passEnd = Long.MAX_VALUE;
+            try {
+                lootArrows(config);
+
+                if (!config.toggleLootItems()) return;
+
+                lootBones(config);
+                lootAshes(config);
+                lootRunes(config);
+                lootCoins(config);
+                lootUntradeableItems(config);
+                lootItemsByValue(config);
+            } finally {
+                passEnd = Rs2ContainerTracker.getVersion(INVENTORY);
+            }
 
         }, 0, 200, TimeUnit.MILLISECONDS);
         return true;
     }
 
+    private void onInventoryChanged(ContainerDiff diff) {
+        if (diff.isInitial() || diff.getFrom().getVersion() < passStart || diff.getTo().getVersion() > passEnd) return;
+        for (int delta : diff.getDeltas().values()) {
+            if (delta > 0) {
+                lootedItems += delta;
+            }
+        }
+    }
+
     private void lootArrows(PlayerAssistConfig config) {
         if (config.toggleLootArrows()) {
             LootingParameters arrowParams = new LootingParameters(
@@ -163,6 +194,7 @@ public class LootScript extends Script {
     }
 
     public void shutdown() {
+        Rs2ContainerTracker.removeListener(INVENTORY, inventoryListener);
         super.shutdown();
     }
 }
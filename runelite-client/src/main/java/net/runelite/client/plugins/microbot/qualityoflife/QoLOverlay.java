@@ -100,7 +100,7 @@ public class QoLOverlay extends OverlayPanel {
 
     private void renderNpcs(Graphics2D graphics) {
         List<NPC> npcs;
-        npcs = Microbot.getClientThread().runOnClientThread(() -> Rs2Npc.getNpcs()
+        npcs = Microbot.runOnClientThread(() -> Rs2Npc.getNpcs()
                 .filter(npc -> npc.getName() != null)
                 .collect(Collectors.toList()));
         for (NPC npc : npcs) {
@@ -28,6 +28,8 @@ import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import net.runelite.client.plugins.questhelper.QuestHelperPlugin;
 import net.runelite.client.plugins.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.questhelper.requirements.item.ItemCounts;
+import net.runelite.client.plugins.questhelper.requirements.item.ItemIndex;
 import net.runelite.client.plugins.questhelper.requirements.item.ItemRequirement;
 import net.runelite.client.plugins.questhelper.steps.*;
 import net.runelite.client.plugins.questhelper.steps.widget.WidgetHighlight;
@@ -119,10 +121,10 @@ public class MQuestScript extends Script {
                     }
                 }
 
-                if (getQuestHelperPlugin().getSelectedQuest() != null && !Microbot.getClientThread().runOnClientThread(() -> getQuestHelperPlugin().getSelectedQuest().isCompleted())) {
+                if (getQuestHelperPlugin().getSelectedQuest() != null && !Microbot.runOnClientThread(() -> getQuestHelperPlugin().getSelectedQuest().isCompleted())) {
                     Widget widget = Rs2Widget.findWidget("Start ");
                     if (Rs2Widget.isWidgetVisible(WidgetInfo.DIALOG_OPTION_OPTIONS) && getQuestHelperPlugin().getSelectedQuest().getQuest().getId() != Quest.COOKS_ASSISTANT.getId() || (widget != null &&
-                            Microbot.getClientThread().runOnClientThread(() -> widget.getParent().getId()) != 10616888) && !Rs2Bank.isOpen()) {
+                            Microbot.runOnClientThread(() -> widget.getParent().getId()) != 10616888) && !Rs2Bank.isOpen()) {
                         Rs2Keyboard.keyPress('1');
                         Rs2Keyboard.keyPress(KeyEvent.VK_SPACE);
                         return;
@@ -186,16 +188,23 @@ public class MQuestScript extends Script {
         return true;
     }
 
+    private static ItemCounts getInventoryCounts() {
+        // the counts are read from the item container when they are not cached, which has to be on the client thread
+        return Microbot.runOnClientThread(() -> ItemIndex.get(Microbot.getClient(), InventoryID.INVENTORY));
+    }
+
     private boolean handleRequirements(DetailedQuestStep questStep) {
         var requirements = questStep.getRequirements();
+        var inventory = getInventoryCounts();
 
         for (var requirement : requirements){
             if (requirement instanceof ItemRequirement){
                 var itemRequirement = (ItemRequirement) requirement;
+                int heldId = inventory.findFirst(itemRequirement.getAllIds());
 
-                if (itemRequirement.isEquip() && Rs2Inventory.contains(itemRequirement.getAllIds().toArray(new Integer[0]))
+                if (itemRequirement.isEquip() && heldId != -1
                     && itemRequirement.getAllIds().stream().noneMatch(Rs2Equipment::isWearing)){
-                    Rs2Inventory.wear(itemRequirement.getAllIds().stream().filter(Rs2Inventory::contains).findFirst().orElse(-1));
+                    Rs2Inventory.wear(heldId);
                     return true;
                 }
             }
@@ -408,7 +417,7 @@ public class MQuestScript extends Script {
     }
 
     private String chooseCorrectObjectOption(QuestStep step, TileObject object){
-        ObjectComposition objComp = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getObjectDefinition(object.getId()));
+        ObjectComposition objComp = Microbot.runOnClientThread(() -> Microbot.getClient().getObjectDefinition(object.getId()));
 
         if (objComp == null)
             return "";
@@ -429,7 +438,7 @@ public class MQuestScript extends Script {
     }
 
     private String chooseCorrectNPCOption(QuestStep step, NPC npc){
-        var npcComp = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getNpcDefinition(npc.getId()));
+        var npcComp = Microbot.runOnClientThread(() -> Microbot.getClient().getNpcDefinition(npc.getId()));
 
         if (npcComp == null)
             return "Talk-to";
@@ -455,20 +464,20 @@ public class MQuestScript extends Script {
         if (conditionalStep instanceof NpcStep) return false;
 
         boolean usingItems = false;
+        var inventory = getInventoryCounts();
         for (Requirement requirement : conditionalStep.getRequirements()) {
             if (requirement instanceof ItemRequirement) {
                 ItemRequirement itemRequirement = (ItemRequirement) requirement;
+                int itemId = inventory.findFirst(itemRequirement.getAllIds());
 
-                if (itemRequirement.shouldHighlightInInventory(Microbot.getClient())
-                    && Rs2Inventory.contains(itemRequirement.getAllIds().toArray(new Integer[0]))) {
-                    var itemId = itemRequirement.getAllIds().stream().filter(Rs2Inventory::contains).findFirst().orElse(-1);
+                if (itemRequirement.shouldHighlightInInventory(Microbot.getClient()) && itemId != -1) {
                     Rs2Inventory.interact(itemId, chooseCorrectItemOption(conditionalStep, itemId));
                     sleep(100, 200);
                     usingItems = true;
                     continue;
                 }
 
-                if (!Rs2Inventory.contains(itemRequirement.getAllIds().toArray(new Integer[0])) && conditionalStep.getWorldPoint() != null) {
+                if (itemId == -1 && conditionalStep.getWorldPoint() != null) {
                     if (Rs2Walker.canReach(conditionalStep.getWorldPoint()) &&
                             (conditionalStep.getWorldPoint().distanceTo(Rs2Player.getWorldLocation()) < 2)
                             || conditionalStep.getWorldPoint().toWorldArea().hasLineOfSightTo(Microbot.getClient().getTopLevelWorldView(), Microbot.getClient().getLocalPlayer().getWorldLocation().toWorldArea())
@@ -478,7 +487,7 @@ public class MQuestScript extends Script {
                         Rs2Walker.walkTo(conditionalStep.getWorldPoint(), 2);
                     }
                     return true;
-                } else if (!Rs2Inventory.contains(itemRequirement.getAllIds().toArray(new Integer[0]))){
+                } else if (itemId == -1){
                     Rs2GroundItem.loot(itemRequirement.getId());
                     return true;
                 }
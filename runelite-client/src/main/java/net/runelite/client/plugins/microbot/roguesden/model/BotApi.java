@@ -25,7 +25,7 @@ public class BotApi {
 
     public WorldPoint getCurrentPlayerLocation()
     {
-        return Microbot.getClientThread().runOnClientThread(
+        return Microbot.runOnClientThread(
                 () -> Microbot.getClient().getLocalPlayer().getWorldLocation());
     }
 
@@ -104,7 +104,7 @@ public class BotApi {
 
     public void sleepUntilNextTick()
     {
-        final int tick = Microbot.getClientThread().runOnClientThread(this::getTick);
+        final int tick = Microbot.runOnClientThread(this::getTick);
         Global.sleepUntilOnClientThread(() -> tick < this.getTick(), 1000);
     }
 
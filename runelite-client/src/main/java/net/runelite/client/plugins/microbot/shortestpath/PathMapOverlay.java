@@ -6,26 +6,24 @@ import net.runelite.api.Point;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.widgets.ComponentID;
 import net.runelite.api.widgets.Widget;
+import net.runelite.api.worldmap.WorldMapData;
 import net.runelite.client.plugins.microbot.shortestpath.pathfinder.CollisionMap;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayPriority;
-import net.runelite.client.ui.overlay.worldmap.WorldMapOverlay;
 
 import java.awt.*;
 import java.awt.geom.Area;
-import java.util.ArrayList;
+import java.awt.geom.GeneralPath;
 import java.util.List;
+import java.util.Map;
 
 public class PathMapOverlay extends Overlay {
     private final Client client;
     private final ShortestPathPlugin plugin;
     private final ShortestPathConfig config;
 
-    @Inject
-    private WorldMapOverlay worldMapOverlay;
-
     @Inject
     private PathMapOverlay(Client client, ShortestPathPlugin plugin, ShortestPathConfig config) {
         this.client = client;
@@ -45,94 +43,121 @@ public class PathMapOverlay extends Overlay {
             return null;
         }
 
-        if (client.getWidget(ComponentID.WORLD_MAP_MAPVIEW) == null) {
+        WorldMapProjection projection = WorldMapProjection.of(client);
+        if (projection == null) {
             return null;
         }
 
-        Area worldMapClipArea = getWorldMapClipArea(client.getWidget(ComponentID.WORLD_MAP_MAPVIEW).getBounds());
+        Rectangle bounds = projection.getBounds();
+        Area worldMapClipArea = getWorldMapClipArea(bounds);
         graphics.setClip(worldMapClipArea);
 
         if (config.drawCollisionMap()) {
-            graphics.setColor(config.colourCollisionMap());
-            Rectangle extent = getWorldMapExtent(client.getWidget(ComponentID.WORLD_MAP_MAPVIEW).getBounds());
+            Rectangle extent = getWorldMapExtent(bounds);
             final CollisionMap map = plugin.getMap();
             final int z = client.getPlane();
+            GeneralPath blocked = new GeneralPath();
             for (int x = extent.x; x < (extent.x + extent.width + 1); x++) {
                 for (int y = extent.y - extent.height; y < (extent.y + 1); y++) {
                     if (map.isBlocked(x, y, z)) {
-                        drawOnMap(graphics, new WorldPoint(x, y, z), false);
+                        blocked.append(tileRect(projection, x, y), false);
                     }
                 }
             }
+            graphics.setColor(config.colourCollisionMap());
+            graphics.fill(blocked);
         }
 
         if (config.drawTransports()) {
-            graphics.setColor(Color.WHITE);
-            for (WorldPoint a : plugin.getTransports().keySet()) {
-                Point mapA = worldMapOverlay.mapWorldPointToGraphicsPoint(a);
-                if (mapA == null || !worldMapClipArea.contains(mapA.getX(), mapA.getY())) {
+            WorldMapData mapData = client.getWorldMap().getWorldMapData();
+            GeneralPath lines = new GeneralPath();
+            for (Map.Entry<WorldPoint, List<Transport>> transports : plugin.getTransports().entrySet()) {
+                WorldPoint a = transports.getKey();
+                int ax = projection.getX(a.getX());
+                int ay = projection.getY(a.getY());
+                if (!worldMapClipArea.contains(ax, ay) || !mapData.surfaceContainsPosition(a.getX(), a.getY())) {
                     continue;
                 }
 
-                for (Transport b : plugin.getTransports().getOrDefault(a, new ArrayList<>())) {
-                    Point mapB = worldMapOverlay.mapWorldPointToGraphicsPoint(b.getDestination());
-                    if (mapB == null || !worldMapClipArea.contains(mapB.getX(), mapB.getY())) {
+                for (Transport b : transports.getValue()) {
+                    WorldPoint destination = b.getDestination();
+                    int bx = projection.getX(destination.getX());
+                    int by = projection.getY(destination.getY());
+                    if (!worldMapClipArea.contains(bx, by)
+                            || !mapData.surfaceContainsPosition(destination.getX(), destination.getY())) {
                         continue;
                     }
 
-                    graphics.drawLine(mapA.getX(), mapA.getY(), mapB.getX(), mapB.getY());
+                    lines.moveTo(ax, ay);
+                    lines.lineTo(bx, by);
                 }
             }
+            graphics.setColor(Color.WHITE);
+            graphics.draw(lines);
         }
 
         if (plugin.getPathfinder() != null) {
-            Color colour = plugin.getPathfinder().isDone() ? config.colourPath() : config.colourPathCalculating();
-            List<WorldPoint> path = plugin.getPathfinder().getPath();
-            for (int i = 0; i < path.size(); i++) {
-                graphics.setColor(colour);
-                WorldPoint point = path.get(i);
-                WorldPoint last = (i > 0) ? path.get(i - 1) : point;
-                if (point.distanceTo(last) > 1) {
-                    drawOnMap(graphics, last, point, true);
-                }
-                drawOnMap(graphics, point, true);
-            }
+            renderPath(graphics, projection, plugin.getPathfinder().getPath());
         }
 
         return null;
     }
 
-    private void drawOnMap(Graphics2D graphics, WorldPoint point, boolean checkHover) {
-        drawOnMap(graphics, point, point.dx(1).dy(-1), checkHover);
-    }
-
-    private void drawOnMap(Graphics2D graphics, WorldPoint point, WorldPoint offset, boolean checkHover) {
-        Point start = plugin.mapWorldPointToGraphicsPoint(point);
-        Point end = plugin.mapWorldPointToGraphicsPoint(offset);
-
-        if (start == null || end == null) {
-            return;
-        }
+    /**
+     * Fills the tiles of the path on the map as one shape and the jumps between them as another, leaving out
+     * everything outside the map view, which is most of a long path when the map is zoomed in.
+     */
+    private void renderPath(Graphics2D graphics, WorldMapProjection projection, List<WorldPoint> path) {
+        Rectangle bounds = projection.getBounds();
+        Point cursorPos = client.getMouseCanvasPosition();
+        GeneralPath tiles = new GeneralPath();
+        GeneralPath hovered = new GeneralPath();
+        GeneralPath jumps = new GeneralPath();
+        for (int i = 0; i < path.size(); i++) {
+            WorldPoint point = path.get(i);
+            WorldPoint last = (i > 0) ? path.get(i - 1) : point;
+            if (point.distanceTo(last) > 1) {
+                int x1 = projection.getX(last.getX());
+                int y1 = projection.getY(last.getY());
+                int x2 = projection.getX(point.getX());
+                int y2 = projection.getY(point.getY());
+                if (bounds.intersectsLine(x1, y1, x2, y2)) {
+                    jumps.moveTo(x1, y1);
+                    jumps.lineTo(x2, y2);
+                }
+            }
 
-        int x = start.getX();
-        int y = start.getY();
-        final int width = end.getX() - x;
-        final int height = end.getY() - y;
-        x -= width / 2;
-        y -= height / 2;
-
-        if (point.distanceTo(offset) > 1) {
-            graphics.setStroke(new BasicStroke(1, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0, new float[]{9}, 0));
-            graphics.drawLine(start.getX(), start.getY(), end.getX(), end.getY());
-        } else {
-            Point cursorPos = client.getMouseCanvasPosition();
-            if (checkHover &&
-                    cursorPos.getX() >= x && cursorPos.getX() <= (end.getX() - width / 2) &&
-                    cursorPos.getY() >= y && cursorPos.getY() <= (end.getY() - width / 2)) {
-                graphics.setColor(graphics.getColor().darker());
+            Rectangle tile = tileRect(projection, point.getX(), point.getY());
+            if (!bounds.intersects(tile)) {
+                continue;
+            }
+            if (cursorPos.getX() >= tile.x && cursorPos.getX() <= (tile.x + tile.width)
+                    && cursorPos.getY() >= tile.y && cursorPos.getY() <= (tile.y + tile.height)) {
+                hovered.append(tile, false);
+            } else {
+                tiles.append(tile, false);
             }
-            graphics.fillRect(x, y, width, height);
         }
+
+        Color colour = plugin.getPathfinder().isDone() ? config.colourPath() : config.colourPathCalculating();
+        graphics.setColor(colour);
+        graphics.fill(tiles);
+        graphics.setColor(colour.darker());
+        graphics.fill(hovered);
+        graphics.setColor(colour);
+        graphics.setStroke(new BasicStroke(1, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0, new float[]{9}, 0));
+        graphics.draw(jumps);
+    }
+
+    /**
+     * @return the square the tile covers on the map, centred on where the projection puts the tile
+     */
+    private static Rectangle tileRect(WorldMapProjection projection, int x, int y) {
+        int startX = projection.getX(x);
+        int startY = projection.getY(y);
+        final int width = projection.getX(x + 1) - startX;
+        final int height = projection.getY(y - 1) - startY;
+        return new Rectangle(startX - width / 2, startY - height / 2, width, height);
     }
 
     private Area getWorldMapClipArea(Rectangle baseRectangle) {
@@ -4,7 +4,6 @@ import com.google.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.api.Perspective;
 import net.runelite.api.Point;
-import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -12,6 +11,7 @@ import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayPriority;
 
 import java.awt.*;
+import java.awt.geom.GeneralPath;
 import java.util.List;
 
 public class PathMinimapOverlay extends Overlay {
@@ -22,6 +22,8 @@ public class PathMinimapOverlay extends Overlay {
     private final ShortestPathPlugin plugin;
     private final ShortestPathConfig config;
 
+    private SceneTiles pathTiles;
+
     @Inject
     private PathMinimapOverlay(Client client, ShortestPathPlugin plugin, ShortestPathConfig config) {
         this.client = client;
@@ -43,35 +45,41 @@ public class PathMinimapOverlay extends Overlay {
         graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
         graphics.setClip(plugin.getMinimapClipArea());
 
-        List<WorldPoint> pathPoints = plugin.getPathfinder().getPath();
-        Color pathColor = plugin.getPathfinder().isDone() ? config.colourPath() : config.colourPathCalculating();
-        for (WorldPoint pathPoint : pathPoints) {
-            if (pathPoint.getPlane() != client.getPlane()) {
-                continue;
-            }
-
-            drawOnMinimap(graphics, pathPoint, pathColor);
+        List<WorldPoint> path = plugin.getPathfinder().getPath();
+        if (pathTiles == null || !pathTiles.isFor(client, path, path.size())) {
+            pathTiles = SceneTiles.of(client, path, path.size(), path);
         }
 
-        return null;
-    }
-
-    private void drawOnMinimap(Graphics2D graphics, WorldPoint location, Color color) {
-        for (WorldPoint point : WorldPoint.toLocalInstance(client, location)) {
-            LocalPoint lp = LocalPoint.fromWorld(client, point);
-
-            if (lp == null) {
+        // every tile is the same square turned with the minimap, so they are all filled as one shape
+        double angle = client.getCameraYawTarget() * Math.PI / 1024.0d;
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        double[] cornersX = {-TILE_WIDTH / 2, TILE_WIDTH - TILE_WIDTH / 2, TILE_WIDTH - TILE_WIDTH / 2, -TILE_WIDTH / 2};
+        double[] cornersY = {-TILE_HEIGHT / 2, -TILE_HEIGHT / 2, TILE_HEIGHT - TILE_HEIGHT / 2, TILE_HEIGHT - TILE_HEIGHT / 2};
+
+        GeneralPath tiles = new GeneralPath();
+        for (int entry = 0; entry < pathTiles.size(); entry++) {
+            Point center = Perspective.localToMinimap(client, pathTiles.getPoint(entry));
+            if (center == null) {
                 continue;
             }
 
-            Point posOnMinimap = Perspective.localToMinimap(client, lp);
-
-            if (posOnMinimap == null) {
-                continue;
+            for (int corner = 0; corner < 4; corner++) {
+                double x = center.getX() + cornersX[corner] * cos - cornersY[corner] * sin;
+                double y = center.getY() + cornersX[corner] * sin + cornersY[corner] * cos;
+                if (corner == 0) {
+                    tiles.moveTo(x, y);
+                } else {
+                    tiles.lineTo(x, y);
+                }
             }
-
-            renderMinimapRect(client, graphics, posOnMinimap, TILE_WIDTH, TILE_HEIGHT, color);
+            tiles.closePath();
         }
+
+        graphics.setColor(plugin.getPathfinder().isDone() ? config.colourPath() : config.colourPathCalculating());
+        graphics.fill(tiles);
+
+        return null;
     }
 
     public static void renderMinimapRect(Client client, Graphics2D graphics, Point center, int width, int height, Color color) {
@@ -14,16 +14,34 @@ import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayPriority;
 
 import java.awt.*;
+import java.awt.geom.GeneralPath;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 public class PathTileOverlay extends Overlay {
     private final Client client;
     private final ShortestPathPlugin plugin;
     private final ShortestPathConfig config;
     private static final int TRANSPORT_LABEL_GAP = 3;
+    // the gradient along the path is drawn in bands, one shape each, rather than a colour per tile
+    private static final int GRADIENT_BANDS = 20;
+    private static final Color[] BAND_COLOURS = new Color[GRADIENT_BANDS];
+
+    static {
+        for (int band = 0; band < GRADIENT_BANDS; band++) {
+            Color colour = generateGradient(band / (float) GRADIENT_BANDS);
+            BAND_COLOURS[band] = new Color(colour.getRed(), colour.getGreen(), colour.getBlue(), 75);
+        }
+    }
+
+    private SceneTiles pathTiles;
+    private SceneTiles transportTiles;
+    private PathGeometry geometry;
+    private int[] camera = new int[11];
 
     @Inject
     public PathTileOverlay(Client client, ShortestPathPlugin plugin, ShortestPathConfig config) {
@@ -38,21 +56,39 @@ public class PathTileOverlay extends Overlay {
     private void renderTransports(Graphics2D graphics) {
         if (ShortestPathPlugin.getPathfinder() == null)
             return;
-        for (WorldPoint a : plugin.getTransports().keySet()) {
-            drawTile(graphics, a, config.colourTransports(), -1, true, 0);
+        Map<WorldPoint, List<Transport>> transports = ShortestPathPlugin.getTransports();
+        int version = ShortestPathPlugin.getTransportsVersion();
+        if (transportTiles == null || !transportTiles.isFor(client, transports, version)) {
+            transportTiles = SceneTiles.of(client, transports, version, new ArrayList<>(transports.keySet()));
+        }
 
-            Point ca = tileCenter(a);
+        GeneralPath tiles = new GeneralPath();
+        GeneralPath lines = new GeneralPath();
+        List<Point> labelPoints = new ArrayList<>();
+        List<String> labels = new ArrayList<>();
+        for (int entry = 0; entry < transportTiles.size(); entry++) {
+            Polygon poly = Perspective.getCanvasTilePoly(client, transportTiles.getPoint(entry));
+            if (poly == null) {
+                continue;
+            }
+            tiles.append(poly, false);
+            if (!transportTiles.isFirst(entry)) {
+                continue;
+            }
 
+            WorldPoint a = transportTiles.getWorldPoint(entry);
+            Point ca = tileCenter(a);
             if (ca == null) {
                 continue;
             }
 
             StringBuilder s = new StringBuilder();
-            for (Transport b : plugin.getTransports().getOrDefault(a, new ArrayList<>())) {
+            for (Transport b : transports.getOrDefault(a, new ArrayList<>())) {
                 for (WorldPoint origin : WorldPoint.toLocalInstance(client, b.getOrigin())) {
                     Point cb = tileCenter(origin);
                     if (cb != null) {
-                        graphics.drawLine(ca.getX(), ca.getY(), cb.getX(), cb.getY());
+                        lines.moveTo(ca.getX(), ca.getY());
+                        lines.lineTo(cb.getX(), cb.getY());
                     }
                     if (origin.getPlane() > a.getPlane()) {
                         s.append("+");
@@ -63,13 +99,22 @@ public class PathTileOverlay extends Overlay {
                     }
                 }
             }
-            graphics.setColor(Color.WHITE);
-            graphics.drawString(s.toString(), ca.getX(), ca.getY());
+            labelPoints.add(ca);
+            labels.add(s.toString());
+        }
+
+        graphics.setColor(config.colourTransports());
+        graphics.fill(tiles);
+        graphics.setColor(Color.WHITE);
+        graphics.draw(lines);
+        for (int i = 0; i < labels.size(); i++) {
+            graphics.drawString(labels.get(i), labelPoints.get(i).getX(), labelPoints.get(i).getY());
         }
     }
 
     private void renderCollisionMap(Graphics2D graphics) {
         CollisionMap map = plugin.getMap();
+        GeneralPath blocked = new GeneralPath();
         for (Tile[] row : client.getScene().getTiles()[client.getPlane()]) {
             for (Tile tile : row) {
                 if (tile == null) {
@@ -94,8 +139,7 @@ public class PathTileOverlay extends Overlay {
                         (!map.w(x, y, z) ? "w" : "");
 
                 if (map.isBlocked(x, y, z)) {
-                    graphics.setColor(config.colourCollisionMap());
-                    graphics.fill(tilePolygon);
+                    blocked.append(tilePolygon, false);
                 }
                 if (!s.isEmpty() && !s.equals("nsew")) {
                     graphics.setColor(Color.WHITE);
@@ -105,6 +149,8 @@ public class PathTileOverlay extends Overlay {
                 }
             }
         }
+        graphics.setColor(config.colourCollisionMap());
+        graphics.fill(blocked);
     }
 
     @Override
@@ -118,41 +164,7 @@ public class PathTileOverlay extends Overlay {
         }
 
         if (config.drawTiles() && plugin.getPathfinder() != null && plugin.getPathfinder().getPath() != null) {
-            Color color;
-            if (plugin.getPathfinder().isDone()) {
-                color = new Color(
-                        config.colourPath().getRed(),
-                        config.colourPath().getGreen(),
-                        config.colourPath().getBlue(),
-                        config.colourPath().getAlpha() / 2);
-            } else {
-                color = new Color(
-                        config.colourPathCalculating().getRed(),
-                        config.colourPathCalculating().getGreen(),
-                        config.colourPathCalculating().getBlue(),
-                        config.colourPathCalculating().getAlpha() / 2);
-            }
-
-            List<WorldPoint> path = plugin.getPathfinder().getPath();
-            int counter = 0;
-            if (TileStyle.LINES.equals(config.pathStyle())) {
-                for (int i = 1; i < path.size(); i++) {
-                    float step = i / (float) path.size();
-                    Color newColor = generateGradient(step);
-                    newColor = new Color(newColor.getRed(), newColor.getGreen(), newColor.getBlue(), 75);
-                    drawLine(graphics, path.get(i - 1), path.get(i), newColor, 1 + counter++);
-                    drawTransportInfo(graphics, path.get(i - 1), path.get(i));
-                }
-            } else {
-                boolean showTiles = TileStyle.TILES.equals(config.pathStyle());
-                for (int i = 0; i < path.size(); i++) {
-                    float step = i / (float) path.size();
-                    Color newColor = generateGradient(step);
-                    newColor = new Color(newColor.getRed(), newColor.getGreen(), newColor.getBlue(), 75);
-                    drawTile(graphics, path.get(i), newColor, counter++, showTiles, step);
-                    drawTransportInfo(graphics, path.get(i), (i + 1 == path.size()) ? null : path.get(i + 1));
-                }
-            }
+            renderPath(graphics, plugin.getPathfinder().getPath());
         }
 
         return null;
@@ -178,75 +190,119 @@ public class PathTileOverlay extends Overlay {
         return new Point(cx, cy);
     }
 
-    private void drawTile(Graphics2D graphics, WorldPoint location, Color color, int counter, boolean draw, float step) {
-        for (WorldPoint point : WorldPoint.toLocalInstance(client, location)) {
-            if (point.getPlane() != client.getPlane()) {
-                continue;
-            }
+    private void renderPath(Graphics2D graphics, List<WorldPoint> path) {
+        if (pathTiles == null || !pathTiles.isFor(client, path, path.size())) {
+            pathTiles = SceneTiles.of(client, path, path.size(), path);
+            geometry = null;
+        }
 
-            LocalPoint lp = LocalPoint.fromWorld(client, point);
-            if (lp == null) {
-                continue;
-            }
+        boolean lines = TileStyle.LINES.equals(config.pathStyle());
+        int[] state = captureCamera();
+        if (geometry == null || geometry.lines != lines || !Arrays.equals(state, camera)) {
+            geometry = lines ? buildLines(path.size()) : buildTiles(path.size());
+            camera = state;
+        }
 
-            Polygon poly = Perspective.getCanvasTilePoly(client, lp);
-            if (poly == null) {
-                continue;
+        boolean showTiles = lines || TileStyle.TILES.equals(config.pathStyle());
+        if (showTiles) {
+            if (lines) {
+                graphics.setStroke(new BasicStroke(4));
             }
-
-            if (draw) {
-                graphics.setColor(color);
-                graphics.fill(poly);
-                if (step > 0) {
-                    int centerX = (int) poly.getBounds().getCenterX();
-                    int centerY = (int) poly.getBounds().getCenterY();
-                    int percentage = (int) (step * 100);
-
-                    graphics.setColor(Color.WHITE);
-                    graphics.drawString(percentage + "%", centerX - 9, centerY + 5);
+            for (int band = 0; band < GRADIENT_BANDS; band++) {
+                GeneralPath shape = geometry.bands[band];
+                if (shape == null) {
+                    continue;
+                }
+                graphics.setColor(BAND_COLOURS[band]);
+                if (lines) {
+                    graphics.draw(shape);
+                } else {
+                    graphics.fill(shape);
                 }
             }
-
-            drawCounter(graphics, poly.getBounds().getCenterX(), poly.getBounds().getCenterY(), counter);
         }
-    }
 
-    private void drawLine(Graphics2D graphics, WorldPoint startLoc, WorldPoint endLoc, Color color, int counter) {
-        WorldPoint start = WorldPoint.toLocalInstance(client, startLoc).iterator().next();
-        WorldPoint end = WorldPoint.toLocalInstance(client, endLoc).iterator().next();
-
-        final int z = client.getPlane();
-        if (start.getPlane() != z) {
-            return;
+        for (int label = 0; label < geometry.labels; label++) {
+            double x = geometry.labelX[label];
+            double y = geometry.labelY[label];
+            int counter = geometry.labelCounter[label];
+            if (!lines && showTiles && counter > 0) {
+                int percentage = (int) (counter / (float) path.size() * 100);
+                graphics.setColor(Color.WHITE);
+                graphics.drawString(percentage + "%", (int) x - 9, (int) y + 5);
+            }
+            drawCounter(graphics, x, y, counter);
         }
 
-        LocalPoint lpStart = LocalPoint.fromWorld(client, start);
-        LocalPoint lpEnd = LocalPoint.fromWorld(client, end);
-
-        if (lpStart == null || lpEnd == null) {
-            return;
+        for (int entry = 0; entry < pathTiles.size(); entry++) {
+            int index = pathTiles.getIndex(entry);
+            if (pathTiles.isFirst(entry) && index + 1 < path.size()) {
+                drawTransportInfo(graphics, path.get(index), path.get(index + 1));
+            }
         }
+    }
 
-        final int startHeight = Perspective.getTileHeight(client, lpStart, z);
-        final int endHeight = Perspective.getTileHeight(client, lpEnd, z);
-
-        Point p1 = Perspective.localToCanvas(client, lpStart.getX(), lpStart.getY(), startHeight);
-        Point p2 = Perspective.localToCanvas(client, lpEnd.getX(), lpEnd.getY(), endHeight);
-
-        if (p1 == null || p2 == null) {
-            return;
+    /**
+     * Projects the tiles of the path in the scene, filling the band of the gradient each one is in.
+     */
+    private PathGeometry buildTiles(int pathSize) {
+        PathGeometry geometry = new PathGeometry(false, pathTiles.size());
+        for (int entry = 0; entry < pathTiles.size(); entry++) {
+            Polygon poly = Perspective.getCanvasTilePoly(client, pathTiles.getPoint(entry));
+            if (poly == null) {
+                continue;
+            }
+            int index = pathTiles.getIndex(entry);
+            geometry.band(index, pathSize).append(poly, false);
+            Rectangle bounds = poly.getBounds();
+            geometry.addLabel(bounds.getCenterX(), bounds.getCenterY(), index);
         }
+        return geometry;
+    }
 
-        Line2D.Double line = new Line2D.Double(p1.getX(), p1.getY(), p2.getX(), p2.getY());
-
-        graphics.setColor(color);
-        graphics.setStroke(new BasicStroke(4));
-        graphics.draw(line);
-
-        if (counter == 1) {
-            drawCounter(graphics, p1.getX(), p1.getY(), 0);
+    /**
+     * Projects a line for every step of the path of which both ends are in the scene.
+     */
+    private PathGeometry buildLines(int pathSize) {
+        PathGeometry geometry = new PathGeometry(true, pathTiles.size() + 1);
+        final int z = client.getPlane();
+        Point previous = null;
+        int previousIndex = -1;
+        for (int entry = 0; entry < pathTiles.size(); entry++) {
+            if (!pathTiles.isFirst(entry)) {
+                continue;
+            }
+            LocalPoint lp = pathTiles.getPoint(entry);
+            int index = pathTiles.getIndex(entry);
+            Point p2 = Perspective.localToCanvas(client, lp.getX(), lp.getY(), Perspective.getTileHeight(client, lp, z));
+            if (previous != null && p2 != null && previousIndex == index - 1) {
+                geometry.band(index, pathSize).append(new Line2D.Double(
+                        previous.getX(), previous.getY(), p2.getX(), p2.getY()), false);
+                if (index == 1) {
+                    geometry.addLabel(previous.getX(), previous.getY(), 0);
+                }
+                geometry.addLabel(p2.getX(), p2.getY(), index);
+            }
+            previous = p2;
+            previousIndex = index;
         }
-        drawCounter(graphics, p2.getX(), p2.getY(), counter);
+        return geometry;
+    }
+
+    private int[] captureCamera() {
+        int[] state = new int[11];
+        state[0] = client.getCameraX();
+        state[1] = client.getCameraY();
+        state[2] = client.getCameraZ();
+        state[3] = client.getCameraPitch();
+        state[4] = client.getCameraYaw();
+        state[5] = client.getScale();
+        state[6] = client.getViewportWidth();
+        state[7] = client.getViewportHeight();
+        state[8] = client.getViewportXOffset();
+        state[9] = client.getViewportYOffset();
+        state[10] = client.getPlane();
+        return state;
     }
 
     private void drawCounter(Graphics2D graphics, double x, double y, int counter) {
@@ -318,6 +374,45 @@ public class PathTileOverlay extends Overlay {
         }
     }
 
+    /**
+     * The projected path for one camera position: a shape per band of the gradient, and where the counters go.
+     */
+    private static final class PathGeometry {
+        private final boolean lines;
+        private final GeneralPath[] bands = new GeneralPath[GRADIENT_BANDS];
+        private double[] labelX;
+        private double[] labelY;
+        private int[] labelCounter;
+        private int labels;
+
+        private PathGeometry(boolean lines, int capacity) {
+            this.lines = lines;
+            this.labelX = new double[capacity];
+            this.labelY = new double[capacity];
+            this.labelCounter = new int[capacity];
+        }
+
+        private GeneralPath band(int index, int pathSize) {
+            int band = Math.min(GRADIENT_BANDS - 1, (int) (index / (float) pathSize * GRADIENT_BANDS));
+            if (bands[band] == null) {
+                bands[band] = new GeneralPath();
+            }
+            return bands[band];
+        }
+
+        private void addLabel(double x, double y, int counter) {
+            if (labels == labelX.length) {
+                labelX = Arrays.copyOf(labelX, labels * 2 + 1);
+                labelY = Arrays.copyOf(labelY, labels * 2 + 1);
+                labelCounter = Arrays.copyOf(labelCounter, labels * 2 + 1);
+            }
+            labelX[labels] = x;
+            labelY[labels] = y;
+            labelCounter[labels] = counter;
+            labels++;
+        }
+    }
+
     public static Color generateGradient(float step) {
         if (step < 0) {
             step = 0;
@@ -0,0 +1,115 @@
+package net.runelite.client.plugins.microbot.shortestpath;
+
+import net.runelite.api.Client;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The points of a list, eg. a path, which are on a tile of the loaded scene and plane, with the index each
+ * one has in the list. A path across the map has thousands of points of which only a few can be drawn, so
+ * the overlays resolve them once per path and scene instead of every point every frame.
+ * <p>
+ * In an instance a point can be on more than one tile; there is an entry for each, in list order.
+ */
+final class SceneTiles {
+    private final Object source;
+    private final int version;
+    private final List<WorldPoint> list;
+    private final int plane;
+    private final int baseX;
+    private final int baseY;
+    private final int size;
+    private final int[] indexes;
+    private final LocalPoint[] points;
+    private final boolean[] first;
+
+    private SceneTiles(Client client, Object source, int version, List<WorldPoint> list) {
+        this.source = source;
+        this.version = version;
+        this.list = list;
+        this.plane = client.getPlane();
+        this.baseX = client.getBaseX();
+        this.baseY = client.getBaseY();
+
+        int capacity = 16;
+        int[] indexes = new int[capacity];
+        LocalPoint[] points = new LocalPoint[capacity];
+        boolean[] first = new boolean[capacity];
+        int size = 0;
+        for (int i = 0; i < list.size(); i++) {
+            WorldPoint location = list.get(i);
+            if (location == null) {
+                continue;
+            }
+            boolean seen = false;
+            for (WorldPoint point : WorldPoint.toLocalInstance(client, location)) {
+                LocalPoint lp = LocalPoint.fromWorld(client, point);
+                if (lp == null) {
+                    continue;
+                }
+                if (size == capacity) {
+                    capacity *= 2;
+                    indexes = Arrays.copyOf(indexes, capacity);
+                    points = Arrays.copyOf(points, capacity);
+                    first = Arrays.copyOf(first, capacity);
+                }
+                indexes[size] = i;
+                points[size] = lp;
+                first[size] = !seen;
+                seen = true;
+                size++;
+            }
+        }
+        this.size = size;
+        this.indexes = indexes;
+        this.points = points;
+        this.first = first;
+    }
+
+    /**
+     * @param version changes whenever the source is modified in place, eg. its size
+     */
+    static SceneTiles of(Client client, Object source, int version, List<WorldPoint> list) {
+        return new SceneTiles(client, source, version, list);
+    }
+
+    /**
+     * @return whether these are still the tiles of the source, ie. neither it nor the scene has changed
+     */
+    boolean isFor(Client client, Object source, int version) {
+        return this.source == source && this.version == version && plane == client.getPlane()
+                && baseX == client.getBaseX() && baseY == client.getBaseY();
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the index in the list of the point of the entry
+     */
+    int getIndex(int entry) {
+        return indexes[entry];
+    }
+
+    /**
+     * @return the point in the list of the entry
+     */
+    WorldPoint getWorldPoint(int entry) {
+        return list.get(indexes[entry]);
+    }
+
+    LocalPoint getPoint(int entry) {
+        return points[entry];
+    }
+
+    /**
+     * @return whether the entry is the first tile of its point, so the point is only counted once
+     */
+    boolean isFirst(int entry) {
+        return first[entry];
+    }
+}
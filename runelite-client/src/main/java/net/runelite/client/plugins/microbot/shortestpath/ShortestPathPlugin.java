@@ -356,6 +356,13 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
         return pathfinderConfig.getTransports();
     }
 
+    /**
+     * @return a counter which changes whenever the map of {@link #getTransports()} is changed in place
+     */
+    public static int getTransportsVersion() {
+        return pathfinderConfig.getTransportsVersion();
+    }
+
     public CollisionMap getMap() {
         return pathfinderConfig.getMap();
     }
@@ -380,7 +387,7 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
                     lastClick.getOption() + " " + Text.removeTags(lastClick.getTarget()) + " " + lastClick.getIdentifier()
             );
             Transport transport = new Transport(transportStart, transportEnd);
-            pathfinderConfig.getTransports().computeIfAbsent(transportStart, k -> new ArrayList<>()).add(transport);
+            pathfinderConfig.addTransport(transportStart, transport);
         }
 
         if (entry.getOption().equals("Copy Position")) {
@@ -480,36 +487,8 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
     }
 
     public Point mapWorldPointToGraphicsPoint(WorldPoint worldPoint) {
-        WorldMap worldMap = client.getWorldMap();
-
-        float pixelsPerTile = worldMap.getWorldMapZoom();
-
-        Widget map = client.getWidget(ComponentID.WORLD_MAP_MAPVIEW);
-        if (map != null) {
-            Rectangle worldMapRect = map.getBounds();
-
-            int widthInTiles = (int) Math.ceil(worldMapRect.getWidth() / pixelsPerTile);
-            int heightInTiles = (int) Math.ceil(worldMapRect.getHeight() / pixelsPerTile);
-
-            Point worldMapPosition = worldMap.getWorldMapPosition();
-
-            int yTileMax = worldMapPosition.getY() - heightInTiles / 2;
-            int yTileOffset = (yTileMax - worldPoint.getY() - 1) * -1;
-            int xTileOffset = worldPoint.getX() + widthInTiles / 2 - worldMapPosition.getX();
-
-            int xGraphDiff = ((int) (xTileOffset * pixelsPerTile));
-            int yGraphDiff = (int) (yTileOffset * pixelsPerTile);
-
-            yGraphDiff -= pixelsPerTile - Math.ceil(pixelsPerTile / 2);
-            xGraphDiff += pixelsPerTile - Math.ceil(pixelsPerTile / 2);
-
-            yGraphDiff = worldMapRect.height - yGraphDiff;
-            yGraphDiff += (int) worldMapRect.getY();
-            xGraphDiff += (int) worldMapRect.getX();
-
-            return new Point(xGraphDiff, yGraphDiff);
-        }
-        return null;
+        WorldMapProjection projection = WorldMapProjection.of(client);
+        return projection == null ? null : projection.project(worldPoint);
     }
 
     private void addMenuEntry(MenuEntryAdded event, String option, String target, int position) {
@@ -0,0 +1,76 @@
+package net.runelite.client.plugins.microbot.shortestpath;
+
+import net.runelite.api.Client;
+import net.runelite.api.Point;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.widgets.ComponentID;
+import net.runelite.api.widgets.Widget;
+import net.runelite.api.worldmap.WorldMap;
+
+import javax.annotation.Nullable;
+import java.awt.*;
+
+/**
+ * Where world tiles are drawn on the world map, for the position and zoom the map had when it was captured.
+ * The map widget and position are read once, so projecting the thousands of tiles of a path or of the
+ * collision map in a frame is plain arithmetic.
+ */
+final class WorldMapProjection {
+    private final Rectangle bounds;
+    private final float pixelsPerTile;
+    private final int widthInTiles;
+    private final int heightInTiles;
+    private final int positionX;
+    private final int positionY;
+
+    private WorldMapProjection(Rectangle bounds, float pixelsPerTile, Point position) {
+        this.bounds = bounds;
+        this.pixelsPerTile = pixelsPerTile;
+        this.widthInTiles = (int) Math.ceil(bounds.getWidth() / pixelsPerTile);
+        this.heightInTiles = (int) Math.ceil(bounds.getHeight() / pixelsPerTile);
+        this.positionX = position.getX();
+        this.positionY = position.getY();
+    }
+
+    /**
+     * @return the projection of the world map as it is now, or null if the map is not open
+     */
+    @Nullable
+    static WorldMapProjection of(Client client) {
+        Widget map = client.getWidget(ComponentID.WORLD_MAP_MAPVIEW);
+        if (map == null) {
+            return null;
+        }
+        WorldMap worldMap = client.getWorldMap();
+        return new WorldMapProjection(map.getBounds(), worldMap.getWorldMapZoom(), worldMap.getWorldMapPosition());
+    }
+
+    Rectangle getBounds() {
+        return bounds;
+    }
+
+    Point project(WorldPoint point) {
+        return new Point(getX(point.getX()), getY(point.getY()));
+    }
+
+    /**
+     * @return the x on the canvas of the centre of the tiles with the world x
+     */
+    int getX(int worldX) {
+        int xTileOffset = worldX + widthInTiles / 2 - positionX;
+        int xGraphDiff = (int) (xTileOffset * pixelsPerTile);
+        xGraphDiff += pixelsPerTile - Math.ceil(pixelsPerTile / 2);
+        return xGraphDiff + bounds.x;
+    }
+
+    /**
+     * @return the y on the canvas of the centre of the tiles with the world y
+     */
+    int getY(int worldY) {
+        int yTileMax = positionY - heightInTiles / 2;
+        int yTileOffset = (yTileMax - worldY - 1) * -1;
+        int yGraphDiff = (int) (yTileOffset * pixelsPerTile);
+        yGraphDiff -= pixelsPerTile - Math.ceil(pixelsPerTile / 2);
+        return bounds.height - yGraphDiff + bounds.y;
+    }
+}
@@ -5,6 +5,7 @@ import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.plugins.microbot.shortestpath.Transport;
 import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.plugins.microbot.util.profiler.Rs2Profiler;
 
 import java.util.*;
 
@@ -162,6 +163,7 @@ public class Pathfinder implements Runnable {
         pending.clear();
 
         stats.end(); // Include cleanup in stats to get the total cost of pathfinding
+        Rs2Profiler.record("pathfinder", stats.getElapsedTimeNanos());
     }
 
     public static class PathfinderStats {
@@ -21,6 +21,9 @@ public class PathfinderConfig {
     private final Map<WorldPoint, List<Transport>> allTransports;
     @Getter
     private Map<WorldPoint, List<Transport>> transports;
+    // bumped whenever the transports are changed in place, as they are on every refresh
+    @Getter
+    private volatile int transportsVersion;
 
     private final List<Restriction> resourceRestrictions;
     private List<Restriction> customRestrictions;
@@ -140,6 +143,12 @@ public class PathfinderConfig {
             transports.put(point, usableTransports);
             transportsPacked.put(WorldPointUtil.packWorldPoint(point), usableTransports);
         }
+        ++transportsVersion;
+    }
+
+    public void addTransport(WorldPoint origin, Transport transport) {
+        transports.computeIfAbsent(origin, k -> new ArrayList<>()).add(transport);
+        ++transportsVersion;
     }
 
     private void refreshRestrictionData() {
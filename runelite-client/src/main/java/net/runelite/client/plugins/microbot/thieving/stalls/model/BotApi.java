@@ -33,7 +33,7 @@ public class BotApi {
 
     public void sleepUntilNextTick()
     {
-        final int tick = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getTickCount());
+        final int tick = Microbot.runOnClientThread(() -> Microbot.getClient().getTickCount());
         Global.sleepUntilOnClientThread(() -> Microbot.getClient().getTickCount() > tick);
     }
 
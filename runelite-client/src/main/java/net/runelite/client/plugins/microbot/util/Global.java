@@ -1,16 +1,16 @@
 package net.runelite.client.plugins.microbot.util;
 
 import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.executor.ScriptRuntime;
 import net.runelite.client.plugins.microbot.util.math.Random;
 
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 
 public class Global {
-    static ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(10);
+    static ScheduledExecutorService scheduledExecutorService = ScriptRuntime.newExecutor("Global");
     static ScheduledFuture<?> scheduledFuture;
 
     public static ScheduledFuture<?> awaitExecutionUntil(Runnable callback, BooleanSupplier awaitedCondition, int time) {
@@ -30,6 +30,7 @@ public class Global {
             Thread.sleep(start);
         } catch (InterruptedException e) {
             System.out.println(e.getMessage());
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -39,6 +40,7 @@ public class Global {
             Thread.sleep(randomSleep);
         } catch (InterruptedException e) {
             System.out.println(e.getMessage());
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -77,7 +79,7 @@ public class Global {
         boolean done;
         long startTime = System.currentTimeMillis();
         do {
-            done = Microbot.getClientThread().runOnClientThread(() -> awaitedCondition.getAsBoolean());
+            done = Microbot.runOnClientThread(() -> awaitedCondition.getAsBoolean());
         } while (!done && System.currentTimeMillis() - startTime < time);
     }
 }
\ No newline at end of file
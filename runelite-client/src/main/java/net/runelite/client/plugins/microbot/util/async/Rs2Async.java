@@ -0,0 +1,224 @@
+package net.runelite.client.plugins.microbot.util.async;
+
+import net.runelite.api.InventoryID;
+import net.runelite.api.NPC;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
+import net.runelite.client.plugins.microbot.util.container.Rs2ContainerTracker;
+import net.runelite.client.plugins.microbot.util.executor.ScriptExecutor;
+import net.runelite.client.plugins.microbot.util.executor.ScriptRuntime;
+import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
+import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
+import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.plugins.microbot.util.tick.TickClock;
+import net.runelite.client.plugins.microbot.util.tick.TickScheduler;
+import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
+import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking variants of the common Rs2 interactions. Each one returns a future instead of sleeping
+ * on the calling thread, so a script can start a walk, prepare its next bank trip while it runs and
+ * only then wait for both:
+ * <pre>
+ * CompletableFuture&lt;Boolean&gt; walk = Rs2Async.walkTo(bank, 4);
+ * List&lt;Integer&gt; withdrawals = planWithdrawals();
+ * if (walk.join()) { ... }
+ * </pre>
+ * Clicks are made one at a time on a shared lane, since there is a single mouse. Only the click itself
+ * runs on the lane; waiting for its result is left to conditions, which are checked once per game tick
+ * by a {@link TickScheduler}. Timeouts are counted in ticks, so they do not run out while the client is
+ * not receiving ticks, eg. on the login screen.
+ * <p>
+ * Actions submitted with {@link #submit(Supplier)} hold the lane until they return, so they should not
+ * sleep. {@link Rs2Bank#withdrawX(int, int)} is not wrapped for that reason: unless the amount is the
+ * last one entered it types the amount into a dialog, which takes more than a second of sleeps. Call it
+ * from the script thread instead.
+ * <p>
+ * Cancelling a future stops waiting for it, and stops the walker for {@link #walkTo(WorldPoint, int)}.
+ * Scripts should cancel their pending futures when they shut down.
+ */
+public final class Rs2Async {
+    // conditions are checked shortly after the tick, once the client has processed it
+    private static final long CHECK_OFFSET_MILLIS = 50;
+    private static final int CLICK_TIMEOUT_TICKS = 5;
+    private static final int BANK_TIMEOUT_TICKS = 8;
+    private static final int WALK_TIMEOUT_TICKS = 500;
+
+    private static final ScriptExecutor clicks = ScriptRuntime.newSerialExecutor("async.clicks");
+    private static final TickScheduler conditions = new TickScheduler("async");
+
+    private Rs2Async() {
+    }
+
+    /**
+     * @return a future which completes with true once the condition holds, or with false when
+     * the timeout passes first
+     */
+    public static CompletableFuture<Boolean> waitUntil(BooleanSupplier condition, int timeoutTicks) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        int deadline = TickClock.getTick() + timeoutTicks;
+        Runnable check = () -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                if (condition.getAsBoolean()) {
+                    future.complete(true);
+                } else if (TickClock.getTick() >= deadline) {
+                    future.complete(false);
+                }
+            } catch (Exception ex) {
+                future.completeExceptionally(ex);
+            }
+        };
+
+        // once right away, the condition may already hold
+        conditions.schedule(0, 0, check);
+        TickScheduler.TickAction everyTick = conditions.scheduleEveryTick(CHECK_OFFSET_MILLIS, check);
+        future.whenComplete((result, ex) -> everyTick.cancel());
+        return future;
+    }
+
+    /**
+     * @return a future which completes with true once the items of the inventory change
+     */
+    public static CompletableFuture<Boolean> waitForInventoryChange(int timeoutTicks) {
+        int inventory = InventoryID.INVENTORY.getId();
+        long version = Rs2ContainerTracker.getVersion(inventory);
+        return waitUntil(() -> Rs2ContainerTracker.getVersion(inventory) != version, timeoutTicks);
+    }
+
+    /**
+     * Run an action on the click lane. The lane is busy until the action returns, so it should click
+     * and return rather than sleep until the click had an effect.
+     */
+    public static <T> CompletableFuture<T> submit(Supplier<T> action) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Future<?> task = clicks.submit(() -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(action.get());
+            } catch (Exception ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+        future.whenComplete((result, ex) -> {
+            if (future.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Click, then wait for the condition. Completes with false without waiting if the click failed.
+     */
+    public static CompletableFuture<Boolean> clickThenWait(BooleanSupplier click, BooleanSupplier condition, int timeoutTicks) {
+        return submit(click::getAsBoolean)
+                .thenCompose(clicked -> clicked ? waitUntil(condition, timeoutTicks) : CompletableFuture.completedFuture(false));
+    }
+
+    /**
+     * Run an action which does not report whether it clicked, then wait for the inventory to change.
+     */
+    private static CompletableFuture<Boolean> runThenWaitForInventory(Runnable action, int timeoutTicks) {
+        int inventory = InventoryID.INVENTORY.getId();
+        return submit(() -> {
+            long version = Rs2ContainerTracker.getVersion(inventory);
+            action.run();
+            return version;
+        }).thenCompose(version -> waitUntil(() -> Rs2ContainerTracker.getVersion(inventory) != version, timeoutTicks));
+    }
+
+    public static CompletableFuture<Boolean> walkTo(WorldPoint target) {
+        return walkTo(target, Rs2Walker.config.reachedDistance());
+    }
+
+    /**
+     * Start walking to the target. Completes with true once the player is within the distance of the
+     * target, or with false if the walker stops first.
+     */
+    public static CompletableFuture<Boolean> walkTo(WorldPoint target, int distance) {
+        BooleanSupplier arrived = () -> Rs2Player.getWorldLocation().distanceTo(target) <= distance;
+        CompletableFuture<Boolean> future = submit(() -> Rs2Walker.walkTo(target, distance))
+                .thenCompose(done -> done ? CompletableFuture.completedFuture(true) : waitUntil(() -> arrived.getAsBoolean() || !isWalking(), WALK_TIMEOUT_TICKS))
+                .thenApply(done -> done && arrived.getAsBoolean());
+        future.whenComplete((result, ex) -> {
+            if (future.isCancelled()) {
+                Rs2Walker.setTarget(null);
+            }
+        });
+        return future;
+    }
+
+    private static boolean isWalking() {
+        Future<?> walker = Microbot.getClientThread().scheduledFuture;
+        return walker != null && !walker.isDone();
+    }
+
+    public static CompletableFuture<Boolean> openBank() {
+        return clickThenWait(() -> {
+            if (Microbot.getClient().isWidgetSelected()) {
+                Microbot.getMouse().click();
+            }
+            return Rs2Bank.isOpen() || Rs2Bank.interactWithBank();
+        }, Rs2Bank::isOpen, BANK_TIMEOUT_TICKS);
+    }
+
+    public static CompletableFuture<Boolean> closeBank() {
+        return clickThenWait(Rs2Bank::clickCloseBank, () -> !Rs2Bank.isOpen(), BANK_TIMEOUT_TICKS);
+    }
+
+    /**
+     * @return a future which completes with true once the withdrawn items are in the inventory
+     */
+    public static CompletableFuture<Boolean> withdrawAll(String name) {
+        return runThenWaitForInventory(() -> Rs2Bank.withdrawAll(name), CLICK_TIMEOUT_TICKS);
+    }
+
+    /**
+     * @return a future which completes with true once the inventory is empty
+     */
+    public static CompletableFuture<Boolean> depositAll() {
+        return clickThenWait(Rs2Bank::clickDepositAll, Rs2Inventory::isEmpty, CLICK_TIMEOUT_TICKS);
+    }
+
+    public static CompletableFuture<Boolean> depositAll(String name) {
+        return runThenWaitForInventory(() -> Rs2Bank.depositAll(name), CLICK_TIMEOUT_TICKS);
+    }
+
+    /**
+     * @return a future which completes with whether the npc was clicked
+     */
+    public static CompletableFuture<Boolean> interact(NPC npc, String action) {
+        return submit(() -> Rs2Npc.interact(npc, action));
+    }
+
+    /**
+     * @return a future which completes with whether the object was clicked
+     */
+    public static CompletableFuture<Boolean> interact(TileObject object, String action) {
+        return submit(() -> Rs2GameObject.interact(object, action));
+    }
+
+    /**
+     * @return a future which completes with whether the widget was clicked
+     */
+    public static CompletableFuture<Boolean> clickWidget(int id) {
+        return submit(() -> Rs2Widget.clickWidget(id));
+    }
+
+    public static CompletableFuture<Boolean> clickWidget(String text, boolean exact) {
+        return submit(() -> Rs2Widget.clickWidget(text, exact));
+    }
+}
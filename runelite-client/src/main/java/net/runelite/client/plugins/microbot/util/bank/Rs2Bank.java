@@ -11,11 +11,14 @@ import net.runelite.client.plugins.loottracker.LootTrackerRecord;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.antiban.Rs2AntibanSettings;
 import net.runelite.client.plugins.microbot.util.bank.enums.BankLocation;
+import net.runelite.client.plugins.microbot.util.container.ContainerIndex;
+import net.runelite.client.plugins.microbot.util.container.Rs2ContainerTracker;
 import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
 import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
 import net.runelite.client.plugins.microbot.util.grandexchange.Rs2GrandExchange;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Item;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemCache;
 import net.runelite.client.plugins.microbot.util.keyboard.Rs2Keyboard;
 import net.runelite.client.plugins.microbot.util.math.Rs2Random;
 import net.runelite.client.plugins.microbot.util.menu.NewMenuEntry;
@@ -57,6 +60,7 @@ public class Rs2Bank {
     private static final int HANDLE_ALL = 7;
     private static final int WITHDRAW_AS_NOTE_VARBIT = 3958;
     public static List<Rs2Item> bankItems = new ArrayList<Rs2Item>();
+    private static volatile ContainerIndex bankIndex;
     /**
      * Container describes from what interface the action happens
      * eg: withdraw means the contailer will be the bank container
@@ -140,13 +144,23 @@ public class Rs2Bank {
      * @return true if the bank interface was open and successfully closed, false otherwise.
      */
     public static boolean closeBank() {
-        if (!isOpen()) return false;
-        Rs2Widget.clickChildWidget(786434, 11);
+        if (!clickCloseBank()) return false;
         sleepUntilOnClientThread(() -> !isOpen());
 
         return true;
     }
 
+    /**
+     * Clicks the close button of the bank, without waiting for the bank to close.
+     *
+     * @return true if the bank interface was open
+     */
+    public static boolean clickCloseBank() {
+        if (!isOpen()) return false;
+        Rs2Widget.clickChildWidget(786434, 11);
+        return true;
+    }
+
     /**
      * Finds a bank item widget in the bank interface by its partial name match.
      *
@@ -496,14 +510,24 @@ public class Rs2Bank {
      */
     public static void depositAll() {
         Microbot.status = "Deposit all";
-        if (Rs2Inventory.isEmpty()) return;
-        if (!Rs2Bank.isOpen()) return;
+        if (!clickDepositAll()) return;
+        sleepUntil(Rs2Inventory::isEmpty);
+    }
+
+    /**
+     * Clicks the deposit inventory button, without waiting for the inventory to empty.
+     *
+     * @return true if the button was clicked
+     */
+    public static boolean clickDepositAll() {
+        if (Rs2Inventory.isEmpty()) return false;
+        if (!Rs2Bank.isOpen()) return false;
 
         Widget widget = Rs2Widget.findWidget(SpriteID.BANK_DEPOSIT_INVENTORY, null);
-        if (widget == null) return;
+        if (widget == null) return false;
 
         Microbot.getMouse().click(widget.getBounds());
-        sleepUntil(Rs2Inventory::isEmpty);
+        return true;
     }
 
     /**
@@ -899,20 +923,7 @@ public class Rs2Bank {
             if (Microbot.getClient().isWidgetSelected())
                 Microbot.getMouse().click();
             if (isOpen()) return true;
-            boolean action = false;
-            GameObject bank = Rs2GameObject.findBank();
-            if (bank == null) {
-                GameObject chest = Rs2GameObject.findChest();
-                if (chest == null) {
-                    NPC npc = Rs2Npc.getBankerNPC();
-                    if (npc == null) return false;
-                    action = Rs2Npc.interact(npc, "bank");
-                } else {
-                    action = Rs2GameObject.interact(chest, "use");
-                }
-            } else {
-                action = Rs2GameObject.interact(bank, "bank");
-            }
+            boolean action = interactWithBank();
             if (action) {
                 sleepUntil(() -> isOpen() || Rs2Widget.hasWidget("Please enter your PIN"), 2500);
                 sleep(600, 1000);
@@ -924,6 +935,21 @@ public class Rs2Bank {
         return false;
     }
 
+    /**
+     * Interacts with the nearest bank booth, then bank chest and lastly banker, without waiting for
+     * the bank to open.
+     *
+     * @return true if one of them was clicked
+     */
+    public static boolean interactWithBank() {
+        GameObject bank = Rs2GameObject.findBank();
+        if (bank != null) return Rs2GameObject.interact(bank, "bank");
+        GameObject chest = Rs2GameObject.findChest();
+        if (chest != null) return Rs2GameObject.interact(chest, "use");
+        NPC npc = Rs2Npc.getBankerNPC();
+        return npc != null && Rs2Npc.interact(npc, "bank");
+    }
+
     public static boolean openBank(NPC npc) {
         Microbot.status = "Opening bank";
         try {
@@ -1008,12 +1034,24 @@ public class Rs2Bank {
      */
     @SuppressWarnings("UnnecessaryLocalVariable")
     private static Rs2Item findBankItem(int id) {
-        if (bankItems == null) return null;
-        if (bankItems.stream().findAny().isEmpty()) return null;
+        ContainerIndex index = index();
+        if (index == null) return null;
 
-        Rs2Item bankItem = bankItems.stream().filter(x -> x.id == id).findFirst().orElse(null);
+        return index.first(id);
+    }
 
-        return bankItem;
+    /**
+     * @return the index of {@link #bankItems}, rebuilt when the list is replaced, or null if there is no list
+     */
+    private static ContainerIndex index() {
+        List<Rs2Item> items = bankItems;
+        if (items == null) return null;
+        ContainerIndex index = bankIndex;
+        if (index == null || !index.isFor(items)) {
+            index = new ContainerIndex(items);
+            bankIndex = index;
+        }
+        return index;
     }
 
     /**
@@ -1040,14 +1078,10 @@ public class Rs2Bank {
      */
     @SuppressWarnings("UnnecessaryLocalVariable")
     private static Rs2Item findBankItem(String name, boolean exact, int amount) {
-        if (bankItems == null) return null;
-        if (bankItems.stream().findAny().isEmpty()) return null;
-
-        final String lowerCaseName = name.toLowerCase();
+        ContainerIndex index = index();
+        if (index == null) return null;
 
-        Rs2Item bankItem = bankItems.stream().filter(x -> exact
-                ? x.name.equalsIgnoreCase(lowerCaseName)
-                : x.name.toLowerCase().contains(lowerCaseName)).findFirst().orElse(null);
+        Rs2Item bankItem = index.first(name, exact);
 
         if (bankItem == null || bankItem.quantity < amount)
             return null;
@@ -1174,14 +1208,16 @@ public class Rs2Bank {
      */
     public static void storeBankItemsInMemory(ItemContainerChanged e) {
         List<Rs2Item> list = updateItemContainer(InventoryID.BANK.getId(), e);
-        if (list != null)
+        if (list != null) {
             bankItems = list;
+            Rs2ContainerTracker.update(InventoryID.BANK.getId(), e.getItemContainer().getItems().length, list);
+        }
     }
 
     public static boolean handleBankPin(String pin) {
         Widget bankPinWidget = Rs2Widget.getWidget(ComponentID.BANK_PIN_CONTAINER);
 
-        boolean isBankPinVisible = Microbot.getClientThread().runOnClientThread(() -> bankPinWidget != null && !bankPinWidget.isHidden());
+        boolean isBankPinVisible = Microbot.runOnClientThread(() -> bankPinWidget != null && !bankPinWidget.isHidden());
 
         if (isBankPinVisible) {
             Rs2Keyboard.typeString(pin);
@@ -1307,17 +1343,15 @@ public class Rs2Bank {
                 if (itemsToNotSell.stream().anyMatch(x -> x.trim().equalsIgnoreCase(lootTrackerItem.getName())))
                     continue;
                 int itemId = lootTrackerItem.getId();
-                ItemComposition itemComposition = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getItemDefinition(lootTrackerItem.getId()));
-                if (Arrays.stream(itemComposition.getInventoryActions()).anyMatch(x -> x != null && x.equalsIgnoreCase("eat")))
+                Rs2ItemCache.ItemInfo itemInfo = Rs2ItemCache.get(lootTrackerItem.getId());
+                if (itemInfo == null) continue;
+                if (Arrays.stream(itemInfo.getInventoryActions()).anyMatch(x -> x != null && x.equalsIgnoreCase("eat")))
                     continue;
-                final boolean isNoted = itemComposition.getNote() == 799;
-                if (!itemComposition.isTradeable() && !isNoted) continue;
-
-                if (isNoted) {
-                    final int unnotedItemId = lootTrackerItem.getId() - 1; //get the unnoted id of the item
-                    itemComposition = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getItemDefinition(unnotedItemId));
-                    if (!itemComposition.isTradeable()) continue;
-                    itemId = unnotedItemId;
+                // the cache already resolves the tradeability of noted items from their unnoted item
+                if (!itemInfo.isTradeable()) continue;
+
+                if (itemInfo.isNoted()) {
+                    itemId = lootTrackerItem.getId() - 1; //get the unnoted id of the item
                 }
 
                 boolean didWithdraw = Rs2Bank.withdrawAll(itemId);
@@ -1332,7 +1366,7 @@ public class Rs2Bank {
 
     private static Widget getBankSizeWidget() {
 
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget bankContainerWidget = Microbot.getClient().getWidget(ComponentID.BANK_ITEM_COUNT_TOP);
             return bankContainerWidget;
         });
@@ -1362,7 +1396,7 @@ public class Rs2Bank {
      * @return A list of bank tab widgets, or null if the bank tab container widget is not found.
      */
     public static List<Widget> getTabs() {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget bankContainerWidget = Microbot.getClient().getWidget(ComponentID.BANK_TAB_CONTAINER);
             if (bankContainerWidget != null) {
                 // get children and filter out the tabs that don't have the Action Collapse tab
@@ -1382,7 +1416,7 @@ public class Rs2Bank {
      * @return A list of item widgets in the bank container, or null if the bank container widget is not found.
      */
     public static List<Widget> getItems() {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget bankContainerWidget = Microbot.getClient().getWidget(BANK_ITEM_CONTAINER);
             if (bankContainerWidget != null) {
                 // Get children and filter out the tabs that don't have the Action Collapse tab
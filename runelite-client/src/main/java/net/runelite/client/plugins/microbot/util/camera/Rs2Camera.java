@@ -8,6 +8,7 @@ import net.runelite.client.plugins.camera.CameraPlugin;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.Global;
 import net.runelite.client.plugins.microbot.util.keyboard.Rs2Keyboard;
+import net.runelite.client.plugins.microbot.util.misc.ProjectionCache;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
@@ -252,15 +253,7 @@ public class Rs2Camera {
     }
 
     public static boolean isTileOnScreen(TileObject tileObject) {
-        int viewportHeight = Microbot.getClient().getViewportHeight();
-        int viewportWidth = Microbot.getClient().getViewportWidth();
-
-
-        Polygon poly = Perspective.getCanvasTilePoly(Microbot.getClient(), tileObject.getLocalLocation());
-
-        if (poly == null) return false;
-
-        return poly.getBounds2D().getX() <= viewportWidth && poly.getBounds2D().getY() <= viewportHeight;
+        return isTileOnScreen(tileObject.getLocalLocation());
     }
 
     public static boolean isTileOnScreen(LocalPoint localPoint) {
@@ -268,11 +261,12 @@ public class Rs2Camera {
         int viewportWidth = Microbot.getClient().getViewportWidth();
 
 
-        Polygon poly = Perspective.getCanvasTilePoly(Microbot.getClient(), localPoint);
+        Rectangle bounds = ProjectionCache.getBounds(localPoint, 0, localPoint.getX(), localPoint.getY(), Microbot.getClient().getPlane(),
+                () -> Perspective.getCanvasTilePoly(Microbot.getClient(), localPoint));
 
-        if (poly == null) return false;
+        if (bounds == null) return false;
 
-        return poly.getBounds2D().getX() <= viewportWidth && poly.getBounds2D().getY() <= viewportHeight;
+        return bounds.getX() <= viewportWidth && bounds.getY() <= viewportHeight;
     }
 
     // get the camera zoom
@@ -0,0 +1,134 @@
+package net.runelite.client.plugins.microbot.util.container;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2Item;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The difference between two snapshots of a container: the slots which changed, and the net change
+ * of the quantity of every item id. Moving an item between slots changes slots but no quantities.
+ */
+public final class ContainerDiff {
+    @Getter
+    private final ContainerSnapshot from;
+    @Getter
+    private final ContainerSnapshot to;
+    @Getter
+    private final List<SlotChange> slotChanges;
+    private final Map<Integer, Integer> deltas;
+
+    private ContainerDiff(ContainerSnapshot from, ContainerSnapshot to, List<SlotChange> slotChanges, Map<Integer, Integer> deltas) {
+        this.from = from;
+        this.to = to;
+        this.slotChanges = Collections.unmodifiableList(slotChanges);
+        this.deltas = Collections.unmodifiableMap(deltas);
+    }
+
+    static ContainerDiff between(ContainerSnapshot from, ContainerSnapshot to) {
+        List<SlotChange> slotChanges = new ArrayList<>();
+        int slots = Math.max(from.getCapacity(), to.getCapacity());
+        for (int slot = 0; slot < slots; slot++) {
+            Rs2Item before = from.getItem(slot);
+            Rs2Item after = to.getItem(slot);
+            if (id(before) != id(after) || quantity(before) != quantity(after)) {
+                slotChanges.add(new SlotChange(slot, before, after));
+            }
+        }
+
+        // the ids of the changed slots are the only ones whose totals can differ
+        Set<Integer> ids = new HashSet<>();
+        for (SlotChange change : slotChanges) {
+            if (change.before != null) {
+                ids.add(change.before.getId());
+            }
+            if (change.after != null) {
+                ids.add(change.after.getId());
+            }
+        }
+        Map<Integer, Integer> deltas = new LinkedHashMap<>();
+        for (int id : ids) {
+            int delta = to.getQuantity(id) - from.getQuantity(id);
+            if (delta != 0) {
+                deltas.put(id, delta);
+            }
+        }
+        return new ContainerDiff(from, to, slotChanges, deltas);
+    }
+
+    private static int id(Rs2Item item) {
+        return item == null ? -1 : item.getId();
+    }
+
+    private static int quantity(Rs2Item item) {
+        return item == null ? 0 : item.quantity;
+    }
+
+    /**
+     * @return true if no slot changed
+     */
+    public boolean isEmpty() {
+        return slotChanges.isEmpty();
+    }
+
+    /**
+     * @return true if this is the first snapshot of the container since it was reset, eg. the bank being
+     * opened after login. Every item of such a diff shows up as added.
+     */
+    public boolean isInitial() {
+        return from.getVersion() == 0;
+    }
+
+    /**
+     * @return the net quantity change of every item id whose quantity changed
+     */
+    public Map<Integer, Integer> getDeltas() {
+        return deltas;
+    }
+
+    public int getDelta(int itemId) {
+        return deltas.getOrDefault(itemId, 0);
+    }
+
+    /**
+     * @return the ids whose quantity went up
+     */
+    public Set<Integer> getAdded() {
+        return select(true);
+    }
+
+    /**
+     * @return the ids whose quantity went down
+     */
+    public Set<Integer> getRemoved() {
+        return select(false);
+    }
+
+    private Set<Integer> select(boolean added) {
+        Set<Integer> ids = new HashSet<>();
+        for (Map.Entry<Integer, Integer> entry : deltas.entrySet()) {
+            if (entry.getValue() > 0 == added) {
+                ids.add(entry.getKey());
+            }
+        }
+        return ids;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class SlotChange {
+        private final int slot;
+        @Nullable
+        private final Rs2Item before;
+        @Nullable
+        private final Rs2Item after;
+    }
+}
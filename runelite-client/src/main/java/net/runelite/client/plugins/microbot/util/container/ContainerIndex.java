@@ -0,0 +1,127 @@
+package net.runelite.client.plugins.microbot.util.container;
+
+import net.runelite.client.plugins.microbot.util.inventory.Rs2Item;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lookup tables over the items of a container: the items of every id and of every lower-cased name,
+ * and the items whose name contains a fragment, remembered per fragment. Every list is in slot order,
+ * so the first item of a list is the one a linear scan of the container would have found.
+ * <p>
+ * An index is built once per version of a container and is never modified afterwards, except for the
+ * fragment results which are filled in as they are asked for.
+ */
+public final class ContainerIndex {
+    // fragments are remembered per index, which lives for a single version of the container
+    private static final int MAX_FRAGMENTS = 256;
+
+    private final List<Rs2Item> source;
+    private final int size;
+    private final List<Rs2Item> items;
+    private final String[] names;
+    private final Map<Integer, List<Rs2Item>> byId;
+    private final Map<Integer, Integer> quantities;
+    private final Map<String, List<Rs2Item>> byName;
+    private final Map<String, List<Rs2Item>> byFragment = new ConcurrentHashMap<>();
+
+    public ContainerIndex(List<Rs2Item> items) {
+        this.source = items;
+        this.size = items.size();
+        this.items = new ArrayList<>(items);
+        this.names = new String[size];
+        this.byId = new HashMap<>(size * 2);
+        this.quantities = new HashMap<>(size * 2);
+        this.byName = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            Rs2Item item = this.items.get(i);
+            String name = item.name == null ? "" : item.name.toLowerCase();
+            names[i] = name;
+            byId.computeIfAbsent(item.id, k -> new ArrayList<>(1)).add(item);
+            quantities.merge(item.id, item.quantity, Integer::sum);
+            byName.computeIfAbsent(name, k -> new ArrayList<>(1)).add(item);
+        }
+    }
+
+    /**
+     * @return true if this index was built from the list and the list has not been modified since, as far
+     * as can be told cheaply
+     */
+    public boolean isFor(List<Rs2Item> list) {
+        return list == source && list.size() == size;
+    }
+
+    /**
+     * @return the items with the id, in slot order
+     */
+    public List<Rs2Item> byId(int id) {
+        return Collections.unmodifiableList(byId.getOrDefault(id, Collections.emptyList()));
+    }
+
+    @Nullable
+    public Rs2Item first(int id) {
+        List<Rs2Item> matches = byId.get(id);
+        return matches == null ? null : matches.get(0);
+    }
+
+    /**
+     * @return the quantity of the id summed over all slots
+     */
+    public int getQuantity(int id) {
+        return quantities.getOrDefault(id, 0);
+    }
+
+    /**
+     * @return the items with the name, ignoring case, in slot order
+     */
+    public List<Rs2Item> byName(String name) {
+        return Collections.unmodifiableList(byName.getOrDefault(name.toLowerCase(), Collections.emptyList()));
+    }
+
+    /**
+     * @return the items whose name contains the fragment, ignoring case, in slot order
+     */
+    public List<Rs2Item> byFragment(String fragment) {
+        String key = fragment.toLowerCase();
+        List<Rs2Item> matches = byFragment.get(key);
+        if (matches != null) {
+            return matches;
+        }
+
+        List<Rs2Item> found = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (names[i].contains(key)) {
+                found.add(items.get(i));
+            }
+        }
+        matches = Collections.unmodifiableList(found);
+        if (byFragment.size() < MAX_FRAGMENTS) {
+            byFragment.put(key, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * @param exact true to match the whole name, false to match a fragment of it, ignoring case either way
+     * @return the first item matching the name, or null if there is none
+     */
+    @Nullable
+    public Rs2Item first(String name, boolean exact) {
+        List<Rs2Item> matches = exact ? byName.get(name.toLowerCase()) : byFragment(name);
+        return matches == null || matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /**
+     * @return the number of slots holding the name, ignoring case
+     */
+    public int count(String name, boolean exact) {
+        List<Rs2Item> matches = exact ? byName.get(name.toLowerCase()) : byFragment(name);
+        return matches == null ? 0 : matches.size();
+    }
+}
@@ -0,0 +1,103 @@
+package net.runelite.client.plugins.microbot.util.container;
+
+import lombok.Getter;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2Item;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The items of a container at one version. Snapshots are never modified, so they can be read from any
+ * thread and compared with each other.
+ */
+public final class ContainerSnapshot {
+    @Getter
+    private final int containerId;
+    @Getter
+    private final long version;
+    @Getter
+    private final int capacity;
+    @Getter
+    private final List<Rs2Item> items;
+    private final Rs2Item[] slots;
+    private final Map<Integer, Integer> quantities;
+    private volatile ContainerIndex index;
+
+    ContainerSnapshot(int containerId, long version, int capacity, List<Rs2Item> items) {
+        this.containerId = containerId;
+        this.version = version;
+        // copied, the lists of the Rs2 classes are public and can be cleared in place
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+
+        int size = capacity;
+        for (Rs2Item item : items) {
+            size = Math.max(size, item.getSlot() + 1);
+        }
+        this.capacity = size;
+        this.slots = new Rs2Item[size];
+        this.quantities = new HashMap<>(items.size() * 2);
+        for (Rs2Item item : items) {
+            if (item.getSlot() >= 0) {
+                slots[item.getSlot()] = item;
+            }
+            quantities.merge(item.getId(), item.quantity, Integer::sum);
+        }
+    }
+
+    static ContainerSnapshot empty(int containerId, long version) {
+        return new ContainerSnapshot(containerId, version, 0, Collections.emptyList());
+    }
+
+    /**
+     * @return the item in the slot, or null if the slot is empty
+     */
+    @Nullable
+    public Rs2Item getItem(int slot) {
+        return slot >= 0 && slot < slots.length ? slots[slot] : null;
+    }
+
+    /**
+     * @return the quantity of the item summed over all slots
+     */
+    public int getQuantity(int itemId) {
+        return quantities.getOrDefault(itemId, 0);
+    }
+
+    public boolean contains(int itemId) {
+        return quantities.containsKey(itemId);
+    }
+
+    public Set<Integer> getItemIds() {
+        return Collections.unmodifiableSet(quantities.keySet());
+    }
+
+    public int getUsedSlots() {
+        return items.size();
+    }
+
+    public int getEmptySlots() {
+        return capacity - items.size();
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /**
+     * @return the name and id index of this snapshot, built the first time it is asked for
+     */
+    public ContainerIndex getIndex() {
+        ContainerIndex current = index;
+        if (current == null) {
+            // two threads may both build it, which is harmless
+            current = new ContainerIndex(items);
+            index = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,122 @@
+package net.runelite.client.plugins.microbot.util.container;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2Item;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Keeps a versioned snapshot of the inventory, bank and equipment, and tells listeners what changed
+ * between two snapshots, so a script can react to items being added or removed instead of comparing
+ * the whole container itself.
+ * <p>
+ * Snapshots are taken on {@link net.runelite.api.events.ItemContainerChanged}. The version of a container
+ * only goes up when one of its slots actually changed. Listeners are called on the client thread and
+ * must return quickly.
+ */
+@Slf4j
+public final class Rs2ContainerTracker {
+    private static final Map<Integer, ContainerSnapshot> snapshots = new ConcurrentHashMap<>();
+    // kept across resets, so waiting on a version change still works after a world hop
+    private static final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+    // only bumped when the quantity of an item changed, not when items just moved between slots
+    private static final Map<Integer, Long> quantityVersions = new ConcurrentHashMap<>();
+    private static final Map<Integer, CopyOnWriteArrayList<Consumer<ContainerDiff>>> listeners = new ConcurrentHashMap<>();
+
+    private Rs2ContainerTracker() {
+    }
+
+    /**
+     * Record the new items of a container and notify the listeners if any slot changed.
+     *
+     * @param capacity the number of slots of the container
+     * @return the current snapshot of the container
+     */
+    public static ContainerSnapshot update(int containerId, int capacity, List<Rs2Item> items) {
+        // only called from the client thread, so the version cannot move underneath us
+        ContainerSnapshot previous = getSnapshot(containerId);
+        long version = getVersion(containerId) + 1;
+        ContainerSnapshot next = new ContainerSnapshot(containerId, version, capacity, items);
+        ContainerDiff diff = ContainerDiff.between(previous, next);
+        if (diff.isEmpty() && previous.getVersion() != 0) {
+            return previous;
+        }
+
+        versions.put(containerId, version);
+        snapshots.put(containerId, next);
+        if (!diff.getDeltas().isEmpty()) {
+            quantityVersions.merge(containerId, 1L, Long::sum);
+        }
+        if (!diff.isEmpty()) {
+            notify(containerId, diff);
+        }
+        return next;
+    }
+
+    private static void notify(int containerId, ContainerDiff diff) {
+        List<Consumer<ContainerDiff>> containerListeners = listeners.get(containerId);
+        if (containerListeners == null) {
+            return;
+        }
+        for (Consumer<ContainerDiff> listener : containerListeners) {
+            try {
+                listener.accept(diff);
+            } catch (Exception ex) {
+                log.warn("Container listener failed", ex);
+            }
+        }
+    }
+
+    /**
+     * @return the latest snapshot of the container, or an empty snapshot with version 0 if it has not been seen
+     */
+    public static ContainerSnapshot getSnapshot(int containerId) {
+        ContainerSnapshot snapshot = snapshots.get(containerId);
+        return snapshot != null ? snapshot : ContainerSnapshot.empty(containerId, 0);
+    }
+
+    /**
+     * @return a number which changes every time the items of the container change
+     */
+    public static long getVersion(int containerId) {
+        return versions.getOrDefault(containerId, 0L);
+    }
+
+    /**
+     * @return a number which changes every time the quantity of an item in the container changes, but not
+     * when items are only moved between slots
+     */
+    public static long getQuantityVersion(int containerId) {
+        return quantityVersions.getOrDefault(containerId, 0L);
+    }
+
+    /**
+     * Call the listener with every change of the container. A listener which is already added is not added again.
+     */
+    public static void addListener(int containerId, Consumer<ContainerDiff> listener) {
+        listeners.computeIfAbsent(containerId, k -> new CopyOnWriteArrayList<>()).addIfAbsent(listener);
+    }
+
+    public static void removeListener(int containerId, Consumer<ContainerDiff> listener) {
+        List<Consumer<ContainerDiff>> containerListeners = listeners.get(containerId);
+        if (containerListeners != null) {
+            containerListeners.remove(listener);
+        }
+    }
+
+    /**
+     * Forget the snapshot of a container, eg. the bank on logout. The next snapshot is diffed against
+     * an empty container, see {@link ContainerDiff#isInitial()}.
+     */
+    public static void reset(int containerId) {
+        snapshots.remove(containerId);
+    }
+
+    public static void resetAll() {
+        snapshots.clear();
+    }
+}
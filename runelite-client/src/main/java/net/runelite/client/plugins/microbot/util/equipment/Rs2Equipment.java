@@ -3,7 +3,9 @@ package net.runelite.client.plugins.microbot.util.equipment;
 import net.runelite.api.*;
 import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.container.Rs2ContainerTracker;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Item;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemCache;
 import net.runelite.client.plugins.microbot.util.menu.NewMenuEntry;
 import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
 
@@ -26,18 +28,22 @@ public class Rs2Equipment {
 
     public static void storeEquipmentItemsInMemory(ItemContainerChanged e) {
         if (e.getContainerId() == InventoryID.EQUIPMENT.getId() && e.getItemContainer() != null) {
+            Item[] items = e.getItemContainer().getItems();
+            Rs2ItemCache.load(items);
             List<Rs2Item> _equipmentItems = new ArrayList<>();
-            for (int i = 0; i < e.getItemContainer().getItems().length; i++) {
-                Item item = equipment().getItems()[i];
+            for (int i = 0; i < items.length; i++) {
+                Item item = items[i];
                 if (item.getId() == -1) continue;
                 int finalI = i;
                 Optional<EquipmentInventorySlot> equipmentSlot = Arrays.stream(EquipmentInventorySlot.values()).filter(x -> x.getSlotIdx() == finalI).findFirst();
                 if (equipmentSlot.isEmpty()) continue;
                 int slot = equipmentSlot.get().getSlotIdx();
-                ItemComposition itemComposition = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getItemDefinition(item.getId()));
-                _equipmentItems.add(new Rs2Item(item, itemComposition, slot));
+                Rs2ItemCache.ItemInfo info = Rs2ItemCache.get(item.getId());
+                if (info == null) continue;
+                _equipmentItems.add(new Rs2Item(item, info, slot));
             }
             equipmentItems = _equipmentItems;
+            Rs2ContainerTracker.update(InventoryID.EQUIPMENT.getId(), items.length, _equipmentItems);
         }
     }
 
@@ -90,7 +96,7 @@ public class Rs2Equipment {
 
     @Deprecated(since = "Use isWearing", forRemoval = true)
     public static boolean hasEquipped(String itemName) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             for (EquipmentInventorySlot value : EquipmentInventorySlot.values()) {
                 Rs2Item item = get(value);
                 if (item == null) continue;
@@ -103,7 +109,7 @@ public class Rs2Equipment {
     }
 
     public static boolean hasEquippedContains(String itemName) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             for (EquipmentInventorySlot value : EquipmentInventorySlot.values()) {
                 Rs2Item item = get(value);
                 if (item == null) continue;
@@ -116,8 +122,8 @@ public class Rs2Equipment {
     }
 
     public static boolean hasEquipped(int id) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
-            final ItemContainer container = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getItemContainer(InventoryID.EQUIPMENT));
+        return Microbot.runOnClientThread(() -> {
+            final ItemContainer container = Microbot.runOnClientThread(() -> Microbot.getClient().getItemContainer(InventoryID.EQUIPMENT));
             if (container == null) return false;
             for (EquipmentInventorySlot value : EquipmentInventorySlot.values()) {
                 Item itemSlot = container.getItem(value.getSlotIdx());
@@ -131,8 +137,8 @@ public class Rs2Equipment {
     }
 
     public static boolean hasEquippedSlot(EquipmentInventorySlot slot) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
-            final ItemContainer container = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getItemContainer(InventoryID.EQUIPMENT));
+        return Microbot.runOnClientThread(() -> {
+            final ItemContainer container = Microbot.runOnClientThread(() -> Microbot.getClient().getItemContainer(InventoryID.EQUIPMENT));
 
             if (container == null) return false;
 
@@ -0,0 +1,310 @@
+package net.runelite.client.plugins.microbot.util.executor;
+
+import lombok.Getter;
+import net.runelite.client.plugins.microbot.util.profiler.Rs2Profiler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A lane on the shared {@link ScriptRuntime}. At most {@link #getThreads()} tasks of a lane run at
+ * once, so a script behaves as if it had a thread pool of that size of its own, while the threads
+ * themselves are shared by every script. A lane of one thread never runs its tasks concurrently.
+ * <p>
+ * Scheduling follows {@link java.util.concurrent.ScheduledThreadPoolExecutor}: periodic tasks stop
+ * when they throw, and {@link #shutdown()} cancels periodic tasks but still runs delayed ones.
+ */
+public class ScriptExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+    @Getter
+    private final String name;
+    @Getter
+    private final ScriptMetrics metrics = new ScriptMetrics();
+
+    @Getter
+    private final int threads;
+
+    private final ScriptRuntime runtime;
+    private final String loopTimer;
+    private final Set<LaneTask<?>> tasks = ConcurrentHashMap.newKeySet();
+    // due tasks waiting for the lane, guarded by itself along with running
+    private final Deque<LaneTask<?>> queue = new ArrayDeque<>();
+    // number of workers draining the queue
+    private int running;
+    private volatile boolean shutdown;
+
+    ScriptExecutor(ScriptRuntime runtime, int threads, String name) {
+        this.runtime = runtime;
+        this.threads = threads;
+        this.name = name;
+        this.loopTimer = "loop." + name;
+    }
+
+    /**
+     * Cancel every task on this lane, interrupting the one which is running. Unlike
+     * {@link #shutdown()} the lane stays usable, so a script can be started again.
+     */
+    public void cancelAll() {
+        for (LaneTask<?> task : new ArrayList<>(tasks)) {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * @return the number of tasks which are scheduled or running
+     */
+    public int getTaskCount() {
+        return tasks.size();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return submitTask(new LaneTask<>(Executors.callable(command, null), triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return submitTask(new LaneTask<>(callable, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+        return submitTask(new LaneTask<>(Executors.callable(command, null), triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be positive");
+        }
+        return submitTask(new LaneTask<>(Executors.callable(command, null), triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return schedule(task, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public <T> Future<T> submit(Runnable task, T result) {
+        return schedule(Executors.callable(task, result), 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return schedule(task, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        for (LaneTask<?> task : new ArrayList<>(tasks)) {
+            if (task.isPeriodic()) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> pending = new ArrayList<>();
+        synchronized (queue) {
+            pending.addAll(queue);
+        }
+        cancelAll();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        if (!shutdown || !tasks.isEmpty()) {
+            return false;
+        }
+        synchronized (queue) {
+            return running == 0;
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isTerminated()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            synchronized (queue) {
+                // tasks can also finish by being cancelled, which does not notify, so wake up periodically
+                queue.wait(Math.max(1L, Math.min(TimeUnit.NANOSECONDS.toMillis(remaining), 50L)));
+            }
+        }
+        return true;
+    }
+
+    private static long triggerTime(long delay, TimeUnit unit) {
+        return System.nanoTime() + unit.toNanos(Math.max(delay, 0L));
+    }
+
+    private <V> LaneTask<V> submitTask(LaneTask<V> task) {
+        if (shutdown) {
+            throw new RejectedExecutionException(name + " has been shut down");
+        }
+        tasks.add(task);
+        arm(task);
+        return task;
+    }
+
+    private void arm(LaneTask<?> task) {
+        task.trigger = runtime.scheduler.schedule(() -> enqueue(task), task.getDelay(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    private void enqueue(LaneTask<?> task) {
+        synchronized (queue) {
+            if (task.isDone()) {
+                return;
+            }
+            queue.add(task);
+            if (running == threads) {
+                return;
+            }
+            running++;
+        }
+        runtime.workers.execute(this::drain);
+    }
+
+    /**
+     * Run the next due task of this lane, then hand the lane's slot on to the task after it, if any.
+     */
+    private void drain() {
+        LaneTask<?> task;
+        synchronized (queue) {
+            do {
+                task = queue.poll();
+            } while (task != null && task.isDone());
+
+            if (task == null) {
+                running--;
+                queue.notifyAll();
+                return;
+            }
+        }
+
+        try {
+            task.runOnLane();
+        } finally {
+            boolean more;
+            synchronized (queue) {
+                more = !queue.isEmpty();
+                if (!more) {
+                    running--;
+                    queue.notifyAll();
+                }
+            }
+            if (more) {
+                runtime.workers.execute(this::drain);
+            }
+        }
+    }
+
+    private class LaneTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        // nanoTime at which the task is next due
+        private volatile long time;
+        // 0 for one shot tasks, > 0 for fixed rate and < 0 for fixed delay
+        private final long period;
+        private volatile ScheduledFuture<?> trigger;
+
+        LaneTask(Callable<V> callable, long time, long period) {
+            super(callable);
+            this.time = time;
+            this.period = period;
+        }
+
+        void runOnLane() {
+            long start = System.nanoTime();
+            long cpu = ScriptMetrics.currentThreadCpuTime();
+
+            boolean ok;
+            if (isPeriodic()) {
+                ok = runAndReset();
+            } else {
+                run();
+                ok = false;
+            }
+
+            long end = System.nanoTime();
+            metrics.record(start - time, end - start, cpu < 0 ? -1L : ScriptMetrics.currentThreadCpuTime() - cpu);
+            Rs2Profiler.record(loopTimer, end - start);
+
+            if (ok && !shutdown) {
+                time = period > 0 ? time + period : end - period;
+                arm(this);
+            } else {
+                if (ok) {
+                    // periodic tasks stop once the lane is shut down
+                    cancel(false);
+                }
+                tasks.remove(this);
+            }
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            metrics.recordFailure();
+            super.setException(t);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            ScheduledFuture<?> pending = trigger;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            tasks.remove(this);
+            return cancelled;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
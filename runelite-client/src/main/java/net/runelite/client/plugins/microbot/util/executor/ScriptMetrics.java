@@ -0,0 +1,87 @@
+package net.runelite.client.plugins.microbot.util.executor;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing of the tasks run by a {@link ScriptExecutor}. Latency is the time between a task being due
+ * and a worker starting it, loop time is the wall clock time of a single run.
+ */
+public class ScriptMetrics {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private long runs;
+    private long failures;
+    private long cpuNanos;
+    private long loopNanos;
+    private long lastLoopNanos;
+    private long maxLoopNanos;
+    private long latencyNanos;
+    private long maxLatencyNanos;
+
+    static long currentThreadCpuTime() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1L;
+    }
+
+    synchronized void record(long latency, long loop, long cpu) {
+        ++runs;
+        loopNanos += loop;
+        lastLoopNanos = loop;
+        maxLoopNanos = Math.max(maxLoopNanos, loop);
+        latencyNanos += Math.max(0L, latency);
+        maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+        if (cpu > 0) {
+            cpuNanos += cpu;
+        }
+    }
+
+    synchronized void recordFailure() {
+        ++failures;
+    }
+
+    public synchronized void reset() {
+        runs = failures = cpuNanos = loopNanos = lastLoopNanos = maxLoopNanos = latencyNanos = maxLatencyNanos = 0L;
+    }
+
+    public synchronized long getRuns() {
+        return runs;
+    }
+
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    public synchronized long getCpuTime(TimeUnit unit) {
+        return unit.convert(cpuNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized long getLastLoopTime(TimeUnit unit) {
+        return unit.convert(lastLoopNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized long getMaxLoopTime(TimeUnit unit) {
+        return unit.convert(maxLoopNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized long getAverageLoopTime(TimeUnit unit) {
+        return runs == 0 ? 0L : unit.convert(loopNanos / runs, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized long getMaxLatency(TimeUnit unit) {
+        return unit.convert(maxLatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized long getAverageLatency(TimeUnit unit) {
+        return runs == 0 ? 0L : unit.convert(latencyNanos / runs, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "runs=" + runs
+                + " failures=" + failures
+                + " cpu=" + TimeUnit.NANOSECONDS.toMillis(cpuNanos) + "ms"
+                + " loop=" + getAverageLoopTime(TimeUnit.MILLISECONDS) + "/" + getMaxLoopTime(TimeUnit.MILLISECONDS) + "ms"
+                + " latency=" + getAverageLatency(TimeUnit.MILLISECONDS) + "/" + getMaxLatency(TimeUnit.MILLISECONDS) + "ms";
+    }
+}
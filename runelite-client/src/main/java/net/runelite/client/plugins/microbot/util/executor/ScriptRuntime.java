@@ -0,0 +1,82 @@
+package net.runelite.client.plugins.microbot.util.executor;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Shared threads for all scripts. A single timer thread fires scheduled tasks and a shared pool of
+ * workers runs them, so idle scripts do not hold threads of their own.
+ * Each script gets its own {@link ScriptExecutor} lane on top of these pools.
+ * <p>
+ * Script loops block in sleeps and client thread round trips, so a running task holds its worker until it
+ * is done. The pool therefore grows whenever all of its threads are busy, and its idle threads exit after a
+ * minute: there are as many workers as tasks running at once, which the lanes limit, and a blocked loop
+ * never keeps another lane waiting.
+ */
+public final class ScriptRuntime {
+    /**
+     * How many tasks of a lane can run at once, as many as the scheduled pool each script used to have.
+     */
+    public static final int LANE_THREADS = 10;
+
+    private static final ScriptRuntime INSTANCE = new ScriptRuntime();
+
+    final ScheduledThreadPoolExecutor scheduler;
+    final ExecutorService workers;
+
+    private final Set<ScriptExecutor> executors = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private ScriptRuntime() {
+        scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat("microbot-scheduler")
+                .setDaemon(true)
+                .build());
+        scheduler.setRemoveOnCancelPolicy(true);
+
+        workers = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("microbot-script-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Create a new lane on the shared runtime. Up to {@link #LANE_THREADS} of its tasks run at once.
+     *
+     * @param name the name shown in metrics, usually the script class name
+     */
+    public static ScriptExecutor newExecutor(String name) {
+        return register(new ScriptExecutor(INSTANCE, LANE_THREADS, name));
+    }
+
+    /**
+     * Create a new lane whose tasks run one at a time, in the order they fall due, for tasks which must
+     * not overlap, eg. clicks and tick actions.
+     *
+     * @param name the name shown in metrics
+     */
+    public static ScriptExecutor newSerialExecutor(String name) {
+        return register(new ScriptExecutor(INSTANCE, 1, name));
+    }
+
+    private static ScriptExecutor register(ScriptExecutor executor) {
+        INSTANCE.executors.add(executor);
+        return executor;
+    }
+
+    /**
+     * @return the lanes which are still referenced, eg. by a script instance
+     */
+    public static List<ScriptExecutor> getExecutors() {
+        synchronized (INSTANCE.executors) {
+            return new ArrayList<>(INSTANCE.executors);
+        }
+    }
+}
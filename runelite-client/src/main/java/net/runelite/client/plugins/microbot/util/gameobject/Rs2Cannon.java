@@ -35,7 +35,7 @@ public class Rs2Cannon {
             return false;
         }
 
-        int cannonBallsLeft = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getVarpValue(VarPlayer.CANNON_AMMO));
+        int cannonBallsLeft = Microbot.runOnClientThread(() -> Microbot.getClient().getVarpValue(VarPlayer.CANNON_AMMO));
 
         if (cannonBallsLeft > cannonRefillAmount) return false;
 
@@ -51,7 +51,7 @@ public class Rs2Cannon {
         Rs2Player.waitForWalking();
         sleep(1200);
         Rs2GameObject.interact(cannon, "Fire");
-        sleepUntil(() -> Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getVarpValue(VarPlayer.CANNON_AMMO)) > Random.random(10, 15));
+        sleepUntil(() -> Microbot.runOnClientThread(() -> Microbot.getClient().getVarpValue(VarPlayer.CANNON_AMMO)) > Random.random(10, 15));
         Microbot.pauseAllScripts = false;
         return true;
     }
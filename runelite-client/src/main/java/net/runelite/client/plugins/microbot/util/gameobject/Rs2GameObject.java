@@ -1,6 +1,5 @@
 package net.runelite.client.plugins.microbot.util.gameobject;
 
-import lombok.SneakyThrows;
 import net.runelite.api.*;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldArea;
@@ -9,14 +8,16 @@ import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.antiban.Rs2AntibanSettings;
 import net.runelite.client.plugins.microbot.util.camera.Rs2Camera;
 import net.runelite.client.plugins.microbot.util.menu.NewMenuEntry;
+import net.runelite.client.plugins.microbot.util.menu.Rs2ActionIndex;
 import net.runelite.client.plugins.microbot.util.misc.Rs2UiHelper;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.plugins.microbot.util.profiler.Rs2Profiler;
+import net.runelite.client.plugins.microbot.util.reflection.ConstantIndex;
 import net.runelite.client.plugins.microbot.util.reflection.Rs2Reflection;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 
 import javax.annotation.Nullable;
-import java.lang.reflect.Field;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -125,7 +126,7 @@ public class Rs2GameObject {
 
     @Deprecated(since = "Use findObjectById", forRemoval = true)
     public static ObjectComposition findObject(int id) {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getObjectDefinition(id));
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getObjectDefinition(id));
     }
 
     public static boolean exists(int id) {
@@ -672,11 +673,11 @@ public class Rs2GameObject {
     public static ObjectComposition convertGameObjectToObjectComposition(TileObject tileObject) {
         Player player = Microbot.getClient().getLocalPlayer();
         if (player.getLocalLocation().distanceTo(tileObject.getLocalLocation()) > 4800) return null;
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getObjectDefinition(tileObject.getId()));
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getObjectDefinition(tileObject.getId()));
     }
 
     public static ObjectComposition convertGameObjectToObjectComposition(int objectId) {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getObjectDefinition(objectId));
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getObjectDefinition(objectId));
     }
 
     public static WallObject findDoor(int id) {
@@ -840,6 +841,7 @@ public class Rs2GameObject {
     }
 
     public static List<TileObject> getTileObjects() {
+        long start = Rs2Profiler.start();
         Scene scene = Microbot.getClient().getScene();
         Tile[][][] tiles = scene.getTiles();
 
@@ -869,12 +871,15 @@ public class Rs2GameObject {
             }
         }
 
-        return tileObjects.stream()
+        List<TileObject> result = tileObjects.stream()
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        Rs2Profiler.stop("scene.tileObjects", start);
+        return result;
     }
 
     public static List<GameObject> getGameObjects() {
+        long start = Rs2Profiler.start();
         Scene scene = Microbot.getClient().getScene();
         Tile[][][] tiles = scene.getTiles();
 
@@ -895,10 +900,12 @@ public class Rs2GameObject {
             }
         }
 
-        return tileObjects.stream()
+        List<GameObject> result = tileObjects.stream()
                 .filter(Objects::nonNull)
                 .sorted(Comparator.comparingInt(tile -> tile.getWorldLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation())))
                 .collect(Collectors.toList());
+        Rs2Profiler.stop("scene.gameObjects", start);
+        return result;
     }
 
     public static List<GameObject> getGameObjectsWithinDistance(int distance) {
@@ -906,6 +913,7 @@ public class Rs2GameObject {
     }
 
     public static List<GameObject> getGameObjectsWithinDistance(int distance, WorldPoint anchorPoint) {
+        long start = Rs2Profiler.start();
         Scene scene = Microbot.getClient().getScene();
         Tile[][][] tiles = scene.getTiles();
 
@@ -944,10 +952,12 @@ public class Rs2GameObject {
             }
         }
 
-        return tileObjects.stream()
+        List<GameObject> result = tileObjects.stream()
                 .filter(Objects::nonNull)
                 .sorted(Comparator.comparingInt(tile -> tile.getWorldLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation())))
                 .collect(Collectors.toList());
+        Rs2Profiler.stop("scene.gameObjectsWithinDistance", start);
+        return result;
     }
 
     public static List<TileObject> getAll() {
@@ -966,6 +976,7 @@ public class Rs2GameObject {
     }
 
     public static List<GroundObject> getGroundObjects(int distance) {
+        long start = Rs2Profiler.start();
         Scene scene = Microbot.getClient().getScene();
         Tile[][][] tiles = scene.getTiles();
 
@@ -989,10 +1000,12 @@ public class Rs2GameObject {
             }
         }
 
-        return tileObjects.stream()
+        List<GroundObject> result = tileObjects.stream()
                 .filter(Objects::nonNull)
                 .sorted(Comparator.comparingInt(tile -> tile.getWorldLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation())))
                 .collect(Collectors.toList());
+        Rs2Profiler.stop("scene.groundObjects", start);
+        return result;
     }
 
     public static List<WallObject> getWallObjects() {
@@ -1000,6 +1013,7 @@ public class Rs2GameObject {
     }
 
     public static List<WallObject> getWallObjects(int distance) {
+        long start = Rs2Profiler.start();
         Scene scene = Microbot.getClient().getScene();
         Tile[][][] tiles = scene.getTiles();
 
@@ -1020,10 +1034,12 @@ public class Rs2GameObject {
         }
 
 
-        return tileObjects.stream()
+        List<WallObject> result = tileObjects.stream()
                 .filter(Objects::nonNull)
                 .sorted(Comparator.comparingInt(tile -> tile.getWorldLocation().distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation())))
                 .collect(Collectors.toList());
+        Rs2Profiler.stop("scene.wallObjects", start);
+        return result;
     }
 
     public static List<WallObject> getWallObjects(int id, WorldPoint anchorPoint) {
@@ -1067,86 +1083,87 @@ public class Rs2GameObject {
 
         try {
 
-            int param0;
-            int param1;
-            MenuAction menuAction = MenuAction.WALK;
+            NewMenuEntry entry = createMenuEntry(object, action);
+            if (entry == null) return false;
 
-            ObjectComposition objComp = convertGameObjectToObjectComposition(object);
-            if (objComp == null) return false;
+            Microbot.status = action + " " + entry.getTarget();
 
-            Microbot.status = action + " " + objComp.getName();
-
-            if (object instanceof GameObject) {
-                GameObject obj = (GameObject) object;
-                if (obj.sizeX() > 1) {
-                    param0 = obj.getLocalLocation().getSceneX() - obj.sizeX() / 2;
-                } else {
-                    param0 = obj.getLocalLocation().getSceneX();
-                }
-
-                if (obj.sizeY() > 1) {
-                    param1 = obj.getLocalLocation().getSceneY() - obj.sizeY() / 2;
-                } else {
-                    param1 = obj.getLocalLocation().getSceneY();
-                }
-            } else {
-                // Default objects like walls, groundobjects, decorationobjects etc...
-                param0 = object.getLocalLocation().getSceneX();
-                param1 = object.getLocalLocation().getSceneY();
+            if (!Rs2Camera.isTileOnScreen(object.getLocalLocation())) {
+                Rs2Camera.turnTo(object);
             }
 
-            int index = 0;
-            if (action != null) {
-                String[] actions;
-                if (objComp.getImpostorIds() != null) {
-                    actions = objComp.getImpostor().getActions();
-                } else {
-                    actions = objComp.getActions();
-                }
+            Microbot.doInvoke(entry, Rs2UiHelper.getObjectClickbox(object));
+// MenuEntryImpl(getOption=Use, getTarget=Barrier, getIdentifier=43700, getType=GAME_OBJECT_THIRD_OPTION, getParam0=53, getParam1=51, getItemId=-1, isForceLeftClick=true, getWorldViewId=-1, isDeprioritized=false)
+            //Rs2Reflection.invokeMenu(param0, param1, menuAction.getId(), object.getId(),-1, "", "", -1, -1);
 
-                for (int i = 0; i < actions.length; i++) {
-                    if (action.equalsIgnoreCase(actions[i])) {
-                        index = i;
-                        break;
-                    }
-                }
+        } catch (Exception ex) {
+            System.out.println(ex.getMessage());
+        }
 
-                if (index == actions.length)
-                    index = 0;
-            }
+        return true;
+    }
 
-            if (index == -1) {
-                Microbot.log("Failed to interact with object " + object.getId() + " " + action);
-            }
+    /**
+     * Build the menu entry for an action on an object without invoking it. The first action is used
+     * if the object does not have the action.
+     *
+     * @return the menu entry, or null if the object is too far away or has no composition
+     */
+    @Nullable
+    public static NewMenuEntry createMenuEntry(TileObject object, String action) {
+        Player player = Microbot.getClient().getLocalPlayer();
+        if (player.getLocalLocation().distanceTo(object.getLocalLocation()) > 4800) return null;
 
+        Rs2ActionIndex.ActionTable objComp = Rs2ActionIndex.object(object.getId());
+        if (objComp == null) return null;
 
-            if (Microbot.getClient().isWidgetSelected()) {
-                menuAction = MenuAction.WIDGET_TARGET_ON_GAME_OBJECT;
-            } else if (index == 0) {
-                menuAction = MenuAction.GAME_OBJECT_FIRST_OPTION;
-            } else if (index == 1) {
-                menuAction = MenuAction.GAME_OBJECT_SECOND_OPTION;
-            } else if (index == 2) {
-                menuAction = MenuAction.GAME_OBJECT_THIRD_OPTION;
-            } else if (index == 3) {
-                menuAction = MenuAction.GAME_OBJECT_FOURTH_OPTION;
-            } else if (index == 4) {
-                menuAction = MenuAction.GAME_OBJECT_FIFTH_OPTION;
+        int param0;
+        int param1;
+        MenuAction menuAction = MenuAction.WALK;
+
+        if (object instanceof GameObject) {
+            GameObject obj = (GameObject) object;
+            if (obj.sizeX() > 1) {
+                param0 = obj.getLocalLocation().getSceneX() - obj.sizeX() / 2;
+            } else {
+                param0 = obj.getLocalLocation().getSceneX();
             }
 
-            if (!Rs2Camera.isTileOnScreen(object.getLocalLocation())) {
-                Rs2Camera.turnTo(object);
+            if (obj.sizeY() > 1) {
+                param1 = obj.getLocalLocation().getSceneY() - obj.sizeY() / 2;
+            } else {
+                param1 = obj.getLocalLocation().getSceneY();
             }
+        } else {
+            // Default objects like walls, groundobjects, decorationobjects etc...
+            param0 = object.getLocalLocation().getSceneX();
+            param1 = object.getLocalLocation().getSceneY();
+        }
 
-            Microbot.doInvoke(new NewMenuEntry(param0, param1, menuAction.getId(), object.getId(), -1, action, objComp.getName(), object), Rs2UiHelper.getObjectClickbox(object));
-// MenuEntryImpl(getOption=Use, getTarget=Barrier, getIdentifier=43700, getType=GAME_OBJECT_THIRD_OPTION, getParam0=53, getParam1=51, getItemId=-1, isForceLeftClick=true, getWorldViewId=-1, isDeprioritized=false)
-            //Rs2Reflection.invokeMenu(param0, param1, menuAction.getId(), object.getId(),-1, "", "", -1, -1);
+        int index = 0;
+        if (action != null) {
+            // impostors depend on varbits, so only their base composition is cached
+            Rs2ActionIndex.ActionTable actions = objComp.isImpostor() ? Rs2ActionIndex.objectImpostor(object.getId()) : objComp;
+            if (actions != null) {
+                index = Math.max(actions.indexOf(action), 0);
+            }
+        }
 
-        } catch (Exception ex) {
-            System.out.println(ex.getMessage());
+        if (Microbot.getClient().isWidgetSelected()) {
+            menuAction = MenuAction.WIDGET_TARGET_ON_GAME_OBJECT;
+        } else if (index == 0) {
+            menuAction = MenuAction.GAME_OBJECT_FIRST_OPTION;
+        } else if (index == 1) {
+            menuAction = MenuAction.GAME_OBJECT_SECOND_OPTION;
+        } else if (index == 2) {
+            menuAction = MenuAction.GAME_OBJECT_THIRD_OPTION;
+        } else if (index == 3) {
+            menuAction = MenuAction.GAME_OBJECT_FOURTH_OPTION;
+        } else if (index == 4) {
+            menuAction = MenuAction.GAME_OBJECT_FIFTH_OPTION;
         }
 
-        return true;
+        return new NewMenuEntry(param0, param1, menuAction.getId(), object.getId(), -1, action, objComp.getName(), object);
     }
 
     public static boolean hasLineOfSight(TileObject tileObject) {
@@ -1173,31 +1190,18 @@ public class Rs2GameObject {
         }
     }
 
-    @SneakyThrows
+    /**
+     * @return a new list of the ids of the {@link ObjectID} constants whose name contains the fragment,
+     * eg. "bank_booth", in declaration order. Case is ignored, where only a lower case fragment used to
+     * match; every caller passes one.
+     */
     public static List<Integer> getObjectIdsByName(String name) {
-        List<Integer> ids = new ArrayList<>();
-        ObjectID objectID = new ObjectID();
-        Class<?> objectIDClass = ObjectID.class;
-
-        // Loop through all declared fields of the class
-        for (Field field : objectIDClass.getDeclaredFields()) {
-
-            // Get the name of the current field
-            String fieldName = field.getName();
-
-            // Check if the current field's name matches the desired property name
-            if (fieldName.toLowerCase().contains(name)) {
-                field.setAccessible(true);
-                int propertyValue = (int) field.get(objectID);
-                ids.add(propertyValue);
-            }
-        }
-        return ids;
+        return ConstantIndex.of(ObjectID.class).byFragment(name);
     }
 
     @Nullable
     public static ObjectComposition getObjectComposition(int id) {
-        ObjectComposition objectComposition = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getObjectDefinition(id));
+        ObjectComposition objectComposition = Microbot.runOnClientThread(() -> Microbot.getClient().getObjectDefinition(id));
         return objectComposition.getImpostorIds() == null ? objectComposition : objectComposition.getImpostor();
     }
 
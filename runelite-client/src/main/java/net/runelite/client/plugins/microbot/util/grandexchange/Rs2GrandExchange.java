@@ -5,6 +5,7 @@ import net.runelite.api.NPC;
 import net.runelite.api.widgets.ComponentID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
+import net.runelite.client.game.ItemNameIndex;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
 import net.runelite.client.plugins.microbot.util.bank.enums.BankLocation;
@@ -15,6 +16,7 @@ import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
+import net.runelite.http.api.item.ItemPrice;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.Arrays;
@@ -32,6 +34,7 @@ public class Rs2GrandExchange {
     public static final int GRAND_EXCHANGE_OFFER_CONTAINER_QTY_X = 30474265;
     public static final int GRAND_EXCHANGE_OFFER_CONTAINER_QTY_1 = 30474265;
     public static final int COLLECT_BUTTON = 30474246;
+    private static final int MAX_FUZZY_RESULTS = 10;
 
     /**
      * close the grand exchange interface
@@ -50,7 +53,7 @@ public class Rs2GrandExchange {
      */
     public static boolean isOpen() {
         Microbot.status = "Checking if Grand Exchange is open";
-        return !Microbot.getClientThread().runOnClientThread(() -> Rs2Widget.getWidget(WidgetInfo.GRAND_EXCHANGE_WINDOW_CONTAINER) == null
+        return !Microbot.runOnClientThread(() -> Rs2Widget.getWidget(WidgetInfo.GRAND_EXCHANGE_WINDOW_CONTAINER) == null
                 || Rs2Widget.getWidget(WidgetInfo.GRAND_EXCHANGE_WINDOW_CONTAINER).isHidden());
     }
 
@@ -124,6 +127,11 @@ public class Rs2GrandExchange {
             sleepUntil(() -> !Rs2Widget.hasWidget("Start typing the name"), 5000); //GE Search Results
             sleep(1200);
             Pair<Widget, Integer> itemResult = getSearchResultWidget(itemName);
+            if (itemResult == null) {
+                // the result may be listed under a slightly different name, the id is exact
+                int itemId = getItemId(itemName);
+                if (itemId != -1) itemResult = getSearchResultWidget(itemId);
+            }
             if (itemResult != null) {
                 Rs2Widget.clickWidgetFast(itemResult.getLeft(), itemResult.getRight(), 1);
                 sleepUntil(() -> getPricePerItemButton_X() != null);
@@ -401,6 +409,24 @@ public class Rs2GrandExchange {
         return Rs2Inventory.isEmpty();
     }
 
+    /**
+     * @return the id of the tradeable item with the name, ignoring case, or -1 if it is not known
+     */
+    public static int getItemId(String itemName) {
+        ItemPrice item = Microbot.getItemManager().getItemNameIndex().get(itemName);
+        return item == null ? -1 : item.getId();
+    }
+
+    /**
+     * @return the tradeable items whose name contains the query, ignoring case, or the items with the
+     * closest names if there are none
+     */
+    public static List<ItemPrice> searchItems(String query) {
+        ItemNameIndex index = Microbot.getItemManager().getItemNameIndex();
+        List<ItemPrice> items = index.search(query);
+        return items.isEmpty() ? index.fuzzy(query, MAX_FUZZY_RESULTS) : items;
+    }
+
     public static Pair<Widget, Integer> getSearchResultWidget(String search) {
         Widget parent = Microbot.getClient().getWidget(ComponentID.CHATBOX_GE_SEARCH_RESULTS);
 
@@ -60,7 +60,7 @@ public class Rs2GroundItem {
             MenuAction menuAction = MenuAction.CANCEL;
             ItemComposition item;
 
-            item = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getItemDefinition(groundItem.getId()));
+            item = Microbot.runOnClientThread(() -> Microbot.getClient().getItemDefinition(groundItem.getId()));
             identifier = groundItem.getId();
 
             LocalPoint localPoint = LocalPoint.fromWorld(Microbot.getClient(), groundItem.getLocation());
@@ -138,7 +138,7 @@ public class Rs2GroundItem {
      * @return An array of the ground items on the specified tile.
      */
     public static RS2Item[] getAllAt(int x, int y) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             if (!Microbot.isLoggedIn()) {
                 return null;
             }
@@ -214,7 +214,7 @@ public class Rs2GroundItem {
 
     public static boolean loot(String lootItem, int minQuantity, int range) {
         if (Rs2Inventory.isFull(lootItem)) return false;
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThread(() ->
+        RS2Item[] groundItems = Microbot.runOnClientThread(() ->
                 Rs2GroundItem.getAll(range)
         );
         for (RS2Item rs2Item : groundItems) {
@@ -227,13 +227,13 @@ public class Rs2GroundItem {
     }
 
     public static boolean lootItemBasedOnValue(int value, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThread(() ->
+        RS2Item[] groundItems = Microbot.runOnClientThread(() ->
                 Rs2GroundItem.getAll(range)
         );
         final int invSize = Rs2Inventory.size();
         for (RS2Item rs2Item : groundItems) {
             if (!hasLineOfSight(rs2Item.getTile())) continue;
-            long totalPrice = (long) Microbot.getClientThread().runOnClientThread(() ->
+            long totalPrice = (long) Microbot.runOnClientThread(() ->
                     Microbot.getItemManager().getItemPrice(rs2Item.getItem().getId()) * rs2Item.getTileItem().getQuantity());
             if (totalPrice >= value) {
                 if (Rs2Inventory.isFull()) {
@@ -403,11 +403,11 @@ public class Rs2GroundItem {
     }
 
     public static boolean isItemBasedOnValueOnGround(int value, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThread(() ->
+        RS2Item[] groundItems = Microbot.runOnClientThread(() ->
                 Rs2GroundItem.getAll(range)
         );
         for (RS2Item rs2Item : groundItems) {
-            long totalPrice = (long) Microbot.getClientThread().runOnClientThread(() ->
+            long totalPrice = (long) Microbot.runOnClientThread(() ->
                     Microbot.getItemManager().getItemPrice(rs2Item.getItem().getId()) * rs2Item.getTileItem().getQuantity());
             if (totalPrice >= value) {
                 return true;
@@ -418,13 +418,13 @@ public class Rs2GroundItem {
 
     @Deprecated(since="1.4.6", forRemoval = true)
     public static boolean lootAllItemBasedOnValue(int value, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThread(() ->
+        RS2Item[] groundItems = Microbot.runOnClientThread(() ->
                 Rs2GroundItem.getAll(range)
         );
         Rs2Inventory.dropEmptyVials();
         for (RS2Item rs2Item : groundItems) {
             if (Rs2Inventory.isFull(rs2Item.getItem().getName())) continue;
-            long totalPrice = (long) Microbot.getClientThread().runOnClientThread(() ->
+            long totalPrice = (long) Microbot.runOnClientThread(() ->
                     Microbot.getItemManager().getItemPrice(rs2Item.getItem().getId()) * rs2Item.getTileItem().getQuantity());
             if (totalPrice >= value) {
                 return interact(rs2Item);
@@ -436,7 +436,7 @@ public class Rs2GroundItem {
     @Deprecated(since="1.4.6", forRemoval = true)
     public static boolean loot(int itemId) {
         if (Rs2Inventory.isFull(itemId)) return false;
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThread(() ->
+        RS2Item[] groundItems = Microbot.runOnClientThread(() ->
                 Rs2GroundItem.getAll(50)
         );
         for (RS2Item rs2Item : groundItems) {
@@ -469,7 +469,7 @@ public class Rs2GroundItem {
     }
 
     public static boolean interact(String itemName, String action, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThread(() -> Rs2GroundItem.getAll(range));
+        RS2Item[] groundItems = Microbot.runOnClientThread(() -> Rs2GroundItem.getAll(range));
         for (RS2Item rs2Item : groundItems) {
             if (rs2Item.getItem().getName().equalsIgnoreCase(itemName)) {
                 interact(rs2Item, action);
@@ -480,7 +480,7 @@ public class Rs2GroundItem {
     }
 
     public static boolean interact(int itemId, String action, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThread(() -> Rs2GroundItem.getAll(range));
+        RS2Item[] groundItems = Microbot.runOnClientThread(() -> Rs2GroundItem.getAll(range));
         for (RS2Item rs2Item : groundItems) {
             if (rs2Item.getItem().getId() == itemId) {
                 interact(rs2Item, action);
@@ -491,7 +491,7 @@ public class Rs2GroundItem {
     }
 
     public static boolean exists(String itemName, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThread(() -> Rs2GroundItem.getAll(range));
+        RS2Item[] groundItems = Microbot.runOnClientThread(() -> Rs2GroundItem.getAll(range));
         for (RS2Item rs2Item : groundItems) {
             if (rs2Item.getItem().getName().equalsIgnoreCase(itemName)) {
                 return true;
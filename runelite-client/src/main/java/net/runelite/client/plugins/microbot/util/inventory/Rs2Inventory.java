@@ -10,6 +10,8 @@ import net.runelite.client.plugins.microbot.globval.enums.InterfaceTab;
 import net.runelite.client.plugins.microbot.qualityoflife.scripts.pouch.Pouch;
 import net.runelite.client.plugins.microbot.util.antiban.Rs2AntibanSettings;
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
+import net.runelite.client.plugins.microbot.util.container.ContainerIndex;
+import net.runelite.client.plugins.microbot.util.container.Rs2ContainerTracker;
 import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
 import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
 import net.runelite.client.plugins.microbot.util.grandexchange.Rs2GrandExchange;
@@ -45,6 +47,7 @@ public class Rs2Inventory {
     private static final int COLUMNS = 4;
     private static final int ROWS = 7;
     public static List<Rs2Item> inventoryItems = new ArrayList<>();
+    private static volatile ContainerIndex inventoryIndex;
     private static boolean isTrackingInventory = false;
     private static boolean isInventoryChanged = false;
 
@@ -57,14 +60,18 @@ public class Rs2Inventory {
             if (isTrackingInventory) {
                 isInventoryChanged = true;
             }
+            Item[] items = e.getItemContainer().getItems();
+            Rs2ItemCache.load(items);
             List<Rs2Item> _inventoryItems = new ArrayList<>();
-            for (int i = 0; i < e.getItemContainer().getItems().length; i++) {
-                Item item = inventory().getItems()[i];
+            for (int i = 0; i < items.length; i++) {
+                Item item = items[i];
                 if (item.getId() == -1) continue;
-                ItemComposition itemComposition = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getItemDefinition(item.getId()));
-                _inventoryItems.add(new Rs2Item(item, itemComposition, i));
+                Rs2ItemCache.ItemInfo info = Rs2ItemCache.get(item.getId());
+                if (info == null) continue;
+                _inventoryItems.add(new Rs2Item(item, info, i));
             }
             inventoryItems = _inventoryItems;
+            Rs2ContainerTracker.update(InventoryID.INVENTORY.getId(), items.length, _inventoryItems);
         }
     }
 
@@ -72,6 +79,19 @@ public class Rs2Inventory {
         return inventoryItems;
     }
 
+    /**
+     * @return the index of {@link #items()}, rebuilt when the inventory changes
+     */
+    private static ContainerIndex index() {
+        List<Rs2Item> items = items();
+        ContainerIndex index = inventoryIndex;
+        if (index == null || !index.isFor(items)) {
+            index = new ContainerIndex(items);
+            inventoryIndex = index;
+        }
+        return index;
+    }
+
     /**
      * Gets all the items in the inventory.
      *
@@ -160,8 +180,9 @@ public class Rs2Inventory {
      * @return true if the items were successfully combined, false otherwise
      */
     public static boolean combineClosest(String primaryItemName, String secondaryItemName) {
-        List<Rs2Item> primaryItems = items().stream().filter(x -> x.name.equalsIgnoreCase(primaryItemName)).collect(Collectors.toList());
-        List<Rs2Item> secondaryItems = items().stream().filter(x -> x.name.equalsIgnoreCase(secondaryItemName)).collect(Collectors.toList());
+        ContainerIndex index = index();
+        List<Rs2Item> primaryItems = index.byName(primaryItemName);
+        List<Rs2Item> secondaryItems = index.byName(secondaryItemName);
 
         if (primaryItems.isEmpty() || secondaryItems.isEmpty()) return false;
 
@@ -198,8 +219,9 @@ public class Rs2Inventory {
      * @return true if the items were successfully combined, false otherwise
      */
     public static boolean combineClosest(int primaryItemId, int secondaryItemId) {
-        List<Rs2Item> primaryItems = items().stream().filter(x -> x.id == primaryItemId).collect(Collectors.toList());
-        List<Rs2Item> secondaryItems = items().stream().filter(x -> x.id == secondaryItemId).collect(Collectors.toList());
+        ContainerIndex index = index();
+        List<Rs2Item> primaryItems = index.byId(primaryItemId);
+        List<Rs2Item> secondaryItems = index.byId(secondaryItemId);
 
         if (primaryItems.isEmpty() || secondaryItems.isEmpty()) return false;
 
@@ -243,7 +265,7 @@ public class Rs2Inventory {
      * @return True if the inventory contains an item with the given ID, false otherwise.
      */
     public static boolean contains(int id) {
-        return items().stream().anyMatch(x -> x.id == id);
+        return index().first(id) != null;
     }
 
     /**
@@ -276,7 +298,7 @@ public class Rs2Inventory {
      * @return True if the inventory contains an item with the specified name, false otherwise.
      */
     public static boolean contains(String name) {
-        return items().stream().anyMatch(x -> name.equalsIgnoreCase(x.name));
+        return index().first(name, true) != null;
     }
 
     /**
@@ -331,7 +353,7 @@ public class Rs2Inventory {
      * @return The count of items that match the ID.
      */
     public static int count(int id) {
-        return (int) items().stream().filter(x -> x.id == id).count();
+        return index().byId(id).size();
     }
 
     /**
@@ -351,7 +373,7 @@ public class Rs2Inventory {
      * @return The count of items that match the name.
      */
     public static int count(String name) {
-        return (int) items().stream().filter(x -> x.name.toLowerCase().contains(name.toLowerCase())).count();
+        return index().count(name, false);
     }
 
     /**
@@ -720,7 +742,7 @@ public class Rs2Inventory {
                 new ArrayList<>(items())) {
             if (item == null) continue;
             if (ignoreItems.stream().anyMatch(x -> x.equalsIgnoreCase(item.name))) continue;
-            long totalPrice = (long) Microbot.getClientThread().runOnClientThread(() ->
+            long totalPrice = (long) Microbot.runOnClientThread(() ->
                     Microbot.getItemManager().getItemPrice(item.id) * item.quantity);
             if (totalPrice >= gpValue) continue;
 
@@ -787,7 +809,7 @@ public class Rs2Inventory {
      * @return The first item that matches the ID, or null if not found.
      */
     public static Rs2Item get(int id) {
-        return items().stream().filter(x -> x.id == id).findFirst().orElse(null);
+        return index().first(id);
     }
 
     /**
@@ -822,10 +844,7 @@ public class Rs2Inventory {
      * @return The item with the specified name, or null if not found.
      */
     public static Rs2Item get(String name, boolean exact) {
-        if (exact)
-            return items().stream().filter(x -> x.name.equalsIgnoreCase(name)).findFirst().orElse(null);
-        else
-            return items().stream().filter(x -> x.name.toLowerCase().contains(name.toLowerCase())).findFirst().orElse(null);
+        return index().first(name, exact);
     }
 
     /**
@@ -891,7 +910,7 @@ public class Rs2Inventory {
         if (rs2Item.isStackable) {
             return rs2Item.quantity >= amount;
         } else {
-            return items().stream().filter(x -> x.id == id).count() >= amount;
+            return count(id) >= amount;
         }
     }
 
@@ -906,7 +925,7 @@ public class Rs2Inventory {
      */
     public static boolean hasItemAmount(int id, int amount, boolean stackable) {
         Rs2Item item = get(id);
-        return stackable ? item.quantity >= amount : items().stream().filter(x -> x.id == id).count() >= amount;
+        return stackable ? item.quantity >= amount : count(id) >= amount;
     }
 
     /**
@@ -936,7 +955,7 @@ public class Rs2Inventory {
             if (rs2Item.isStackable()) {
                 return rs2Item.quantity;
             } else {
-                return items().stream().filter(x -> x.id == id).count();
+                return count(id);
             }
         } else {
             return 0;
@@ -956,7 +975,7 @@ public class Rs2Inventory {
             if (rs2Item.isStackable()) {
                 return rs2Item.quantity;
             } else {
-                return items().stream().filter(x -> x.id == rs2Item.getId()).count();
+                return count(rs2Item.getId());
             }
         } else {
             return 0;
@@ -988,11 +1007,7 @@ public class Rs2Inventory {
      */
     public static boolean hasItemAmount(String name, int amount, boolean stackable, boolean exact) {
         if (!stackable) {
-            if (exact) {
-                return items().stream().filter(x -> x.name.equalsIgnoreCase(name)).count() >= amount;
-            } else {
-                return items().stream().filter(x -> x.name.toLowerCase().contains(name.toLowerCase())).count() >= amount;
-            }
+            return index().count(name, exact) >= amount;
         }
 
         Rs2Item item = get(name, exact);
@@ -2065,38 +2080,30 @@ public class Rs2Inventory {
         int param1;
         int identifier = -1;
         MenuAction menuAction = MenuAction.CC_OP;
-        Widget[] inventoryWidgets;
         param0 = rs2Item.slot;
-        boolean isDepositBoxOpen = !Microbot.getClientThread().runOnClientThread(() -> Rs2Widget.getWidget(WidgetInfo.DEPOSIT_BOX_INVENTORY_ITEMS_CONTAINER) == null
-                || Rs2Widget.getWidget(WidgetInfo.DEPOSIT_BOX_INVENTORY_ITEMS_CONTAINER).isHidden());
-        if (Rs2Bank.isOpen()) {
-            param1 = ComponentID.BANK_INVENTORY_ITEM_CONTAINER;
-            inventoryWidgets = Rs2Widget.getWidget(ComponentID.BANK_INVENTORY_ITEM_CONTAINER).getChildren();
-        } else if (isDepositBoxOpen) {
-            param1 = ComponentID.DEPOSIT_BOX_INVENTORY_ITEM_CONTAINER;
-            inventoryWidgets = Rs2Widget.getWidget(ComponentID.DEPOSIT_BOX_INVENTORY_ITEM_CONTAINER).getChildren();
-        } else if (Rs2GrandExchange.isOpen()) {
-            param1 = ComponentID.GRAND_EXCHANGE_INVENTORY_INVENTORY_ITEM_CONTAINER;
-            inventoryWidgets = Rs2Widget.getWidget(ComponentID.GRAND_EXCHANGE_INVENTORY_INVENTORY_ITEM_CONTAINER).getChildren();
-        } else if (Rs2Shop.isOpen()) {
-            param1 = 19726336;
-            inventoryWidgets = Rs2Widget.getWidget(19726336).getChildren();
-        } else {
-            param1 = ComponentID.INVENTORY_CONTAINER;
-            inventoryWidgets = Rs2Widget.getWidget(ComponentID.INVENTORY_CONTAINER).getChildren();
-        }
 
-        if (!action.isEmpty()) {
-            assert inventoryWidgets != null;
-            var itemWidget = Arrays.stream(inventoryWidgets).filter(x -> x != null && x.getIndex() == rs2Item.slot).findFirst().orElseGet(null);
+        // the bank check can enter the bank pin, so it can't run on the client thread
+        boolean isBankOpen = Rs2Bank.isOpen();
+        // find the open item container and the actions of the item in a single client thread round trip
+        ItemTarget target = Microbot.runOnClientThread(() -> {
+            int containerId = getOpenItemContainerId(isBankOpen);
+            Widget container = Rs2Widget.getWidget(containerId);
+            String[] actions = null;
+            if (!action.isEmpty() && container != null && container.getChildren() != null) {
+                actions = Arrays.stream(container.getChildren())
+                        .filter(x -> x != null && x.getIndex() == rs2Item.slot)
+                        .findFirst()
+                        .map(Widget::getActions)
+                        .orElse(null);
+            }
+            return new ItemTarget(containerId, actions);
+        });
+        param1 = target.containerId;
 
-            String[] actions = itemWidget != null && itemWidget.getActions() != null ?
-                    itemWidget.getActions() :
-                    rs2Item.getInventoryActions();
+        if (!action.isEmpty()) {
+            String[] actions = target.actions != null ? target.actions : rs2Item.getInventoryActions();
 
             identifier = indexOfIgnoreCase(stripColTags(actions), action) + 1;
-
-            System.out.println(identifier);
         }
 
 
@@ -2116,9 +2123,36 @@ public class Rs2Inventory {
         }
     }
 
+    private static final class ItemTarget {
+        private final int containerId;
+        private final String[] actions;
+
+        private ItemTarget(int containerId, String[] actions) {
+            this.containerId = containerId;
+            this.actions = actions;
+        }
+    }
+
+    /**
+     * @return the component id of the item container the inventory is shown in, must be called on the client thread
+     */
+    private static int getOpenItemContainerId(boolean isBankOpen) {
+        Widget depositBox = Rs2Widget.getWidget(WidgetInfo.DEPOSIT_BOX_INVENTORY_ITEMS_CONTAINER);
+        if (isBankOpen) {
+            return ComponentID.BANK_INVENTORY_ITEM_CONTAINER;
+        } else if (depositBox != null && !depositBox.isHidden()) {
+            return ComponentID.DEPOSIT_BOX_INVENTORY_ITEM_CONTAINER;
+        } else if (Rs2GrandExchange.isOpen()) {
+            return ComponentID.GRAND_EXCHANGE_INVENTORY_INVENTORY_ITEM_CONTAINER;
+        } else if (Rs2Shop.isOpen()) {
+            return 19726336;
+        }
+        return ComponentID.INVENTORY_CONTAINER;
+    }
+
     private static Widget getInventory() {
         final int BANK_PIN_INVENTORY_ITEM_CONTAINER = 17563648;
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget inventoryWidget = Microbot.getClient().getWidget(ComponentID.INVENTORY_CONTAINER);
             Widget bankInventoryWidget = Microbot.getClient().getWidget(ComponentID.BANK_INVENTORY_ITEM_CONTAINER);
             Widget bankPinInventoryWidget = Microbot.getClient().getWidget(BANK_PIN_INVENTORY_ITEM_CONTAINER);
@@ -2165,15 +2199,19 @@ public class Rs2Inventory {
         }
     }
 
+    /**
+     * Repeat the action until the quantity of an item in the inventory changes. Moving items between
+     * slots does not count as a change.
+     */
     public static boolean waitForInventoryChanges(Runnable actionWhileWaiting) {
-        final int currentInventorySize = size();
-        final int currentInventoryStackableSize = stackableSize();
+        final int containerId = InventoryID.INVENTORY.getId();
+        final long version = Rs2ContainerTracker.getQuantityVersion(containerId);
         sleepUntil(() ->  {
             actionWhileWaiting.run();
-            sleepUntil(() -> currentInventorySize != size() || currentInventoryStackableSize != stackableSize(), Random.random(600, 2100));
-            return currentInventorySize != size() || currentInventoryStackableSize != stackableSize();
+            sleepUntil(() -> version != Rs2ContainerTracker.getQuantityVersion(containerId), Random.random(600, 2100));
+            return version != Rs2ContainerTracker.getQuantityVersion(containerId);
         });
-        return currentInventorySize != size() || currentInventoryStackableSize != stackableSize();
+        return version != Rs2ContainerTracker.getQuantityVersion(containerId);
     }
 
     /**
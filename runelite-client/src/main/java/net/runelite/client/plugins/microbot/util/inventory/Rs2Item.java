@@ -45,13 +45,26 @@ public class Rs2Item {
         this.slot = slot;
         this.isStackable = itemComposition.isStackable();
         this.isNoted = itemComposition.getNote() == 799;
+        Rs2ItemCache.ItemInfo unnoted = this.isNoted ? Rs2ItemCache.get(this.id - 1) : null;
         this.isTradeable = this.isNoted
-                ? Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getItemDefinition(this.id - 1)).isTradeable()
+                ? unnoted != null && unnoted.isTradeable()
                 : itemComposition.isTradeable();
         this.inventoryActions = itemComposition.getInventoryActions();
         addEquipmentActions(itemComposition);
     }
 
+    public Rs2Item(Item item, Rs2ItemCache.ItemInfo info, int slot) {
+        this.id = item.getId();
+        this.quantity = item.getQuantity();
+        this.name = info.getName();
+        this.slot = slot;
+        this.isStackable = info.isStackable();
+        this.isNoted = info.isNoted();
+        this.isTradeable = info.isTradeable();
+        this.inventoryActions = info.getInventoryActions();
+        this.equipmentActions = info.getEquipmentActions();
+    }
+
     public boolean isFood() {
         return Arrays.stream(inventoryActions).anyMatch(x -> x != null && x.equalsIgnoreCase("eat"));
     }
@@ -68,7 +81,7 @@ public class Rs2Item {
     }
 
     public int getPrice() {
-        return Microbot.getClientThread().runOnClientThread(() ->
+        return Microbot.runOnClientThread(() ->
                 Microbot.getItemManager().getItemPrice(id) * quantity);
     }
 
@@ -0,0 +1,181 @@
+package net.runelite.client.plugins.microbot.util.inventory;
+
+import lombok.Getter;
+import net.runelite.api.Item;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.ParamID;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Caches the item compositions used by the item containers, indexed by item id.
+ * <p>
+ * Containers are loaded with {@link #load(Item[])}, which fetches every id that is not cached yet in a
+ * single client thread hop, so a full bank costs one hop the first time it is opened and none after.
+ * Lookups are a plain array read and never block. The cache is dropped on login and world hop.
+ */
+public final class Rs2ItemCache {
+    private static final int INITIAL_CAPACITY = 32768;
+    private static final int[] EQUIPMENT_ACTION_PARAMS = {
+            ParamID.OC_ITEM_OP1,
+            ParamID.OC_ITEM_OP2,
+            ParamID.OC_ITEM_OP3,
+            ParamID.OC_ITEM_OP4,
+            ParamID.OC_ITEM_OP5,
+            ParamID.OC_ITEM_OP6,
+            ParamID.OC_ITEM_OP7,
+            ParamID.OC_ITEM_OP8};
+
+    // written under the class lock, read without it
+    private static volatile ItemInfo[] table = new ItemInfo[INITIAL_CAPACITY];
+    private static int generation;
+
+    private Rs2ItemCache() {
+    }
+
+    /**
+     * @return the cached composition of the item, fetching it on the client thread if it is not cached,
+     * or null if the id is not an item
+     */
+    @Nullable
+    public static ItemInfo get(int itemId) {
+        if (itemId < 0) {
+            return null;
+        }
+        ItemInfo info = peek(itemId);
+        if (info != null) {
+            return info;
+        }
+        load(new int[]{itemId}, 1);
+        return peek(itemId);
+    }
+
+    /**
+     * @return the cached composition of the item, or null if it has not been loaded
+     */
+    @Nullable
+    public static ItemInfo peek(int itemId) {
+        ItemInfo[] t = table;
+        return itemId >= 0 && itemId < t.length ? t[itemId] : null;
+    }
+
+    /**
+     * Make sure the compositions of all the items of a container are cached, fetching the missing ones
+     * in a single client thread hop.
+     */
+    public static void load(Item[] items) {
+        if (items == null) {
+            return;
+        }
+        int[] missing = new int[items.length];
+        int count = 0;
+        for (Item item : items) {
+            if (item != null && item.getId() >= 0 && peek(item.getId()) == null) {
+                missing[count++] = item.getId();
+            }
+        }
+        if (count > 0) {
+            load(missing, count);
+        }
+    }
+
+    private static void load(int[] ids, int count) {
+        int expected;
+        synchronized (Rs2ItemCache.class) {
+            expected = generation;
+        }
+        ItemInfo[] loaded = Microbot.runOnClientThread(() -> {
+            ItemInfo[] infos = new ItemInfo[count];
+            for (int i = 0; i < count; i++) {
+                // duplicates in a container only need to be read once
+                if (peek(ids[i]) == null) {
+                    infos[i] = read(ids[i]);
+                }
+            }
+            return infos;
+        });
+        if (loaded == null) {
+            return;
+        }
+
+        synchronized (Rs2ItemCache.class) {
+            // the cache was dropped while we were waiting for the client thread
+            if (generation != expected) {
+                return;
+            }
+            ItemInfo[] t = table;
+            for (ItemInfo info : loaded) {
+                if (info == null) {
+                    continue;
+                }
+                if (info.id >= t.length) {
+                    t = Arrays.copyOf(t, Math.max(t.length * 2, info.id + 1));
+                }
+                t[info.id] = info;
+            }
+            table = t;
+        }
+    }
+
+    private static ItemInfo read(int itemId) {
+        ItemComposition composition = Microbot.getClient().getItemDefinition(itemId);
+        if (composition == null) {
+            return null;
+        }
+        boolean noted = composition.getNote() == 799;
+        boolean tradeable = composition.isTradeable();
+        if (noted) {
+            ItemComposition unnoted = Microbot.getClient().getItemDefinition(composition.getLinkedNoteId());
+            tradeable = unnoted != null && unnoted.isTradeable();
+        }
+        return new ItemInfo(itemId, composition, noted, tradeable);
+    }
+
+    public static void invalidate() {
+        synchronized (Rs2ItemCache.class) {
+            generation++;
+            table = new ItemInfo[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * The parts of an item composition used by the item containers. The action arrays are shared and
+     * must not be modified.
+     */
+    @Getter
+    public static final class ItemInfo {
+        private final int id;
+        private final String name;
+        private final boolean stackable;
+        private final boolean noted;
+        private final boolean tradeable;
+        private final boolean placeholder;
+        private final String[] inventoryActions;
+        private final List<String> equipmentActions;
+
+        ItemInfo(int id, ItemComposition composition, boolean noted, boolean tradeable) {
+            this.id = id;
+            this.name = composition.getName();
+            this.stackable = composition.isStackable();
+            this.noted = noted;
+            this.tradeable = tradeable;
+            this.placeholder = composition.getPlaceholderTemplateId() > 0;
+            this.inventoryActions = composition.getInventoryActions();
+
+            List<String> actions = new ArrayList<>(EQUIPMENT_ACTION_PARAMS.length);
+            for (int param : EQUIPMENT_ACTION_PARAMS) {
+                try {
+                    actions.add(composition.getStringValue(param));
+                } catch (Exception ex) {
+                    actions.add("");
+                }
+            }
+            this.equipmentActions = Collections.unmodifiableList(actions);
+        }
+    }
+}
@@ -203,10 +203,10 @@ public class Rs2Magic {
     private static void alch(Widget alch, Rs2Item item, int sleepMin, int sleepMax) {
         if (alch == null) return;
         Point point = new Point((int) alch.getBounds().getCenterX(), (int) alch.getBounds().getCenterY());
-        sleepUntil(() -> Microbot.getClientThread().runOnClientThread(() -> Rs2Tab.getCurrentTab() == InterfaceTab.MAGIC), 5000);
+        sleepUntil(() -> Microbot.runOnClientThread(() -> Rs2Tab.getCurrentTab() == InterfaceTab.MAGIC), 5000);
         sleep(sleepMin, sleepMax);
         Microbot.getMouse().click(point);
-        sleepUntil(() -> Microbot.getClientThread().runOnClientThread(() -> Rs2Tab.getCurrentTab() == InterfaceTab.INVENTORY), 5000);
+        sleepUntil(() -> Microbot.runOnClientThread(() -> Rs2Tab.getCurrentTab() == InterfaceTab.INVENTORY), 5000);
         sleep(sleepMin, sleepMax);
         if (item == null) {
             Microbot.status = "Alching x: " + point.getX() + " y: " + point.getY();
@@ -220,10 +220,10 @@ public class Rs2Magic {
     private static void superHeat(Widget superheat, Rs2Item item, int sleepMin, int sleepMax) {
         if (superheat == null) return;
         Point point = new Point((int) superheat.getBounds().getCenterX(), (int) superheat.getBounds().getCenterY());
-        sleepUntil(() -> Microbot.getClientThread().runOnClientThread(() -> Rs2Tab.getCurrentTab() == InterfaceTab.MAGIC), 5000);
+        sleepUntil(() -> Microbot.runOnClientThread(() -> Rs2Tab.getCurrentTab() == InterfaceTab.MAGIC), 5000);
         sleep(sleepMin, sleepMax);
         Microbot.getMouse().click(point);
-        sleepUntil(() -> Microbot.getClientThread().runOnClientThread(() -> Rs2Tab.getCurrentTab() == InterfaceTab.INVENTORY), 5000);
+        sleepUntil(() -> Microbot.runOnClientThread(() -> Rs2Tab.getCurrentTab() == InterfaceTab.INVENTORY), 5000);
         sleep(sleepMin, sleepMax);
         if (item == null) {
             Microbot.status = "Superheating x: " + point.getX() + " y: " + point.getY();
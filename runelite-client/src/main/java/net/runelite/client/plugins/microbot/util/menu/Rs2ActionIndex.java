@@ -0,0 +1,165 @@
+package net.runelite.client.plugins.microbot.util.menu;
+
+import lombok.Getter;
+import net.runelite.api.NPCComposition;
+import net.runelite.api.ObjectComposition;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemCache;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the menu action index of every action of npc, object and item compositions, so interactions
+ * look an action up instead of fetching the composition on the client thread and scanning its actions.
+ * <p>
+ * Compositions only change when the game cache is updated, so the tables are dropped on login and world hop.
+ * Objects with impostors depend on varbits, so their actions are resolved through {@link #objectImpostor(int)}.
+ */
+public final class Rs2ActionIndex {
+    private static final Map<Integer, ActionTable> npcs = new ConcurrentHashMap<>();
+    private static final Map<Integer, ActionTable> objects = new ConcurrentHashMap<>();
+    private static final Map<Integer, ActionTable> items = new ConcurrentHashMap<>();
+
+    private Rs2ActionIndex() {
+    }
+
+    /**
+     * @return the actions of the npc composition, or null if there is no such composition
+     */
+    @Nullable
+    public static ActionTable npc(int npcId) {
+        ActionTable table = npcs.get(npcId);
+        if (table != null) {
+            return table;
+        }
+
+        NPCComposition composition = Microbot.runOnClientThread(() -> Microbot.getClient().getNpcDefinition(npcId));
+        if (composition == null) {
+            return null;
+        }
+        table = new ActionTable(composition.getName(), composition.getActions(), false);
+        npcs.put(npcId, table);
+        return table;
+    }
+
+    /**
+     * @return the actions of the object composition, or null if there is no such composition. If the object
+     * has impostors, {@link ActionTable#isImpostor()} is set and the actions are those of the base composition.
+     */
+    @Nullable
+    public static ActionTable object(int objectId) {
+        ActionTable table = objects.get(objectId);
+        if (table != null) {
+            return table;
+        }
+
+        ObjectComposition composition = Microbot.runOnClientThread(() -> Microbot.getClient().getObjectDefinition(objectId));
+        if (composition == null) {
+            return null;
+        }
+        return cacheObject(objectId, composition);
+    }
+
+    /**
+     * @return the actions of the current impostor of the object, or of the object itself if it has none
+     */
+    @Nullable
+    public static ActionTable objectImpostor(int objectId) {
+        return Microbot.runOnClientThread(() -> {
+            ObjectComposition composition = Microbot.getClient().getObjectDefinition(objectId);
+            if (composition == null) {
+                return null;
+            }
+            objects.computeIfAbsent(objectId, id -> table(composition));
+            if (composition.getImpostorIds() == null) {
+                return objects.get(objectId);
+            }
+
+            ObjectComposition impostor = composition.getImpostor();
+            return impostor == null ? null : cacheObject(impostor.getId(), impostor);
+        });
+    }
+
+    private static ActionTable cacheObject(int objectId, ObjectComposition composition) {
+        ActionTable table = table(composition);
+        objects.put(objectId, table);
+        return table;
+    }
+
+    private static ActionTable table(ObjectComposition composition) {
+        return new ActionTable(composition.getName(), composition.getActions(), composition.getImpostorIds() != null);
+    }
+
+    /**
+     * @return the inventory actions of the item composition, or null if there is no such composition
+     */
+    @Nullable
+    public static ActionTable item(int itemId) {
+        ActionTable table = items.get(itemId);
+        if (table != null) {
+            return table;
+        }
+
+        Rs2ItemCache.ItemInfo info = Rs2ItemCache.get(itemId);
+        if (info == null) {
+            return null;
+        }
+        table = new ActionTable(info.getName(), info.getInventoryActions(), false);
+        items.put(itemId, table);
+        return table;
+    }
+
+    public static void invalidate() {
+        npcs.clear();
+        objects.clear();
+        items.clear();
+    }
+
+    /**
+     * The actions of a composition, with their colour tags removed, mapped to their menu index.
+     */
+    public static final class ActionTable {
+        @Getter
+        private final String name;
+        @Getter
+        private final boolean impostor;
+        private final String[] actions;
+        private final Map<String, Integer> indexes;
+
+        ActionTable(String name, String[] actions, boolean impostor) {
+            this.name = name;
+            this.impostor = impostor;
+            this.actions = actions == null ? new String[0] : new String[actions.length];
+            this.indexes = new HashMap<>(this.actions.length * 2);
+            for (int i = 0; i < this.actions.length; i++) {
+                String action = actions[i] == null ? null : actions[i].replaceAll("<col=[^>]*>", "");
+                this.actions[i] = action;
+                if (action != null) {
+                    indexes.putIfAbsent(action.toLowerCase(), i);
+                }
+            }
+        }
+
+        /**
+         * @return the index of the action, ignoring case, or -1 if the composition does not have it
+         */
+        public int indexOf(String action) {
+            if (action == null) {
+                return -1;
+            }
+            Integer index = indexes.get(action.toLowerCase());
+            return index == null ? -1 : index;
+        }
+
+        public boolean hasAction(String action) {
+            return indexOf(action) != -1;
+        }
+
+        public String[] getActions() {
+            return actions.clone();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package net.runelite.client.plugins.microbot.util.menu;
+
+import net.runelite.api.NPC;
+import net.runelite.api.TileObject;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
+import net.runelite.client.plugins.microbot.util.misc.Rs2UiHelper;
+import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
+import net.runelite.client.plugins.microbot.util.prayer.Rs2Prayer;
+import net.runelite.client.plugins.microbot.util.prayer.Rs2PrayerEnum;
+import net.runelite.client.plugins.microbot.util.profiler.Rs2Profiler;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Queues menu interactions, then resolves all of their menu entries and click boxes in a single client
+ * thread round trip and invokes them in order. Scripts which do several interactions back to back, such as
+ * a prayer flick followed by an attack, save a round trip per lookup.
+ * <p>
+ * A queue is not thread safe, use one per script.
+ */
+public class Rs2MenuQueue {
+    private final List<Interaction> interactions = new ArrayList<>();
+
+    /**
+     * Queue an interaction. Both suppliers are called on the client thread.
+     *
+     * @param entry  builds the menu entry, returning null skips the interaction
+     * @param bounds the area to click, only called if there is an entry
+     */
+    public Rs2MenuQueue add(Supplier<NewMenuEntry> entry, Supplier<Rectangle> bounds) {
+        interactions.add(new Interaction(entry, bounds));
+        return this;
+    }
+
+    public Rs2MenuQueue npc(NPC npc, String action) {
+        return add(() -> Rs2Npc.createMenuEntry(npc, action), () -> Rs2UiHelper.getActorClickbox(npc));
+    }
+
+    public Rs2MenuQueue object(TileObject object, String action) {
+        return add(() -> Rs2GameObject.createMenuEntry(object, action), () -> Rs2UiHelper.getObjectClickbox(object));
+    }
+
+    public Rs2MenuQueue prayer(Rs2PrayerEnum prayer, boolean on) {
+        return add(() -> Rs2Prayer.createMenuEntry(prayer, on),
+                () -> new Rectangle(1, 1, Microbot.getClient().getCanvasWidth(), Microbot.getClient().getCanvasHeight()));
+    }
+
+    public int size() {
+        return interactions.size();
+    }
+
+    public void clear() {
+        interactions.clear();
+    }
+
+    /**
+     * Resolve and invoke every queued interaction, emptying the queue.
+     *
+     * @return the number of interactions invoked
+     */
+    public int invoke() {
+        if (interactions.isEmpty()) {
+            return 0;
+        }
+
+        List<Interaction> pending = new ArrayList<>(interactions);
+        interactions.clear();
+
+        long start = Rs2Profiler.start();
+        List<Interaction> resolved = Microbot.runOnClientThread(() -> {
+            List<Interaction> result = new ArrayList<>(pending.size());
+            for (Interaction interaction : pending) {
+                if (interaction.resolve()) {
+                    result.add(interaction);
+                }
+            }
+            return result;
+        });
+        Rs2Profiler.stop("menu.resolve", start);
+
+        // each click consumes the target menu entry, so they are still invoked one at a time
+        for (Interaction interaction : resolved) {
+            Microbot.doInvoke(interaction.menuEntry, interaction.clickbox);
+        }
+        return resolved.size();
+    }
+
+    private static final class Interaction {
+        private final Supplier<NewMenuEntry> entry;
+        private final Supplier<Rectangle> bounds;
+        private NewMenuEntry menuEntry;
+        private Rectangle clickbox;
+
+        private Interaction(Supplier<NewMenuEntry> entry, Supplier<Rectangle> bounds) {
+            this.entry = entry;
+            this.bounds = bounds;
+        }
+
+        private boolean resolve() {
+            menuEntry = entry.get();
+            if (menuEntry == null) {
+                return false;
+            }
+            clickbox = bounds.get();
+            if (clickbox == null) {
+                clickbox = new Rectangle(1, 1);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package net.runelite.client.plugins.microbot.util.misc;
+
+import net.runelite.api.Client;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import javax.annotation.Nullable;
+import java.awt.*;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the on-screen bounds of clickboxes and tiles for the current frame, so hovering over and then
+ * clicking the same npc or object projects its model once instead of every time.
+ * <p>
+ * Bounds are keyed by the entity, its orientation and its local position. They are all forgotten when the
+ * game cycle advances or the camera moves, as the model and the projection may have changed.
+ */
+public final class ProjectionCache {
+    // more than enough for the handful of targets a script looks at in a frame
+    private static final int MAX_ENTRIES = 256;
+    // stands in for a projection that was off screen
+    private static final Rectangle NONE = new Rectangle();
+
+    private static final Map<Key, Rectangle> bounds = new HashMap<>();
+    private static int cycle = -1;
+    private static int[] camera = new int[10];
+    private static int[] scratch = new int[10];
+
+    private ProjectionCache() {
+    }
+
+    /**
+     * @param projection computes the shape if it is not known yet for this frame
+     * @return a copy of the bounds of the shape, or null if the projection returned null
+     */
+    @Nullable
+    public static synchronized Rectangle getBounds(Object entity, int orientation, int x, int y, int plane, Supplier<Shape> projection) {
+        validate(Microbot.getClient());
+
+        Key key = new Key(entity, orientation, x, y, plane);
+        Rectangle cached = bounds.get(key);
+        if (cached == null) {
+            Shape shape = projection.get();
+            cached = shape == null ? NONE : shape.getBounds();
+            if (bounds.size() < MAX_ENTRIES) {
+                bounds.put(key, cached);
+            }
+        }
+        return cached == NONE ? null : new Rectangle(cached);
+    }
+
+    /**
+     * Like {@link #getBounds}, for callers off the client thread. The cache is checked on the calling thread,
+     * and only a miss waits for the client thread to run the projection.
+     */
+    @Nullable
+    public static Rectangle getBoundsOnClientThread(Object entity, int orientation, int x, int y, int plane, Supplier<Shape> projection) {
+        Rectangle cached;
+        synchronized (ProjectionCache.class) {
+            validate(Microbot.getClient());
+            cached = bounds.get(new Key(entity, orientation, x, y, plane));
+        }
+        if (cached == null) {
+            return Microbot.runOnClientThread(() -> getBounds(entity, orientation, x, y, plane, projection));
+        }
+        return cached == NONE ? null : new Rectangle(cached);
+    }
+
+    private static void validate(Client client) {
+        int[] state = scratch;
+        state[0] = client.getCameraX();
+        state[1] = client.getCameraY();
+        state[2] = client.getCameraZ();
+        state[3] = client.getCameraPitch();
+        state[4] = client.getCameraYaw();
+        state[5] = client.getScale();
+        state[6] = client.getViewportWidth();
+        state[7] = client.getViewportHeight();
+        state[8] = client.getViewportXOffset();
+        state[9] = client.getViewportYOffset();
+
+        int gameCycle = client.getGameCycle();
+        if (gameCycle != cycle || !Arrays.equals(state, camera)) {
+            bounds.clear();
+            cycle = gameCycle;
+            // swap, so the state does not have to be copied
+            scratch = camera;
+            camera = state;
+        }
+    }
+
+    private static final class Key {
+        private final Object entity;
+        private final int orientation;
+        private final int x;
+        private final int y;
+        private final int plane;
+
+        private Key(Object entity, int orientation, int x, int y, int plane) {
+            this.entity = entity;
+            this.orientation = orientation;
+            this.x = x;
+            this.y = y;
+            this.plane = plane;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return orientation == key.orientation && x == key.x && y == key.y && plane == key.plane
+                    && Objects.equals(entity, key.entity);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(entity);
+            result = 31 * result + orientation;
+            result = 31 * result + x;
+            result = 31 * result + y;
+            return 31 * result + plane;
+        }
+    }
+}
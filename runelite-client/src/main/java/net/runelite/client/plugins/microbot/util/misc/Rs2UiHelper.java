@@ -1,6 +1,7 @@
 package net.runelite.client.plugins.microbot.util.misc;
 
 import net.runelite.api.Actor;
+import net.runelite.api.GameObject;
 import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import net.runelite.api.TileObject;
@@ -55,24 +56,28 @@ public class Rs2UiHelper {
         }
 
 
-        Shape clickbox = Microbot.getClientThread().runOnClientThread(() -> Perspective.getClickbox(Microbot.getClient(), actor.getModel(), actor.getCurrentOrientation(), lp.getX(), lp.getY(),
-                Perspective.getTileHeight(Microbot.getClient(), lp, actor.getWorldLocation().getPlane())));
+        int orientation = actor.getCurrentOrientation();
+        int plane = actor.getWorldLocation().getPlane();
+        Rectangle clickbox = ProjectionCache.getBoundsOnClientThread(actor, orientation, lp.getX(), lp.getY(), plane,
+                () -> Perspective.getClickbox(Microbot.getClient(), actor.getModel(), orientation, lp.getX(), lp.getY(),
+                        Perspective.getTileHeight(Microbot.getClient(), lp, plane)));
 
         if (clickbox == null) return new Rectangle(1, 1);  //return a small rectangle if clickbox is null
-        
 
-        return new Rectangle(clickbox.getBounds());
+
+        return clickbox;
     }
 
     public static Rectangle getObjectClickbox(TileObject object) {
 
         if (object == null) return new Rectangle(1, 1);  //return a small rectangle if object is null
-        Shape clickbox = Microbot.getClientThread().runOnClientThread(object::getClickbox);
+        int orientation = object instanceof GameObject ? ((GameObject) object).getOrientation() : 0;
+        LocalPoint lp = object.getLocalLocation();
+        Rectangle clickbox = ProjectionCache.getBoundsOnClientThread(object, orientation, lp.getX(), lp.getY(), object.getPlane(), object::getClickbox);
         if (clickbox == null) return new Rectangle(1, 1);  //return a small rectangle if clickbox is null
-        if (clickbox.getBounds() == null) return new Rectangle(1, 1);
 
 
-        return new Rectangle(clickbox.getBounds());
+        return clickbox;
     }
 
     // check if a menu entry is a actor
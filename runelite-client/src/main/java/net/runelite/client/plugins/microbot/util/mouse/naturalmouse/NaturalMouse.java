@@ -7,6 +7,7 @@ import net.runelite.api.Client;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.Global;
 import net.runelite.client.plugins.microbot.util.antiban.Rs2Antiban;
+import net.runelite.client.plugins.microbot.util.antiban.Rs2AntibanSettings;
 import net.runelite.client.plugins.microbot.util.antiban.enums.ActivityIntensity;
 import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.api.MouseInfoAccessor;
 import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.api.MouseMotionFactory;
@@ -22,7 +23,9 @@ import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.util.Pair;
 import javax.inject.Inject;
 import java.awt.*;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
@@ -32,6 +35,14 @@ public class NaturalMouse {
     public final MouseMotionNature nature;
     private final ThreadLocalRandom random = ThreadLocalRandom.current();
     private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private final Map<ActivityIntensity, MouseMotionFactory> factories = new EnumMap<>(ActivityIntensity.class);
+    private boolean factoriesSimulateMistakes = Rs2AntibanSettings.simulateMistakes;
+    // held while the cursor is being moved, so motions play one after the other
+    private final Object playback = new Object();
+    // the motions which are planned and have not finished playing, and where the last of them leaves the cursor
+    private final Object planning = new Object();
+    private int motionsInFlight;
+    private Point expectedPosition;
     @Inject
     private Client client;
     @Getter
@@ -55,7 +66,7 @@ public class NaturalMouse {
         nature.setMouseInfo(new MouseInfoImpl());
     }
 
-    public synchronized void moveTo(int dx, int dy) {
+    public void moveTo(int dx, int dy) {
 //		if(Rs2UiHelper.isStretchedEnabled())
 //		{
 //			dx = Rs2UiHelper.stretchX(dx);
@@ -72,34 +83,70 @@ public class NaturalMouse {
         }
     }
 
-    private synchronized void move(int dx, int dy) {
+    private void move(int dx, int dy) {
         var motion = getFactory().build(dx, dy);
+        // Plan the trajectory before waiting for the motion in flight, from where that one leaves the cursor,
+        // so the cursor can set off as soon as it is free. If it ends up elsewhere the motion plans again.
+        // With no motion in flight the cursor may have been moved since, so plan from where it is.
+        Point from;
+        synchronized (planning) {
+            from = motionsInFlight > 0 ? expectedPosition : null;
+            expectedPosition = motion.getDestination();
+            ++motionsInFlight;
+        }
         try {
-            motion.move();
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+            motion.prepare(from != null ? from : nature.getMouseInfo().getMousePosition());
+            synchronized (playback) {
+                try {
+                    motion.move();
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                }
+            }
+        } finally {
+            synchronized (planning) {
+                if (--motionsInFlight == 0) {
+                    expectedPosition = null;
+                }
+            }
         }
     }
 
-    public MouseMotionFactory getFactory() {
-        if (Rs2Antiban.getActivityIntensity() == ActivityIntensity.VERY_LOW) {
-            log.info("Creating average computer user motion factory");
-            return FactoryTemplates.createAverageComputerUserMotionFactory(nature);
-        } else if (Rs2Antiban.getActivityIntensity() == ActivityIntensity.LOW) {
-            log.info("Creating normal gamer motion factory");
-            return FactoryTemplates.createNormalGamerMotionFactory(nature);
-        } else if (Rs2Antiban.getActivityIntensity() == ActivityIntensity.MODERATE) {
-            log.info("Creating fast gamer motion factory");
-            return FactoryTemplates.createFastGamerMotionFactory(nature);
-        } else if (Rs2Antiban.getActivityIntensity() == ActivityIntensity.HIGH) {
-            log.info("Creating fast gamer motion factory");
-            return FactoryTemplates.createFastGamerMotionFactory(nature);
-        } else if (Rs2Antiban.getActivityIntensity() == ActivityIntensity.EXTREME) {
-            log.info("Creating super fast gamer motion factory");
-            return FactoryTemplates.createSuperFastGamerMotionFactory(nature);
-        } else {
-            log.info("Default: Creating super fast gamer motion factory");
-            return FactoryTemplates.createSuperFastGamerMotionFactory(nature);
+    /**
+     * @return the motion factory for the activity intensity of the antiban, which is built the first time it is
+     * asked for and kept until the simulation of mistakes is switched
+     */
+    public synchronized MouseMotionFactory getFactory() {
+        if (factoriesSimulateMistakes != Rs2AntibanSettings.simulateMistakes) {
+            factories.clear();
+            factoriesSimulateMistakes = Rs2AntibanSettings.simulateMistakes;
+        }
+        ActivityIntensity intensity = Rs2Antiban.getActivityIntensity();
+        if (intensity == null) {
+            intensity = ActivityIntensity.EXTREME;
+        }
+        return factories.computeIfAbsent(intensity, this::createFactory);
+    }
+
+    private MouseMotionFactory createFactory(ActivityIntensity intensity) {
+        // the templates configure the nature they are given, so every factory gets a nature of its own
+        MouseMotionNature nature = new DefaultMouseMotionNature();
+        nature.setSystemCalls(this.nature.getSystemCalls());
+        nature.setMouseInfo(this.nature.getMouseInfo());
+        switch (intensity) {
+            case VERY_LOW:
+                log.debug("Creating average computer user motion factory");
+                return FactoryTemplates.createAverageComputerUserMotionFactory(nature);
+            case LOW:
+                log.debug("Creating normal gamer motion factory");
+                return FactoryTemplates.createNormalGamerMotionFactory(nature);
+            case MODERATE:
+            case HIGH:
+                log.debug("Creating fast gamer motion factory");
+                return FactoryTemplates.createFastGamerMotionFactory(nature);
+            default:
+                log.debug("Creating super fast gamer motion factory");
+                return FactoryTemplates.createSuperFastGamerMotionFactory(nature);
         }
 
 //		var factory = new MouseMotionFactory();
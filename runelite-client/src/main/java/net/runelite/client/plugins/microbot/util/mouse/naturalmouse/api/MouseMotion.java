@@ -4,6 +4,7 @@ import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.Doub
 import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.Flow;
 import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.MouseMotionNature;
 import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.mousemotion.MouseMovement;
+import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.mousemotion.MouseTrajectory;
 import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.mousemotion.MovementFactory;
 import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.util.MathUtil;
 import org.slf4j.Logger;
@@ -37,6 +38,7 @@ public class MouseMotion {
     private final Random random;
     private final MouseInfoAccessor mouseInfo;
     private Point mousePosition;
+    private volatile MouseTrajectory prepared;
 
     /**
      * @param nature the nature that defines how mouse is moved
@@ -82,35 +84,78 @@ public class MouseMotion {
     public void move(MouseMotionObserver observer) throws InterruptedException {
         updateMouseInfo();
 
-        MovementFactory movementFactory = new MovementFactory(xDest, yDest, speedManager, overshootManager, screenSize);
-        ArrayDeque<MouseMovement> movements = movementFactory.createMovements(mousePosition);
-        int overshoots = movements.size() - 1;
+        MouseTrajectory trajectory = prepared;
+        prepared = null;
         while (mousePosition.x != xDest || mousePosition.y != yDest) {
-            if (movements.isEmpty()) {
-                // This shouldn't usually happen, but it's possible that somehow we won't end up on the target,
-                // Then just re-attempt from mouse new position. (There are known JDK bugs, that can cause sending the cursor
-                // to wrong pixel)
-                updateMouseInfo();
-                movements = movementFactory.createMovements(mousePosition);
+            if (trajectory == null || trajectory.startX != mousePosition.x || trajectory.startY != mousePosition.y) {
+                // Not prepared, or the cursor is not where it was expected to be. Also happens when we somehow
+                // didn't end up on the target, then just re-attempt from mouse new position. (There are known JDK
+                // bugs, that can cause sending the cursor to wrong pixel)
+                trajectory = plan(mousePosition);
             }
+            play(trajectory, observer);
+            trajectory = null;
+        }
+    }
 
-            MouseMovement movement = movements.removeFirst();
-            double distance = movement.distance;
-            long mouseMovementMs = movement.time;
-            Flow flow = movement.flow;
-            double xDistance = movement.xDistance;
-            double yDistance = movement.yDistance;
+    /**
+     * Works out the trajectory ahead of time, so calling {@link #move()} only has to play it back. The motion
+     * can be prepared while the cursor is still busy with the one before it; should the cursor not be at the
+     * start when this motion is played, it is planned again from where the cursor is.
+     *
+     * @param from where the cursor is expected to be when the motion starts
+     * @return the prepared trajectory
+     */
+    public MouseTrajectory prepare(Point from) {
+        prepared = plan(from);
+        return prepared;
+    }
 
+    /**
+     * Works out every position the cursor visits on its way from the point to the destination, without moving it.
+     *
+     * @param from the position the cursor starts from
+     * @return the trajectory
+     */
+    public MouseTrajectory plan(Point from) {
+        MovementFactory movementFactory = new MovementFactory(xDest, yDest, speedManager, overshootManager, screenSize);
+        ArrayDeque<MouseMovement> movements = movementFactory.createMovements(from);
+
+        int movementCount = movements.size();
+        int[] movementEnds = new int[movementCount];
+        long[] stepTimes = new long[movementCount];
+        int[] destXs = new int[movementCount];
+        int[] destYs = new int[movementCount];
+        int totalSteps = 0;
+        int m = 0;
+        for (MouseMovement movement : movements) {
       /* Number of steps is calculated from the movement time and limited by minimal amount of steps
          (should have at least MIN_STEPS) and distance (shouldn't have more steps than pixels travelled) */
-            int steps = (int) Math.ceil(Math.min(distance, Math.max(mouseMovementMs / timeToStepsDivider, minSteps)));
+            int steps = (int) Math.ceil(Math.min(movement.distance, Math.max(movement.time / timeToStepsDivider, minSteps)));
+            totalSteps += steps;
+            movementEnds[m] = totalSteps;
+            stepTimes[m] = (long) (movement.time / (double) steps);
+            destXs[m] = movement.destX;
+            destYs[m] = movement.destY;
+            m++;
+        }
 
-            long startTime = systemCalls.currentTimeMillis();
-            long stepTime = (long) (mouseMovementMs / (double) steps);
+        int[] xs = new int[totalSteps];
+        int[] ys = new int[totalSteps];
+        int step = 0;
+        double startX = from.x;
+        double startY = from.y;
+        m = 0;
+        for (MouseMovement movement : movements) {
+            double distance = movement.distance;
+            Flow flow = movement.flow;
+            double xDistance = movement.xDistance;
+            double yDistance = movement.yDistance;
+            int steps = movementEnds[m] - step;
+            m++;
 
-            updateMouseInfo();
-            double simulatedMouseX = mousePosition.x;
-            double simulatedMouseY = mousePosition.y;
+            double simulatedMouseX = startX;
+            double simulatedMouseY = startY;
 
             double deviationMultiplierX = (random.nextDouble() - 0.5) * 2;
             double deviationMultiplierY = (random.nextDouble() - 0.5) * 2;
@@ -145,13 +190,42 @@ public class MouseMotion {
                 simulatedMouseX += xStepSize;
                 simulatedMouseY += yStepSize;
 
-                long endTime = startTime + stepTime * (i + 1);
                 int mousePosX = MathUtil.roundTowards(simulatedMouseX + deviation.getX() * deviationMultiplierX * effectFadeMultiplier + noiseX * effectFadeMultiplier, movement.destX);
 
                 int mousePosY = MathUtil.roundTowards(simulatedMouseY + deviation.getY() * deviationMultiplierY * effectFadeMultiplier + noiseY * effectFadeMultiplier, movement.destY);
 
-                mousePosX = limitByScreenWidth(mousePosX);
-                mousePosY = limitByScreenHeight(mousePosY);
+                xs[step] = limitByScreenWidth(mousePosX);
+                ys[step] = limitByScreenHeight(mousePosY);
+                step++;
+            }
+
+            // The next movement starts from where this one is corrected to end.
+            startX = movement.destX;
+            startY = movement.destY;
+        }
+
+        return new MouseTrajectory(from.x, from.y, xs, ys, movementEnds, stepTimes, destXs, destYs);
+    }
+
+    /**
+     * Moves the cursor along the trajectory, keeping to the time of every step. Stops early when the cursor is
+     * not where a movement is meant to start from.
+     */
+    private void play(MouseTrajectory trajectory, MouseMotionObserver observer) {
+        for (int m = 0; m < trajectory.getMovementCount(); m++) {
+            long startTime = systemCalls.currentTimeMillis();
+            long stepTime = trajectory.stepTimes[m];
+
+            updateMouseInfo();
+            if (mousePosition.x != trajectory.getMovementStartX(m) || mousePosition.y != trajectory.getMovementStartY(m)) {
+                return;
+            }
+
+            int first = trajectory.getMovementStart(m);
+            for (int step = first; step < trajectory.movementEnds[m]; step++) {
+                long endTime = startTime + stepTime * (step - first + 1);
+                int mousePosX = trajectory.xs[step];
+                int mousePosY = trajectory.ys[step];
 
                 systemCalls.setMousePosition(mousePosX, mousePosY);
 
@@ -163,11 +237,13 @@ public class MouseMotion {
             }
             updateMouseInfo();
 
-            if (mousePosition.x != movement.destX || mousePosition.y != movement.destY) {
+            int destX = trajectory.destXs[m];
+            int destY = trajectory.destYs[m];
+            if (mousePosition.x != destX || mousePosition.y != destY) {
                 // It's possible that mouse is manually moved or for some other reason.
                 // Let's start next step from pre-calculated location to prevent errors from accumulating.
                 // But print warning as this is not expected behavior.
-                systemCalls.setMousePosition(movement.destX, movement.destY);
+                systemCalls.setMousePosition(destX, destY);
                 // Let's wait a bit before getting mouse info.
                 sleepAround(SLEEP_AFTER_ADJUSTMENT_MS, 0);
                 updateMouseInfo();
@@ -180,6 +256,13 @@ public class MouseMotion {
         }
     }
 
+    /**
+     * @return where the motion leaves the cursor, the destination limited to the screen
+     */
+    public Point getDestination() {
+        return new Point(xDest, yDest);
+    }
+
     private int limitByScreenWidth(int value) {
         return Math.max(0, Math.min(screenSize.width - 1, value));
     }
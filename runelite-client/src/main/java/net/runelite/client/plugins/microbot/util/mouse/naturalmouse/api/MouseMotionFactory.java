@@ -10,7 +10,6 @@ import java.util.Random;
  * The default instance is available via getDefault(), but can create new instance via constructor.
  */
 public class MouseMotionFactory {
-    private static final MouseMotionFactory defaultFactory = new MouseMotionFactory();
     private MouseMotionNature nature;
     private Random random = new Random();
 
@@ -28,7 +27,7 @@ public class MouseMotionFactory {
      * @return the factory
      */
     public static MouseMotionFactory getDefault() {
-        return defaultFactory;
+        return DefaultFactoryHolder.INSTANCE;
     }
 
     /**
@@ -197,4 +196,9 @@ public class MouseMotionFactory {
     public void setOvershootManager(OvershootManager manager) {
         nature.setOvershootManager(manager);
     }
+
+    // created when first asked for, as the default nature needs a Robot, which cannot be had when headless
+    private static class DefaultFactoryHolder {
+        private static final MouseMotionFactory INSTANCE = new MouseMotionFactory();
+    }
 }
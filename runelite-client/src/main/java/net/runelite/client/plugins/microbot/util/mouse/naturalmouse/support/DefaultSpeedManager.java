@@ -9,11 +9,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 public class DefaultSpeedManager implements SpeedManager {
     private static final double SMALL_DELTA = 10e-6;
     private final List<Flow> flows = new ArrayList<>();
-    private long mouseMovementTimeMs = 500;
+    private LongSupplier mouseMovementTimeMs = () -> 500;
 
     public DefaultSpeedManager(Collection<Flow> flows) {
         this.flows.addAll(flows);
@@ -35,7 +36,8 @@ public class DefaultSpeedManager implements SpeedManager {
 
     @Override
     public Pair<Flow, Long> getFlowWithTime(double distance) {
-        double time = mouseMovementTimeMs + (long) (Math.random() * mouseMovementTimeMs);
+        long baseTimeMs = mouseMovementTimeMs.getAsLong();
+        double time = baseTimeMs + (long) (Math.random() * baseTimeMs);
         Flow flow = flows.get((int) (Math.random() * flows.size()));
 
         // Let's ignore waiting time, e.g 0's in flow, by increasing the total time
@@ -51,6 +53,13 @@ public class DefaultSpeedManager implements SpeedManager {
     }
 
     public void setMouseMovementBaseTimeMs(long mouseMovementSpeedMs) {
+        this.mouseMovementTimeMs = () -> mouseMovementSpeedMs;
+    }
+
+    /**
+     * @param mouseMovementSpeedMs asked for the base time of every movement, eg. to slow down with fatigue
+     */
+    public void setMouseMovementBaseTimeMs(LongSupplier mouseMovementSpeedMs) {
         this.mouseMovementTimeMs = mouseMovementSpeedMs;
     }
 }
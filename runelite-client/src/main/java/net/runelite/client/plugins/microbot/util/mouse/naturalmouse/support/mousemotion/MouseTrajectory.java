@@ -0,0 +1,77 @@
+package net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.mousemotion;
+
+/**
+ * Every cursor position of a motion, worked out before the cursor starts to move. A motion is made of one or
+ * more movements, the overshoots and the final one to the destination, each a number of equally long steps.
+ * The positions of all steps are stored one movement after the other.
+ */
+public class MouseTrajectory {
+    public final int startX;
+    public final int startY;
+    /**
+     * The cursor position after each step.
+     */
+    public final int[] xs;
+    public final int[] ys;
+    /**
+     * The index in {@link #xs} after the last step of each movement.
+     */
+    public final int[] movementEnds;
+    /**
+     * How long each step of each movement takes, in milliseconds.
+     */
+    public final long[] stepTimes;
+    /**
+     * Where each movement is meant to leave the cursor.
+     */
+    public final int[] destXs;
+    public final int[] destYs;
+
+    public MouseTrajectory(int startX, int startY, int[] xs, int[] ys, int[] movementEnds, long[] stepTimes,
+                           int[] destXs, int[] destYs) {
+        this.startX = startX;
+        this.startY = startY;
+        this.xs = xs;
+        this.ys = ys;
+        this.movementEnds = movementEnds;
+        this.stepTimes = stepTimes;
+        this.destXs = destXs;
+        this.destYs = destYs;
+    }
+
+    public int getMovementCount() {
+        return movementEnds.length;
+    }
+
+    public int getStepCount() {
+        return xs.length;
+    }
+
+    /**
+     * @return the x where the movement starts, which is where the one before it ends
+     */
+    public int getMovementStartX(int movement) {
+        return movement == 0 ? startX : destXs[movement - 1];
+    }
+
+    public int getMovementStartY(int movement) {
+        return movement == 0 ? startY : destYs[movement - 1];
+    }
+
+    /**
+     * @return the index in {@link #xs} of the first step of the movement
+     */
+    public int getMovementStart(int movement) {
+        return movement == 0 ? 0 : movementEnds[movement - 1];
+    }
+
+    @Override
+    public String toString() {
+        return "Trajectory{" +
+                "startX=" + startX +
+                ", startY=" + startY +
+                ", movements=" + getMovementCount() +
+                ", steps=" + getStepCount() +
+                '}';
+    }
+}
@@ -10,6 +10,7 @@ import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 public class FactoryTemplates {
     /**
@@ -116,9 +117,6 @@ public class FactoryTemplates {
     public static MouseMotionFactory createNormalGamerMotionFactory(MouseMotionNature nature) {
         int initialBaseTime = 150;
         int maxBaseTime = 200;
-        int currentBaseTime = initialBaseTime;
-        if (Rs2AntibanSettings.simulateFatigue)
-            currentBaseTime = (Rs2Antiban.mouseFatigue.calculateBaseTimeWithNoise(currentBaseTime, maxBaseTime));
         MouseMotionFactory factory = new MouseMotionFactory(nature);
         List<Flow> flows = new ArrayList<>(Arrays.asList(
                 new Flow(FlowTemplates.variatingFlow()),
@@ -131,7 +129,7 @@ public class FactoryTemplates {
         factory.setDeviationProvider(new SinusoidalDeviationProvider(SinusoidalDeviationProvider.DEFAULT_SLOPE_DIVIDER));
         factory.setNoiseProvider(new DefaultNoiseProvider(DefaultNoiseProvider.DEFAULT_NOISINESS_DIVIDER));
         factory.getNature().setReactionTimeVariationMs(100);
-        manager.setMouseMovementBaseTimeMs(currentBaseTime);
+        manager.setMouseMovementBaseTimeMs(fatiguedBaseTime(initialBaseTime, maxBaseTime));
 
         DefaultOvershootManager overshootManager = (DefaultOvershootManager) factory.getOvershootManager();
         if (Rs2AntibanSettings.simulateMistakes)
@@ -165,9 +163,6 @@ public class FactoryTemplates {
     public static MouseMotionFactory createFastGamerMotionFactory(MouseMotionNature nature) {
         int initialBaseTime = 120;
         int maxBaseTime = 170;
-        int currentBaseTime = initialBaseTime;
-        if (Rs2AntibanSettings.simulateFatigue)
-            currentBaseTime = (Rs2Antiban.mouseFatigue.calculateBaseTimeWithNoise(currentBaseTime, maxBaseTime));
         MouseMotionFactory factory = new MouseMotionFactory(nature);
         List<Flow> flows = new ArrayList<>(Arrays.asList(
                 new Flow(FlowTemplates.variatingFlow()),
@@ -180,7 +175,7 @@ public class FactoryTemplates {
         factory.setDeviationProvider(new SinusoidalDeviationProvider(SinusoidalDeviationProvider.DEFAULT_SLOPE_DIVIDER));
         factory.setNoiseProvider(new DefaultNoiseProvider(DefaultNoiseProvider.DEFAULT_NOISINESS_DIVIDER));
         factory.getNature().setReactionTimeVariationMs(100);
-        manager.setMouseMovementBaseTimeMs(currentBaseTime);
+        manager.setMouseMovementBaseTimeMs(fatiguedBaseTime(initialBaseTime, maxBaseTime));
 
         DefaultOvershootManager overshootManager = (DefaultOvershootManager) factory.getOvershootManager();
         if (Rs2AntibanSettings.simulateMistakes)
@@ -202,9 +197,6 @@ public class FactoryTemplates {
     public static MouseMotionFactory createSuperFastGamerMotionFactory(MouseMotionNature nature) {
         int initialBaseTime = 90;
         int maxBaseTime = 120;
-        int currentBaseTime = initialBaseTime;
-        if (Rs2AntibanSettings.simulateFatigue)
-            currentBaseTime = (Rs2Antiban.mouseFatigue.calculateBaseTimeWithNoise(currentBaseTime, maxBaseTime));
 
         MouseMotionFactory factory = new MouseMotionFactory(nature);
         List<Flow> flows = new ArrayList<>(Arrays.asList(
@@ -218,7 +210,7 @@ public class FactoryTemplates {
         factory.setDeviationProvider(new SinusoidalDeviationProvider(SinusoidalDeviationProvider.DEFAULT_SLOPE_DIVIDER));
         factory.setNoiseProvider(new DefaultNoiseProvider(DefaultNoiseProvider.DEFAULT_NOISINESS_DIVIDER));
         factory.getNature().setReactionTimeVariationMs(90);
-        manager.setMouseMovementBaseTimeMs(currentBaseTime);
+        manager.setMouseMovementBaseTimeMs(fatiguedBaseTime(initialBaseTime, maxBaseTime));
 
         DefaultOvershootManager overshootManager = (DefaultOvershootManager) factory.getOvershootManager();
         if (Rs2AntibanSettings.simulateMistakes)
@@ -276,4 +268,14 @@ public class FactoryTemplates {
         factory.setSpeedManager(manager);
         return factory;
     }
+
+    /**
+     * The base time of a movement, which grows the longer the player is logged in while fatigue is simulated.
+     * It is asked for on every movement, so a factory can be kept while the fatigue builds up.
+     */
+    private static LongSupplier fatiguedBaseTime(int initialBaseTime, int maxBaseTime) {
+        return () -> Rs2AntibanSettings.simulateFatigue
+                ? Rs2Antiban.mouseFatigue.calculateBaseTimeWithNoise(initialBaseTime, maxBaseTime)
+                : initialBaseTime;
+    }
 }
@@ -10,8 +10,10 @@ import net.runelite.client.plugins.microbot.util.antiban.Rs2AntibanSettings;
 import net.runelite.client.plugins.microbot.util.camera.Rs2Camera;
 import net.runelite.client.plugins.microbot.util.combat.Rs2Combat;
 import net.runelite.client.plugins.microbot.util.menu.NewMenuEntry;
+import net.runelite.client.plugins.microbot.util.menu.Rs2ActionIndex;
 import net.runelite.client.plugins.microbot.util.misc.Rs2UiHelper;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.plugins.microbot.util.profiler.Rs2Profiler;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import org.jetbrains.annotations.Nullable;
@@ -74,12 +76,16 @@ public class Rs2Npc {
      * @return
      */
     public static Stream<NPC> getNpcs() {
-        Stream<NPC> npcs = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getNpcs().stream()
+        long start = Rs2Profiler.start();
+        // collected on the client thread, so the filtering and sorting are part of the timing
+        List<NPC> npcs = Microbot.runOnClientThread(() -> Microbot.getClient().getNpcs().stream()
                 .filter(x -> x != null && x.getName() != null && !x.isDead())
                 .sorted(Comparator.comparingInt(value -> value.getLocalLocation()
-                        .distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation()))));
+                        .distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
+                .collect(Collectors.toList()));
+        Rs2Profiler.stop("scene.npcs", start);
 
-        return npcs;
+        return npcs.stream();
     }
 
     /**
@@ -186,19 +192,10 @@ public class Rs2Npc {
         if (npc == null) return false;
         Microbot.status = action + " " + npc.getName();
         try {
-            NPCComposition npcComposition = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getNpcDefinition(npc.getId()));
-
-            int index = 0;
-            for (int i = 0; i < npcComposition.getActions().length; i++) {
-                String npcAction = npcComposition.getActions()[i];
-                if (npcAction == null || !npcAction.equalsIgnoreCase(action)) continue;
-                index = i;
-            }
+            NewMenuEntry entry = createMenuEntry(npc, action);
 
-            MenuAction menuAction = getMenuAction(index);
-
-            if (menuAction != null) {
-                Microbot.doInvoke(new NewMenuEntry(0, 0, menuAction.getId(), npc.getIndex(), -1, npc.getName(), npc), Rs2UiHelper.getActorClickbox(npc));
+            if (entry != null) {
+                Microbot.doInvoke(entry, Rs2UiHelper.getActorClickbox(npc));
             }
 
         } catch (Exception ex) {
@@ -208,6 +205,23 @@ public class Rs2Npc {
         return true;
     }
 
+    /**
+     * Build the menu entry for an action on an npc without invoking it. The first action is used
+     * if the npc does not have the action.
+     *
+     * @return the menu entry, or null if the npc has no composition
+     */
+    @Nullable
+    public static NewMenuEntry createMenuEntry(NPC npc, String action) {
+        Rs2ActionIndex.ActionTable actions = Rs2ActionIndex.npc(npc.getId());
+        if (actions == null) return null;
+
+        MenuAction menuAction = getMenuAction(Math.max(actions.indexOf(action), 0));
+        if (menuAction == null) return null;
+
+        return new NewMenuEntry(0, 0, menuAction.getId(), npc.getIndex(), -1, npc.getName(), npc);
+    }
+
     @Nullable
     private static MenuAction getMenuAction(int index) {
         MenuAction menuAction = null;
@@ -256,7 +256,7 @@ public class Rs2Player {
      * @return
      */
     public static boolean isMoving() {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getLocalPlayer().getPoseAnimation()
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getLocalPlayer().getPoseAnimation()
                 != Microbot.getClient().getLocalPlayer().getIdlePoseAnimation());
     }
 
@@ -266,7 +266,7 @@ public class Rs2Player {
      * @return
      */
     public static boolean isInteracting() {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getLocalPlayer().isInteracting());
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getLocalPlayer().isInteracting());
     }
 
     /**
@@ -275,7 +275,7 @@ public class Rs2Player {
      * @return
      */
     public static boolean isMember() {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getVarpValue(VarPlayer.MEMBERSHIP_DAYS) > 0);
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getVarpValue(VarPlayer.MEMBERSHIP_DAYS) > 0);
     }
 
     @Deprecated(since = "Use the Rs2Combat.specState method", forRemoval = true)
@@ -459,7 +459,7 @@ public class Rs2Player {
     }
 
     public static List<Player> getPlayers() {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getPlayers()
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getPlayers()
                 .stream()
                 .filter(x -> x != Microbot.getClient().getLocalPlayer())
                 .collect(Collectors.toList()));
@@ -588,7 +588,7 @@ public class Rs2Player {
      */
     public static QuestState getQuestState(Quest quest) {
         Client client = Microbot.getClient();
-        return Microbot.getClientThread().runOnClientThread(() -> quest.getState(client));
+        return Microbot.runOnClientThread(() -> quest.getState(client));
     }
 
     /**
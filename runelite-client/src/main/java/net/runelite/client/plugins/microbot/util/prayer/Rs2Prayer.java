@@ -23,17 +23,29 @@ public class Rs2Prayer {
     }
 
     public static void toggle(Rs2PrayerEnum name, boolean on) {
+        NewMenuEntry entry = createMenuEntry(name, on);
+        if (entry == null) return;
+
+        Microbot.doInvoke(entry, new Rectangle(1, 1, Microbot.getClient().getCanvasWidth(), Microbot.getClient().getCanvasHeight()));
+        //Rs2Reflection.invokeMenu(-1, name.getIndex(), MenuAction.CC_OP.getId(), 1,-1, "Activate", "", -1, -1);
+    }
+
+    /**
+     * Build the menu entry which turns the prayer on or off without invoking it.
+     *
+     * @return the menu entry, or null if the prayer is already in that state or there are no prayer points
+     */
+    public static NewMenuEntry createMenuEntry(Rs2PrayerEnum name, boolean on) {
         final int varBit = name.getVarbit();
         if(!on) {
-            if (Microbot.getVarbitValue(varBit) == 0) return;
+            if (Microbot.getVarbitValue(varBit) == 0) return null;
         } else {
-            if (Microbot.getVarbitValue(varBit) == 1) return;
+            if (Microbot.getVarbitValue(varBit) == 1) return null;
         }
 
-        if (!Rs2Player.hasPrayerPoints()) return;
+        if (!Rs2Player.hasPrayerPoints()) return null;
 
-        Microbot.doInvoke(new NewMenuEntry(-1, name.getIndex(), MenuAction.CC_OP.getId(), 1,-1, "Activate"), new Rectangle(1, 1, Microbot.getClient().getCanvasWidth(), Microbot.getClient().getCanvasHeight()));
-        //Rs2Reflection.invokeMenu(-1, name.getIndex(), MenuAction.CC_OP.getId(), 1,-1, "Activate", "", -1, -1);
+        return new NewMenuEntry(-1, name.getIndex(), MenuAction.CC_OP.getId(), 1,-1, "Activate");
     }
 
     public static boolean isQuickPrayerSet(Rs2PrayerEnum prayer) {
@@ -42,7 +54,7 @@ public class Rs2Prayer {
     }
     public static boolean isPrayerActive(Rs2PrayerEnum name) {
         final int varBit = name.getVarbit();
-        return Microbot.getClientThread().runOnClientThread(() ->
+        return Microbot.runOnClientThread(() ->
                 Microbot.getClient().getVarbitValue(varBit) == 1);
     }
 
@@ -0,0 +1,92 @@
+package net.runelite.client.plugins.microbot.util.profiler;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free timing histogram with power of two microsecond buckets. Bucket 0 holds samples under
+ * 1us and bucket i holds samples in [2^(i-1), 2^i) us, so the last bucket starts at about 18 minutes.
+ */
+public class Histogram {
+    static final int BUCKETS = 32;
+
+    @Getter
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    Histogram(String name) {
+        this.name = name;
+    }
+
+    void record(long nanos) {
+        long micros = Math.max(0L, nanos) / 1000L;
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        total.add(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; ++i) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        total.reset();
+        max.set(0L);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotal(TimeUnit unit) {
+        return unit.convert(total.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMax(TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public double getMeanMillis() {
+        long n = count.sum();
+        return n == 0 ? 0 : total.sum() / (double) n / 1_000_000d;
+    }
+
+    /**
+     * @param percentile a percentile between 0 and 100
+     * @return the upper bound of the bucket holding the percentile, in milliseconds
+     */
+    public double getPercentileMillis(double percentile) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(n * percentile / 100d);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                // the top bucket is unbounded, and nothing was larger than max anyway
+                return Math.min(1L << i, max.get() / 1000d) / 1000d;
+            }
+        }
+        return max.get() / 1_000_000d;
+    }
+
+    long[] getBuckets() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; ++i) {
+            copy[i] = buckets.get(i);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,141 @@
+package net.runelite.client.plugins.microbot.util.profiler;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timers and counters for script loops and the Rs2 utilities.
+ * <p>
+ * Timing a section looks like
+ * <pre>
+ * long start = Rs2Profiler.start();
+ * ...
+ * Rs2Profiler.stop("walker.doors", start);
+ * </pre>
+ * When the profiler is disabled {@link #start()} returns 0 and {@link #stop(String, long)} returns
+ * right away, so instrumented code only pays for a volatile read. Enable it with
+ * {@code -Dmicrobot.profiler=true} or the {@code ::mbprofile} command.
+ */
+@Slf4j
+public final class Rs2Profiler {
+    private static final File PROFILE_DIR = new File(RuneLite.RUNELITE_DIR, "microbot-profiles");
+
+    private static final Map<String, Histogram> timers = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = Boolean.getBoolean("microbot.profiler");
+
+    private Rs2Profiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Rs2Profiler.enabled = enabled;
+    }
+
+    /**
+     * @return a start timestamp for {@link #stop(String, long)}, or 0 if the profiler is disabled
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Record the time since {@code start} under {@code name}.
+     */
+    public static void stop(String name, long start) {
+        if (start != 0L) {
+            record(name, System.nanoTime() - start);
+        }
+    }
+
+    public static void record(String name, long nanos) {
+        if (enabled) {
+            timers.computeIfAbsent(name, Histogram::new).record(nanos);
+        }
+    }
+
+    public static void count(String name) {
+        if (enabled) {
+            counters.computeIfAbsent(name, k -> new LongAdder()).increment();
+        }
+    }
+
+    public static void reset() {
+        timers.values().forEach(Histogram::reset);
+        counters.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * @return the timers, the ones with the most total time first
+     */
+    public static List<Histogram> getTimers() {
+        List<Histogram> list = new ArrayList<>(timers.values());
+        list.sort(Comparator.comparingLong((Histogram h) -> h.getTotal(TimeUnit.NANOSECONDS)).reversed());
+        return list;
+    }
+
+    public static Map<String, Long> getCounters() {
+        Map<String, Long> map = new LinkedHashMap<>();
+        counters.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> map.put(e.getKey(), e.getValue().sum()));
+        return map;
+    }
+
+    public static String toJson() {
+        List<Map<String, Object>> timerList = new ArrayList<>();
+        for (Histogram histogram : getTimers()) {
+            Map<String, Object> timer = new LinkedHashMap<>();
+            timer.put("name", histogram.getName());
+            timer.put("count", histogram.getCount());
+            timer.put("totalMs", histogram.getTotal(TimeUnit.MILLISECONDS));
+            timer.put("meanMs", histogram.getMeanMillis());
+            timer.put("p50Ms", histogram.getPercentileMillis(50));
+            timer.put("p90Ms", histogram.getPercentileMillis(90));
+            timer.put("p99Ms", histogram.getPercentileMillis(99));
+            timer.put("maxMs", histogram.getMax(TimeUnit.MICROSECONDS) / 1000d);
+            timer.put("bucketsUs", histogram.getBuckets());
+            timerList.add(timer);
+        }
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("timestamp", System.currentTimeMillis());
+        root.put("timers", timerList);
+        root.put("counters", getCounters());
+
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        return gson.toJson(root);
+    }
+
+    /**
+     * Write the current timers and counters to a json file in the RuneLite directory.
+     *
+     * @return the file written
+     */
+    public static File dump() throws IOException {
+        PROFILE_DIR.mkdirs();
+        File file = new File(PROFILE_DIR, "profile-" + System.currentTimeMillis() + ".json");
+        Files.write(file.toPath(), toJson().getBytes(StandardCharsets.UTF_8));
+        log.info("Wrote profile to {}", file);
+        return file;
+    }
+}
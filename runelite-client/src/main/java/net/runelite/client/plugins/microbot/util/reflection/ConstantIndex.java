@@ -0,0 +1,132 @@
+package net.runelite.client.plugins.microbot.util.reflection;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Name lookups over the int constants of a class such as {@link net.runelite.api.ObjectID}, which has
+ * tens of thousands of fields. The fields are read once, the first time the class is asked for, into
+ * tables of lower-cased names, so a lookup no longer reflects over the class and lower-cases every name.
+ * <p>
+ * Every list is in declaration order, like a scan of {@link Class#getDeclaredFields()} would find it,
+ * with one entry per matching field.
+ */
+@Slf4j
+public final class ConstantIndex {
+    private static final Map<Class<?>, ConstantIndex> indexes = new ConcurrentHashMap<>();
+    // a handful of fragments are used over and over by the scripts, eg. "bank_booth"
+    private static final int MAX_FRAGMENTS = 256;
+
+    private final String[] names;
+    private final int[] values;
+    // position of the first field with the name
+    private final Map<String, Integer> byName;
+    // positions of the fields whose name contains the fragment
+    private final Map<String, BitSet> byFragment = new ConcurrentHashMap<>();
+
+    private ConstantIndex(Class<?> constants) {
+        List<String> names = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        for (Field field : constants.getDeclaredFields()) {
+            if (field.getType() != int.class || !Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+                values.add(field.getInt(null));
+                names.add(field.getName().toLowerCase());
+            } catch (IllegalAccessException | RuntimeException ex) {
+                log.debug("Unable to read constant {}.{}", constants.getSimpleName(), field.getName(), ex);
+            }
+        }
+
+        int size = names.size();
+        this.names = names.toArray(new String[0]);
+        this.values = new int[size];
+        this.byName = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            this.values[i] = values.get(i);
+            byName.putIfAbsent(this.names[i], i);
+        }
+    }
+
+    /**
+     * @return the index of the int constants of the class, built the first time it is asked for
+     */
+    public static ConstantIndex of(Class<?> constants) {
+        return indexes.computeIfAbsent(constants, ConstantIndex::new);
+    }
+
+    /**
+     * @return the value of the constant with the name, ignoring case, or -1 if there is none
+     */
+    public int get(String name) {
+        Integer position = byName.get(name.toLowerCase());
+        return position == null ? -1 : values[position];
+    }
+
+    /**
+     * @return the values of the constants whose name contains the fragment, ignoring case
+     */
+    public List<Integer> byFragment(String fragment) {
+        return toValues(fragmentPositions(fragment));
+    }
+
+    /**
+     * @param exact true to match the whole name, false to match a fragment of it, ignoring case either way
+     * @return the values of the constants matching any of the names, a field matching several names is
+     * listed once
+     */
+    public ArrayList<Integer> matching(String[] names, boolean exact) {
+        BitSet positions = new BitSet(values.length);
+        for (String name : names) {
+            if (exact) {
+                Integer position = byName.get(name.toLowerCase());
+                if (position != null) {
+                    positions.set(position);
+                }
+            } else {
+                positions.or(fragmentPositions(name));
+            }
+        }
+        return toValues(positions);
+    }
+
+    private BitSet fragmentPositions(String fragment) {
+        String key = fragment.toLowerCase();
+        BitSet positions = byFragment.get(key);
+        if (positions != null) {
+            return positions;
+        }
+
+        positions = new BitSet(names.length);
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].contains(key)) {
+                positions.set(i);
+            }
+        }
+        if (byFragment.size() < MAX_FRAGMENTS) {
+            byFragment.put(key, positions);
+        }
+        return positions;
+    }
+
+    /**
+     * @return a new list of the values at the positions, the callers may add their own values to it
+     */
+    private ArrayList<Integer> toValues(BitSet positions) {
+        ArrayList<Integer> found = new ArrayList<>(positions.cardinality());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            found.add(values[i]);
+        }
+        return found;
+    }
+}
@@ -2,26 +2,43 @@ package net.runelite.client.plugins.microbot.util.reflection;
 
 import lombok.SneakyThrows;
 import net.runelite.api.ItemComposition;
+import net.runelite.api.ItemID;
 import net.runelite.api.MenuEntry;
 import net.runelite.api.NPC;
+import net.runelite.api.NpcID;
 import net.runelite.api.ObjectID;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.keyboard.Rs2Keyboard;
 import net.runelite.client.plugins.microbot.util.math.Random;
 
 import java.awt.event.KeyEvent;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Access to obfuscated members of the client. Members are searched for once; what is found is kept as a
+ * {@link MethodHandle}, so later calls do not look up or unlock the member again.
+ */
 public class Rs2Reflection {
     static String animationField = null;
     static Method doAction = null;
+    // getter of the animation field, typed (Object)int
+    private static volatile MethodHandle animationGetter = null;
+    // getters of the public String[] fields of every item composition class, typed (Object)String[]
+    private static final Map<Class<?>, List<MethodHandle>> stringArrayGetters = new ConcurrentHashMap<>();
+    // setItemId of every menu entry class, typed (Object,int)void
+    private static final Map<Class<?>, MethodHandle> itemIdSetters = new ConcurrentHashMap<>();
 
     /**
      * sequence maps to an actor animation
@@ -34,96 +51,123 @@ public class Rs2Reflection {
         if (npc == null) {
             return -1;
         }
-        if (animationField == null) {
-            for (Field declaredField : npc.getClass().getSuperclass().getDeclaredFields()) {
-                if (declaredField == null) {
-                    continue;
-                }
-                declaredField.setAccessible(true);
-                if (declaredField.getType() != int.class) {
-                    continue;
-                }
-                if (Modifier.isFinal(declaredField.getModifiers())) {
-                    continue;
-                }
-                if (Modifier.isStatic(declaredField.getModifiers())) {
-                    continue;
-                }
-                int value = declaredField.getInt(npc);
-                declaredField.setInt(npc, 4795789);
-                if (npc.getAnimation() == sequence * 4795789) {
-                    animationField = declaredField.getName();
-                    declaredField.setInt(npc, value);
-                    declaredField.setAccessible(false);
-                    break;
-                }
+        if (animationGetter == null) {
+            findAnimationField(npc);
+        }
+        if (animationGetter == null) {
+            return -1;
+        }
+        return (int) animationGetter.invokeExact((Object) npc) * sequence;
+    }
+
+    private static synchronized void findAnimationField(NPC npc) throws IllegalAccessException {
+        if (animationGetter != null) {
+            return;
+        }
+        for (Field declaredField : npc.getClass().getSuperclass().getDeclaredFields()) {
+            if (declaredField == null) {
+                continue;
+            }
+            declaredField.setAccessible(true);
+            if (declaredField.getType() != int.class) {
+                continue;
+            }
+            if (Modifier.isFinal(declaredField.getModifiers())) {
+                continue;
+            }
+            if (Modifier.isStatic(declaredField.getModifiers())) {
+                continue;
+            }
+            int value = declaredField.getInt(npc);
+            declaredField.setInt(npc, 4795789);
+            if (npc.getAnimation() == sequence * 4795789) {
+                animationField = declaredField.getName();
                 declaredField.setInt(npc, value);
+                animationGetter = MethodHandles.lookup().unreflectGetter(declaredField)
+                        .asType(MethodType.methodType(int.class, Object.class));
                 declaredField.setAccessible(false);
+                break;
             }
+            declaredField.setInt(npc, value);
+            declaredField.setAccessible(false);
         }
-        if (animationField == null) {
-            return -1;
-        }
-        Field animation = npc.getClass().getSuperclass().getDeclaredField(animationField);
-        animation.setAccessible(true);
-        int anim = animation.getInt(npc) * sequence;
-        animation.setAccessible(false);
-        return anim;
     }
 
     @SneakyThrows
     public static String[] getGroundItemActions(ItemComposition item) {
-        List<Field> fields = Arrays.stream(item.getClass().getFields()).filter(x -> x.getType().isArray()).collect(Collectors.toList());
-        for (Field field : fields) {
-            if (field.getType().getComponentType().getName().equals("java.lang.String")) {
-                String[] actions = (String[]) field.get(item);
-                if (Arrays.stream(actions).anyMatch(x -> x != null && x.equalsIgnoreCase("take"))) {
-                    field.setAccessible(true);
-                    return actions;
-                }
+        for (MethodHandle getter : stringArrayGetters.computeIfAbsent(item.getClass(), Rs2Reflection::findStringArrayGetters)) {
+            String[] actions = (String[]) getter.invokeExact((Object) item);
+            if (actions != null && Arrays.stream(actions).anyMatch(x -> x != null && x.equalsIgnoreCase("take"))) {
+                return actions;
             }
         }
         return new String[]{};
     }
 
+    private static List<MethodHandle> findStringArrayGetters(Class<?> itemClass) {
+        List<MethodHandle> getters = new ArrayList<>();
+        for (Field field : itemClass.getFields()) {
+            if (field.getType() != String[].class || Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            try {
+                getters.add(MethodHandles.publicLookup().unreflectGetter(field)
+                        .asType(MethodType.methodType(String[].class, Object.class)));
+            } catch (IllegalAccessException ex) {
+                // not readable from here, so it was never a candidate
+            }
+        }
+        return Collections.unmodifiableList(getters);
+    }
+
     @SneakyThrows
     public static void setItemId(MenuEntry menuEntry, int itemId) throws IllegalAccessException, InvocationTargetException {
-        var list =  Arrays.stream(menuEntry.getClass().getMethods())
-                .filter(x -> x.getName().equals("setItemId"))
-                .collect(Collectors.toList());
-
-         list.get(0)
-                .invoke(menuEntry, itemId); //use the setItemId method through reflection
+        MethodHandle setter = itemIdSetters.get(menuEntry.getClass());
+        if (setter == null) {
+            Method method = Arrays.stream(menuEntry.getClass().getMethods())
+                    .filter(x -> x.getName().equals("setItemId"))
+                    .findFirst()
+                    .orElseThrow(() -> new NoSuchMethodException(menuEntry.getClass().getName() + ".setItemId"));
+            method.setAccessible(true);
+            setter = MethodHandles.lookup().unreflect(method)
+                    .asType(MethodType.methodType(void.class, Object.class, int.class));
+            itemIdSetters.put(menuEntry.getClass(), setter);
+        }
+        setter.invokeExact((Object) menuEntry, itemId); //use the setItemId method through reflection
     }
 
 
-    @SneakyThrows
+    /**
+     * @param exact true to match the whole name of the {@link ObjectID} constant, false to match a fragment of it,
+     *              ignoring case either way
+     */
     public static ArrayList<Integer> getObjectByName(String[] names, boolean exact) {
-        ArrayList<Integer> objectIds = new ArrayList<Integer>();
-        Field[] fields = ObjectID.class.getDeclaredFields();
-        for (Field field : fields) {
-            field.setAccessible(true);
-
-            if (field.getType() == int.class) {
-                int fieldValue = field.getInt(null);
+        return getByName(ConstantIndex.of(ObjectID.class), names, exact);
+    }
 
-                if (exact)
-                    if (Arrays.stream(names).noneMatch(name -> field.getName().equalsIgnoreCase(name)))
-                        continue;
+    public static ArrayList<Integer> getObjectByName(String name, boolean exact) {
+        return getObjectByName(new String[]{name}, exact);
+    }
 
-                if (!exact)
-                    if (Arrays.stream(names).noneMatch(name -> field.getName().toLowerCase().contains(name.toLowerCase())))
-                        continue;
+    /**
+     * @param exact true to match the whole name of the {@link ItemID} constant, false to match a fragment of it,
+     *              ignoring case either way
+     */
+    public static ArrayList<Integer> getItemByName(String name, boolean exact) {
+        return getByName(ConstantIndex.of(ItemID.class), new String[]{name}, exact);
+    }
 
-                objectIds.add(fieldValue);
-            }
-        }
-        return objectIds;
+    /**
+     * @param exact true to match the whole name of the {@link NpcID} constant, false to match a fragment of it,
+     *              ignoring case either way
+     */
+    public static ArrayList<Integer> getNpcByName(String name, boolean exact) {
+        return getByName(ConstantIndex.of(NpcID.class), new String[]{name}, exact);
     }
 
-    @SneakyThrows
-    public static ArrayList<Integer> getObjectByName(String name, boolean exact) {
-        return getObjectByName(new String[]{name}, exact);
+    private static ArrayList<Integer> getByName(ConstantIndex index, String[] names, boolean exact) {
+        // a new list, the callers add their own ids to it
+        return index.matching(names, exact);
     }
 
     @SneakyThrows
@@ -143,7 +187,7 @@ public class Rs2Reflection {
         }
 
         doAction.setAccessible(true);
-        Microbot.getClientThread().runOnClientThread(() -> doAction.invoke(null, param0, param1, opcode, identifier, itemId, option, target, x, y));
+        Microbot.runOnClientThread(() -> doAction.invoke(null, param0, param1, opcode, identifier, itemId, option, target, x, y));
         if (Microbot.getClient().getKeyboardIdleTicks() > Random.random(5000, 10000)) {
             Rs2Keyboard.keyPress(KeyEvent.VK_BACK_SPACE);
         }
@@ -1,12 +1,12 @@
 package net.runelite.client.plugins.microbot.util.shop;
 
-import net.runelite.api.ItemComposition;
 import net.runelite.api.MenuAction;
 import net.runelite.api.NPC;
 import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Item;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemCache;
 import net.runelite.client.plugins.microbot.util.menu.NewMenuEntry;
 import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
@@ -193,10 +193,10 @@ public class Rs2Shop {
         int param1;
         int identifier = 3;
         MenuAction menuAction = MenuAction.CC_OP;
-        ItemComposition itemComposition = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getItemDefinition(rs2Item.id));
         if (!action.isEmpty()) {
-            String[] actions;
-            actions = itemComposition.getInventoryActions();
+            Rs2ItemCache.ItemInfo info = Rs2ItemCache.get(rs2Item.id);
+            if (info == null) return;
+            String[] actions = info.getInventoryActions();
 
             for (int i = 0; i < actions.length; i++) {
                 if (action.equalsIgnoreCase(actions[i])) {
@@ -0,0 +1,114 @@
+package net.runelite.client.plugins.microbot.util.tick;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks when game ticks arrive. The tick period and its jitter are smoothed from the time between
+ * {@link net.runelite.api.events.GameTick} events, and used to predict when the next ticks will start.
+ * <p>
+ * The clock is fed by the microbot plugin and passes each tick on to the {@link TickScheduler}s.
+ */
+public final class TickClock {
+    public static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(600);
+    // weight of a new sample in the smoothed period and jitter
+    private static final double SMOOTHING = 0.125;
+
+    private static final Set<TickScheduler> schedulers = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    // replaced as a whole on each tick, so readers never see the tick of one update with the time of another
+    private static volatile Snapshot snapshot = new Snapshot(-1, 0L, TICK_NANOS, 0d);
+
+    private TickClock() {
+    }
+
+    /**
+     * Record the start of a game tick, must be called from the GameTick event on the client thread.
+     */
+    public static void onGameTick(int tickCount) {
+        long now = System.nanoTime();
+        Snapshot previous = snapshot;
+        double periodNanos = previous.periodNanos;
+        double jitterNanos = previous.jitterNanos;
+
+        if (previous.tick >= 0 && tickCount > previous.tick) {
+            long elapsed = (now - previous.tickNanos) / (tickCount - previous.tick);
+            // a long gap is a login or a freeze rather than a slow tick, don't let it skew the period
+            if (elapsed < TICK_NANOS * 2) {
+                double error = elapsed - periodNanos;
+                periodNanos += SMOOTHING * error;
+                jitterNanos += SMOOTHING * (Math.abs(error) - jitterNanos);
+            }
+        }
+
+        snapshot = new Snapshot(tickCount, now, periodNanos, jitterNanos);
+
+        List<TickScheduler> targets;
+        synchronized (schedulers) {
+            targets = new ArrayList<>(schedulers);
+        }
+        for (TickScheduler scheduler : targets) {
+            scheduler.onTick(tickCount, now);
+        }
+    }
+
+    static void register(TickScheduler scheduler) {
+        schedulers.add(scheduler);
+    }
+
+    static void unregister(TickScheduler scheduler) {
+        schedulers.remove(scheduler);
+    }
+
+    /**
+     * @return the last game tick seen, or -1 before the first one
+     */
+    public static int getTick() {
+        return snapshot.tick;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the last game tick was seen
+     */
+    public static long getTickNanos() {
+        return snapshot.tickNanos;
+    }
+
+    /**
+     * @return the predicted {@link System#nanoTime()} at which the tick starts
+     */
+    public static long predictTickStart(int targetTick) {
+        Snapshot current = snapshot;
+        return current.tickNanos + Math.round((targetTick - current.tick) * current.periodNanos);
+    }
+
+    public static double getPeriodMillis() {
+        return snapshot.periodNanos / 1_000_000d;
+    }
+
+    public static double getJitterMillis() {
+        return snapshot.jitterNanos / 1_000_000d;
+    }
+
+    static long getJitterNanos() {
+        return Math.round(snapshot.jitterNanos);
+    }
+
+    private static final class Snapshot {
+        private final int tick;
+        private final long tickNanos;
+        private final double periodNanos;
+        private final double jitterNanos;
+
+        private Snapshot(int tick, long tickNanos, double periodNanos, double jitterNanos) {
+            this.tick = tick;
+            this.tickNanos = tickNanos;
+            this.periodNanos = periodNanos;
+            this.jitterNanos = jitterNanos;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package net.runelite.client.plugins.microbot.util.tick;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How many of the actions of a {@link TickScheduler} started in the tick they were planned for.
+ * An action is judged when it starts, not when it finishes: it is late if it started outside its planned
+ * tick, and missed if its tick had already passed before it could be armed.
+ */
+public class TickMetrics {
+    private long planned;
+    private long onTime;
+    private long late;
+    private long missed;
+    private long cancelled;
+    private long failures;
+    private long fireErrorNanos;
+    private long maxFireErrorNanos;
+
+    synchronized void recordPlanned() {
+        ++planned;
+    }
+
+    synchronized void recordCancelled() {
+        ++cancelled;
+    }
+
+    synchronized void recordMissed(int count) {
+        missed += count;
+    }
+
+    synchronized void recordFailure() {
+        ++failures;
+    }
+
+    /**
+     * @param fireError how long after the planned time the action started
+     * @param landed    whether the action started in its planned tick
+     */
+    synchronized void recordFired(long fireError, boolean landed) {
+        if (landed) {
+            ++onTime;
+        } else {
+            ++late;
+        }
+        fireErrorNanos += Math.abs(fireError);
+        maxFireErrorNanos = Math.max(maxFireErrorNanos, Math.abs(fireError));
+    }
+
+    public synchronized void reset() {
+        planned = onTime = late = missed = cancelled = failures = fireErrorNanos = maxFireErrorNanos = 0L;
+    }
+
+    public synchronized long getPlanned() {
+        return planned;
+    }
+
+    public synchronized long getOnTime() {
+        return onTime;
+    }
+
+    public synchronized long getLate() {
+        return late;
+    }
+
+    public synchronized long getMissed() {
+        return missed;
+    }
+
+    public synchronized long getCancelled() {
+        return cancelled;
+    }
+
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return the fraction of the fired and missed actions which started in their planned tick
+     */
+    public synchronized double getOnTimeRatio() {
+        long total = onTime + late + missed;
+        return total == 0 ? 1d : (double) onTime / total;
+    }
+
+    public synchronized double getAverageFireError(TimeUnit unit) {
+        long fired = onTime + late;
+        return fired == 0 ? 0d : (double) fireErrorNanos / fired / unit.toNanos(1);
+    }
+
+    public synchronized long getMaxFireError(TimeUnit unit) {
+        return unit.convert(maxFireErrorNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized String toString() {
+        long fired = onTime + late;
+        return String.format("planned=%d onTime=%d late=%d missed=%d cancelled=%d failures=%d avgFireError=%.1fms maxFireError=%.1fms",
+                planned, onTime, late, missed, cancelled, failures,
+                fired == 0 ? 0d : fireErrorNanos / 1_000_000d / fired, maxFireErrorNanos / 1_000_000d);
+    }
+}
@@ -0,0 +1,265 @@
+package net.runelite.client.plugins.microbot.util.tick;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.microbot.util.executor.ScriptExecutor;
+import net.runelite.client.plugins.microbot.util.executor.ScriptRuntime;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs actions at an offset from the start of a game tick, instead of after a wall clock sleep which drifts
+ * relative to the server. Actions are planned for a tick, and are started when the {@link TickClock} predicts
+ * that tick plus the offset has been reached. A negative offset runs the action before the tick starts,
+ * eg. to have a prayer switch processed in that tick.
+ * <p>
+ * Actions run one at a time on a lane of the {@link ScriptRuntime}. Whether they started in their
+ * planned tick is recorded in {@link #getMetrics()}, and logged at debug level on {@link #shutdown()}.
+ */
+@Slf4j
+public class TickScheduler {
+    @Getter
+    private final String name;
+    @Getter
+    private final TickMetrics metrics = new TickMetrics();
+
+    private final ScriptExecutor lane;
+    // actions which are not armed yet, by planned tick, guarded by itself
+    private final TreeMap<Integer, List<TickAction>> plan = new TreeMap<>();
+    private final List<TickAction> repeating = new ArrayList<>();
+
+    public TickScheduler(String name) {
+        this.name = name;
+        this.lane = ScriptRuntime.newSerialExecutor("tick." + name);
+        TickClock.register(this);
+    }
+
+    /**
+     * Plan an action relative to the current tick.
+     *
+     * @param ticksAhead   0 for the current tick, 1 for the next one and so on
+     * @param offsetMillis time from the start of the tick, may be negative
+     */
+    public TickAction schedule(int ticksAhead, long offsetMillis, Runnable action) {
+        return scheduleAt(TickClock.getTick() + ticksAhead, offsetMillis, action);
+    }
+
+    /**
+     * Plan an action for an absolute tick, as returned by {@link net.runelite.api.Client#getTickCount()}.
+     */
+    public TickAction scheduleAt(int tick, long offsetMillis, Runnable action) {
+        TickAction tickAction = new TickAction(tick, TimeUnit.MILLISECONDS.toNanos(offsetMillis), action);
+        metrics.recordPlanned();
+        synchronized (plan) {
+            plan.computeIfAbsent(tick, k -> new ArrayList<>()).add(tickAction);
+            // it may already be due, eg. when planned for the current tick from a GameTick handler
+            armDue(TickClock.getTick());
+        }
+        return tickAction;
+    }
+
+    /**
+     * Run an action at the offset of every tick, until it is cancelled.
+     */
+    public TickAction scheduleEveryTick(long offsetMillis, Runnable action) {
+        TickAction tickAction = new TickAction(-1, TimeUnit.MILLISECONDS.toNanos(offsetMillis), action);
+        synchronized (plan) {
+            repeating.add(tickAction);
+        }
+        return tickAction;
+    }
+
+    /**
+     * @return the number of actions which have not been started yet
+     */
+    public int getPendingCount() {
+        synchronized (plan) {
+            return plan.values().stream().mapToInt(List::size).sum() + repeating.size();
+        }
+    }
+
+    public void cancelAll() {
+        synchronized (plan) {
+            for (List<TickAction> actions : plan.values()) {
+                for (TickAction action : actions) {
+                    action.cancelled = true;
+                    metrics.recordCancelled();
+                }
+            }
+            plan.clear();
+            repeating.clear();
+        }
+        lane.cancelAll();
+    }
+
+    /**
+     * Cancel every action and stop receiving ticks. The scheduler can't be used afterwards.
+     */
+    public void shutdown() {
+        TickClock.unregister(this);
+        cancelAll();
+        lane.shutdownNow();
+        log.debug("Tick scheduler {} shut down, {}", name, metrics);
+    }
+
+    void onTick(int tick, long tickNanos) {
+        synchronized (plan) {
+            for (TickAction action : repeating) {
+                if (!action.cancelled) {
+                    TickAction instance = new TickAction(tick, action.offsetNanos, action.action);
+                    plan.computeIfAbsent(tick, k -> new ArrayList<>()).add(instance);
+                    action.instance = instance;
+                    metrics.recordPlanned();
+                }
+            }
+            repeating.removeIf(action -> action.cancelled);
+            armDue(tick);
+        }
+    }
+
+    /**
+     * Arm the actions which are due before the tick after the current one starts, and drop the ones
+     * whose tick has already passed.
+     */
+    private void armDue(int tick) {
+        if (tick < 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long nextTickStart = TickClock.predictTickStart(tick + 1);
+
+        Iterator<Map.Entry<Integer, List<TickAction>>> it = plan.headMap(tick + 1, true).entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, List<TickAction>> entry = it.next();
+            int target = entry.getKey();
+            List<TickAction> actions = entry.getValue();
+
+            if (target < tick) {
+                metrics.recordMissed(actions.size());
+                it.remove();
+                continue;
+            }
+
+            long tickStart = TickClock.predictTickStart(target);
+            actions.removeIf(action -> {
+                long fireAt = tickStart + action.offsetNanos;
+                if (target == tick + 1 && fireAt >= nextTickStart) {
+                    // not due until the next tick, which will arm it with a fresh prediction
+                    return false;
+                }
+                arm(action, fireAt, now);
+                return true;
+            });
+            if (actions.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    private void arm(TickAction action, long fireAt, long now) {
+        try {
+            action.future = lane.schedule(() -> fire(action, fireAt), Math.max(0L, fireAt - now), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException ex) {
+            // planned while the scheduler was being shut down
+            action.cancelled = true;
+            metrics.recordCancelled();
+        }
+    }
+
+    private void fire(TickAction action, long fireAt) {
+        if (action.cancelled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean landed = isInWindow(action, fireAt, start);
+        try {
+            action.action.run();
+        } catch (Exception ex) {
+            metrics.recordFailure();
+            log.warn("Tick action of {} failed", name, ex);
+            return;
+        }
+        metrics.recordFired(start - fireAt, landed);
+    }
+
+    /**
+     * @return whether the action started between its planned time and the start of the tick after its
+     * planned tick. An action with a negative offset starts while the tick before is still current, so
+     * the current tick alone can't tell.
+     */
+    private static boolean isInWindow(TickAction action, long fireAt, long start) {
+        if (TickClock.getTick() > action.tick) {
+            return false;
+        }
+        long tolerance = TickClock.getJitterNanos();
+        return start >= fireAt - tolerance && start < TickClock.predictTickStart(action.tick + 1);
+    }
+
+    /**
+     * An action planned by a {@link TickScheduler}.
+     */
+    public final class TickAction {
+        @Getter
+        private final int tick;
+        private final long offsetNanos;
+        private final Runnable action;
+        private volatile boolean cancelled;
+        private volatile Future<?> future;
+        // the instance of a repeating action planned for the current tick
+        private volatile TickAction instance;
+
+        private TickAction(int tick, long offsetNanos, Runnable action) {
+            this.tick = tick;
+            this.offsetNanos = offsetNanos;
+            this.action = action;
+        }
+
+        /**
+         * Cancel the action if it has not started. A repeating action stops repeating, and its instance
+         * for the current tick is cancelled if it has not started either.
+         */
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            if (tick < 0) {
+                TickAction planned;
+                // onTick plans instances under the same lock, so none is planned after this one
+                synchronized (plan) {
+                    repeating.remove(this);
+                    planned = instance;
+                }
+                if (planned != null) {
+                    planned.cancel();
+                }
+                // a repeating action is only counted through its instances
+                return;
+            }
+            metrics.recordCancelled();
+            synchronized (plan) {
+                List<TickAction> actions = plan.get(tick);
+                if (actions != null) {
+                    actions.remove(this);
+                }
+            }
+            Future<?> armed = future;
+            if (armed != null) {
+                armed.cancel(false);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
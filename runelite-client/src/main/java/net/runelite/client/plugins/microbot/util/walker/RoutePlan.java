@@ -0,0 +1,80 @@
+package net.runelite.client.plugins.microbot.util.walker;
+
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.Transport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A path of the pathfinder with everything the walker looks up per step resolved once: the index of
+ * every point, and the transports which can be taken from every index because both their origin and
+ * their destination lie further along the path. The walker compiles a plan whenever the pathfinder
+ * hands it a new path, so a step costs the same whatever the length of the path.
+ */
+final class RoutePlan {
+    private final List<WorldPoint> path;
+    private final Map<WorldPoint, Integer> indexes;
+    private final List<List<Transport>> transports;
+
+    private RoutePlan(List<WorldPoint> path, Map<WorldPoint, Integer> indexes, List<List<Transport>> transports) {
+        this.path = path;
+        this.indexes = indexes;
+        this.transports = transports;
+    }
+
+    static RoutePlan compile(List<WorldPoint> path, Map<WorldPoint, List<Transport>> allTransports) {
+        Map<WorldPoint, Integer> indexes = new HashMap<>(path.size() * 2);
+        for (int i = 0; i < path.size(); i++) {
+            // the first occurrence, like a scan from the start of the path would find
+            indexes.putIfAbsent(path.get(i), i);
+        }
+
+        List<List<Transport>> transports = new ArrayList<>(path.size());
+        for (int i = 0; i < path.size(); i++) {
+            List<Transport> candidates = allTransports.get(path.get(i));
+            if (candidates == null || candidates.isEmpty()) {
+                transports.add(Collections.emptyList());
+                continue;
+            }
+
+            List<Transport> usable = new ArrayList<>(1);
+            for (Transport transport : candidates) {
+                Integer origin = indexes.get(transport.getOrigin());
+                Integer destination = indexes.get(transport.getDestination());
+                if (origin != null && destination != null && destination >= origin) {
+                    usable.add(transport);
+                }
+            }
+            transports.add(usable.isEmpty() ? Collections.emptyList() : usable);
+        }
+        return new RoutePlan(path, indexes, transports);
+    }
+
+    boolean isFor(List<WorldPoint> other) {
+        return other == path;
+    }
+
+    List<WorldPoint> getPath() {
+        return path;
+    }
+
+    /**
+     * @return the index of the first occurrence of the point, or -1 if it is not on the path
+     */
+    int indexOf(WorldPoint point) {
+        Integer index = indexes.get(point);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return the transports whose origin is the point at the index and whose destination is further along
+     * the path, so the index is where they are taken
+     */
+    List<Transport> getTransports(int index) {
+        return transports.get(index);
+    }
+}
@@ -13,7 +13,7 @@ public class Rs2MiniMap {
     public static Point localToMinimap(LocalPoint localPoint) {
         if (localPoint == null) return null;
 
-        return Microbot.getClientThread().runOnClientThread(() -> Perspective.localToMinimap(Microbot.getClient(), localPoint));
+        return Microbot.runOnClientThread(() -> Perspective.localToMinimap(Microbot.getClient(), localPoint));
     }
 
     @Nullable
@@ -37,6 +37,6 @@ public class Rs2MiniMap {
 
         if (localPoint == null) return null;
 
-        return Microbot.getClientThread().runOnClientThread(() -> Perspective.localToMinimap(Microbot.getClient(), localPoint));
+        return Microbot.runOnClientThread(() -> Perspective.localToMinimap(Microbot.getClient(), localPoint));
     }
 }
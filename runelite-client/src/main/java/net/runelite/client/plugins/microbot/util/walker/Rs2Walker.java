@@ -18,12 +18,14 @@ import net.runelite.client.plugins.microbot.util.math.Random;
 import net.runelite.client.plugins.microbot.util.menu.NewMenuEntry;
 import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.plugins.microbot.util.profiler.Rs2Profiler;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.ui.overlay.worldmap.WorldMapPoint;
 
 import java.awt.*;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -42,6 +44,10 @@ public class Rs2Walker {
     static int idle = 0;
     static WorldPoint currentTarget;
     static int nextWalkingDistance = 10;
+    private static volatile RoutePlan routePlan;
+    private static final List<String> DOOR_ACTIONS = Arrays.asList("pay-toll", "pick-lock", "walk-through", "go-through", "open");
+    // the best door action of every object id, "" for objects which are not doors
+    private static final Map<Integer, String> doorActions = new ConcurrentHashMap<>();
 
     public static boolean walkTo(WorldArea area, int distanceThreshold) {
         if (area.distanceTo(Rs2Player.getWorldLocation()) > distanceThreshold) {
@@ -110,7 +116,8 @@ public class Rs2Walker {
                     if (ShortestPathPlugin.getPathfinder() == null) break;
 
                     List<WorldPoint> path = ShortestPathPlugin.getPathfinder().getPath();
-                    int indexOfStartPoint = getClosestTileIndex(path);
+                    RoutePlan plan = getRoutePlan(path);
+                    int indexOfStartPoint = getClosestTileIndex(plan);
                     lastPosition = Rs2Player.getWorldLocation();
 
                     if (Rs2Player.getWorldLocation().distanceTo(target) == 0)
@@ -131,23 +138,19 @@ public class Rs2Walker {
                          * CHECK DOORS
                          */
                         Microbot.status = "Checking for doors...";
-                        long startTime = System.currentTimeMillis();
+                        long startTime = Rs2Profiler.start();
 
                         doorOrTransportResult = handleDoors(path, i);
+                        Rs2Profiler.stop("walker.doors", startTime);
                         if (doorOrTransportResult) {
                             break;
                         }
-                        long endTime = System.currentTimeMillis();
-                        long totalTime = endTime - startTime;
-                        System.out.println("Handling doors took " + totalTime + "ms");
 
                         if (!Microbot.getClient().isInInstancedRegion()) {
                             Microbot.status = "Checking for transports...";
-                            startTime = System.currentTimeMillis();
-                            doorOrTransportResult = handleTransports(path, i);
-                            endTime = System.currentTimeMillis();
-                            totalTime = endTime - startTime;
-                            System.out.println("Handling transports took " + totalTime + "ms");
+                            startTime = Rs2Profiler.start();
+                            doorOrTransportResult = handleTransports(plan, i);
+                            Rs2Profiler.stop("walker.transports", startTime);
                         }
 
                         if (doorOrTransportResult)
@@ -393,23 +396,33 @@ public class Rs2Walker {
         return worldPoint.distanceTo(Microbot.getClient().getLocalPlayer().getWorldLocation());
     }
 
+    /**
+     * @return the compiled plan of the path, compiling it if the pathfinder has produced a new path
+     */
+    private static RoutePlan getRoutePlan(List<WorldPoint> path) {
+        RoutePlan plan = routePlan;
+        if (plan == null || !plan.isFor(path)) {
+            long start = Rs2Profiler.start();
+            plan = RoutePlan.compile(path, ShortestPathPlugin.getTransports());
+            Rs2Profiler.stop("walker.compile", start);
+            routePlan = plan;
+        }
+        return plan;
+    }
+
     private static boolean handleDoors(List<WorldPoint> path, int index) {
 
         if (ShortestPathPlugin.getPathfinder() == null) return false;
 
         if (index == path.size() - 1) return false;
 
-        var doorActions = Arrays.asList("pay-toll", "pick-lock", "walk-through", "go-through", "open");
-
         // Check this and the next tile for door objects
         for (int doorIndex = index; doorIndex < index + 2; doorIndex++){
             var point = path.get(doorIndex);
 
             // Handle wall and game objects
             TileObject object = null;
-            var tile = Rs2GameObject.getTiles(3).stream()
-                    .filter(x -> x.getWorldLocation().equals(point))
-                    .findFirst().orElse(null);
+            var tile = getNearbyTile(point);
             if (tile != null)
                 object = tile.getWallObject();
 
@@ -422,11 +435,7 @@ public class Rs2Walker {
             if (objectComp == null) continue;
 
             // Match action
-            var action = Arrays.stream(objectComp.getActions())
-                    .filter(x -> x != null && doorActions.stream().anyMatch(doorAction -> x.toLowerCase().startsWith(doorAction)))
-                    .min(Comparator.comparing(x -> doorActions.indexOf(
-                            doorActions.stream().filter(doorAction -> x.toLowerCase().startsWith(doorAction)).findFirst().orElse(""))))
-                    .orElse(null);
+            var action = getDoorAction(objectComp);
 
             if (action == null) continue;
 
@@ -482,11 +491,66 @@ public class Rs2Walker {
         return false;
     }
 
+    /**
+     * @return the tile at the point if it is on the current plane within the distance that
+     * {@link Rs2GameObject#getTiles(int)} searches, otherwise null
+     */
+    private static Tile getNearbyTile(WorldPoint point) {
+        if (Microbot.getClient().isInInstancedRegion()) {
+            return Rs2GameObject.getTiles(3).stream()
+                    .filter(x -> x.getWorldLocation().equals(point))
+                    .findFirst().orElse(null);
+        }
+        if (point.getPlane() != Microbot.getClient().getPlane()) return null;
+        LocalPoint localPoint = LocalPoint.fromWorld(Microbot.getClient(), point);
+        if (localPoint == null) return null;
+        Tile tile = Microbot.getClient().getScene().getTiles()[point.getPlane()][localPoint.getSceneX()][localPoint.getSceneY()];
+        if (tile == null || !tile.getWorldLocation().equals(point)) return null;
+        Player player = Microbot.getClient().getLocalPlayer();
+        if (player == null || player.getLocalLocation().distanceTo(tile.getLocalLocation()) > 2400) return null;
+        return tile;
+    }
+
+    /**
+     * Forget the door actions matched so far, eg. when compositions may have changed with the game cache.
+     */
+    public static void invalidate() {
+        doorActions.clear();
+    }
+
+    /**
+     * @return the door action of the object with the highest priority in {@link #DOOR_ACTIONS}, or null if it is not a door
+     */
+    private static String getDoorAction(ObjectComposition objectComp) {
+        String action = doorActions.computeIfAbsent(objectComp.getId(), id -> {
+            String best = "";
+            int bestPriority = Integer.MAX_VALUE;
+            for (String x : objectComp.getActions()) {
+                if (x == null) continue;
+                String lower = x.toLowerCase();
+                for (int priority = 0; priority < DOOR_ACTIONS.size() && priority < bestPriority; priority++) {
+                    if (lower.startsWith(DOOR_ACTIONS.get(priority))) {
+                        best = x;
+                        bestPriority = priority;
+                        break;
+                    }
+                }
+            }
+            return best;
+        });
+        return action.isEmpty() ? null : action;
+    }
+
     /**
      * @param path
      * @return
      */
     public static int getClosestTileIndex(List<WorldPoint> path) {
+        return getClosestTileIndex(getRoutePlan(path));
+    }
+
+    private static int getClosestTileIndex(RoutePlan plan) {
+        List<WorldPoint> path = plan.getPath();
         WorldPoint startPoint;
 
         var tiles = Rs2Tile.getReachableTilesFromTile(Rs2Player.getWorldLocation(), 20);
@@ -500,10 +564,7 @@ public class Rs2Walker {
                 }))
                 .orElse(null);
 
-        return IntStream.range(0, path.size())
-                .filter(i -> path.get(i).equals(startPoint))
-                .findFirst()
-                .orElse(0);
+        return startPoint == null ? 0 : Math.max(plan.indexOf(startPoint), 0);
     }
 
     /**
@@ -599,112 +660,103 @@ public class Rs2Walker {
      * @return
      */
     public static boolean handleTransports(List<WorldPoint> path, int indexOfStartPoint) {
-        for (Transport b : ShortestPathPlugin.getTransports().getOrDefault(path.get(indexOfStartPoint), new ArrayList<>())) {
+        return handleTransports(getRoutePlan(path), indexOfStartPoint);
+    }
+
+    private static boolean handleTransports(RoutePlan plan, int indexOfStartPoint) {
+        List<WorldPoint> path = plan.getPath();
+        // only transports whose origin and destination are in order along the path
+        for (Transport b : plan.getTransports(indexOfStartPoint)) {
+            // the transports of an index start at its point, so that is where the origin is on the path
+            int i = indexOfStartPoint;
             for (WorldPoint origin : WorldPoint.toLocalInstance(Microbot.getClient(), b.getOrigin())) {
 
                 if (Rs2Player.getWorldLocation().getPlane() != b.getOrigin().getPlane()) {
                     continue;
                 }
 
-                for (int i = indexOfStartPoint; i < path.size(); i++) {
-                    if (origin.getPlane() != Rs2Player.getWorldLocation().getPlane())
-                        continue;
-                    if (path.stream().noneMatch(x -> x.equals(b.getDestination()))) continue;
-
-                    int indexOfOrigin = IntStream.range(0, path.size())
-                            .filter(f -> path.get(f).equals(b.getOrigin()))
-                            .findFirst()
-                            .orElse(-1);
-                    int indexOfDestination = IntStream.range(0, path.size())
-                            .filter(f -> path.get(f).equals(b.getDestination()))
-                            .findFirst()
-                            .orElse(-1);
-                    if (indexOfDestination == -1) continue;
-                    if (indexOfOrigin == -1) continue;
-                    if (indexOfDestination < indexOfOrigin) continue;
-
-                    if (path.get(i).equals(origin)) {
-                        if (b.isShip() || b.isNpc() || b.isBoat()) {
-                            var npcAndAction = String.format("%s %s", b.getAction(), b.getNpcName());
-                            NPC npc = null;
-                            String action = "";
-                            for (int n = npcAndAction.indexOf(" "); n >= 0; n = npcAndAction.indexOf(" ", n + 1)){
-                                npc = Rs2Npc.getNpc(npcAndAction.substring(n + 1));
-                                if (npc != null){
-                                    action = npcAndAction.substring(0, n);
-                                    break;
-                                }
-                            }
+                if (origin.getPlane() != Rs2Player.getWorldLocation().getPlane())
+                    continue;
 
-                            if (Rs2Npc.canWalkTo(npc, 20)){
-                                Rs2Npc.interact(npc, action);
-                                Rs2Player.waitForWalking();
-                            } else {
-                                Rs2Walker.walkFastCanvas(path.get(i));
-                                sleep(1200, 1600);
+                if (path.get(i).equals(origin)) {
+                    if (b.isShip() || b.isNpc() || b.isBoat()) {
+                        var npcAndAction = String.format("%s %s", b.getAction(), b.getNpcName());
+                        NPC npc = null;
+                        String action = "";
+                        for (int n = npcAndAction.indexOf(" "); n >= 0; n = npcAndAction.indexOf(" ", n + 1)){
+                            npc = Rs2Npc.getNpc(npcAndAction.substring(n + 1));
+                            if (npc != null){
+                                action = npcAndAction.substring(0, n);
+                                break;
                             }
                         }
-                    }
 
-                    if (b.getDestination().distanceTo2D(Rs2Player.getWorldLocation()) > 20) {
-                        handleTrapdoor(b);
+                        if (Rs2Npc.canWalkTo(npc, 20)){
+                            Rs2Npc.interact(npc, action);
+                            Rs2Player.waitForWalking();
+                        } else {
+                            Rs2Walker.walkFastCanvas(path.get(i));
+                            sleep(1200, 1600);
+                        }
                     }
+                }
 
-                    if (b.isSpiritTree()) {
-                        b.handleSpiritTree();
-                    }
+                if (b.getDestination().distanceTo2D(Rs2Player.getWorldLocation()) > 20) {
+                    handleTrapdoor(b);
+                }
+
+                if (b.isSpiritTree()) {
+                    b.handleSpiritTree();
+                }
 
 
-                    if (b.isGnomeGlider()) {
-                        b.handleGlider();
-                    }
+                if (b.isGnomeGlider()) {
+                    b.handleGlider();
+                }
 
-                    if (b.isFairyRing() && !Rs2Player.getWorldLocation().equals(b.getDestination())) {
-                        b.handleFairyRing();
-                    }
+                if (b.isFairyRing() && !Rs2Player.getWorldLocation().equals(b.getDestination())) {
+                    b.handleFairyRing();
+                }
 
 
-                    GameObject gameObject = Rs2GameObject.getGameObjects(b.getObjectId(), b.getOrigin()).stream().findFirst().orElse(null);
+                GameObject gameObject = Rs2GameObject.getGameObjects(b.getObjectId(), b.getOrigin()).stream().findFirst().orElse(null);
 
-                    //check game objects
-                    if (gameObject != null && gameObject.getId() == b.getObjectId()) {
-                        boolean interact = Rs2GameObject.interact(gameObject, b.getAction(), true);
-                        if (!interact) {
-                            Rs2Walker.walkMiniMap(path.get(i));
-                            sleep(1600, 2000);
-                            return true;
-                        }
-                        Rs2Player.waitForWalking();
+                //check game objects
+                if (gameObject != null && gameObject.getId() == b.getObjectId()) {
+                    boolean interact = Rs2GameObject.interact(gameObject, b.getAction(), true);
+                    if (!interact) {
+                        Rs2Walker.walkMiniMap(path.get(i));
+                        sleep(1600, 2000);
                         return true;
                     }
+                    Rs2Player.waitForWalking();
+                    return true;
+                }
 
-                        //check tile objects
-                        List<TileObject> tileObjects = Rs2GameObject.getTileObjects(b.getObjectId(), b.getOrigin());
-                        TileObject tileObject = tileObjects.stream().findFirst().orElse(null);
-                        if (tileObject instanceof GroundObject)
-                            tileObject = tileObjects.stream()
-                                    .filter(x -> !x.getWorldLocation().equals(Rs2Player.getWorldLocation()))
-                                    .min(Comparator.comparing(x -> ((TileObject)x).getWorldLocation().distanceTo(b.getOrigin()))
-                                            .thenComparing(x -> ((TileObject)x).getWorldLocation().distanceTo(b.getDestination()))).orElse(null);
-
-                        if (tileObject != null && tileObject.getId() == b.getObjectId()) {
-                            boolean checkCanReach = tileObject.getId() != 16533;
-                            boolean interact = Rs2GameObject.interact(tileObject, b.getAction(), checkCanReach);
-                        if (!interact) {
-                            Rs2Walker.walkMiniMap(path.get(i));
-                            sleep(1600, 2000);
-                            return true;
-                        }
-                        if (b.isAgilityShortcut()) {
-                            Rs2Player.waitForAnimation();
-                        } else {
-                            Rs2Player.waitForWalking();
-                        }
+                //check tile objects
+                List<TileObject> tileObjects = Rs2GameObject.getTileObjects(b.getObjectId(), b.getOrigin());
+                TileObject tileObject = tileObjects.stream().findFirst().orElse(null);
+                if (tileObject instanceof GroundObject)
+                    tileObject = tileObjects.stream()
+                            .filter(x -> !x.getWorldLocation().equals(Rs2Player.getWorldLocation()))
+                            .min(Comparator.comparing(x -> ((TileObject)x).getWorldLocation().distanceTo(b.getOrigin()))
+                                    .thenComparing(x -> ((TileObject)x).getWorldLocation().distanceTo(b.getDestination()))).orElse(null);
+
+                if (tileObject != null && tileObject.getId() == b.getObjectId()) {
+                    boolean checkCanReach = tileObject.getId() != 16533;
+                    boolean interact = Rs2GameObject.interact(tileObject, b.getAction(), checkCanReach);
+                    if (!interact) {
+                        Rs2Walker.walkMiniMap(path.get(i));
+                        sleep(1600, 2000);
                         return true;
                     }
+                    if (b.isAgilityShortcut()) {
+                        Rs2Player.waitForAnimation();
+                    } else {
+                        Rs2Player.waitForWalking();
+                    }
+                    return true;
                 }
-
-
             }
         }
         return false;
@@ -16,7 +16,7 @@ import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
 public class Rs2Widget {
 
     public static boolean clickWidget(String text, int widgetId, int childId, boolean exact) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget rootWidget = getWidget(widgetId, childId);
             Widget widget = null;
             if (rootWidget.getChildren() != null)
@@ -73,23 +73,23 @@ public class Rs2Widget {
     }
 
     public static boolean isWidgetVisible(WidgetInfo wiget) {
-        return !Microbot.getClientThread().runOnClientThread(() -> getWidget(wiget) == null || getWidget(wiget).isHidden());
+        return !Microbot.runOnClientThread(() -> getWidget(wiget) == null || getWidget(wiget).isHidden());
     }
 
     public static boolean isWidgetVisible(int widgetId, int childId) {
-        return !Microbot.getClientThread().runOnClientThread(() -> getWidget(widgetId, childId) == null || getWidget(widgetId, childId).isHidden());
+        return !Microbot.runOnClientThread(() -> getWidget(widgetId, childId) == null || getWidget(widgetId, childId).isHidden());
     }
 
     public static Widget getWidget(WidgetInfo wiget) {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getWidget(wiget));
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getWidget(wiget));
     }
 
     public static Widget getWidget(int id) {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getWidget(id));
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getWidget(id));
     }
 
     public static boolean isHidden(int id) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget widget = Microbot.getClient().getWidget(id);
             if (widget == null) return true;
             return widget.isHidden();
@@ -98,11 +98,11 @@ public class Rs2Widget {
 
 
     public static Widget getWidget(int id, int child) {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getWidget(id, child));
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getWidget(id, child));
     }
 
     public static boolean getWidgetChildText(int id, String matchingText) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget widget = Microbot.getClient().getWidget(id);
             if (widget == null) return false;
             if (widget.getChildren().length == 0) return false;
@@ -111,7 +111,7 @@ public class Rs2Widget {
     }
 
     public static Widget getWidgetChildName(int id, String matchingText) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget widget = Microbot.getClient().getWidget(id);
             if (widget == null) return null;
             if (widget.getChildren().length == 0) return null;
@@ -120,7 +120,7 @@ public class Rs2Widget {
     }
 
     public static Widget getWidgetChildtxt(int id, String matchingText) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget widget = Microbot.getClient().getWidget(id);
             if (widget == null) return null;
             if (widget.getChildren().length == 0) return null;
@@ -129,7 +129,7 @@ public class Rs2Widget {
     }
 
     public static Widget getWidgetChildSprite(int id, int matchingSpriteId) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget widget = Microbot.getClient().getWidget(id);
             if (widget == null) return null;
             if (widget.getChildren().length == 0) return null;
@@ -138,29 +138,29 @@ public class Rs2Widget {
     }
 
     public static int getChildWidgetSpriteID(int id, int childId) {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getWidget(id).getChild(childId).getSpriteId());
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getWidget(id).getChild(childId).getSpriteId());
     }
 
     public static String getChildWidgetText(int id, int childId) {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getWidget(id).getChild(childId).getText());
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getWidget(id).getChild(childId).getText());
     }
 
     public static boolean clickWidget(int id) {
-        Widget widget = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getWidget(id));
+        Widget widget = Microbot.runOnClientThread(() -> Microbot.getClient().getWidget(id));
         if (widget == null) return false;
         Microbot.getMouse().click(widget.getBounds());
         return true;
     }
 
     public static boolean clickChildWidget(int id, int childId) {
-        Widget widget = Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getWidget(id));
+        Widget widget = Microbot.runOnClientThread(() -> Microbot.getClient().getWidget(id));
         if (widget == null) return false;
         Microbot.getMouse().click(widget.getChild(childId).getBounds());
         return true;
     }
 
     public static boolean childWidgetExits(int id, int childId) {
-        return Microbot.getClientThread().runOnClientThread(() -> Microbot.getClient().getWidget(id).getChild(childId) != null);
+        return Microbot.runOnClientThread(() -> Microbot.getClient().getWidget(id).getChild(childId) != null);
     }
 
     public static void changeWidgetText(String textToSearch, String newText) {
@@ -168,7 +168,7 @@ public class Rs2Widget {
             try {
                 Widget widget = findWidget(textToSearch, null);
                 if (widget == null) break;
-                Microbot.getClientThread().runOnClientThread(() -> widget.setText(newText));
+                Microbot.runOnClientThread(() -> widget.setText(newText));
             } catch (Exception ex) {
                 System.out.println(ex.getMessage());
             }
@@ -177,7 +177,7 @@ public class Rs2Widget {
     }
 
     public static Widget findWidget(String text, List<Widget> children, boolean exact) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget foundWidget = null;
             if (children == null) {
                 List<Widget> rootWidgets = Arrays.stream(Microbot.getClient().getWidgetRoots()).filter(x -> x != null && !x.isHidden()).collect(Collectors.toList());
@@ -233,7 +233,7 @@ public class Rs2Widget {
 
 
     public static Widget searchChildren(String text, Widget child, boolean exact) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget found = null;
             if (exact) {
                 if (child.getText().toLowerCase().contains(text.toLowerCase()) || child.getName().toLowerCase().contains(">" + text.toLowerCase() + "<")) {
@@ -277,7 +277,7 @@ public class Rs2Widget {
     }
 
     public static Widget findWidget(int spriteId, List<Widget> children) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget foundWidget = null;
             if (children == null) {
                 List<Widget> rootWidgets = Arrays.stream(Microbot.getClient().getWidgetRoots()).filter(x -> x != null && !x.isHidden()).collect(Collectors.toList());
@@ -305,7 +305,7 @@ public class Rs2Widget {
     }
 
     public static Widget searchChildren(int spriteId, Widget child) {
-        return Microbot.getClientThread().runOnClientThread(() -> {
+        return Microbot.runOnClientThread(() -> {
             Widget found = null;
             if (child.getSpriteId() == spriteId) {
                 return child;
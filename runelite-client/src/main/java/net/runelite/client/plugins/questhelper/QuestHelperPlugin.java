@@ -37,6 +37,7 @@ import net.runelite.client.plugins.questhelper.managers.QuestOverlayManager;
 import net.runelite.client.plugins.questhelper.panel.QuestHelperPanel;
 import net.runelite.client.plugins.questhelper.questhelpers.QuestHelper;
 import net.runelite.client.plugins.questhelper.questinfo.QuestHelperQuest;
+import net.runelite.client.plugins.questhelper.requirements.item.ItemIndex;
 import net.runelite.client.plugins.questhelper.requirements.item.ItemRequirement;
 import net.runelite.client.plugins.questhelper.runeliteobjects.Cheerer;
 import net.runelite.client.plugins.questhelper.runeliteobjects.GlobalFakeObjects;
@@ -200,6 +201,8 @@ public class QuestHelperPlugin extends Plugin
 	@Override
 	protected void startUp() throws IOException
 	{
+		// containers may have changed while the plugin wasn't listening
+		ItemIndex.invalidateAll();
 		questBankManager.startUp(injector, eventBus);
 		eventBus.register(worldMapAreaManager);
 
@@ -264,6 +267,9 @@ public class QuestHelperPlugin extends Plugin
 	@Subscribe
 	public void onItemContainerChanged(ItemContainerChanged event)
 	{
+		ItemIndex.invalidate(event.getContainerId());
+		questManager.invalidateItemRequirements();
+
 		if (event.getItemContainer() == client.getItemContainer(InventoryID.BANK))
 		{
 			lastTickBankUpdated = client.getTickCount();
@@ -281,6 +287,11 @@ public class QuestHelperPlugin extends Plugin
 	{
 		final GameState state = event.getGameState();
 
+		if (state == GameState.LOGIN_SCREEN || state == GameState.HOPPING)
+		{
+			ItemIndex.invalidateAll();
+		}
+
 		if (state == GameState.LOGIN_SCREEN)
 		{
 			questBankManager.saveBankToConfig();
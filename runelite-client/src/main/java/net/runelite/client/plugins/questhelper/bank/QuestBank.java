@@ -33,6 +33,7 @@ import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
 
+import net.runelite.client.plugins.questhelper.requirements.item.ItemIndex;
 import net.runelite.client.plugins.questhelper.QuestHelperConfig;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
@@ -67,7 +68,7 @@ public class QuestBank
 		this.client = client;
 		this.gson = gson;
 		this.questBankData = new QuestBankData();
-		this.bankItems = new ArrayList<>();
+		setBankItems(new ArrayList<>());
 	}
 
 	public List<Item> getBankItems()
@@ -75,10 +76,17 @@ public class QuestBank
 		return bankItems;
 	}
 
+	private void setBankItems(List<Item> items)
+	{
+		// the list is replaced rather than modified, so its counts can be kept until the next update
+		bankItems = items;
+		ItemIndex.snapshot(items);
+	}
+
 	public void updateLocalBank(Item[] items)
 	{
 		questBankData.set(items);
-		bankItems = questBankData.getAsList();
+		setBankItems(questBankData.getAsList());
 	}
 
 	public void emptyState()
@@ -86,7 +94,7 @@ public class QuestBank
 		rsProfileKey = null;
 		worldType = null;
 		questBankData.setEmpty();
-		bankItems = new ArrayList<>();
+		setBankItems(new ArrayList<>());
 	}
 
 	public void loadState()
@@ -122,7 +130,7 @@ public class QuestBank
 			questBankData.setIdAndQuantity(new int[0]);
 			saveBankToConfig();
 		}
-		bankItems = questBankData.getAsList();
+		setBankItems(questBankData.getAsList());
 	}
 
 	public void saveBankToConfig()
@@ -92,6 +92,10 @@ public class QuestManager
 	private boolean loadQuestList = false;
 	private QuestHelperPanel panel;
 	private QuestStep lastStep = null;
+	// item requirements are refreshed when an event may have changed them, and every few ticks for anything else
+	private static final int ITEM_REQUIREMENTS_REFRESH_TICKS = 5;
+	private boolean itemRequirementsDirty = true;
+	private int lastItemRequirementsTick = -1;
 
 	public Map<String, QuestHelper> backgroundHelpers = new HashMap<>();
 	public SortedMap<QuestHelperQuest, List<ItemRequirement>> itemRequirements = new TreeMap<>();
@@ -159,9 +163,10 @@ public class QuestManager
 				if (currentStep != null && currentStep != lastStep && panel.questActive)
 				{
 					lastStep = currentStep;
+					itemRequirementsDirty = true;
 					panel.updateHighlight(client, currentStep);
 				}
-				if (panel.questActive)
+				if (panel.questActive && shouldUpdateItemRequirements())
 				{
 					clientThread.invokeLater(() -> panel.updateItemRequirements(client, questBankManager.getBankItems()));
 				}
@@ -170,6 +175,26 @@ public class QuestManager
 		}
 	}
 
+	private boolean shouldUpdateItemRequirements()
+	{
+		int tick = client.getTickCount();
+		if (!itemRequirementsDirty && tick - lastItemRequirementsTick < ITEM_REQUIREMENTS_REFRESH_TICKS && tick >= lastItemRequirementsTick)
+		{
+			return false;
+		}
+		itemRequirementsDirty = false;
+		lastItemRequirementsTick = tick;
+		return true;
+	}
+
+	/**
+	 * Marks the item requirements of the selected quest as needing to be refreshed on the next tick.
+	 */
+	public void invalidateItemRequirements()
+	{
+		itemRequirementsDirty = true;
+	}
+
 	/**
 	 * Updates the list of available quests.
 	 * Resets the flag to avoid redundant updates.
@@ -195,6 +220,8 @@ public class QuestManager
 			return;
 		}
 
+		itemRequirementsDirty = true;
+
 		if (selectedQuest.updateQuest() && selectedQuest.getCurrentStep() == null)
 		{
 			shutDownQuest(true);
@@ -292,6 +319,7 @@ public class QuestManager
 				questHelperPlugin.displayPanel();
 			}
 			selectedQuest = questHelper;
+			itemRequirementsDirty = true;
 			eventBus.register(selectedQuest);
 			if (isDeveloperMode())
 			{
@@ -37,6 +37,7 @@ import net.runelite.client.plugins.questhelper.questinfo.QuestHelperQuest;
 import net.runelite.client.plugins.questhelper.panel.PanelDetails;
 import net.runelite.client.plugins.questhelper.requirements.item.ItemRequirement;
 import net.runelite.client.plugins.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.questhelper.requirements.RequirementCache;
 import net.runelite.client.plugins.questhelper.runeliteobjects.extendedruneliteobjects.RuneliteObjectManager;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -101,6 +102,9 @@ public abstract class QuestHelper implements Module, QuestDebugRenderer
 	@Getter
 	private boolean hasInitialized;
 
+	@Getter
+	private final RequirementCache requirementCache = new RequirementCache();
+
 	@Override
 	public void configure(Binder binder)
 	{
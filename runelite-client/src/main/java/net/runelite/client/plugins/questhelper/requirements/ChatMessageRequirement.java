@@ -26,6 +26,8 @@
  */
 package net.runelite.client.plugins.questhelper.requirements;
 
+import java.util.EnumSet;
+import java.util.Set;
 import net.runelite.client.plugins.questhelper.requirements.conditional.ConditionForStep;
 import java.util.Arrays;
 import java.util.List;
@@ -36,7 +38,6 @@ import net.runelite.api.events.ChatMessage;
 
 public class ChatMessageRequirement extends ConditionForStep
 {
-	@Setter
 	protected boolean hasReceivedChatMessage = false;
 
 	protected Requirement condition;
@@ -51,6 +52,15 @@ public class ChatMessageRequirement extends ConditionForStep
 		this.messages = Arrays.asList(message);
 	}
 
+	public void setHasReceivedChatMessage(boolean hasReceivedChatMessage)
+	{
+		if (this.hasReceivedChatMessage != hasReceivedChatMessage)
+		{
+			this.hasReceivedChatMessage = hasReceivedChatMessage;
+			ManualRequirement.markChanged();
+		}
+	}
+
 	public ChatMessageRequirement(Requirement condition, String... message)
 	{
 		assert(condition != null);
@@ -58,6 +68,12 @@ public class ChatMessageRequirement extends ConditionForStep
 		this.messages = Arrays.asList(message);
 	}
 
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		return EnumSet.of(RequirementInput.CHAT, RequirementInput.MANUAL);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
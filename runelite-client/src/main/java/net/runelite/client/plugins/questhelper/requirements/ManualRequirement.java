@@ -24,14 +24,42 @@
  */
 package net.runelite.client.plugins.questhelper.requirements;
 
-import lombok.Setter;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
 import net.runelite.api.Client;
 
 public class ManualRequirement extends SimpleRequirement
 {
-	@Setter
+	/**
+	 * Number of times any manually set requirement state has changed.<br>
+	 * Steps compare this between ticks to know when to re-check {@link RequirementInput#MANUAL} requirements.
+	 */
+	@Getter
+	private static int changes;
+
 	boolean shouldPass;
 
+	public static void markChanged()
+	{
+		changes++;
+	}
+
+	public void setShouldPass(boolean shouldPass)
+	{
+		if (this.shouldPass != shouldPass)
+		{
+			this.shouldPass = shouldPass;
+			markChanged();
+		}
+	}
+
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		return EnumSet.of(RequirementInput.MANUAL);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
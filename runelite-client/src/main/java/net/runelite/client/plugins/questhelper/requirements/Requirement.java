@@ -30,6 +30,7 @@ import net.runelite.client.plugins.questhelper.QuestHelperConfig;
 import java.awt.Color;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import net.runelite.api.Client;
@@ -60,6 +61,18 @@ public interface Requirement
 		return false;
 	}
 
+	/**
+	 * The game state this requirement reads, used by steps to skip checking it when none of it has changed.<br>
+	 * Requirements which read anything not covered by the other {@link RequirementInput}s must include
+	 * {@link RequirementInput#TICK}, which is the default.
+	 *
+	 * @return the inputs of this requirement
+	 */
+	default Set<RequirementInput> getInputs()
+	{
+		return RequirementInput.ALWAYS;
+	}
+
 	/**
 	 * @return whether the requirement should be considered for filtering in the sidebar
 	 */
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.questhelper.requirements;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import net.runelite.api.Client;
+
+/**
+ * Memoizes {@link Requirement#check(Client)} results for the current game tick, so requirements shared
+ * between nested steps are only checked once per tick.<br>
+ * Requirements which read {@link RequirementInput#TICK} or {@link RequirementInput#MANUAL} state are
+ * not memoized, as quest helper code can change them part way through a tick.
+ */
+public class RequirementCache
+{
+	private final Map<Requirement, Boolean> results = new IdentityHashMap<>();
+	// whether each requirement seen so far can be memoized, its inputs are fixed once it is built
+	private final Map<Requirement, Boolean> memoizable = new IdentityHashMap<>();
+	private int tick = -1;
+
+	public boolean check(Client client, Requirement requirement)
+	{
+		if (!memoizable.computeIfAbsent(requirement, RequirementCache::isMemoizable))
+		{
+			return requirement.check(client);
+		}
+
+		int tickCount = client.getTickCount();
+		if (tickCount != tick)
+		{
+			results.clear();
+			tick = tickCount;
+		}
+
+		Boolean result = results.get(requirement);
+		if (result == null)
+		{
+			result = requirement.check(client);
+			results.put(requirement, result);
+		}
+		return result;
+	}
+
+	private static boolean isMemoizable(Requirement requirement)
+	{
+		Set<RequirementInput> inputs = requirement.getInputs();
+		return !inputs.contains(RequirementInput.TICK) && !inputs.contains(RequirementInput.MANUAL);
+	}
+
+	/**
+	 * Forget all results, used when an event changes game state part way through a tick
+	 */
+	public void invalidate()
+	{
+		results.clear();
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.questhelper.requirements;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The game state a {@link Requirement} reads.<br>
+ * Steps use these to only re-check their requirements after an event has changed one of the inputs.
+ */
+public enum RequirementInput
+{
+	/**
+	 * Varbits and varps, changed by {@link net.runelite.api.events.VarbitChanged}
+	 */
+	VAR,
+	/**
+	 * Inventory, equipment and bank contents, changed by {@link net.runelite.api.events.ItemContainerChanged}
+	 */
+	ITEMS,
+	/**
+	 * The local player's location
+	 */
+	LOCATION,
+	/**
+	 * NPC spawns, despawns and composition changes
+	 */
+	NPCS,
+	/**
+	 * Chat and dialog messages
+	 */
+	CHAT,
+	/**
+	 * State set by quest helper code, see {@link ManualRequirement#getChanges()}
+	 */
+	MANUAL,
+	/**
+	 * Anything else. Requirements with this input are checked every tick.
+	 */
+	TICK;
+
+	/**
+	 * The inputs of a requirement which does not declare any
+	 */
+	public static final Set<RequirementInput> ALWAYS = Collections.unmodifiableSet(EnumSet.of(TICK));
+
+	/**
+	 * @param requirements requirements to combine, may contain nulls
+	 * @return the union of the inputs of the requirements
+	 */
+	public static EnumSet<RequirementInput> of(Iterable<? extends Requirement> requirements)
+	{
+		EnumSet<RequirementInput> inputs = EnumSet.noneOf(RequirementInput.class);
+		for (Requirement requirement : requirements)
+		{
+			if (requirement != null)
+			{
+				inputs.addAll(requirement.getInputs());
+			}
+		}
+		return inputs;
+	}
+}
@@ -24,17 +24,16 @@
  */
 package net.runelite.client.plugins.questhelper.requirements.conditional;
 
+import net.runelite.client.plugins.questhelper.requirements.ManualRequirement;
 import net.runelite.client.plugins.questhelper.requirements.Requirement;
 import net.runelite.client.plugins.questhelper.requirements.util.LogicType;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
-import lombok.Setter;
 import net.runelite.api.Client;
 
 public abstract class ConditionForStep implements InitializableRequirement
 {
-	@Setter
 	@Getter
 	protected boolean hasPassed;
 	protected boolean onlyNeedToPassOnce;
@@ -46,6 +45,15 @@ public abstract class ConditionForStep implements InitializableRequirement
 	@Override
 	abstract public boolean check(Client client);
 
+	public void setHasPassed(boolean hasPassed)
+	{
+		if (this.hasPassed != hasPassed)
+		{
+			this.hasPassed = hasPassed;
+			ManualRequirement.markChanged();
+		}
+	}
+
 	@Override
 	public void initialize(Client client)
 	{
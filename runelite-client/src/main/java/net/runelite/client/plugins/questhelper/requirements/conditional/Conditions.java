@@ -24,6 +24,9 @@
  */
 package net.runelite.client.plugins.questhelper.requirements.conditional;
 
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
+import java.util.EnumSet;
+import java.util.Set;
 import lombok.Setter;
 import net.runelite.api.Client;
 import net.runelite.client.plugins.questhelper.requirements.Requirement;
@@ -139,6 +142,22 @@ public class Conditions extends ConditionForStep
 		return text;
 	}
 
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		if (conditions == null)
+		{
+			return RequirementInput.ALWAYS;
+		}
+		EnumSet<RequirementInput> inputs = RequirementInput.of(conditions);
+		if (onlyNeedToPassOnce)
+		{
+			// hasPassed can be reset by quest helper code
+			inputs.add(RequirementInput.MANUAL);
+		}
+		return inputs;
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
@@ -24,8 +24,11 @@
  */
 package net.runelite.client.plugins.questhelper.requirements.conditional;
 
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
 import net.runelite.client.plugins.questhelper.requirements.zone.Zone;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Set;
 import net.runelite.api.Client;
 import net.runelite.api.NPC;
 import net.runelite.api.coords.WorldPoint;
@@ -73,6 +76,13 @@ public class NpcCondition extends ConditionForStep
 		}
 	}
 
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		// npcs can walk in and out of the zone without an event
+		return zone == null ? EnumSet.of(RequirementInput.NPCS) : RequirementInput.ALWAYS;
+	}
+
 	public boolean check(Client client)
 	{
 		if (zone != null)
@@ -26,6 +26,8 @@
  */
 package net.runelite.client.plugins.questhelper.requirements.item;
 
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
+import java.util.Set;
 import net.runelite.client.plugins.questhelper.collections.ItemCollections;
 import java.util.List;
 import java.util.Objects;
@@ -64,6 +66,12 @@ public class FollowerItemRequirement extends ItemRequirement
 		return new FollowerItemRequirement(getName(), itemIDs, followerIDs);
 	}
 
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		return RequirementInput.ALWAYS;
+	}
+
 	@Override
 	public boolean check(Client client, boolean checkConsideringSlotRestrictions, List<Item> items)
 	{
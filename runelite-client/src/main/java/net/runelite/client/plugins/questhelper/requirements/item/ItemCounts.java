@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.questhelper.requirements.item;
+
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.api.Item;
+import net.runelite.client.plugins.questhelper.collections.ItemWithCharge;
+
+/**
+ * A multiset of items, mapping each item id to the total quantity and the number of stacks of it.<br>
+ * Counts are a snapshot, and don't change if the items they were built from do.
+ */
+public final class ItemCounts
+{
+	public static final ItemCounts EMPTY = new ItemCounts(new HashMap<>());
+
+	// id -> {quantity, stacks}
+	private final Map<Integer, int[]> counts;
+
+	private ItemCounts(Map<Integer, int[]> counts)
+	{
+		this.counts = counts;
+	}
+
+	public static ItemCounts of(Iterable<Item> items)
+	{
+		Map<Integer, int[]> counts = new HashMap<>();
+		for (Item item : items)
+		{
+			add(counts, item);
+		}
+		return counts.isEmpty() ? EMPTY : new ItemCounts(counts);
+	}
+
+	public static ItemCounts of(Item[] items)
+	{
+		Map<Integer, int[]> counts = new HashMap<>(items.length * 2);
+		for (Item item : items)
+		{
+			add(counts, item);
+		}
+		return counts.isEmpty() ? EMPTY : new ItemCounts(counts);
+	}
+
+	private static void add(Map<Integer, int[]> counts, Item item)
+	{
+		if (item == null || item.getId() == -1)
+		{
+			return;
+		}
+
+		int[] count = counts.computeIfAbsent(item.getId(), k -> new int[2]);
+		count[0] += item.getQuantity();
+		count[1]++;
+	}
+
+	/**
+	 * @return the total quantity of the item
+	 */
+	public int getQuantity(int itemId)
+	{
+		int[] count = counts.get(itemId);
+		return count == null ? 0 : count[0];
+	}
+
+	/**
+	 * @return the total quantity of all of the items
+	 */
+	public int getQuantity(Iterable<Integer> itemIds)
+	{
+		int total = 0;
+		for (int itemId : itemIds)
+		{
+			total += getQuantity(itemId);
+		}
+		return total;
+	}
+
+	/**
+	 * @return the number of charges of the item, or its quantity if it isn't a charged item
+	 */
+	public int getCharges(int itemId)
+	{
+		int[] count = counts.get(itemId);
+		if (count == null)
+		{
+			return 0;
+		}
+
+		ItemWithCharge itemWithCharge = ItemWithCharge.findItem(itemId);
+		if (itemWithCharge != null)
+		{
+			// each stack of a charged item holds its charges
+			return count[1] * itemWithCharge.getCharges();
+		}
+		return count[0];
+	}
+
+	public boolean contains(int itemId)
+	{
+		return counts.containsKey(itemId);
+	}
+
+	/**
+	 * @return the first of the ids which is in these counts, or -1 if there is none
+	 */
+	public int findFirst(Iterable<Integer> itemIds)
+	{
+		for (int itemId : itemIds)
+		{
+			if (contains(itemId))
+			{
+				return itemId;
+			}
+		}
+		return -1;
+	}
+
+	public boolean isEmpty()
+	{
+		return counts.isEmpty();
+	}
+}
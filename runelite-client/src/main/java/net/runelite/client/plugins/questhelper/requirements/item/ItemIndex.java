@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.questhelper.requirements.item;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.runelite.api.Client;
+import net.runelite.api.InventoryID;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+
+/**
+ * Caches {@link ItemCounts} for item containers and bank snapshots, so item requirements look up quantities
+ * instead of scanning the items for every requirement and alternate id.<br>
+ * Container counts are dropped by {@link #invalidate(int)} when the container changes, and rebuilt the next
+ * time they are needed.
+ */
+public final class ItemIndex
+{
+	private static final Map<Integer, ItemCounts> containers = new ConcurrentHashMap<>();
+	private static final Map<Integer, Integer> versions = new ConcurrentHashMap<>();
+
+	// the last list registered with snapshot(List), and its counts
+	private static volatile Map.Entry<List<Item>, ItemCounts> snapshot;
+
+	private ItemIndex()
+	{
+	}
+
+	/**
+	 * Must be called on the client thread, as the counts are built from the item container when they are not cached.
+	 */
+	public static ItemCounts get(Client client, InventoryID inventoryID)
+	{
+		int id = inventoryID.getId();
+		ItemCounts counts = containers.get(id);
+		if (counts != null)
+		{
+			return counts;
+		}
+
+		int version = versions.getOrDefault(id, 0);
+		ItemContainer container = client.getItemContainer(inventoryID);
+		counts = container == null ? ItemCounts.EMPTY : ItemCounts.of(container.getItems());
+
+		// don't cache counts built from a container which changed while they were being built
+		if (versions.getOrDefault(id, 0) == version)
+		{
+			containers.put(id, counts);
+		}
+		return counts;
+	}
+
+	/**
+	 * @param items items to count, may be null
+	 * @return the counts of the items. Lists registered with {@link #snapshot(List)} are only counted once.
+	 */
+	public static ItemCounts get(List<Item> items)
+	{
+		if (items == null || items.isEmpty())
+		{
+			return ItemCounts.EMPTY;
+		}
+		Map.Entry<List<Item>, ItemCounts> last = snapshot;
+		if (last != null && last.getKey() == items)
+		{
+			return last.getValue();
+		}
+		return ItemCounts.of(items);
+	}
+
+	/**
+	 * Register a list which won't be modified, such as a copy of the bank, so its counts are kept until the next
+	 * snapshot replaces it.
+	 */
+	public static void snapshot(List<Item> items)
+	{
+		snapshot = items == null ? null : new AbstractMap.SimpleImmutableEntry<>(items, ItemCounts.of(items));
+	}
+
+	public static void invalidate(int containerId)
+	{
+		versions.merge(containerId, 1, Integer::sum);
+		containers.remove(containerId);
+	}
+
+	public static void invalidateAll()
+	{
+		for (Integer id : containers.keySet())
+		{
+			invalidate(id);
+		}
+	}
+}
@@ -26,9 +26,11 @@
  */
 package net.runelite.client.plugins.questhelper.requirements.item;
 
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
+import java.util.EnumSet;
+import java.util.Set;
 import net.runelite.client.plugins.questhelper.collections.ItemCollections;
 import net.runelite.client.plugins.questhelper.bank.QuestBank;
-import net.runelite.client.plugins.questhelper.collections.ItemWithCharge;
 import net.runelite.client.plugins.questhelper.QuestHelperConfig;
 import net.runelite.client.plugins.questhelper.requirements.AbstractRequirement;
 import net.runelite.client.plugins.questhelper.requirements.ManualRequirement;
@@ -53,7 +55,6 @@ import net.runelite.client.ui.overlay.components.LineComponent;
 
 public class ItemRequirement extends AbstractRequirement
 {
-	@Setter
 	@Getter
 	private int id;
 
@@ -77,6 +78,9 @@ public class ItemRequirement extends AbstractRequirement
 
 	protected final List<Integer> alternateItems = new ArrayList<>();
 
+	// id followed by the distinct alternates, rebuilt when either changes
+	private List<Integer> allIds;
+
 	@Setter
 	protected boolean exclusiveToOneItemType;
 
@@ -187,19 +191,28 @@ public class ItemRequirement extends AbstractRequirement
 		this.addAlternates(itemCollection.getItems().subList(1, itemCollection.getItems().size()));
 	}
 
+	public void setId(int id)
+	{
+		this.id = id;
+		allIds = null;
+	}
+
 	public void addAlternates(List<Integer> alternates)
 	{
 		this.alternateItems.addAll(alternates);
+		allIds = null;
 	}
 
 	public void addAlternates(ItemCollections alternates)
 	{
 		this.alternateItems.addAll(alternates.getItems());
+		allIds = null;
 	}
 
 	public void addAlternates(Integer... alternates)
 	{
 		this.alternateItems.addAll(Arrays.asList(alternates));
+		allIds = null;
 	}
 
 	public boolean showQuantity()
@@ -321,10 +334,14 @@ public class ItemRequirement extends AbstractRequirement
 
 	public List<Integer> getAllIds()
 	{
-		List<Integer> items = new ArrayList<>(Collections.singletonList(id));
-		items.addAll(alternateItems);
+		if (allIds == null)
+		{
+			List<Integer> items = new ArrayList<>(Collections.singletonList(id));
+			items.addAll(alternateItems);
 
-		return items.stream().distinct().collect(Collectors.toList());
+			allIds = Collections.unmodifiableList(items.stream().distinct().collect(Collectors.toList()));
+		}
+		return allIds;
 	}
 
 	@Override
@@ -492,11 +509,8 @@ public class ItemRequirement extends AbstractRequirement
 
 	public int getMatches(Client client, boolean checkConsideringSlotRestrictions, List<Item> items)
 	{
-		List<Item> allItems = new ArrayList<>(items);
-		if (questBank != null && questBank.getBankItems() != null)
-		{
-			allItems.addAll(questBank.getBankItems());
-		}
+		ItemCounts itemCounts = ItemIndex.get(items);
+		ItemCounts bankCounts = getQuestBankCounts();
 
 		int remainder = 0;
 
@@ -508,7 +522,7 @@ public class ItemRequirement extends AbstractRequirement
 				remainder = quantity;
 			}
 			remainder += (quantity - getRequiredItemDifference(client, alternate, checkConsideringSlotRestrictions,
-				allItems));
+				itemCounts, bankCounts));
 		}
 		return remainder;
 	}
@@ -521,11 +535,8 @@ public class ItemRequirement extends AbstractRequirement
 			return true;
 		}
 
-		List<Item> allItems = new ArrayList<>(items);
-		if (questBank != null && questBank.getBankItems() != null)
-		{
-			allItems.addAll(questBank.getBankItems());
-		}
+		ItemCounts itemCounts = ItemIndex.get(items);
+		ItemCounts bankCounts = getQuestBankCounts();
 
 		int remainder = quantity;
 
@@ -537,7 +548,7 @@ public class ItemRequirement extends AbstractRequirement
 				remainder = quantity;
 			}
 			remainder -= (quantity - getRequiredItemDifference(client, alternate, checkConsideringSlotRestrictions,
-				allItems));
+				itemCounts, bankCounts));
 			if (remainder <= 0)
 			{
 				hadItemLastCheck = true;
@@ -548,6 +559,11 @@ public class ItemRequirement extends AbstractRequirement
 		return false;
 	}
 
+	private ItemCounts getQuestBankCounts()
+	{
+		return questBank == null ? ItemCounts.EMPTY : ItemIndex.get(questBank.getBankItems());
+	}
+
 	/**
 	 * Get the difference between the required quantity for this requirement and the amount the client has.
 	 * Any value <= 0 indicates they have the required amount
@@ -555,61 +571,58 @@ public class ItemRequirement extends AbstractRequirement
 	public int getRequiredItemDifference(Client client, int itemID, boolean checkConsideringSlotRestrictions,
 										 List<Item> items)
 	{
-		ItemContainer equipped = client.getItemContainer(InventoryID.EQUIPMENT);
+		return getRequiredItemDifference(client, itemID, checkConsideringSlotRestrictions, ItemIndex.get(items),
+			ItemCounts.EMPTY);
+	}
+
+	/**
+	 * Get the difference between the required quantity for this requirement and the amount the client has,
+	 * counting the equipment, the inventory unless only equipped items count, the items and the bank.
+	 */
+	protected int getRequiredItemDifference(Client client, int itemID, boolean checkConsideringSlotRestrictions,
+											ItemCounts items, ItemCounts bank)
+	{
 		int tempQuantity = quantity;
 
-		if (equipped != null)
-		{
-			tempQuantity -= getNumMatches(equipped, itemID);
-		}
+		tempQuantity -= getNumMatches(ItemIndex.get(client, InventoryID.EQUIPMENT), itemID);
 
 		if (!checkConsideringSlotRestrictions || !equip)
 		{
-			ItemContainer inventory = client.getItemContainer(InventoryID.INVENTORY);
-			if (inventory != null)
-			{
-				tempQuantity -= getNumMatches(inventory, itemID);
-			}
+			tempQuantity -= getNumMatches(ItemIndex.get(client, InventoryID.INVENTORY), itemID);
 		}
 
-		if (items != null)
-		{
-			tempQuantity -= getNumMatches(items, itemID);
-		}
+		tempQuantity -= getNumMatches(items, itemID);
+		tempQuantity -= getNumMatches(bank, itemID);
 
 		return tempQuantity;
 	}
 
 	public int getNumMatches(ItemContainer items, int itemID)
 	{
-		return getNumMatches(Arrays.asList(items.getItems().clone()), itemID);
+		return getNumMatches(ItemCounts.of(items.getItems()), itemID);
 	}
 
 	public int getNumMatches(List<Item> items, int itemID)
+	{
+		return getNumMatches(ItemIndex.get(items), itemID);
+	}
+
+	public int getNumMatches(ItemCounts items, int itemID)
 	{
 		if (isChargedItem)
 		{
-			return items.stream()
-				.filter(Objects::nonNull)
-				.filter(i -> i.getId() == itemID)
-				.mapToInt(i -> {
-					ItemWithCharge itemWithCharge = ItemWithCharge.findItem(i.getId());
-					if (itemWithCharge != null)
-					{
-						return itemWithCharge.getCharges();
-					}
-
-					// Fall back to using the item's quantity
-					return i.getQuantity();
-				})
-				.sum();
+			return items.getCharges(itemID);
 		}
 
-		return items.stream()
-			.filter(Objects::nonNull)
-			.filter(i -> i.getId() == itemID)
-			.mapToInt(Item::getQuantity)
-			.sum();
+		return items.getQuantity(itemID);
+	}
+
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		EnumSet<RequirementInput> inputs = RequirementInput.of(Arrays.asList(conditionToHide, additionalOptions));
+		inputs.add(RequirementInput.ITEMS);
+		return inputs;
 	}
 
 	public boolean check(Client client)
@@ -26,6 +26,8 @@
  */
 package net.runelite.client.plugins.questhelper.requirements.item;
 
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
+import java.util.Set;
 import net.runelite.client.plugins.questhelper.QuestHelperConfig;
 import net.runelite.client.plugins.questhelper.questhelpers.QuestUtil;
 import net.runelite.client.plugins.questhelper.requirements.util.LogicType;
@@ -96,6 +98,14 @@ public class ItemRequirements extends ItemRequirement
 		return LogicType.OR.test(getItemRequirements().stream(), item -> !item.getAllIds().contains(-1) && item.getQuantity() >= 0);
 	}
 
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		Set<RequirementInput> inputs = super.getInputs();
+		inputs.addAll(RequirementInput.of(itemRequirements));
+		return inputs;
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
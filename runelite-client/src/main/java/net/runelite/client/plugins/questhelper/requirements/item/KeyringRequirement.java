@@ -24,6 +24,8 @@
  */
 package net.runelite.client.plugins.questhelper.requirements.item;
 
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
+import java.util.Set;
 import net.runelite.client.plugins.questhelper.collections.KeyringCollection;
 import net.runelite.client.plugins.questhelper.QuestHelperConfig;
 import net.runelite.client.plugins.questhelper.requirements.runelite.RuneliteRequirement;
@@ -92,6 +94,12 @@ public class KeyringRequirement extends ItemRequirement
 		return newItem;
 	}
 
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		return RequirementInput.ALWAYS;
+	}
+
 	@Override
 	public boolean check(Client client, boolean checkConsideringSlotRestrictions, List<Item> items)
 	{
@@ -24,6 +24,9 @@
  */
 package net.runelite.client.plugins.questhelper.requirements.npc;
 
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
+import java.util.EnumSet;
+import java.util.Set;
 import net.runelite.client.plugins.questhelper.requirements.SimpleRequirement;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -59,6 +62,12 @@ public class DialogRequirement extends SimpleRequirement
 		this(null, text, false);
 	}
 
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		return EnumSet.of(RequirementInput.CHAT);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
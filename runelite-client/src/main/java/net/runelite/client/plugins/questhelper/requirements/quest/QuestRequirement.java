@@ -27,6 +27,9 @@
 
 package net.runelite.client.plugins.questhelper.requirements.quest;
 
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
+import java.util.EnumSet;
+import java.util.Set;
 import net.runelite.client.plugins.questhelper.questinfo.QuestHelperQuest;
 import net.runelite.client.plugins.questhelper.requirements.AbstractRequirement;
 import java.util.Locale;
@@ -103,6 +106,12 @@ public class QuestRequirement extends AbstractRequirement
 		this.displayText = displayText;
 	}
 
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		return EnumSet.of(RequirementInput.VAR);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
@@ -27,6 +27,9 @@
 
 package net.runelite.client.plugins.questhelper.requirements.var;
 
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
+import java.util.EnumSet;
+import java.util.Set;
 import net.runelite.client.plugins.questhelper.requirements.AbstractRequirement;
 import net.runelite.client.plugins.questhelper.requirements.util.Operation;
 import java.math.BigInteger;
@@ -147,6 +150,12 @@ public class VarbitRequirement extends AbstractRequirement
 		shouldCountForFilter = true;
 	}
 
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		return EnumSet.of(RequirementInput.VAR);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
@@ -26,6 +26,9 @@
  */
 package net.runelite.client.plugins.questhelper.requirements.var;
 
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
+import java.util.EnumSet;
+import java.util.Set;
 import net.runelite.client.plugins.questhelper.requirements.AbstractRequirement;
 import net.runelite.client.plugins.questhelper.requirements.util.Operation;
 import java.math.BigInteger;
@@ -151,6 +154,12 @@ public class VarplayerRequirement extends AbstractRequirement
 		shouldCountForFilter = true;
 	}
 
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		return EnumSet.of(RequirementInput.VAR);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
@@ -27,6 +27,9 @@
 
 package net.runelite.client.plugins.questhelper.requirements.zone;
 
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
+import java.util.EnumSet;
+import java.util.Set;
 import net.runelite.client.plugins.questhelper.questhelpers.QuestUtil;
 import java.util.List;
 import java.util.stream.Stream;
@@ -100,6 +103,12 @@ public class ZoneRequirement extends AbstractRequirement
 		this.checkInZone = checkInZone;
 	}
 
+	@Override
+	public Set<RequirementInput> getInputs()
+	{
+		return EnumSet.of(RequirementInput.LOCATION);
+	}
+
 	@Override
 	public boolean check(Client client)
 	{
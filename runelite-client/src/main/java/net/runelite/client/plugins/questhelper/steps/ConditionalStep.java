@@ -25,7 +25,10 @@
 package net.runelite.client.plugins.questhelper.steps;
 
 import com.google.inject.Inject;
+import net.runelite.client.plugins.questhelper.requirements.ManualRequirement;
 import net.runelite.client.plugins.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.questhelper.requirements.RequirementCache;
+import net.runelite.client.plugins.questhelper.requirements.RequirementInput;
 import net.runelite.client.plugins.questhelper.requirements.npc.DialogRequirement;
 import net.runelite.client.plugins.questhelper.requirements.runelite.RuneliteRequirement;
 import net.runelite.client.plugins.questhelper.requirements.conditional.InitializableRequirement;
@@ -33,18 +36,23 @@ import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import lombok.NonNull;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.GameState;
+import net.runelite.api.Player;
+import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.NpcChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.questhelper.QuestHelperPlugin;
@@ -71,6 +79,16 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 
 	protected List<Requirement> requirements = new ArrayList<>();
 
+	/*
+	 * The inputs read by the step conditions. Steps are only re-evaluated on a tick where one of them
+	 * has changed. Subclasses which override updateSteps are evaluated every tick unless they opt in.
+	 */
+	protected final EnumSet<RequirementInput> inputs = EnumSet.noneOf(RequirementInput.class);
+	protected final EnumSet<RequirementInput> changedInputs = EnumSet.allOf(RequirementInput.class);
+	protected boolean incremental = getClass() == ConditionalStep.class;
+	private WorldPoint lastPlayerLocation;
+	private int lastManualChanges = -1;
+
 	public ConditionalStep(QuestHelper questHelper, QuestStep step, Requirement... requirements)
 	{
 		super(questHelper);
@@ -97,6 +115,11 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		step.setLockable(isLockable);
 		this.steps.put(requirement, step);
 
+		if (requirement != null)
+		{
+			inputs.addAll(requirement.getInputs());
+		}
+
 		checkForConditions(requirement);
 	}
 
@@ -176,6 +199,7 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		steps.keySet().stream()
 			.filter(InitializableRequirement.class::isInstance)
 			.forEach(req -> ((InitializableRequirement) req).initialize(client));
+		changedInputs.addAll(EnumSet.allOf(RequirementInput.class));
 		updateSteps();
 		started = true;
 	}
@@ -197,7 +221,76 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 			{
 				runeliteCondition.validateCondition(client);
 			}
-			updateSteps();
+
+			if (!incremental || needsUpdate())
+			{
+				updateSteps();
+			}
+			changedInputs.clear();
+		}
+	}
+
+	private boolean needsUpdate()
+	{
+		Player player = client.getLocalPlayer();
+		WorldPoint location = player == null ? null : player.getWorldLocation();
+		if (!Objects.equals(location, lastPlayerLocation))
+		{
+			lastPlayerLocation = location;
+			changedInputs.add(RequirementInput.LOCATION);
+		}
+
+		int manualChanges = ManualRequirement.getChanges();
+		if (manualChanges != lastManualChanges)
+		{
+			lastManualChanges = manualChanges;
+			changedInputs.add(RequirementInput.MANUAL);
+		}
+
+		if (inputs.contains(RequirementInput.TICK) || changedInputs.contains(RequirementInput.TICK))
+		{
+			return true;
+		}
+
+		for (QuestStep step : steps.values())
+		{
+			// locks can be changed from the side panel at any time
+			if (step.isLockable() || step.isBlocker() || step.getLockingCondition() != null)
+			{
+				return true;
+			}
+		}
+
+		for (RequirementInput input : changedInputs)
+		{
+			if (inputs.contains(input))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Subscribe
+	public void onVarbitChanged(VarbitChanged event)
+	{
+		changedInputs.add(RequirementInput.VAR);
+		invalidateRequirementCache();
+	}
+
+	@Subscribe
+	public void onItemContainerChanged(ItemContainerChanged event)
+	{
+		changedInputs.add(RequirementInput.ITEMS);
+		invalidateRequirementCache();
+	}
+
+	private void invalidateRequirementCache()
+	{
+		RequirementCache cache = getQuestHelper() == null ? null : getQuestHelper().getRequirementCache();
+		if (cache != null)
+		{
+			cache.invalidate();
 		}
 	}
 
@@ -206,6 +299,7 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 	{
 		if (event.getGameState() == GameState.LOADING || event.getGameState() == GameState.HOPPING)
 		{
+			changedInputs.addAll(EnumSet.allOf(RequirementInput.class));
 			steps.keySet().stream()
 				.filter(Objects::nonNull)
 				.filter(InitializableRequirement.class::isInstance)
@@ -221,6 +315,7 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 	@Subscribe
 	public void onChatMessage(ChatMessage chatMessage)
 	{
+		changedInputs.add(RequirementInput.CHAT);
 		chatConditions.forEach(step -> step.validateCondition(client, chatMessage));
 
 		if (chatMessage.getType() == ChatMessageType.DIALOG)
@@ -232,29 +327,33 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 	@Subscribe
 	public void onNpcSpawned(NpcSpawned event)
 	{
+		changedInputs.add(RequirementInput.NPCS);
 		npcConditions.forEach(npc -> npc.checkNpcSpawned(event.getNpc()));
 	}
 
 	@Subscribe
 	public void onNpcDespawned(NpcDespawned event)
 	{
+		changedInputs.add(RequirementInput.NPCS);
 		npcConditions.forEach(npc -> npc.checkNpcDespawned(event.getNpc()));
 	}
 
 	@Subscribe
 	public void onNpcChanged(NpcChanged npcCompositionChanged)
 	{
+		changedInputs.add(RequirementInput.NPCS);
 		npcConditions.forEach(npc -> npc.checkNpcChanged(npcCompositionChanged));
 	}
 
 	protected void updateSteps()
 	{
 		Requirement lastPossibleCondition = null;
+		RequirementCache cache = getQuestHelper() == null ? null : getQuestHelper().getRequirementCache();
 
 		for (Requirement conditions : steps.keySet())
 		{
 			boolean stepIsLocked = steps.get(conditions).isLocked();
-			if (conditions != null && conditions.check(client) && !stepIsLocked)
+			if (conditions != null && check(cache, conditions) && !stepIsLocked)
 			{
 				startUpStep(steps.get(conditions));
 				return;
@@ -280,6 +379,11 @@ public class ConditionalStep extends QuestStep implements OwnerStep
 		}
 	}
 
+	private boolean check(RequirementCache cache, Requirement requirement)
+	{
+		return cache == null ? requirement.check(client) : cache.check(client, requirement);
+	}
+
 	protected void startUpStep(QuestStep step)
 	{
 		if (currentStep == null)
@@ -38,6 +38,7 @@ import static net.runelite.api.MenuAction.RUNELITE_OVERLAY_CONFIG;
 import net.runelite.api.Skill;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.SkillColor;
+import net.runelite.client.ui.overlay.ContentVersion;
 import static net.runelite.client.ui.overlay.OverlayManager.OPTION_CONFIGURE;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.components.ComponentOrientation;
@@ -55,6 +56,7 @@ class XpInfoBoxOverlay extends OverlayPanel
 	private static final Rectangle XP_AND_ICON_COMPONENT_BORDER = new Rectangle(2, 1, 4, 0);
 
 	private final PanelComponent iconXpSplitPanel = new PanelComponent();
+	private final ContentVersion contentVersion = new ContentVersion();
 	private final XpTrackerPlugin plugin;
 	private final XpTrackerConfig config;
 
@@ -80,6 +82,13 @@ class XpInfoBoxOverlay extends OverlayPanel
 		addMenuEntry(RUNELITE_OVERLAY_CONFIG, OPTION_CONFIGURE, "XP Tracker overlay");
 	}
 
+	@Override
+	public long getContentVersion()
+	{
+		// the lines and the progress bar are built from the snapshot alone
+		return contentVersion.of(plugin.getSkillSnapshot(skill), config.onScreenDisplayMode(), config.onScreenDisplayModeBottom());
+	}
+
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
@@ -53,6 +53,11 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	public static final float PRIORITY_HIGH = 0.75f;
 	public static final float PRIORITY_HIGHEST = 1f;
 
+	/**
+	 * The content version of overlays which are rendered every frame
+	 */
+	public static final long UNVERSIONED = Long.MIN_VALUE;
+
 	@Nullable
 	private final Plugin plugin;
 	private Point preferredLocation;
@@ -93,6 +98,10 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	@Setter(AccessLevel.PROTECTED)
 	private boolean snappable = true;
 
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	final OverlayRenderState renderState = new OverlayRenderState();
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -235,6 +244,20 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	{
 	}
 
+	/**
+	 * The version of the content of the overlay. Overlays which are not {@link OverlayPosition#DYNAMIC} or
+	 * {@link OverlayPosition#TOOLTIP} can return a version which changes whenever what they draw changes,
+	 * eg. a {@link ContentVersion} of the lines of a panel. The overlay is then only rendered when the version, its size or
+	 * its font changes, and drawn from an image of the last render in between, so its
+	 * {@link #render(java.awt.Graphics2D)} must not do anything other than drawing within its bounds.
+	 *
+	 * @return the content version, or {@link #UNVERSIONED} to render the overlay every frame
+	 */
+	public long getContentVersion()
+	{
+		return UNVERSIONED;
+	}
+
 	public void setPosition(OverlayPosition position)
 	{
 		this.position = position;
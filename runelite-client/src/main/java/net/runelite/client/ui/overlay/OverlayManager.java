@@ -355,6 +355,7 @@ public class OverlayManager
 		{
 			// Update preferred color for overlay panels based on configuration
 			((OverlayPanel) overlay).setPreferredColor(runeLiteConfig.overlayBackgroundColor());
+			overlay.renderState.invalidate();
 		}
 	}
 
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.AlphaComposite;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * What the {@link OverlayRenderer} keeps about an overlay between frames: the time spent drawing it, and
+ * the image of its last render, for overlays with a content version and overlays which are throttled for
+ * going over the frame budget.
+ * <p>
+ * Only the client thread changes the state; the statistics are read by the devtools.
+ */
+final class OverlayRenderState
+{
+	// renders the rolling statistics are kept over
+	static final int WINDOW = 64;
+	// renders to measure before deciding to throttle an overlay
+	private static final int MIN_SAMPLES = 16;
+	static final int MAX_INTERVAL = 10;
+
+	volatile long frames;
+	volatile long renders;
+	volatile long totalNanos;
+	// time of the frames the image of the last render was drawn in, instead of rendering the overlay
+	volatile long imageNanos;
+	volatile long lastNanos;
+	volatile long maxNanos;
+	volatile int interval = 1;
+
+	private final long[] window = new long[WINDOW];
+	private int windowIndex;
+	private int windowSize;
+	private long windowTotal;
+	private int skipped;
+	// average time of drawing the image of the last render instead of rendering, -1 until measured
+	private long recentImageNanos = -1;
+	// set for overlays which add tooltips, which would flicker if the overlay was not rendered every frame
+	private volatile boolean unthrottled;
+
+	// set when something the render depends on changes, other than the content
+	private volatile boolean invalid;
+
+	private BufferedImage image;
+	// the area of the overlay the image holds, relative to the overlay location
+	private final Rectangle region = new Rectangle();
+	private Dimension size;
+	private long version;
+	private Font font;
+	private Dimension preferredSize;
+	// whether the image is of an overlay which draws anywhere on the canvas
+	private boolean scene;
+
+	void invalidate()
+	{
+		invalid = true;
+	}
+
+	/**
+	 * Render the overlay every frame from now on, as its renders have effects other than drawing, eg. tooltips
+	 */
+	void neverThrottle()
+	{
+		unthrottled = true;
+		interval = 1;
+	}
+
+	/**
+	 * Forget the image of the last render, for an overlay which is rendered every frame again
+	 */
+	void clear()
+	{
+		image = null;
+		size = null;
+	}
+
+	boolean isCached()
+	{
+		return image != null;
+	}
+
+	boolean isThrottled()
+	{
+		return interval > 1;
+	}
+
+	/**
+	 * @return whether a throttled overlay is to be rendered this frame, which it is once it has skipped
+	 * its interval or when the image of its last render is out of date
+	 */
+	boolean isDue(Font font, @Nullable Dimension preferredSize)
+	{
+		return size == null || invalid || scene
+			|| !font.equals(this.font) || !Objects.equals(preferredSize, this.preferredSize)
+			|| ++skipped >= interval;
+	}
+
+	/**
+	 * @param clip the area the overlay can draw in, relative to its location
+	 * @return whether a throttled overlay which draws anywhere on the canvas is to be rendered this frame
+	 */
+	boolean isSceneDue(Font font, Rectangle clip)
+	{
+		return size == null || invalid || !scene
+			|| !font.equals(this.font) || !clip.equals(region)
+			|| ++skipped >= interval;
+	}
+
+	void record(long nanos, boolean rendered)
+	{
+		++frames;
+		totalNanos += nanos;
+		lastNanos = nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+
+		if (!rendered)
+		{
+			imageNanos += nanos;
+			recentImageNanos = recentImageNanos < 0 ? nanos : (recentImageNanos * 7 + nanos) / 8;
+		}
+		else
+		{
+			++renders;
+			skipped = 0;
+			windowTotal += nanos - window[windowIndex];
+			window[windowIndex] = nanos;
+			windowIndex = (windowIndex + 1) % WINDOW;
+			windowSize = Math.min(windowSize + 1, WINDOW);
+		}
+	}
+
+	/**
+	 * @return the average render time of the last {@link #WINDOW} renders
+	 */
+	long getRecentNanos()
+	{
+		return windowSize == 0 ? 0 : windowTotal / windowSize;
+	}
+
+	/**
+	 * @return the longest render of the last {@link #WINDOW} renders
+	 */
+	long getRecentMaxNanos()
+	{
+		long max = 0;
+		for (int i = 0; i < windowSize; ++i)
+		{
+			max = Math.max(max, window[i]);
+		}
+		return max;
+	}
+
+	/**
+	 * Render the overlay every so many frames so that, on average, it stays within the budget per frame.
+	 * It is only rendered every frame again once its renders take less than half the budget, so it does
+	 * not flip between the two.
+	 * <p>
+	 * Drawing the image of the last render has a cost of its own, eg. a scene overlay covers the whole
+	 * canvas, so the overlay is not throttled if that would not save at least a quarter of its time.
+	 */
+	void throttle(long budgetNanos)
+	{
+		if (budgetNanos <= 0 || windowSize < MIN_SAMPLES || unthrottled)
+		{
+			interval = 1;
+			return;
+		}
+
+		final long recent = getRecentNanos();
+		if (recent > budgetNanos)
+		{
+			final int throttled = (int) Math.min(MAX_INTERVAL, (recent + budgetNanos - 1) / budgetNanos);
+			interval = saves(recent, throttled) ? throttled : 1;
+		}
+		else if (recent < budgetNanos / 2)
+		{
+			interval = 1;
+		}
+	}
+
+	/**
+	 * @return whether rendering once every interval frames, and drawing the image in between, takes at
+	 * most three quarters of the time of rendering every frame. Until the image has been drawn its cost
+	 * is not known, so it is assumed to.
+	 */
+	private boolean saves(long renderNanos, int interval)
+	{
+		if (recentImageNanos < 0)
+		{
+			return true;
+		}
+
+		final long throttledNanos = (renderNanos + (interval - 1) * recentImageNanos) / interval;
+		return throttledNanos * 4 <= renderNanos * 3;
+	}
+
+	/**
+	 * @return whether the image of the last render can be drawn instead of rendering the overlay
+	 */
+	boolean isCurrent(long version, Font font, @Nullable Dimension preferredSize)
+	{
+		return size != null && !invalid && this.version == version
+			&& font.equals(this.font) && Objects.equals(preferredSize, this.preferredSize);
+	}
+
+	/**
+	 * Render an overlay which draws within its bounds into the image, growing it if the overlay turns
+	 * out to be larger.
+	 *
+	 * @param graphics the graphics of the frame, which the render inherits its font and hints from
+	 */
+	void render(Overlay overlay, Graphics2D graphics, long version, @Nullable Dimension preferredSize)
+	{
+		// the overlay size is not known before rendering it, so start from the last one
+		int width = Math.max(1, size != null ? size.width : preferredSize != null ? preferredSize.width : 0);
+		int height = Math.max(1, size != null ? size.height : preferredSize != null ? preferredSize.height : 0);
+
+		invalid = false;
+		region.setBounds(0, 0, width, height);
+		Dimension dimension = renderInto(overlay, graphics);
+		if (dimension != null && (dimension.width > region.width || dimension.height > region.height))
+		{
+			region.setSize(dimension);
+			dimension = renderInto(overlay, graphics);
+		}
+
+		this.size = dimension == null ? new Dimension() : new Dimension(dimension);
+		region.setSize(size);
+		this.version = version;
+		this.font = graphics.getFont();
+		this.preferredSize = preferredSize == null ? null : new Dimension(preferredSize);
+		this.scene = false;
+	}
+
+	/**
+	 * Render an overlay which draws anywhere on the canvas, eg. in the scene, into the image
+	 *
+	 * @param clip the area the overlay can draw in, relative to its location
+	 */
+	void renderScene(Overlay overlay, Graphics2D graphics, Rectangle clip)
+	{
+		invalid = false;
+		region.setBounds(clip);
+		final Dimension dimension = renderInto(overlay, graphics);
+		this.size = dimension == null ? new Dimension() : new Dimension(dimension);
+		// never current, scene overlays have no version
+		this.version = Overlay.UNVERSIONED;
+		this.font = graphics.getFont();
+		this.preferredSize = null;
+		this.scene = true;
+	}
+
+	private Dimension renderInto(Overlay overlay, Graphics2D graphics)
+	{
+		final int width = Math.max(1, region.width);
+		final int height = Math.max(1, region.height);
+		if (image == null || image.getWidth() < width || image.getHeight() < height)
+		{
+			image = new BufferedImage(
+				Math.max(width, image == null ? 0 : image.getWidth()),
+				Math.max(height, image == null ? 0 : image.getHeight()),
+				BufferedImage.TYPE_INT_ARGB);
+		}
+
+		final Graphics2D g = image.createGraphics();
+		try
+		{
+			g.setComposite(AlphaComposite.Clear);
+			g.fillRect(0, 0, width, height);
+			g.setComposite(AlphaComposite.SrcOver);
+			g.setRenderingHints(graphics.getRenderingHints());
+			g.setFont(graphics.getFont());
+			g.setColor(graphics.getColor());
+			g.translate(-region.x, -region.y);
+			return overlay.render(g);
+		}
+		catch (RuntimeException ex)
+		{
+			size = null;
+			throw ex;
+		}
+		finally
+		{
+			g.dispose();
+		}
+	}
+
+	/**
+	 * Draw the image of the last render
+	 *
+	 * @return the dimension the overlay rendered with
+	 */
+	Dimension draw(Graphics2D graphics)
+	{
+		if (region.width > 0 && region.height > 0)
+		{
+			graphics.drawImage(image,
+				region.x, region.y, region.x + region.width, region.y + region.height,
+				0, 0, region.width, region.height,
+				null);
+		}
+		return size;
+	}
+}
@@ -38,9 +38,11 @@ import java.awt.RenderingHints;
 import java.awt.Stroke;
 import java.awt.event.MouseEvent;
 import java.awt.geom.AffineTransform;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
@@ -67,6 +69,7 @@ import net.runelite.client.input.MouseAdapter;
 import net.runelite.client.input.MouseManager;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.JagexColors;
+import net.runelite.client.ui.overlay.tooltip.TooltipManager;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.HotkeyListener;
 import org.slf4j.Marker;
@@ -95,6 +98,7 @@ public class OverlayRenderer extends MouseAdapter
 	private final ClientUI clientUI;
 	private final EventBus eventBus;
 	private final ChatMessageManager chatMessageManager;
+	private final TooltipManager tooltipManager;
 
 	// Overlay movement variables
 	private final Point overlayOffset = new Point();
@@ -117,6 +121,9 @@ public class OverlayRenderer extends MouseAdapter
 	private OverlayBounds emptySnapCorners, snapCorners;
 	private boolean dragWarn;
 
+	// Render time allowed per overlay per frame before it is throttled, 0 if overlays are never throttled
+	private long frameBudgetNanos;
+
 	@Inject
 	private OverlayRenderer(
 		final Client client,
@@ -126,7 +133,8 @@ public class OverlayRenderer extends MouseAdapter
 		final KeyManager keyManager,
 		final ClientUI clientUI,
 		final EventBus eventBus,
-		final ChatMessageManager chatMessageManager
+		final ChatMessageManager chatMessageManager,
+		final TooltipManager tooltipManager
 	)
 	{
 		this.client = client;
@@ -135,6 +143,7 @@ public class OverlayRenderer extends MouseAdapter
 		this.clientUI = clientUI;
 		this.eventBus = eventBus;
 		this.chatMessageManager = chatMessageManager;
+		this.tooltipManager = tooltipManager;
 
 		HotkeyListener hotkeyListener = new HotkeyListener(runeLiteConfig::dragHotkey)
 		{
@@ -215,6 +224,7 @@ public class OverlayRenderer extends MouseAdapter
 	public void onBeforeRender(BeforeRender event)
 	{
 		curHoveredOverlay = null;
+		frameBudgetNanos = TimeUnit.MILLISECONDS.toNanos(runeLiteConfig.overlayFrameBudget());
 
 		if (client.getGameState() == GameState.LOGGED_IN)
 		{
@@ -728,21 +738,114 @@ public class OverlayRenderer extends MouseAdapter
 		graphics.translate(point.x, point.y);
 		overlay.getBounds().setLocation(point);
 
+		final OverlayRenderState state = overlay.renderState;
+		final int tooltips = tooltipManager.getTooltips().size();
+		final long start = System.nanoTime();
+		boolean rendered = true;
 		final Dimension overlayDimension;
 		try
 		{
-			overlayDimension = overlay.render(graphics);
+			final long version = position == OverlayPosition.DYNAMIC || position == OverlayPosition.TOOLTIP
+				? Overlay.UNVERSIONED
+				: overlay.getContentVersion();
+			if (version != Overlay.UNVERSIONED)
+			{
+				if (state.isCurrent(version, graphics.getFont(), overlay.getPreferredSize()))
+				{
+					rendered = false;
+				}
+				else
+				{
+					state.render(overlay, graphics, version, overlay.getPreferredSize());
+				}
+				overlayDimension = state.draw(graphics);
+			}
+			else if (state.isThrottled() && position == OverlayPosition.DYNAMIC)
+			{
+				final Rectangle clip = graphics.getClipBounds();
+				if (!state.isSceneDue(graphics.getFont(), clip))
+				{
+					rendered = false;
+				}
+				else
+				{
+					state.renderScene(overlay, graphics, clip);
+				}
+				overlayDimension = state.draw(graphics);
+			}
+			else if (state.isThrottled() && position != OverlayPosition.TOOLTIP)
+			{
+				if (!state.isDue(graphics.getFont(), overlay.getPreferredSize()))
+				{
+					rendered = false;
+				}
+				else
+				{
+					state.render(overlay, graphics, Overlay.UNVERSIONED, overlay.getPreferredSize());
+				}
+				overlayDimension = state.draw(graphics);
+			}
+			else
+			{
+				if (state.isCached())
+				{
+					state.clear();
+				}
+				overlayDimension = overlay.render(graphics);
+			}
 		}
 		catch (Exception ex)
 		{
 			log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
 			return;
 		}
+		finally
+		{
+			if (rendered && tooltipManager.getTooltips().size() > tooltips)
+			{
+				// the tooltip would flicker if the overlay was not rendered every frame
+				state.neverThrottle();
+			}
+			state.record(System.nanoTime() - start, rendered);
+			state.throttle(frameBudgetNanos);
+		}
 
 		final Dimension dimension = MoreObjects.firstNonNull(overlayDimension, new Dimension());
 		overlay.getBounds().setSize(dimension);
 	}
 
+	/**
+	 * @return the render statistics of the overlays
+	 */
+	public List<OverlayStats> getStats()
+	{
+		final List<Overlay> overlays;
+		synchronized (overlayManager)
+		{
+			overlays = new ArrayList<>(overlayManager.getOverlays());
+		}
+
+		final List<OverlayStats> stats = new ArrayList<>(overlays.size());
+		for (Overlay overlay : overlays)
+		{
+			final OverlayRenderState state = overlay.renderState;
+			stats.add(new OverlayStats(
+				overlay.getName(),
+				overlay.getPlugin() != null ? overlay.getPlugin().getName() : null,
+				state.frames,
+				state.renders,
+				state.isCached(),
+				state.interval,
+				state.totalNanos,
+				state.imageNanos,
+				state.lastNanos,
+				state.maxNanos,
+				state.getRecentNanos(),
+				state.getRecentMaxNanos()));
+		}
+		return stats;
+	}
+
 	private OverlayPosition getCorrectedOverlayPosition(final Overlay overlay)
 	{
 		OverlayPosition overlayPosition = overlay.getPosition();
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import lombok.Value;
+
+/**
+ * Render statistics of an overlay
+ */
+@Value
+public class OverlayStats
+{
+	String name;
+	String plugin;
+	/**
+	 * Frames the overlay was drawn in, and how many of them it was rendered in rather than drawn from
+	 * the image of its last render
+	 */
+	long frames;
+	long renders;
+	boolean cached;
+	/**
+	 * The overlay is rendered every this many frames, more than 1 if it is throttled for going over the
+	 * frame budget
+	 */
+	int interval;
+	long totalNanos;
+	/**
+	 * The time of the frames the image of the last render was drawn in instead, which for a throttled
+	 * overlay drawing anywhere on the canvas is a blit of the whole canvas
+	 */
+	long imageNanos;
+	long lastNanos;
+	long maxNanos;
+	/**
+	 * The average and longest render of the last renders
+	 */
+	long recentNanos;
+	long recentMaxNanos;
+
+	public double getAverageMillis()
+	{
+		return frames == 0 ? 0 : totalNanos / (frames * 1_000_000.0);
+	}
+
+	/**
+	 * @return the average time of the frames the image of the last render was drawn in
+	 */
+	public double getImageMillis()
+	{
+		final long imageFrames = frames - renders;
+		return imageFrames == 0 ? 0 : imageNanos / (imageFrames * 1_000_000.0);
+	}
+
+	public double getMaxMillis()
+	{
+		return maxNanos / 1_000_000.0;
+	}
+
+	public double getRecentMillis()
+	{
+		return recentNanos / 1_000_000.0;
+	}
+
+	public double getRecentMaxMillis()
+	{
+		return recentMaxNanos / 1_000_000.0;
+	}
+}
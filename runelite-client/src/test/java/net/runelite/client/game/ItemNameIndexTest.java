@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ItemNameIndexTest
+{
+	private final ItemNameIndex index = new ItemNameIndex(Arrays.asList(
+		item(1, "Rune platebody"),
+		item(2, "Rune platelegs"),
+		item(3, "Dragon platebody"),
+		item(4, "Anti-venom(4)"),
+		item(5, "Runite bar"),
+		item(6, "Rune")
+	));
+
+	@Test
+	public void testExact()
+	{
+		assertEquals(3, index.get("dragon PLATEBODY").getId());
+		assertNull(index.get("dragon"));
+		assertEquals(Arrays.asList(6), ids(index.exact("rune")));
+	}
+
+	@Test
+	public void testPrefix()
+	{
+		assertEquals(Arrays.asList(6, 1, 2), ids(index.prefix("Rune")));
+		assertEquals(Arrays.asList(6, 1, 2, 5), ids(index.prefix("run")));
+		assertTrue(index.prefix("zz").isEmpty());
+	}
+
+	@Test
+	public void testSearch()
+	{
+		// in the order the items were indexed, like a scan
+		assertEquals(Arrays.asList(1, 3), ids(index.search("PLATEBODY")));
+		assertEquals(Arrays.asList(1, 2, 3), ids(index.search("plate")));
+		assertEquals(Arrays.asList(4), ids(index.search("-v")));
+		assertTrue(index.search("platebodies").isEmpty());
+	}
+
+	@Test
+	public void testFuzzy()
+	{
+		assertEquals(1, index.fuzzy("rune platbody", 3).get(0).getId());
+		assertEquals(3, index.fuzzy("platebody dragon", 3).get(0).getId());
+		assertEquals(2, index.fuzzy("plate", 2).size());
+	}
+
+	private static ItemPrice item(int id, String name)
+	{
+		ItemPrice item = new ItemPrice();
+		item.setId(id);
+		item.setName(name);
+		return item;
+	}
+
+	private static List<Integer> ids(List<ItemPrice> items)
+	{
+		return items.stream().map(ItemPrice::getId).collect(Collectors.toList());
+	}
+}
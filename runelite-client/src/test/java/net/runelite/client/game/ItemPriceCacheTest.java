@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.gson.Gson;
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import net.runelite.http.api.item.ItemPrice;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemPriceCacheTest
+{
+	private static final String PRICES = "[{\"id\":4151,\"name\":\"Abyssal whip\",\"price\":1500000,\"wikiPrice\":1600000},"
+		+ "{\"id\":2,\"name\":\"Cannonball\",\"price\":150,\"wikiPrice\":160}]";
+	private static final String NEW_PRICES = "[{\"id\":4151,\"name\":\"Abyssal whip\",\"price\":1400000,\"wikiPrice\":1450000},"
+		+ "{\"id\":2,\"name\":\"Cannonball\",\"price\":150,\"wikiPrice\":160}]";
+
+	@Rule
+	public final MockWebServer server = new MockWebServer();
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private ItemClient itemClient;
+
+	@Before
+	public void before()
+	{
+		itemClient = Guice.createInjector(binder ->
+		{
+			binder.bind(OkHttpClient.class).toInstance(new OkHttpClient());
+			binder.bind(HttpUrl.class).annotatedWith(Names.named("runelite.api.base")).toInstance(server.url("/"));
+			binder.bind(HttpUrl.class).annotatedWith(Names.named("runelite.static.base")).toInstance(server.url("/"));
+			binder.bind(Gson.class).toInstance(new Gson());
+		}).getInstance(ItemClient.class);
+	}
+
+	/**
+	 * A cache of a client started at the given time, sharing the snapshot with the other clients
+	 */
+	private ItemPriceCache client(long millis)
+	{
+		return new ItemPriceCache(folder.getRoot(), itemClient, Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+	}
+
+	@Test
+	public void testFetchedOnceForAllClients() throws IOException
+	{
+		server.enqueue(new MockResponse().setHeader("ETag", "\"v1\"").setBody(PRICES));
+
+		ItemPrice[] prices = client(0).refresh();
+		assertEquals(2, prices.length);
+		assertEquals(1, server.getRequestCount());
+
+		// another client starting shortly after reads the snapshot instead of fetching
+		prices = client(60_000).refresh();
+		assertEquals(1, server.getRequestCount());
+		assertEquals(2, prices[0].getId());
+		assertEquals(150, prices[0].getPrice());
+		assertEquals(4151, prices[1].getId());
+		assertEquals("Abyssal whip", prices[1].getName());
+		assertEquals(1_600_000, prices[1].getWikiPrice());
+	}
+
+	@Test
+	public void testLoadedBeforeRevalidating() throws IOException, InterruptedException
+	{
+		server.enqueue(new MockResponse().setHeader("ETag", "\"v1\"").setBody(PRICES));
+		client(0).refresh();
+		server.takeRequest();
+
+		// the next session uses the old prices right away, then finds they have not changed
+		ItemPriceCache cache = client(ItemPriceCache.MAX_AGE_MILLIS + 1);
+		assertEquals(2, cache.load().length);
+
+		server.enqueue(new MockResponse().setResponseCode(304));
+		assertNull(cache.refresh());
+		RecordedRequest request = server.takeRequest();
+		assertEquals("\"v1\"", request.getHeader("If-None-Match"));
+
+		// the revalidation counts as a fetch for the other clients
+		client(ItemPriceCache.MAX_AGE_MILLIS + 2).refresh();
+		assertEquals(2, server.getRequestCount());
+	}
+
+	@Test
+	public void testChangedPrices() throws IOException
+	{
+		server.enqueue(new MockResponse().setHeader("ETag", "\"v1\"").setBody(PRICES));
+		ItemPriceCache cache = client(0);
+		cache.refresh();
+
+		cache = client(ItemPriceCache.MAX_AGE_MILLIS + 1);
+		cache.load();
+		server.enqueue(new MockResponse().setHeader("ETag", "\"v2\"").setBody(NEW_PRICES));
+		ItemPrice[] prices = cache.refresh();
+		assertEquals(1_400_000, prices[1].getPrice());
+		assertEquals(1_400_000, client(ItemPriceCache.MAX_AGE_MILLIS + 2).load()[1].getPrice());
+	}
+
+	@Test
+	public void testServerErrorKeepsOldPrices() throws IOException
+	{
+		server.enqueue(new MockResponse().setBody(PRICES));
+		client(0).refresh();
+
+		server.enqueue(new MockResponse().setResponseCode(500));
+		ItemPrice[] prices = client(ItemPriceCache.MAX_AGE_MILLIS + 1).refresh();
+		assertEquals(2, prices.length);
+	}
+
+	@Test
+	public void testCorruptSnapshotIgnored() throws IOException
+	{
+		Files.write(new File(folder.getRoot(), "prices.dat").toPath(), "not prices".getBytes(StandardCharsets.UTF_8));
+		assertNull(client(0).load());
+
+		server.enqueue(new MockResponse().setBody(PRICES));
+		assertEquals(2, client(0).refresh().length);
+	}
+}
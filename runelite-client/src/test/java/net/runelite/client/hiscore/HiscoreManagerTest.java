@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.hiscore;
+
+import com.google.gson.Gson;
+import com.google.inject.Guice;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HiscoreManagerTest
+{
+	private static final String PLAYER = "{\"skills\":["
+		+ "{\"name\":\"Overall\",\"rank\":1,\"level\":2277,\"xp\":4600000000},"
+		+ "{\"name\":\"Firemaking\",\"rank\":12,\"level\":99,\"xp\":200000000}],"
+		+ "\"activities\":[]}";
+
+	@Rule
+	public final MockWebServer server = new MockWebServer();
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final MutableClock clock = new MutableClock();
+	private ScheduledExecutorService executor;
+	private HiscoreClient hiscoreClient;
+
+	@Before
+	public void before()
+	{
+		executor = Executors.newSingleThreadScheduledExecutor();
+
+		// send the requests for the hiscore endpoints to the mock server
+		HttpUrl mock = server.url("/");
+		OkHttpClient okHttpClient = new OkHttpClient.Builder()
+			.addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+				.url(chain.request().url().newBuilder()
+					.scheme(mock.scheme())
+					.host(mock.host())
+					.port(mock.port())
+					.build())
+				.build()))
+			.build();
+
+		hiscoreClient = Guice.createInjector(binder ->
+		{
+			binder.bind(OkHttpClient.class).toInstance(okHttpClient);
+			binder.bind(Gson.class).toInstance(new Gson());
+		}).getInstance(HiscoreClient.class);
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
+	/**
+	 * The manager of a client, sharing the stored hiscores with the other clients
+	 */
+	private HiscoreManager manager()
+	{
+		HiscoreStore store = new HiscoreStore(folder.getRoot().toPath().resolve("hiscores.json").toFile(), new Gson(), HiscoreManager.MAX_ENTRIES);
+		return new HiscoreManager(executor, hiscoreClient, store, clock);
+	}
+
+	@Test
+	public void testConcurrentLookupsCoalesced() throws IOException
+	{
+		server.enqueue(new MockResponse().setBody(PLAYER).setBodyDelay(200, TimeUnit.MILLISECONDS));
+
+		HiscoreManager manager = manager();
+		assertNull(manager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		assertNull(manager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+
+		HiscoreResult result = manager.lookup("Zezima", HiscoreEndpoint.NORMAL);
+		assertEquals(99, result.getSkill(HiscoreSkill.FIREMAKING).getLevel());
+		assertEquals(1, server.getRequestCount());
+
+		assertEquals(result, manager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		assertEquals(1, server.getRequestCount());
+
+		HiscoreStats stats = manager.getStats();
+		assertEquals(1, stats.getMisses());
+		assertEquals(2, stats.getCoalesced());
+		assertEquals(1, stats.getHits());
+		assertEquals(1, stats.getRequests());
+		assertEquals(0.25, stats.getHitRate(), 0.001);
+	}
+
+	@Test
+	public void testPersistedAcrossRestarts() throws IOException
+	{
+		server.enqueue(new MockResponse().setBody(PLAYER));
+		server.enqueue(new MockResponse().setResponseCode(404));
+
+		HiscoreManager manager = manager();
+		assertNotNull(manager.lookup("Zezima", HiscoreEndpoint.NORMAL));
+		assertNull(manager.lookup("Nobody", HiscoreEndpoint.NORMAL));
+		manager.save();
+
+		// the next session answers both from the file
+		manager = manager();
+		manager.load();
+		HiscoreResult result = manager.lookup("Zezima", HiscoreEndpoint.NORMAL);
+		assertEquals(2277, result.getSkill(HiscoreSkill.OVERALL).getLevel());
+		assertEquals(4_600_000_000L, result.getSkill(HiscoreSkill.OVERALL).getExperience());
+		assertNull(manager.lookup("Nobody", HiscoreEndpoint.NORMAL));
+		assertEquals(2, server.getRequestCount());
+	}
+
+	@Test
+	public void testEntriesExpire() throws IOException
+	{
+		server.enqueue(new MockResponse().setBody(PLAYER));
+		server.enqueue(new MockResponse().setResponseCode(404));
+		server.enqueue(new MockResponse().setBody(PLAYER));
+
+		HiscoreManager manager = manager();
+		manager.lookup("Zezima", HiscoreEndpoint.NORMAL);
+		assertNull(manager.lookup("Nobody", HiscoreEndpoint.NORMAL));
+
+		// players who are not on the hiscores are looked up again sooner
+		clock.now = HiscoreManager.NOT_FOUND_TTL;
+		manager.lookup("Zezima", HiscoreEndpoint.NORMAL);
+		assertEquals(2, server.getRequestCount());
+		assertNotNull(manager.lookup("Nobody", HiscoreEndpoint.NORMAL));
+		assertEquals(3, server.getRequestCount());
+
+		server.enqueue(new MockResponse().setBody(PLAYER));
+		clock.now = HiscoreManager.RESULT_TTL;
+		manager.lookup("Zezima", HiscoreEndpoint.NORMAL);
+		assertEquals(4, server.getRequestCount());
+	}
+
+	@Test
+	public void testFailuresNotPersisted() throws IOException
+	{
+		server.enqueue(new MockResponse().setResponseCode(500));
+
+		HiscoreManager manager = manager();
+		try
+		{
+			manager.lookup("Zezima", HiscoreEndpoint.NORMAL);
+			fail();
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+		// not retried right away, but still an error rather than a player who is not on the hiscores
+		assertNull(manager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		try
+		{
+			manager.lookup("Zezima", HiscoreEndpoint.NORMAL);
+			fail();
+		}
+		catch (IOException ex)
+		{
+			assertNotNull(ex.getCause());
+		}
+		assertEquals(1, server.getRequestCount());
+		assertEquals(1, manager.getStats().getFailures());
+		manager.save();
+
+		server.enqueue(new MockResponse().setBody(PLAYER));
+		manager = manager();
+		manager.load();
+		assertNotNull(manager.lookup("Zezima", HiscoreEndpoint.NORMAL));
+		assertEquals(2, server.getRequestCount());
+	}
+
+	@Test
+	public void testBurstLimited() throws IOException
+	{
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request) throws InterruptedException
+			{
+				maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				Thread.sleep(50);
+				inFlight.decrementAndGet();
+				return new MockResponse().setBody(PLAYER);
+			}
+		});
+
+		HiscoreManager manager = manager();
+		for (int i = 0; i < 10; ++i)
+		{
+			manager.lookupAsync("Player " + i, HiscoreEndpoint.NORMAL);
+		}
+		for (int i = 0; i < 10; ++i)
+		{
+			assertNotNull(manager.lookup("Player " + i, HiscoreEndpoint.NORMAL));
+		}
+
+		assertEquals(10, server.getRequestCount());
+		assertTrue(maxInFlight.get() <= HiscoreManager.MAX_CONCURRENT_LOOKUPS);
+		assertEquals(10, manager.getStats().getRequests());
+		assertTrue(manager.getStats().getAverageLatencyMillis() >= 50);
+	}
+
+	@Test
+	public void testBlockingLookupsFirst() throws Exception
+	{
+		Semaphore responses = new Semaphore(0);
+		List<String> order = Collections.synchronizedList(new ArrayList<>());
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request) throws InterruptedException
+			{
+				order.add(request.getRequestUrl().queryParameter("player"));
+				responses.acquire();
+				return new MockResponse().setBody(PLAYER);
+			}
+		});
+
+		HiscoreManager manager = manager();
+		for (int i = 0; i < HiscoreManager.MAX_CONCURRENT_LOOKUPS + 2; ++i)
+		{
+			manager.lookupAsync("Player " + i, HiscoreEndpoint.NORMAL);
+		}
+
+		// the oldest queued lookup, which would otherwise go last
+		String blocked = "Player " + HiscoreManager.MAX_CONCURRENT_LOOKUPS;
+		CompletableFuture<HiscoreResult> lookup = CompletableFuture.supplyAsync(() ->
+		{
+			try
+			{
+				return manager.lookup(blocked, HiscoreEndpoint.NORMAL);
+			}
+			catch (IOException ex)
+			{
+				throw new RuntimeException(ex);
+			}
+		});
+		while (manager.getStats().getCoalesced() == 0)
+		{
+			Thread.sleep(5);
+		}
+		manager.lookupAsync("Late", HiscoreEndpoint.NORMAL);
+
+		// free a single slot, which goes to the blocked lookup rather than the later ones
+		responses.release();
+		while (order.size() <= HiscoreManager.MAX_CONCURRENT_LOOKUPS)
+		{
+			Thread.sleep(5);
+		}
+		assertEquals(blocked, order.get(HiscoreManager.MAX_CONCURRENT_LOOKUPS));
+
+		responses.release(HiscoreManager.MAX_CONCURRENT_LOOKUPS + 2);
+		assertNotNull(lookup.get(5, TimeUnit.SECONDS));
+	}
+
+	private static class MutableClock extends Clock
+	{
+		private long now;
+
+		@Override
+		public ZoneId getZone()
+		{
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone)
+		{
+			return this;
+		}
+
+		@Override
+		public Instant instant()
+		{
+			return Instant.ofEpochMilli(now);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package net.runelite.client.plugins.microbot.util.mouse.naturalmouse;
+
+import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.api.MouseMotionFactory;
+import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.api.SystemCalls;
+import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.DefaultMouseMotionNature;
+import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.DefaultNoiseProvider;
+import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.DefaultOvershootManager;
+import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.DefaultSpeedManager;
+import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.MouseMotionNature;
+import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.SinusoidalDeviationProvider;
+import net.runelite.client.plugins.microbot.util.mouse.naturalmouse.util.FactoryTemplates;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.awt.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.DefaultNoiseProvider.DEFAULT_NOISINESS_DIVIDER;
+import static net.runelite.client.plugins.microbot.util.mouse.naturalmouse.support.SinusoidalDeviationProvider.DEFAULT_SLOPE_DIVIDER;
+
+/**
+ * What it costs to work out the trajectory of a motion, across the fixed size client, with the templates
+ * the activity intensities use. The cursor is never moved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MouseTrajectoryBenchmark {
+    private static final Dimension SCREEN = new Dimension(765, 503);
+    private static final Point FROM = new Point(20, 20);
+
+    @Param({"AVERAGE", "NORMAL", "FAST", "SUPER_FAST"})
+    public String template;
+
+    @Param({"50", "700"})
+    public int distance;
+
+    private MouseMotionFactory factory;
+    private int xDest;
+    private int yDest;
+
+    @Setup
+    public void setup() {
+        MouseMotionNature nature = new MouseMotionNature();
+        nature.setSystemCalls(new BenchmarkSystemCalls());
+        nature.setMouseInfo(() -> FROM);
+        nature.setDeviationProvider(new SinusoidalDeviationProvider(DEFAULT_SLOPE_DIVIDER));
+        nature.setNoiseProvider(new DefaultNoiseProvider(DEFAULT_NOISINESS_DIVIDER));
+        nature.setSpeedManager(new DefaultSpeedManager());
+        nature.setOvershootManager(new DefaultOvershootManager(new Random()));
+        nature.setEffectFadeSteps(DefaultMouseMotionNature.EFFECT_FADE_STEPS);
+        nature.setMinSteps(DefaultMouseMotionNature.MIN_STEPS);
+        nature.setReactionTimeBaseMs(DefaultMouseMotionNature.REACTION_TIME_BASE_MS);
+        nature.setReactionTimeVariationMs(DefaultMouseMotionNature.REACTION_TIME_VARIATION_MS);
+        nature.setTimeToStepsDivider(DefaultMouseMotionNature.TIME_TO_STEPS_DIVIDER);
+
+        switch (template) {
+            case "AVERAGE":
+                factory = FactoryTemplates.createAverageComputerUserMotionFactory(nature);
+                break;
+            case "NORMAL":
+                factory = FactoryTemplates.createNormalGamerMotionFactory(nature);
+                break;
+            case "FAST":
+                factory = FactoryTemplates.createFastGamerMotionFactory(nature);
+                break;
+            default:
+                factory = FactoryTemplates.createSuperFastGamerMotionFactory(nature);
+                break;
+        }
+
+        // along the diagonal, so the long motion stays on the screen
+        xDest = FROM.x + (int) (distance * 0.8);
+        yDest = FROM.y + (int) (distance * 0.6);
+    }
+
+    @Benchmark
+    public Object plan() {
+        return factory.build(xDest, yDest).plan(FROM);
+    }
+
+    @Test
+    @Ignore
+    public void benchmark() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MouseTrajectoryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static class BenchmarkSystemCalls implements SystemCalls {
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public void sleep(long time) {
+        }
+
+        @Override
+        public Dimension getScreenSize() {
+            return SCREEN;
+        }
+
+        @Override
+        public void setMousePosition(int x, int y) {
+            throw new IllegalStateException("the benchmark does not move the cursor");
+        }
+    }
+}
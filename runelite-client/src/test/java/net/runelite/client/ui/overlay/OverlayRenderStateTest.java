@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OverlayRenderStateTest
+{
+	private static final Font FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+
+	private static class BoxOverlay extends Overlay
+	{
+		private int renders;
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			++renders;
+			graphics.setColor(Color.RED);
+			graphics.fillRect(0, 0, 50, 40);
+			return new Dimension(50, 40);
+		}
+	}
+
+	private final BoxOverlay overlay = new BoxOverlay();
+	private final OverlayRenderState state = new OverlayRenderState();
+	private BufferedImage frame;
+	private Graphics2D graphics;
+
+	@Before
+	public void before()
+	{
+		frame = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		graphics = frame.createGraphics();
+		graphics.setFont(FONT);
+	}
+
+	@Test
+	public void testDrawnFromLastRender()
+	{
+		assertFalse(state.isCurrent(1, FONT, null));
+
+		state.render(overlay, graphics, 1, null);
+		assertTrue(state.isCurrent(1, FONT, null));
+		assertEquals(new Dimension(50, 40), state.draw(graphics));
+		assertEquals(new Dimension(50, 40), state.draw(graphics));
+		// rendered again into an image large enough for it, but not since
+		assertEquals(2, overlay.renders);
+
+		assertEquals(Color.RED.getRGB(), frame.getRGB(49, 39));
+		assertEquals(0, frame.getRGB(50, 40));
+	}
+
+	@Test
+	public void testRenderedAgainOnChange()
+	{
+		state.render(overlay, graphics, 1, null);
+
+		assertFalse(state.isCurrent(2, FONT, null));
+		assertFalse(state.isCurrent(1, FONT.deriveFont(Font.BOLD), null));
+		assertFalse(state.isCurrent(1, FONT, new Dimension(60, 40)));
+
+		state.invalidate();
+		assertFalse(state.isCurrent(1, FONT, null));
+		state.render(overlay, graphics, 1, null);
+		assertTrue(state.isCurrent(1, FONT, null));
+		// the image is reused at the same size
+		assertEquals(3, overlay.renders);
+	}
+
+	@Test
+	public void testThrottledOverBudget()
+	{
+		final long budget = TimeUnit.MILLISECONDS.toNanos(2);
+		for (int i = 0; i < 15; ++i)
+		{
+			state.record(TimeUnit.MILLISECONDS.toNanos(7), true);
+			state.throttle(budget);
+		}
+		// not enough renders measured yet
+		assertFalse(state.isThrottled());
+
+		state.record(TimeUnit.MILLISECONDS.toNanos(7), true);
+		state.throttle(budget);
+		assertEquals(4, state.interval);
+
+		state.render(overlay, graphics, Overlay.UNVERSIONED, null);
+		state.record(0, true);
+		assertFalse(state.isDue(FONT, null));
+		assertFalse(state.isDue(FONT, null));
+		assertFalse(state.isDue(FONT, null));
+		assertTrue(state.isDue(FONT, null));
+
+		// throttled until the renders take well under the budget
+		for (int i = 0; i < OverlayRenderState.WINDOW; ++i)
+		{
+			state.record(TimeUnit.MICROSECONDS.toNanos(1500), true);
+			state.throttle(budget);
+		}
+		assertTrue(state.isThrottled());
+		for (int i = 0; i < OverlayRenderState.WINDOW; ++i)
+		{
+			state.record(TimeUnit.MICROSECONDS.toNanos(500), true);
+			state.throttle(budget);
+		}
+		assertFalse(state.isThrottled());
+
+		state.throttle(0);
+		assertFalse(state.isThrottled());
+	}
+
+	@Test
+	public void testNotThrottledWhenDrawingImageCosts()
+	{
+		final long budget = TimeUnit.MILLISECONDS.toNanos(2);
+		for (int i = 0; i < OverlayRenderState.WINDOW; ++i)
+		{
+			state.record(TimeUnit.MILLISECONDS.toNanos(4), true);
+			state.throttle(budget);
+		}
+		assertEquals(2, state.interval);
+
+		// drawing the image takes as long as rendering, eg. a scene overlay covering the canvas
+		state.record(TimeUnit.MILLISECONDS.toNanos(4), false);
+		state.throttle(budget);
+		assertFalse(state.isThrottled());
+
+		// a much slower overlay is still worth throttling
+		for (int i = 0; i < OverlayRenderState.WINDOW; ++i)
+		{
+			state.record(TimeUnit.MILLISECONDS.toNanos(16), true);
+			state.throttle(budget);
+		}
+		assertEquals(8, state.interval);
+	}
+
+	@Test
+	public void testNeverThrottled()
+	{
+		state.neverThrottle();
+		for (int i = 0; i < OverlayRenderState.WINDOW; ++i)
+		{
+			state.record(TimeUnit.MILLISECONDS.toNanos(7), true);
+			state.throttle(TimeUnit.MILLISECONDS.toNanos(2));
+		}
+		assertFalse(state.isThrottled());
+	}
+
+	@Test
+	public void testThrottledRenderedAgainOnChange()
+	{
+		state.interval = 4;
+		state.render(overlay, graphics, Overlay.UNVERSIONED, null);
+		state.record(0, true);
+		assertFalse(state.isDue(FONT, null));
+
+		// the image of the last render is out of date, whether or not the interval has passed
+		assertTrue(state.isDue(FONT.deriveFont(Font.BOLD), null));
+		assertTrue(state.isDue(FONT, new Dimension(60, 40)));
+		state.invalidate();
+		assertTrue(state.isDue(FONT, null));
+
+		final Rectangle clip = new Rectangle(0, 0, 100, 100);
+		assertTrue(state.isSceneDue(FONT, clip));
+		state.renderScene(overlay, graphics, clip);
+		state.record(0, true);
+		assertFalse(state.isSceneDue(FONT, clip));
+		assertTrue(state.isSceneDue(FONT, new Rectangle(0, 0, 120, 100)));
+		assertTrue(state.isDue(FONT, null));
+	}
+
+	@Test
+	public void testSceneDrawnWhereRendered()
+	{
+		final Overlay scene = new Overlay()
+		{
+			@Override
+			public Dimension render(Graphics2D graphics)
+			{
+				graphics.setColor(Color.GREEN);
+				graphics.fillRect(70, 80, 5, 5);
+				return null;
+			}
+		};
+
+		state.renderScene(scene, graphics, new Rectangle(10, 20, 90, 80));
+		state.draw(graphics);
+		assertEquals(Color.GREEN.getRGB(), frame.getRGB(72, 82));
+		assertEquals(0, frame.getRGB(69, 79));
+	}
+}